@@ -16,6 +16,7 @@
 
 package com.palantir.atlasdb.keyvalue.api;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.palantir.atlasdb.metrics.Timed;
 import com.palantir.common.annotation.Idempotent;
@@ -36,6 +37,34 @@ public interface AsyncKeyValueService extends AutoCloseable {
     @Timed
     ListenableFuture<Map<Cell, Value>> getAsync(TableReference tableRef, Map<Cell, Long> timestampByCell);
 
+    /**
+     * Asynchronously puts values into the key-value store, with the same semantics as a synchronous multiPut: the
+     * call does not guarantee atomicity across cells, and if the returned future fails some of the values may still
+     * have been written. Stores that cannot write asynchronously write synchronously and return an immediate future.
+     *
+     * @param valuesByTable map containing the key-value entries to put by table.
+     * @param timestamp must be non-negative and not equal to {@link Long#MAX_VALUE}
+     * @return listenable future that completes once all values have been written.
+     */
+    @Idempotent
+    @Timed
+    ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp);
+
+    /**
+     * Asynchronously puts values into a single table, as {@link #multiPutAsync(Map, long)} does.
+     *
+     * @param tableRef the name of the table to put values into.
+     * @param values map containing the key-value entries to put.
+     * @param timestamp must be non-negative and not equal to {@link Long#MAX_VALUE}
+     * @return listenable future that completes once all values have been written.
+     */
+    @Idempotent
+    @Timed
+    default ListenableFuture<Void> putAsync(TableReference tableRef, Map<Cell, byte[]> values, long timestamp) {
+        return multiPutAsync(ImmutableMap.of(tableRef, values), timestamp);
+    }
+
     @Override
     void close();
 
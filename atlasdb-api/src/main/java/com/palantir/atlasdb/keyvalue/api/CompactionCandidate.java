@@ -0,0 +1,46 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.api;
+
+import java.time.Duration;
+import org.immutables.value.Value;
+
+/**
+ * A table that a key value service estimates is worth compacting, together with how much space compacting it is
+ * expected to make available and how long doing so is expected to take.
+ */
+@Value.Immutable
+public interface CompactionCandidate {
+    @Value.Parameter
+    TableReference tableRef();
+
+    @Value.Parameter
+    long estimatedReclaimableBytes();
+
+    @Value.Parameter
+    Duration estimatedCompactionDuration();
+
+    @Value.Derived
+    default double estimatedReclaimableBytesPerSecond() {
+        long millis = Math.max(1L, estimatedCompactionDuration().toMillis());
+        return estimatedReclaimableBytes() * 1000.0 / millis;
+    }
+
+    static CompactionCandidate of(TableReference tableRef, long estimatedReclaimableBytes, Duration duration) {
+        return ImmutableCompactionCandidate.of(tableRef, estimatedReclaimableBytes, duration);
+    }
+}
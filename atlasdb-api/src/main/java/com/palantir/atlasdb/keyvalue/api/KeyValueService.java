@@ -16,6 +16,8 @@
 package com.palantir.atlasdb.keyvalue.api;
 
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.errorprone.annotations.MustBeClosed;
 import com.palantir.atlasdb.metrics.Timed;
 import com.palantir.atlasdb.transaction.api.TransactionManager;
@@ -30,6 +32,7 @@ import com.palantir.util.paging.TokenBackedBasicResultsPage;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -202,6 +205,20 @@ public interface KeyValueService extends AutoCloseable, AsyncKeyValueService {
     void multiPut(Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp)
             throws KeyAlreadyExistsException;
 
+    /**
+     * Asynchronous version of {@link #multiPut(Map, long)}. The default implementation performs the put synchronously
+     * and returns an immediate future, so implementations that intercept {@link #multiPut(Map, long)} remain on
+     * the write path unless they choose to override this method.
+     */
+    @Override
+    @Idempotent
+    @Timed
+    default ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        multiPut(valuesByTable, timestamp);
+        return Futures.immediateVoidFuture();
+    }
+
     /**
      * Puts values into the key-value store with individually specified timestamps.
      * This call <i>does not</i> guarantee atomicity across cells. On failure, it is possible
@@ -689,6 +706,16 @@ public interface KeyValueService extends AutoCloseable, AsyncKeyValueService {
         return false;
     }
 
+    /**
+     * Returns the tables that are worth compacting, in decreasing order of the rate at which compacting them is
+     * expected to make space available, if this key value service can estimate that from its own statistics.
+     * Returns empty if it cannot, in which case callers should decide what to compact some other way.
+     */
+    @DoDelegate
+    default Optional<List<CompactionCandidate>> getCompactionCandidates() {
+        return Optional.empty();
+    }
+
     /**
      * Returns a sorted list of row keys in the specified range.
      *
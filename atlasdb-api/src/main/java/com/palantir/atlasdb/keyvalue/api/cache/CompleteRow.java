@@ -0,0 +1,91 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.api.cache;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.primitives.UnsignedBytes;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+
+/**
+ * The entire contents of a row, as seen by a transaction: every column with a present value, sorted by column name.
+ * Unlike a {@link com.palantir.atlasdb.keyvalue.api.RowResult}, a complete row may have no columns at all, which
+ * records that the row was read and found to be empty.
+ */
+public final class CompleteRow {
+    private static final CompleteRow EMPTY = new CompleteRow(ImmutableSortedMap.of());
+
+    private final ImmutableSortedMap<byte[], byte[]> columns;
+
+    private CompleteRow(ImmutableSortedMap<byte[], byte[]> columns) {
+        this.columns = columns;
+    }
+
+    public static CompleteRow of(SortedMap<byte[], byte[]> columns) {
+        if (columns.isEmpty()) {
+            return EMPTY;
+        }
+        return new CompleteRow(ImmutableSortedMap.copyOfSorted(columns, UnsignedBytes.lexicographicalComparator()));
+    }
+
+    public static CompleteRow empty() {
+        return EMPTY;
+    }
+
+    public NavigableMap<byte[], byte[]> columns() {
+        return columns;
+    }
+
+    public int size() {
+        return columns.entrySet().stream()
+                .mapToInt(entry -> entry.getKey().length + entry.getValue().length)
+                .sum();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CompleteRow)) {
+            return false;
+        }
+        CompleteRow other = (CompleteRow) obj;
+        if (columns.size() != other.columns.size()) {
+            return false;
+        }
+        Iterator<Map.Entry<byte[], byte[]>> otherEntries = other.columns.entrySet().iterator();
+        for (Map.Entry<byte[], byte[]> entry : columns.entrySet()) {
+            Map.Entry<byte[], byte[]> otherEntry = otherEntries.next();
+            if (!Arrays.equals(entry.getKey(), otherEntry.getKey())
+                    || !Arrays.equals(entry.getValue(), otherEntry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return columns.entrySet().stream()
+                .mapToInt(entry -> 31 * Arrays.hashCode(entry.getKey()) + Arrays.hashCode(entry.getValue()))
+                .sum();
+    }
+}
@@ -18,6 +18,7 @@ package com.palantir.atlasdb.keyvalue.api.cache;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.UnsignedBytes;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.palantir.atlasdb.futures.AtlasFutures;
 import com.palantir.atlasdb.keyvalue.api.Cell;
@@ -28,6 +29,7 @@ import com.palantir.lock.watch.CommitUpdate;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 
 public final class NoOpTransactionScopedCache implements TransactionScopedCache {
@@ -85,6 +87,17 @@ public final class NoOpTransactionScopedCache implements TransactionScopedCache
         return rowLoader.apply(rows);
     }
 
+    @Override
+    public boolean cachesCompleteRows(TableReference tableRef) {
+        return false;
+    }
+
+    @Override
+    public NavigableMap<byte[], CompleteRow> getCompleteRows(
+            TableReference tableRef, Iterable<byte[]> rows, CompleteRowLoader rowLoader) {
+        return new TreeMap<>(UnsignedBytes.lexicographicalComparator());
+    }
+
     @Override
     public void finalise() {}
 
@@ -90,6 +90,17 @@ public final class ReadOnlyTransactionScopedCache implements TransactionScopedCa
         return delegate.getRows(tableRef, rows, columnSelection, cellLoader, rowLoader);
     }
 
+    @Override
+    public boolean cachesCompleteRows(TableReference tableRef) {
+        return delegate.cachesCompleteRows(tableRef);
+    }
+
+    @Override
+    public NavigableMap<byte[], CompleteRow> getCompleteRows(
+            TableReference tableRef, Iterable<byte[]> rows, CompleteRowLoader rowLoader) {
+        return delegate.getCompleteRows(tableRef, rows, rowLoader);
+    }
+
     @Override
     public void finalise() {
         throw new UnsupportedOperationException("Cannot finalise the read only transaction cache");
@@ -0,0 +1,73 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.api.cache;
+
+import com.palantir.atlasdb.keyvalue.api.CellReference;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Identifies a row of a table in the lock watch value cache; the row analogue of {@link CellReference}.
+ */
+public final class TableRowReference {
+    private final TableReference tableRef;
+    private final byte[] row;
+
+    private TableRowReference(TableReference tableRef, byte[] row) {
+        this.tableRef = tableRef;
+        this.row = row;
+    }
+
+    public static TableRowReference of(TableReference tableRef, byte[] row) {
+        return new TableRowReference(tableRef, row);
+    }
+
+    public static TableRowReference of(CellReference cellReference) {
+        return of(cellReference.tableRef(), cellReference.cell().getRowName());
+    }
+
+    public TableReference tableRef() {
+        return tableRef;
+    }
+
+    public byte[] row() {
+        return row;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TableRowReference)) {
+            return false;
+        }
+        TableRowReference other = (TableRowReference) obj;
+        return tableRef.equals(other.tableRef) && Arrays.equals(row, other.row);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableRef, Arrays.hashCode(row));
+    }
+
+    @Override
+    public String toString() {
+        return "TableRowReference{tableRef=" + tableRef + ", row=" + Arrays.toString(row) + "}";
+    }
+}
@@ -93,6 +93,25 @@ public interface TransactionScopedCache {
             Function<Set<Cell>, Map<Cell, byte[]>> cellLoader,
             Function<Iterable<byte[]>, NavigableMap<byte[], RowResult<byte[]>>> rowLoader);
 
+    /**
+     * Whether {@link #getCompleteRows(TableReference, Iterable, CompleteRowLoader)} can serve rows of the given table
+     * from the cache. Callers reading column ranges should only load complete rows when this is true, as otherwise the
+     * entire contents of each row would be read remotely for no benefit.
+     */
+    boolean cachesCompleteRows(TableReference tableRef);
+
+    /**
+     * Returns the entire contents of those of the given rows that are small enough to be read in full, including rows
+     * with no columns at all. Rows whose complete contents are cached are served from the cache, and the rowLoader is
+     * used for the remaining rows. Rows absent from the result could not be read in full (for example because they
+     * have more columns than the cache will hold for a row), and should be read through a regular column range read.
+     *
+     * The result map uses {@link UnsignedBytes#lexicographicalComparator()} on the keys, so there will be no duplicate
+     * rows, even if duplicates were specified in rows.
+     */
+    NavigableMap<byte[], CompleteRow> getCompleteRows(
+            TableReference tableRef, Iterable<byte[]> rows, CompleteRowLoader rowLoader);
+
     /**
      * This method should be called before retrieving the value or hit digest, as it guarantees that no more reads or
      * writes will be performed on the cache. This method is idempotent, and may legitimately be called multiple times.
@@ -105,6 +124,16 @@ public interface TransactionScopedCache {
 
     TransactionScopedCache createReadOnlyCache(CommitUpdate commitUpdate);
 
+    @FunctionalInterface
+    interface CompleteRowLoader {
+        /**
+         * Reads every column of each of the given rows, including the transaction's local writes and excluding
+         * deleted values, except that reading a row may stop once more than maxColumns of its columns have been read.
+         * Rows with no columns are absent from the result.
+         */
+        NavigableMap<byte[], RowResult<byte[]>> load(Iterable<byte[]> rows, int maxColumns);
+    }
+
     @Value.Immutable
     interface CacheLookupResult {
         Map<Cell, CacheValue> cacheHits();
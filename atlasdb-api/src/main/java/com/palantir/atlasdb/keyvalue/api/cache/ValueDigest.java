@@ -24,7 +24,17 @@ import org.immutables.value.Value;
 public interface ValueDigest {
     Map<CellReference, CacheValue> loadedValues();
 
+    Map<TableRowReference, CompleteRow> loadedRows();
+
     static ValueDigest of(Map<CellReference, CacheValue> loadedValues) {
         return ImmutableValueDigest.builder().loadedValues(loadedValues).build();
     }
+
+    static ValueDigest of(
+            Map<CellReference, CacheValue> loadedValues, Map<TableRowReference, CompleteRow> loadedRows) {
+        return ImmutableValueDigest.builder()
+                .loadedValues(loadedValues)
+                .loadedRows(loadedRows)
+                .build();
+    }
 }
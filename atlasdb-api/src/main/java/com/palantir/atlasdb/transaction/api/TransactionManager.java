@@ -30,6 +30,7 @@ import com.palantir.processors.DoDelegate;
 import com.palantir.processors.DoNotDelegate;
 import com.palantir.timestamp.TimestampManagementService;
 import com.palantir.timestamp.TimestampService;
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -128,6 +129,32 @@ public interface TransactionManager extends AutoCloseable {
     @Timed
     <T, E extends Exception> T runTaskReadOnly(TransactionTask<T, E> task) throws E;
 
+    /**
+     * This will open and run a read-only transaction that may read from a snapshot of the database that is up to
+     * {@code maxStaleness} old, i.e. it may not observe transactions that committed less than {@code maxStaleness}
+     * before this method was called. In exchange, many such transactions can share one start timestamp and
+     * immutable timestamp lock, so that most of them do not need to make any calls to the timestamp and lock
+     * services before running. Implementations may cap {@code maxStaleness}, since the shared immutable timestamp
+     * lock holds back sweep for as long as it is in use.
+     * <p>
+     * Transaction managers that do not support this default to {@link #runTaskReadOnly(TransactionTask)}, which
+     * satisfies any staleness bound.
+     *
+     * @param maxStaleness how old the snapshot read by the transaction may be
+     * @param task task to run
+     *
+     * @return value returned by task
+     *
+     * @throws IllegalStateException if the transaction manager has been closed.
+     * @throws IllegalArgumentException if {@code maxStaleness} is negative.
+     */
+    @DoDelegate
+    @Timed
+    default <T, E extends Exception> T runTaskReadOnlyWithBoundedStaleness(
+            Duration maxStaleness, TransactionTask<T, E> task) throws E {
+        return runTaskReadOnly(task);
+    }
+
     /**
      * This method is basically the same as {@link #runTaskWithRetry(TransactionTask)} but it will
      * acquire locks right before the transaction is created and release them after the task is complete.
@@ -0,0 +1,78 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Chooses how many elements to put in a batch when several batches may be in flight at once.
+ *
+ * By Little's law, the number of elements that are in the system at a time is the arrival rate multiplied by the
+ * time each element spends in the system. If we have {@code N} batches in flight, each taking {@code W} seconds,
+ * and elements arrive at a rate of {@code R} per second, then a batch size of {@code RW / N} is the smallest that
+ * keeps up with the arrival rate. Anything larger just makes elements wait for a batch to fill up when they could
+ * have been sent.
+ *
+ * Arrival rate and batch latency are tracked as exponentially weighted moving averages. Until we have seen any
+ * completed batches, we do not limit the batch size beyond the configured maximum.
+ */
+@ThreadSafe
+final class AdaptiveBatchSizer {
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final int maxInFlightBatches;
+    private final int maxBatchSize;
+
+    private long lastArrivalNanos = -1;
+    private double averageInterArrivalNanos = Double.NaN;
+    private double averageBatchLatencyNanos = Double.NaN;
+
+    AdaptiveBatchSizer(int maxInFlightBatches, int maxBatchSize) {
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    synchronized void recordArrival(long nowNanos) {
+        if (lastArrivalNanos >= 0) {
+            averageInterArrivalNanos = smooth(averageInterArrivalNanos, nowNanos - lastArrivalNanos);
+        }
+        lastArrivalNanos = nowNanos;
+    }
+
+    synchronized void recordBatchLatency(long latencyNanos) {
+        averageBatchLatencyNanos = smooth(averageBatchLatencyNanos, latencyNanos);
+    }
+
+    synchronized int targetBatchSize() {
+        if (Double.isNaN(averageInterArrivalNanos) || Double.isNaN(averageBatchLatencyNanos)) {
+            return maxBatchSize;
+        }
+        double arrivalsPerBatchLatency = averageBatchLatencyNanos / Math.max(averageInterArrivalNanos, 1.0);
+        return clamp((int) Math.ceil(arrivalsPerBatchLatency / maxInFlightBatches));
+    }
+
+    private int clamp(int batchSize) {
+        return Math.max(1, Math.min(maxBatchSize, batchSize));
+    }
+
+    private static double smooth(double average, long sample) {
+        if (Double.isNaN(average)) {
+            return sample;
+        }
+        return SMOOTHING_FACTOR * sample + (1 - SMOOTHING_FACTOR) * average;
+    }
+}
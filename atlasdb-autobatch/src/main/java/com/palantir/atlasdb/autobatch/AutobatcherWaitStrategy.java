@@ -0,0 +1,110 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * How the thread processing batches for an autobatcher waits for new elements to arrive. Strategies that wait more
+ * actively wake up faster when an element arrives, at the cost of burning CPU while the autobatcher is idle.
+ */
+public enum AutobatcherWaitStrategy {
+    /**
+     * Parks the thread until it is signalled. This uses the least CPU, but each wake-up goes through the scheduler.
+     */
+    BLOCKING {
+        @Override
+        WaitStrategy create() {
+            return new BlockingWaitStrategy();
+        }
+    },
+    /**
+     * Spins for a short while, then yields for a while, and then parks as in {@link #BLOCKING}. Wake-ups are cheap
+     * while the autobatcher is busy, and an idle autobatcher does not burn a core.
+     */
+    PHASED_BACKOFF {
+        @Override
+        WaitStrategy create() {
+            return PhasedBackoffWaitStrategy.withLock(
+                    PHASED_BACKOFF_SPIN_TIMEOUT_MICROS, PHASED_BACKOFF_YIELD_TIMEOUT_MICROS, TimeUnit.MICROSECONDS);
+        }
+    },
+    /**
+     * Spins, then yields, then sleeps for short periods. Never parks indefinitely.
+     */
+    SLEEPING {
+        @Override
+        WaitStrategy create() {
+            return new SleepingWaitStrategy();
+        }
+    },
+    /**
+     * Spins, then repeatedly yields. Uses a full core while idle unless other threads are runnable.
+     */
+    YIELDING {
+        @Override
+        WaitStrategy create() {
+            return new YieldingWaitStrategy();
+        }
+    },
+    /**
+     * Spins continuously. This has the lowest wake-up latency, but uses a full core for as long as the autobatcher
+     * exists, so it should only be used where cores are dedicated to it.
+     */
+    BUSY_SPIN {
+        @Override
+        WaitStrategy create() {
+            return new BusySpinWaitStrategy();
+        }
+    };
+
+    private static final long PHASED_BACKOFF_SPIN_TIMEOUT_MICROS = 10;
+    private static final long PHASED_BACKOFF_YIELD_TIMEOUT_MICROS = 100;
+
+    abstract WaitStrategy create();
+
+    /**
+     * Returns a supplier of the strategy configured for the autobatcher with the given purpose, falling back to
+     * {@link #BLOCKING} if none is configured. The configured map is only looked up again when the underlying supplier
+     * returns a different map instance, so this is cheap to call every time the batching thread waits.
+     */
+    public static Supplier<AutobatcherWaitStrategy> forPurpose(
+            Supplier<Map<String, AutobatcherWaitStrategy>> strategiesByPurpose, String safeLoggablePurpose) {
+        return new Supplier<>() {
+            private volatile Map.Entry<Map<String, AutobatcherWaitStrategy>, AutobatcherWaitStrategy> lastResolved;
+
+            @Override
+            public AutobatcherWaitStrategy get() {
+                Map<String, AutobatcherWaitStrategy> strategies = strategiesByPurpose.get();
+                Map.Entry<Map<String, AutobatcherWaitStrategy>, AutobatcherWaitStrategy> resolved = lastResolved;
+                if (resolved == null || resolved.getKey() != strategies) {
+                    resolved = Map.entry(strategies, strategies.getOrDefault(safeLoggablePurpose, BLOCKING));
+                    lastResolved = resolved;
+                }
+                return resolved.getValue();
+            }
+        };
+    }
+}
@@ -170,6 +170,8 @@ public final class Autobatchers {
         private Optional<Duration> batchFunctionTimeout = Optional.empty();
         private Optional<TimeoutHandler> timeoutHandler = Optional.empty();
         private Optional<WaitStrategy> waitStrategy = Optional.empty();
+        private OptionalInt maxInFlightBatches = OptionalInt.empty();
+        private boolean orderedBatches = false;
 
         @Nullable
         private String purpose;
@@ -203,6 +205,44 @@ public final class Autobatchers {
             return this;
         }
 
+        /**
+         * Uses whichever {@link AutobatcherWaitStrategy} the supplier currently returns, so that the strategy can be
+         * changed through live-reloadable configuration.
+         */
+        public AutobatcherBuilder<I, O> waitStrategy(Supplier<AutobatcherWaitStrategy> waitStrategySupplier) {
+            this.waitStrategy = Optional.of(RefreshableWaitStrategy.create(waitStrategySupplier));
+            return this;
+        }
+
+        /**
+         * Allows up to {@code maxInFlightBatches} batches to be processed concurrently. Batches are handed off from
+         * the Disruptor thread to a dedicated executor, and their size is adapted to the observed latency of the
+         * batch function, so that elements are not held back waiting for a batch to fill up while another batch is
+         * still in flight.
+         *
+         * If {@link #orderedBatches()} is also set, at most one batch is in flight at a time.
+         *
+         * Note that the autobatcher's batch size and wait time metrics are recorded per Disruptor batch, which may be
+         * split into several batches of the batch function when this is set.
+         */
+        public AutobatcherBuilder<I, O> maxInFlightBatches(int maxInFlightBatchesParam) {
+            Preconditions.checkArgument(
+                    maxInFlightBatchesParam > 0,
+                    "Must allow at least one batch in flight",
+                    SafeArg.of("maxInFlightBatches", maxInFlightBatchesParam));
+            this.maxInFlightBatches = OptionalInt.of(maxInFlightBatchesParam);
+            return this;
+        }
+
+        /**
+         * Declares that the batch function relies on batches being processed one at a time, in the order that they
+         * were formed. This overrides any {@link #maxInFlightBatches(int)} greater than one.
+         */
+        public AutobatcherBuilder<I, O> orderedBatches() {
+            this.orderedBatches = true;
+            return this;
+        }
+
         public AutobatcherBuilder<I, O> batchFunctionTimeout(Duration duration) {
             this.batchFunctionTimeout = Optional.of(duration);
             return this;
@@ -231,21 +271,36 @@ public final class Autobatchers {
             timeoutOrchestrationContext.ifPresent(parametersBuilder::batchFunctionTimeoutContext);
             EventHandlerParameters parameters = parametersBuilder.build();
 
-            EventHandler<BatchElement<I, O>> handler = this.handlerFactory.apply(parameters);
+            Optional<ExecutorService> inFlightBatchExecutor = maxInFlightBatches.isPresent()
+                    ? Optional.of(PTExecutors.newFixedThreadPool(
+                            getEffectiveMaxInFlightBatches(), "autobatcher." + purpose + "-in-flight"))
+                    : Optional.empty();
 
-            EventHandler<BatchElement<I, O>> tracingHandler =
-                    new TracingEventHandler<>(handler, parameters.batchSize());
+            EventHandler<BatchElement<I, O>> tracingHandler = inFlightBatchExecutor
+                    .<EventHandler<BatchElement<I, O>>>map(executor -> new ConcurrentBatchingEventHandler<>(
+                            () -> createTracingHandler(parameters),
+                            getEffectiveMaxInFlightBatches(),
+                            parameters.batchSize(),
+                            executor))
+                    .orElseGet(() -> createTracingHandler(parameters));
 
             EventHandler<BatchElement<I, O>> profiledHandler =
                     new ProfilingEventHandler<>(tracingHandler, purpose, safeTags.buildOrThrow());
 
-            return DisruptorAutobatcher.create(
-                    profiledHandler,
-                    parameters.batchSize(),
-                    purpose,
-                    waitStrategy,
-                    () -> timeoutOrchestrationContext.ifPresent(
-                            context -> context.exclusiveExecutor().shutdown()));
+            return DisruptorAutobatcher.create(profiledHandler, parameters.batchSize(), purpose, waitStrategy, () -> {
+                inFlightBatchExecutor.ifPresent(ExecutorService::shutdown);
+                timeoutOrchestrationContext.ifPresent(
+                        context -> context.exclusiveExecutor().shutdown());
+            });
+        }
+
+        private EventHandler<BatchElement<I, O>> createTracingHandler(EventHandlerParameters parameters) {
+            EventHandler<BatchElement<I, O>> handler = this.handlerFactory.apply(parameters);
+            return new TracingEventHandler<>(handler, parameters.batchSize());
+        }
+
+        private int getEffectiveMaxInFlightBatches() {
+            return orderedBatches ? 1 : maxInFlightBatches.orElse(1);
         }
     }
 
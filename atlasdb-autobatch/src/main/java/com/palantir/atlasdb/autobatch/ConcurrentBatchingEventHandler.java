@@ -0,0 +1,100 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import com.lmax.disruptor.EventHandler;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Allows up to a fixed number of batches to be processed concurrently, instead of processing each batch on the
+ * Disruptor thread before draining the next one.
+ *
+ * Each in-flight batch is handed to its own delegate handler, obtained from {@code delegateFactory}; delegates are
+ * never used by more than one thread at a time, so they need not be thread safe. When all delegates are busy, the
+ * Disruptor thread blocks until one becomes free, which applies back-pressure to producers through the ring buffer.
+ *
+ * A batch is dispatched at the end of each Disruptor batch, or earlier if it has reached the size suggested by the
+ * {@link AdaptiveBatchSizer}. With a single delegate, batches are processed strictly one after another in the order
+ * they were dispatched.
+ */
+final class ConcurrentBatchingEventHandler<T, R> implements EventHandler<BatchElement<T, R>> {
+    private final BlockingQueue<EventHandler<BatchElement<T, R>>> idleDelegates;
+    private final Executor executor;
+    private final AdaptiveBatchSizer batchSizer;
+
+    private List<BatchElement<T, R>> pending = new ArrayList<>();
+
+    ConcurrentBatchingEventHandler(
+            Supplier<EventHandler<BatchElement<T, R>>> delegateFactory,
+            int maxInFlightBatches,
+            int maxBatchSize,
+            Executor executor) {
+        Preconditions.checkArgument(
+                maxInFlightBatches > 0,
+                "Must allow at least one batch in flight",
+                SafeArg.of("maxInFlightBatches", maxInFlightBatches));
+        this.idleDelegates = new ArrayBlockingQueue<>(maxInFlightBatches);
+        for (int i = 0; i < maxInFlightBatches; i++) {
+            idleDelegates.add(delegateFactory.get());
+        }
+        this.executor = executor;
+        this.batchSizer = new AdaptiveBatchSizer(maxInFlightBatches, maxBatchSize);
+    }
+
+    @Override
+    public void onEvent(BatchElement<T, R> event, long sequence, boolean endOfBatch) throws InterruptedException {
+        batchSizer.recordArrival(System.nanoTime());
+        pending.add(event);
+        if (endOfBatch || pending.size() >= batchSizer.targetBatchSize()) {
+            dispatch();
+        }
+    }
+
+    private void dispatch() throws InterruptedException {
+        EventHandler<BatchElement<T, R>> delegate = idleDelegates.take();
+        List<BatchElement<T, R>> batch = pending;
+        pending = new ArrayList<>(batch.size());
+        try {
+            executor.execute(() -> process(delegate, batch));
+        } catch (RejectedExecutionException e) {
+            idleDelegates.add(delegate);
+            batch.forEach(element -> element.result().setException(e));
+        }
+    }
+
+    private void process(EventHandler<BatchElement<T, R>> delegate, List<BatchElement<T, R>> batch) {
+        long start = System.nanoTime();
+        try {
+            for (int index = 0; index < batch.size(); index++) {
+                delegate.onEvent(batch.get(index), index, index == batch.size() - 1);
+            }
+        } catch (Throwable t) {
+            batch.forEach(element -> element.result().setException(t));
+        } finally {
+            batchSizer.recordBatchLatency(System.nanoTime() - start);
+            idleDelegates.add(delegate);
+        }
+    }
+}
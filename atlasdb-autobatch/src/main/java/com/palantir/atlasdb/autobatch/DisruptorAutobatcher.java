@@ -127,6 +127,7 @@ public final class DisruptorAutobatcher<T, R>
 
         private final DetachedSpan parent;
         private final DetachedSpan waitingSpan;
+        private final long submittedAtNanos = System.nanoTime();
 
         @Nullable
         private DetachedSpan runningSpan = null;
@@ -145,6 +146,10 @@ public final class DisruptorAutobatcher<T, R>
                     MoreExecutors.directExecutor());
         }
 
+        long submittedAtNanos() {
+            return submittedAtNanos;
+        }
+
         void running() {
             waitingSpan.complete();
             runningSpan = parent.childDetachedSpan("running task");
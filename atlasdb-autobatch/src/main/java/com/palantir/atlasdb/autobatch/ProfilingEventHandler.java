@@ -19,10 +19,17 @@ package com.palantir.atlasdb.autobatch;
 import com.lmax.disruptor.EventHandler;
 import java.util.Map;
 
+/**
+ * Records batch size and wait time metrics for each batch delivered by the Disruptor, which is the unit in which the
+ * Disruptor thread drains the ring buffer. When {@link Autobatchers.AutobatcherBuilder#maxInFlightBatches(int)} is
+ * used, a Disruptor batch may be dispatched to the batch function as several smaller batches, so these metrics then
+ * describe how the ring buffer is drained rather than the batches seen by the batch function.
+ */
 final class ProfilingEventHandler<T, R> implements EventHandler<BatchElement<T, R>> {
 
     private final EventHandler<BatchElement<T, R>> delegateHandler;
     private final BatchSizeRecorder batchSizeRecorder;
+    private final WaitTimeRecorder waitTimeRecorder;
 
     private int elementsSeenSoFar;
 
@@ -30,16 +37,21 @@ final class ProfilingEventHandler<T, R> implements EventHandler<BatchElement<T,
             EventHandler<BatchElement<T, R>> delegateHandler, String safeIdentifier, Map<String, String> tags) {
         this.delegateHandler = delegateHandler;
         this.batchSizeRecorder = BatchSizeRecorder.create(safeIdentifier, tags);
+        this.waitTimeRecorder = WaitTimeRecorder.create(safeIdentifier, tags);
     }
 
     @Override
     public void onEvent(BatchElement<T, R> event, long sequence, boolean endOfBatch) throws Exception {
+        if (elementsSeenSoFar == 0) {
+            waitTimeRecorder.markBatchStarted(event.result().submittedAtNanos());
+        }
         elementsSeenSoFar++;
         delegateHandler.onEvent(event, sequence, endOfBatch);
 
         if (endOfBatch) {
             // Shouldn't affect clients, because futures have already been completed
             batchSizeRecorder.markBatchProcessed(elementsSeenSoFar);
+            waitTimeRecorder.markBatchFinished();
             elementsSeenSoFar = 0;
         }
     }
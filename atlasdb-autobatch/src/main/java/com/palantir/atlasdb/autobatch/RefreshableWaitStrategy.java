@@ -0,0 +1,69 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import com.lmax.disruptor.AlertException;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.SequenceBarrier;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WaitStrategy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * A {@link WaitStrategy} that delegates to whichever {@link AutobatcherWaitStrategy} is currently configured. A
+ * change in configuration takes effect the next time the consumer waits for an element.
+ *
+ * Underlying strategies are created the first time they are configured, and the strategy in use is only resolved
+ * again when the configured value changes. Producers signal every strategy that has been used so far, because the
+ * consumer may still be waiting in the previously configured one.
+ */
+final class RefreshableWaitStrategy implements WaitStrategy {
+    private final Supplier<AutobatcherWaitStrategy> strategySupplier;
+    private final ConcurrentMap<AutobatcherWaitStrategy, WaitStrategy> usedStrategies = new ConcurrentHashMap<>();
+
+    // Only read and written by the consumer thread.
+    private AutobatcherWaitStrategy currentStrategy;
+    private WaitStrategy currentDelegate;
+
+    private RefreshableWaitStrategy(Supplier<AutobatcherWaitStrategy> strategySupplier) {
+        this.strategySupplier = strategySupplier;
+    }
+
+    static WaitStrategy create(Supplier<AutobatcherWaitStrategy> strategySupplier) {
+        return new RefreshableWaitStrategy(strategySupplier);
+    }
+
+    @Override
+    public long waitFor(long sequence, Sequence cursor, Sequence dependentSequence, SequenceBarrier barrier)
+            throws AlertException, InterruptedException, TimeoutException {
+        AutobatcherWaitStrategy configured = strategySupplier.get();
+        if (configured != currentStrategy) {
+            currentDelegate = usedStrategies.computeIfAbsent(configured, AutobatcherWaitStrategy::create);
+            currentStrategy = configured;
+        }
+        return currentDelegate.waitFor(sequence, cursor, dependentSequence, barrier);
+    }
+
+    @Override
+    public void signalAllWhenBlocking() {
+        for (WaitStrategy strategy : usedStrategies.values()) {
+            strategy.signalAllWhenBlocking();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import com.palantir.tritium.metrics.registry.MetricName;
+import com.palantir.tritium.metrics.registry.SharedTaggedMetricRegistries;
+import com.palantir.tritium.metrics.registry.TaggedMetricRegistry;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Records how the autobatcher's wait strategy behaves: how long it takes for the batching thread to pick up the
+ * first element of a batch after it was submitted, and how much CPU time the batching thread spends between batches,
+ * which is almost entirely spent in the wait strategy.
+ *
+ * The pick-up latency is measured from submission, not from when the waiting thread was signalled, so it also
+ * includes any time the element spent queued behind earlier batches. It is only a direct measure of wake-up latency
+ * while the autobatcher is idle between batches.
+ */
+@NotThreadSafe // Disruptor runs the batching function on just one thread.
+final class WaitTimeRecorder {
+    static final String PICK_UP_LATENCY_TIMER_NAME = WaitTimeRecorder.class.getName() + ".pickUpLatency";
+    static final String WAIT_CPU_TIME_METER_NAME = WaitTimeRecorder.class.getName() + ".waitCpuTimeNanos";
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final Timer pickUpLatency;
+    private final Meter waitCpuTimeNanos;
+    private final boolean cpuTimeSupported;
+
+    private long cpuTimeAtEndOfLastBatch = -1;
+
+    private WaitTimeRecorder(Timer pickUpLatency, Meter waitCpuTimeNanos, boolean cpuTimeSupported) {
+        this.pickUpLatency = pickUpLatency;
+        this.waitCpuTimeNanos = waitCpuTimeNanos;
+        this.cpuTimeSupported = cpuTimeSupported;
+    }
+
+    static WaitTimeRecorder create(String safeLoggerIdentifier, Map<String, String> tags) {
+        TaggedMetricRegistry registry = SharedTaggedMetricRegistries.getSingleton();
+        Timer pickUpLatency = registry.timer(metricName(PICK_UP_LATENCY_TIMER_NAME, safeLoggerIdentifier, tags));
+        Meter waitCpuTimeNanos = registry.meter(metricName(WAIT_CPU_TIME_METER_NAME, safeLoggerIdentifier, tags));
+        return new WaitTimeRecorder(
+                pickUpLatency,
+                waitCpuTimeNanos,
+                THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled());
+    }
+
+    void markBatchStarted(long submittedAtNanos) {
+        pickUpLatency.update(System.nanoTime() - submittedAtNanos, TimeUnit.NANOSECONDS);
+        if (cpuTimeSupported && cpuTimeAtEndOfLastBatch >= 0) {
+            waitCpuTimeNanos.mark(THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuTimeAtEndOfLastBatch);
+        }
+    }
+
+    void markBatchFinished() {
+        if (cpuTimeSupported) {
+            cpuTimeAtEndOfLastBatch = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        }
+    }
+
+    private static MetricName metricName(String safeName, String safeLoggerIdentifier, Map<String, String> tags) {
+        return MetricName.builder()
+                .safeName(safeName)
+                .putSafeTags("identifier", safeLoggerIdentifier)
+                .putAllSafeTags(tags)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.autobatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.Test;
+
+public class AutobatcherWaitStrategyTest {
+    private static final String PURPOSE = "purpose";
+
+    @Test
+    public void fallsBackToBlockingIfPurposeIsNotConfigured() {
+        Supplier<AutobatcherWaitStrategy> strategy =
+                AutobatcherWaitStrategy.forPurpose(() -> Map.of("other", AutobatcherWaitStrategy.BUSY_SPIN), PURPOSE);
+        assertThat(strategy.get()).isEqualTo(AutobatcherWaitStrategy.BLOCKING);
+    }
+
+    @Test
+    public void onlyResolvesStrategyAgainWhenConfigurationChanges() {
+        Map<String, AutobatcherWaitStrategy> initial = spy(new HashMap<>());
+        initial.put(PURPOSE, AutobatcherWaitStrategy.YIELDING);
+        AtomicReference<Map<String, AutobatcherWaitStrategy>> config = new AtomicReference<>(initial);
+        Supplier<AutobatcherWaitStrategy> strategy = AutobatcherWaitStrategy.forPurpose(config::get, PURPOSE);
+
+        assertThat(strategy.get()).isEqualTo(AutobatcherWaitStrategy.YIELDING);
+        assertThat(strategy.get()).isEqualTo(AutobatcherWaitStrategy.YIELDING);
+        verify(initial, times(1)).getOrDefault(PURPOSE, AutobatcherWaitStrategy.BLOCKING);
+
+        config.set(Map.of(PURPOSE, AutobatcherWaitStrategy.PHASED_BACKOFF));
+        assertThat(strategy.get()).isEqualTo(AutobatcherWaitStrategy.PHASED_BACKOFF);
+    }
+}
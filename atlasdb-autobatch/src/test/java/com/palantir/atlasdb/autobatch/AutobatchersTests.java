@@ -16,17 +16,22 @@
 
 package com.palantir.atlasdb.autobatch;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import com.palantir.tritium.metrics.registry.MetricName;
+import com.palantir.tritium.metrics.registry.SharedTaggedMetricRegistries;
 import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Test;
 
 public class AutobatchersTests {
@@ -91,4 +96,38 @@ public class AutobatchersTests {
         // Without timeouts, this operation would never succeed!
         assertThatCode(secondResponse::get).doesNotThrowAnyException();
     }
+
+    @Test
+    public void refreshableWaitStrategyCanBeChangedWhileRunning() throws Exception {
+        AtomicReference<AutobatcherWaitStrategy> strategy = new AtomicReference<>(AutobatcherWaitStrategy.BLOCKING);
+        try (DisruptorAutobatcher<Integer, Integer> autobatcher = Autobatchers.<Integer, Integer>independent(
+                        list -> list.forEach(element -> element.result().set(element.argument())))
+                .safeLoggablePurpose("refreshable-wait-strategy")
+                .waitStrategy(strategy::get)
+                .build()) {
+            for (AutobatcherWaitStrategy nextStrategy : AutobatcherWaitStrategy.values()) {
+                strategy.set(nextStrategy);
+                assertThat(autobatcher.apply(nextStrategy.ordinal()).get(10, TimeUnit.SECONDS))
+                        .isEqualTo(nextStrategy.ordinal());
+            }
+        }
+    }
+
+    @Test
+    public void recordsPickUpLatency() throws Exception {
+        try (DisruptorAutobatcher<Integer, Integer> autobatcher = Autobatchers.<Integer, Integer>independent(
+                        list -> list.forEach(element -> element.result().set(element.argument())))
+                .safeLoggablePurpose("pick-up-latency")
+                .build()) {
+            autobatcher.apply(1).get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(SharedTaggedMetricRegistries.getSingleton()
+                        .timer(MetricName.builder()
+                                .safeName(WaitTimeRecorder.PICK_UP_LATENCY_TIMER_NAME)
+                                .putSafeTags("identifier", "pick-up-latency")
+                                .build())
+                        .getCount())
+                .isEqualTo(1);
+    }
 }
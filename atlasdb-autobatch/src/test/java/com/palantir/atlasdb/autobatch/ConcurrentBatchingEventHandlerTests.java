@@ -0,0 +1,117 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.autobatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ConcurrentBatchingEventHandlerTests {
+    @Test
+    public void processesMultipleBatchesConcurrently() throws Exception {
+        CountDownLatch bothBatchesStarted = new CountDownLatch(2);
+        try (DisruptorAutobatcher<Integer, Integer> autobatcher = Autobatchers.<Integer, Integer>independent(
+                        batch -> {
+                            bothBatchesStarted.countDown();
+                            Uninterruptibles.awaitUninterruptibly(bothBatchesStarted, 10, TimeUnit.SECONDS);
+                            batch.forEach(element -> element.result().set(element.argument()));
+                        })
+                .safeLoggablePurpose("concurrent-batching-test")
+                .maxInFlightBatches(2)
+                .build()) {
+            ListenableFuture<Integer> first = autobatcher.apply(1);
+            awaitBatchStarted(bothBatchesStarted);
+            ListenableFuture<Integer> second = autobatcher.apply(2);
+
+            assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+            assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+            assertThat(bothBatchesStarted.getCount()).isZero();
+        }
+    }
+
+    @Test
+    public void orderedBatchesAreProcessedOneAtATimeInOrder() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        AtomicInteger concurrentBatches = new AtomicInteger();
+        AtomicInteger maxConcurrentBatches = new AtomicInteger();
+        List<Integer> processingOrder = Collections.synchronizedList(new ArrayList<>());
+        try (DisruptorAutobatcher<Integer, Integer> autobatcher = Autobatchers.<Integer, Integer>independent(
+                        batch -> {
+                            maxConcurrentBatches.accumulateAndGet(concurrentBatches.incrementAndGet(), Math::max);
+                            batch.forEach(element -> processingOrder.add(element.argument()));
+                            if (batch.get(0).argument() == 1) {
+                                firstBatchStarted.countDown();
+                                Uninterruptibles.awaitUninterruptibly(releaseFirstBatch, 10, TimeUnit.SECONDS);
+                            }
+                            concurrentBatches.decrementAndGet();
+                            batch.forEach(element -> element.result().set(element.argument()));
+                        })
+                .safeLoggablePurpose("ordered-batching-test")
+                .maxInFlightBatches(4)
+                .orderedBatches()
+                .build()) {
+            ListenableFuture<Integer> first = autobatcher.apply(1);
+            assertThat(firstBatchStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            ListenableFuture<Integer> second = autobatcher.apply(2);
+            ListenableFuture<Integer> third = autobatcher.apply(3);
+
+            assertThat(second).isNotDone();
+            assertThat(third).isNotDone();
+            assertThat(processingOrder).containsExactly(1);
+
+            releaseFirstBatch.countDown();
+            assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+            assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+            assertThat(third.get(10, TimeUnit.SECONDS)).isEqualTo(3);
+            assertThat(processingOrder).containsExactly(1, 2, 3);
+            assertThat(maxConcurrentBatches).hasValue(1);
+        }
+    }
+
+    @Test
+    public void exceptionsFailElementsOfTheirBatch() {
+        RuntimeException exception = new RuntimeException("boo");
+        try (DisruptorAutobatcher<Integer, Integer> autobatcher = Autobatchers.<Integer, Integer>independent(
+                        batch -> {
+                            throw exception;
+                        })
+                .safeLoggablePurpose("concurrent-batching-exception-test")
+                .maxInFlightBatches(2)
+                .build()) {
+            ListenableFuture<Integer> response = autobatcher.apply(1);
+            assertThatThrownBy(response::get).isInstanceOf(ExecutionException.class).hasCause(exception);
+        }
+    }
+
+    private static void awaitBatchStarted(CountDownLatch latch) {
+        while (latch.getCount() == 2) {
+            Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(1));
+        }
+    }
+}
@@ -32,6 +32,7 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.DriverInternalError;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
@@ -40,9 +41,11 @@ import com.palantir.atlasdb.cassandra.CassandraKeyValueServiceConfig;
 import com.palantir.atlasdb.cassandra.CassandraKeyValueServiceRuntimeConfig;
 import com.palantir.atlasdb.cassandra.CassandraServersConfigs.CqlCapableConfigTuning;
 import com.palantir.atlasdb.cassandra.ImmutableCassandraKeyValueServiceConfig;
+import com.palantir.atlasdb.cassandra.ImmutableCassandraKeyValueServiceRuntimeConfig;
 import com.palantir.atlasdb.cassandra.ReloadingCloseableContainerImpl;
 import com.palantir.atlasdb.containers.CassandraResource;
 import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.futures.AtlasFutures;
 import com.palantir.atlasdb.keyvalue.api.AsyncKeyValueService;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
@@ -69,6 +72,9 @@ public class CassandraKvsAsyncFallbackMechanismsTests {
     private static final TableReference TEST_TABLE = TableReference.createFromFullyQualifiedName("ns.pt_kvs_test");
     private static final Cell CELL = Cell.create(PtBytes.toBytes("row"), PtBytes.toBytes("column"));
     private static final Map<Cell, Long> TIMESTAMP_BY_CELL = ImmutableMap.of(CELL, 3L);
+    private static final long WRITE_TIMESTAMP = 2L;
+    private static final Map<TableReference, Map<Cell, byte[]>> VALUES_BY_TABLE =
+            ImmutableMap.of(TEST_TABLE, ImmutableMap.of(CELL, PtBytes.toBytes("value")));
 
     @ClassRule
     public static final CassandraResource CASSANDRA_RESOURCE = new CassandraResource();
@@ -76,6 +82,12 @@ public class CassandraKvsAsyncFallbackMechanismsTests {
     private static final Refreshable<CassandraKeyValueServiceRuntimeConfig> RUNTIME_CONFIG =
             CASSANDRA_RESOURCE.getRuntimeConfig();
 
+    private static final Refreshable<CassandraKeyValueServiceRuntimeConfig> CQL_WRITES_RUNTIME_CONFIG =
+            RUNTIME_CONFIG.map(config -> ImmutableCassandraKeyValueServiceRuntimeConfig.builder()
+                    .from(config)
+                    .useCqlForAsyncWrites(true)
+                    .build());
+
     private KeyValueService keyValueService;
 
     @Mock
@@ -180,6 +192,87 @@ public class CassandraKvsAsyncFallbackMechanismsTests {
         verify(keyValueService).get(TEST_TABLE, TIMESTAMP_BY_CELL);
     }
 
+    @Test
+    public void testMultiPutAsyncUsesCqlWhenEnabled() {
+        when(asyncKeyValueService.multiPutAsync(any(), anyLong())).thenReturn(Futures.immediateVoidFuture());
+        when(asyncKeyValueService.isValid()).thenReturn(true);
+        keyValueService = createKvsWithAsyncKvs(asyncKeyValueService, CQL_WRITES_RUNTIME_CONFIG);
+
+        AtlasFutures.getUnchecked(keyValueService.multiPutAsync(VALUES_BY_TABLE, WRITE_TIMESTAMP));
+
+        verify(asyncKeyValueService).multiPutAsync(VALUES_BY_TABLE, WRITE_TIMESTAMP);
+        verify(keyValueService, never()).multiPut(any(), anyLong());
+    }
+
+    @Test
+    public void testMultiPutAsyncUsesThriftWhenCqlWritesAreDisabled() {
+        keyValueService = createKvsWithAsyncKvs(asyncKeyValueService, RUNTIME_CONFIG);
+        keyValueService.createTable(TEST_TABLE, AtlasDbConstants.GENERIC_TABLE_METADATA);
+
+        AtlasFutures.getUnchecked(keyValueService.multiPutAsync(VALUES_BY_TABLE, WRITE_TIMESTAMP));
+
+        verify(asyncKeyValueService, never()).multiPutAsync(any(), anyLong());
+        verify(keyValueService).multiPut(VALUES_BY_TABLE, WRITE_TIMESTAMP);
+    }
+
+    @Test
+    public void testMultiPutAsyncFallingBackToSynchronousOnInvalidAsyncKvs() {
+        when(asyncKeyValueService.isValid()).thenReturn(false);
+        keyValueService = createKvsWithAsyncKvs(asyncKeyValueService, CQL_WRITES_RUNTIME_CONFIG);
+        keyValueService.createTable(TEST_TABLE, AtlasDbConstants.GENERIC_TABLE_METADATA);
+
+        AtlasFutures.getUnchecked(keyValueService.multiPutAsync(VALUES_BY_TABLE, WRITE_TIMESTAMP));
+
+        verify(asyncKeyValueService, never()).multiPutAsync(any(), anyLong());
+        verify(keyValueService).multiPut(VALUES_BY_TABLE, WRITE_TIMESTAMP);
+    }
+
+    @Test
+    public void testMultiPutAsyncFallingBackToSynchronousOnIllegalStateException() {
+        assertMultiPutAsyncFallsBackToSynchronousWhenCqlWriteThrows(new IllegalStateException());
+    }
+
+    @Test
+    public void testMultiPutAsyncFallingBackToSynchronousOnDriverInternalError() {
+        assertMultiPutAsyncFallsBackToSynchronousWhenCqlWriteThrows(new DriverInternalError("client was reloaded"));
+    }
+
+    @Test
+    public void testMultiPutAsyncFallingBackToSynchronousWhenCqlWriteFailsWithIllegalStateException() {
+        when(throwingAsyncKeyValueService.multiPutAsync(any(), anyLong()))
+                .thenReturn(Futures.immediateFailedFuture(new IllegalStateException()));
+        when(throwingAsyncKeyValueService.isValid()).thenReturn(true);
+        keyValueService = createKvsWithAsyncKvs(throwingAsyncKeyValueService, CQL_WRITES_RUNTIME_CONFIG);
+        keyValueService.createTable(TEST_TABLE, AtlasDbConstants.GENERIC_TABLE_METADATA);
+
+        AtlasFutures.getUnchecked(keyValueService.multiPutAsync(VALUES_BY_TABLE, WRITE_TIMESTAMP));
+
+        verify(keyValueService).multiPut(VALUES_BY_TABLE, WRITE_TIMESTAMP);
+    }
+
+    private void assertMultiPutAsyncFallsBackToSynchronousWhenCqlWriteThrows(RuntimeException exception) {
+        when(throwingAsyncKeyValueService.multiPutAsync(any(), anyLong())).thenThrow(exception);
+        when(throwingAsyncKeyValueService.isValid()).thenReturn(true);
+        keyValueService = createKvsWithAsyncKvs(throwingAsyncKeyValueService, CQL_WRITES_RUNTIME_CONFIG);
+        keyValueService.createTable(TEST_TABLE, AtlasDbConstants.GENERIC_TABLE_METADATA);
+
+        AtlasFutures.getUnchecked(keyValueService.multiPutAsync(VALUES_BY_TABLE, WRITE_TIMESTAMP));
+
+        verify(keyValueService).multiPut(VALUES_BY_TABLE, WRITE_TIMESTAMP);
+    }
+
+    private KeyValueService createKvsWithAsyncKvs(
+            AsyncKeyValueService asyncKvs, Refreshable<CassandraKeyValueServiceRuntimeConfig> runtimeConfig) {
+        when(factory.constructAsyncKeyValueService(
+                        any(), any(), any(), any(), eq(AtlasDbConstants.DEFAULT_INITIALIZE_ASYNC)))
+                .thenReturn(asyncKvs);
+        CassandraKeyValueServiceConfig config = ImmutableCassandraKeyValueServiceConfig.builder()
+                .from(CASSANDRA_RESOURCE.getConfig())
+                .asyncKeyValueServiceFactory(factory)
+                .build();
+        return spy(CassandraKeyValueServiceImpl.createForTesting(config, runtimeConfig));
+    }
+
     private CassandraKeyValueServiceConfig getConfigWithAsyncFactoryUsingClosedSession(
             boolean useSpyPreparedStatement) {
         CassandraKeyValueServiceConfig config = CASSANDRA_RESOURCE.getConfig();
@@ -0,0 +1,160 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.keyvalue.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.palantir.atlasdb.AtlasDbConstants;
+import com.palantir.atlasdb.cassandra.CassandraKeyValueServiceConfig;
+import com.palantir.atlasdb.cassandra.CassandraKeyValueServiceRuntimeConfig;
+import com.palantir.atlasdb.cassandra.ImmutableCassandraKeyValueServiceRuntimeConfig;
+import com.palantir.atlasdb.containers.CassandraResource;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.KeyValueService;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.keyvalue.cassandra.async.client.creation.ClusterFactory;
+import com.palantir.atlasdb.keyvalue.cassandra.async.client.creation.ClusterFactory.CassandraClusterConfig;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableCqlQueryContext;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutablePutQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.PutQuerySpec;
+import com.palantir.atlasdb.keyvalue.impl.AbstractKeyValueService;
+import com.palantir.refreshable.Refreshable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class CassandraKvsCqlWritesIntegrationTest {
+    private static final TableReference CQL_TABLE = TableReference.createFromFullyQualifiedName("ns.cql_writes");
+    private static final TableReference THRIFT_TABLE = TableReference.createFromFullyQualifiedName("ns.thrift_writes");
+    private static final long TIMESTAMP = 17L;
+    private static final Map<Cell, byte[]> VALUES = ImmutableMap.of(
+            cell("row1", "col1"), PtBytes.toBytes("value1"),
+            cell("row1", "col2"), PtBytes.toBytes("value2"),
+            cell("row2", "col1"), PtBytes.toBytes("value3"));
+
+    @ClassRule
+    public static final CassandraResource CASSANDRA = new CassandraResource();
+
+    private static final Refreshable<CassandraKeyValueServiceRuntimeConfig> CQL_WRITES_RUNTIME_CONFIG =
+            CASSANDRA.getRuntimeConfig().map(config -> ImmutableCassandraKeyValueServiceRuntimeConfig.builder()
+                    .from(config)
+                    .useCqlForAsyncWrites(true)
+                    .build());
+
+    private KeyValueService keyValueService;
+
+    @Before
+    public void setUp() {
+        keyValueService =
+                spy(CassandraKeyValueServiceImpl.createForTesting(CASSANDRA.getConfig(), CQL_WRITES_RUNTIME_CONFIG));
+        keyValueService.createTables(ImmutableMap.of(
+                CQL_TABLE, AtlasDbConstants.GENERIC_TABLE_METADATA,
+                THRIFT_TABLE, AtlasDbConstants.GENERIC_TABLE_METADATA));
+    }
+
+    @After
+    public void tearDown() {
+        keyValueService.dropTables(ImmutableSet.of(CQL_TABLE, THRIFT_TABLE));
+        CASSANDRA.registerKvs(keyValueService);
+    }
+
+    @Test
+    public void cqlWritesAreReadableAtTheirTimestamp() {
+        AtlasFutures.getUnchecked(keyValueService.multiPutAsync(ImmutableMap.of(CQL_TABLE, VALUES), TIMESTAMP));
+
+        verify(keyValueService, never()).multiPut(any(), anyLong());
+        Map<Cell, Value> read = keyValueService.get(CQL_TABLE, Maps.toMap(VALUES.keySet(), unused -> TIMESTAMP + 1));
+        assertThat(read).containsOnlyKeys(VALUES.keySet());
+        read.forEach((cell, value) -> {
+            assertThat(value.getTimestamp()).isEqualTo(TIMESTAMP);
+            assertThat(value.getContents()).isEqualTo(VALUES.get(cell));
+        });
+        assertThat(keyValueService.get(CQL_TABLE, Maps.toMap(VALUES.keySet(), unused -> TIMESTAMP)))
+                .isEmpty();
+    }
+
+    @Test
+    public void cqlAndThriftWritesStoreIdenticalCells() {
+        AtlasFutures.getUnchecked(keyValueService.multiPutAsync(ImmutableMap.of(CQL_TABLE, VALUES), TIMESTAMP));
+        keyValueService.multiPut(ImmutableMap.of(THRIFT_TABLE, VALUES), TIMESTAMP);
+
+        CassandraKeyValueServiceConfig config = CASSANDRA.getConfig();
+        CassandraKeyValueServiceRuntimeConfig runtimeConfig = CASSANDRA.getRuntimeConfig().get();
+        try (Cluster cluster = new ClusterFactory(CASSANDRA.getClusterBuilderWithProxy())
+                        .constructCluster(CassandraClusterConfig.of(config, runtimeConfig), runtimeConfig.servers());
+                Session session = cluster.connect()) {
+            Set<List<Object>> cqlCells = readStoredCells(session, CQL_TABLE);
+            assertThat(cqlCells).hasSize(VALUES.size()).isEqualTo(readStoredCells(session, THRIFT_TABLE));
+        }
+    }
+
+    @Test
+    public void cqlWritesUseThriftWriteConsistency() {
+        PutQuerySpec putQuerySpec = new PutQuerySpec(
+                ImmutableCqlQueryContext.builder()
+                        .keyspace(CASSANDRA.getConfig().getKeyspaceOrThrow())
+                        .tableReference(CQL_TABLE)
+                        .build(),
+                ImmutablePutQueryParameters.builder()
+                        .values(ImmutableMap.of(cell("row1", "col1"), PtBytes.toBytes("value1")))
+                        .timestamp(TIMESTAMP)
+                        .build());
+
+        assertThat(putQuerySpec.queryConsistency().name())
+                .isEqualTo(CassandraKeyValueServiceImpl.WRITE_CONSISTENCY.name());
+    }
+
+    /**
+     * Reads every stored cell as its key, column1, column2, value and Cassandra write timestamp.
+     */
+    private static Set<List<Object>> readStoredCells(Session session, TableReference tableRef) {
+        String query = String.format(
+                "SELECT key, column1, column2, value, writetime(value) FROM \"%s\".\"%s\";",
+                CASSANDRA.getConfig().getKeyspaceOrThrow(),
+                AbstractKeyValueService.internalTableName(tableRef));
+        return session.execute(query).all().stream()
+                .map(CassandraKvsCqlWritesIntegrationTest::toStoredCell)
+                .collect(Collectors.toSet());
+    }
+
+    private static List<Object> toStoredCell(Row row) {
+        return Arrays.asList(row.getBytes(0), row.getBytes(1), row.getLong(2), row.getBytes(3), row.getLong(4));
+    }
+
+    private static Cell cell(String row, String column) {
+        return Cell.create(PtBytes.toBytes(row), PtBytes.toBytes(column));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.cassandra;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.conjure.java.api.config.service.HumanReadableDuration;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import org.immutables.value.Value;
+
+/**
+ * Configures an adaptive limit on the number of concurrent requests made to each Cassandra host.
+ *
+ * The limit follows an additive-increase/multiplicative-decrease scheme: it grows by one whenever a request completes
+ * quickly while the host is being used close to the current limit, and is multiplied by {@link #backoffRatio()}
+ * whenever a request takes longer than {@link #latencyThreshold()} or times out, at most once per
+ * {@link #latencyThreshold()}. Latency is measured from when the request has a connection. Requests made while the
+ * limit is reached are rejected before a connection is borrowed, and are retried with backoff in the same way as
+ * requests against an exhausted connection pool.
+ */
+@JsonSerialize(as = ImmutableCassandraHostConcurrencyLimitConfig.class)
+@JsonDeserialize(as = ImmutableCassandraHostConcurrencyLimitConfig.class)
+@Value.Immutable
+public abstract class CassandraHostConcurrencyLimitConfig {
+    @Value.Default
+    public boolean enabled() {
+        return false;
+    }
+
+    @Value.Default
+    public int initialLimit() {
+        return 20;
+    }
+
+    @Value.Default
+    public int minLimit() {
+        return 1;
+    }
+
+    /**
+     * There is little value in allowing more concurrent requests than connections in the pool, so this should
+     * generally not exceed {@link CassandraKeyValueServiceConfig#maxConnectionBurstSize()}.
+     */
+    @Value.Default
+    public int maxLimit() {
+        return 100;
+    }
+
+    /**
+     * Requests taking longer than this are taken as a sign that the host is overloaded.
+     */
+    @Value.Default
+    public HumanReadableDuration latencyThreshold() {
+        return HumanReadableDuration.milliseconds(500);
+    }
+
+    @Value.Default
+    public double backoffRatio() {
+        return 0.9;
+    }
+
+    @Value.Check
+    protected void check() {
+        Preconditions.checkArgument(minLimit() > 0, "minLimit must be positive", SafeArg.of("minLimit", minLimit()));
+        Preconditions.checkArgument(
+                minLimit() <= initialLimit() && initialLimit() <= maxLimit(),
+                "initialLimit must be between minLimit and maxLimit",
+                SafeArg.of("minLimit", minLimit()),
+                SafeArg.of("initialLimit", initialLimit()),
+                SafeArg.of("maxLimit", maxLimit()));
+        Preconditions.checkArgument(
+                backoffRatio() > 0 && backoffRatio() < 1,
+                "backoffRatio must be strictly between 0 and 1",
+                SafeArg.of("backoffRatio", backoffRatio()));
+    }
+
+    public static CassandraHostConcurrencyLimitConfig disabled() {
+        return ImmutableCassandraHostConcurrencyLimitConfig.builder().build();
+    }
+}
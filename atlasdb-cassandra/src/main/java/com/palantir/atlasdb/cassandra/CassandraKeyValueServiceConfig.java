@@ -89,6 +89,15 @@ public interface CassandraKeyValueServiceConfig extends KeyValueServiceConfig {
         return 100;
     }
 
+    /**
+     * Adaptively limits the number of concurrent requests made to each Cassandra host, rejecting requests beyond the
+     * limit before they borrow a connection. Disabled by default.
+     */
+    @Value.Default
+    default CassandraHostConcurrencyLimitConfig hostConcurrencyLimit() {
+        return CassandraHostConcurrencyLimitConfig.disabled();
+    }
+
     /**
      * The proportion of {@link #poolSize()} connections that are checked approximately every {@link
      * #timeBetweenConnectionEvictionRunsSeconds()} seconds to see if has been idle at least {@link
@@ -111,6 +120,16 @@ public interface CassandraKeyValueServiceConfig extends KeyValueServiceConfig {
         return 20;
     }
 
+    /**
+     * If true, connections to each host are pooled by a pool that does not take locks when connections are borrowed
+     * or returned, instead of by a commons-pool2 {@code GenericObjectPool}. Pool sizes and idle eviction are
+     * configured by the same parameters either way.
+     */
+    @Value.Default
+    default boolean useLockFreeConnectionPool() {
+        return false;
+    }
+
     /**
      * The period between refreshing the Cassandra client pools. At every refresh, we check the health of the current
      * blacklisted nodes — if they're healthy, we whitelist them.
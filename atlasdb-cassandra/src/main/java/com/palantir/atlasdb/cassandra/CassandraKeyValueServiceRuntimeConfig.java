@@ -109,6 +109,31 @@ public abstract class CassandraKeyValueServiceRuntimeConfig implements KeyValueS
         return AtlasDbConstants.DEFAULT_SWEEP_CASSANDRA_READ_THREADS;
     }
 
+    /**
+     * If true, Sweep finds candidate cells by splitting the table into the token ranges of the ring and scanning
+     * those ranges concurrently, rather than with a single scan in token order. Up to {@link #sweepReadThreads()}
+     * ranges are scanned at once, each by a single thread, and each range reads at most one batch ahead of Sweep, so
+     * a slow sweep slows the scan down. Batches are still returned in token order.
+     *
+     * This only pays off on clusters whose ring has many token ranges, such as clusters using vnodes; the ring of a
+     * single node cluster is a single range, and is read by a single thread.
+     */
+    @Value.Default
+    public boolean sweepReadsFromOwningHosts() {
+        return false;
+    }
+
+    /**
+     * The maximum number of token ranges any one Cassandra host may be scanned for at once when
+     * {@link #sweepReadsFromOwningHosts()} is true. Each scan reads with a single thread, so this bounds the number
+     * of concurrent Sweep reads against each host. A range counts against every replica owning it, as its reads may
+     * go to any of them.
+     */
+    @Value.Default
+    public int sweepReadThreadsPerHost() {
+        return 4;
+    }
+
     /**
      * The number of times a call to Cassandra retries a single host.
      */
@@ -146,6 +171,15 @@ public abstract class CassandraKeyValueServiceRuntimeConfig implements KeyValueS
         return ImmutableCassandraTracingConfig.builder().build();
     }
 
+    /**
+     * If true, {@code multiPutAsync} writes through prepared CQL statements, batched per partition, when the CQL
+     * client is available. Otherwise, asynchronous writes fall back to the synchronous Thrift write path.
+     */
+    @Value.Default
+    public boolean useCqlForAsyncWrites() {
+        return false;
+    }
+
     public static CassandraKeyValueServiceRuntimeConfig getDefault() {
         return ImmutableCassandraKeyValueServiceRuntimeConfig.builder().build();
     }
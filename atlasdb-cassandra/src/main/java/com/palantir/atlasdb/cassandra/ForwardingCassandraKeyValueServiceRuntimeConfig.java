@@ -61,6 +61,16 @@ abstract class ForwardingCassandraKeyValueServiceRuntimeConfig extends Cassandra
         return delegate().sweepReadThreads();
     }
 
+    @Override
+    public boolean sweepReadsFromOwningHosts() {
+        return delegate().sweepReadsFromOwningHosts();
+    }
+
+    @Override
+    public int sweepReadThreadsPerHost() {
+        return delegate().sweepReadThreadsPerHost();
+    }
+
     @Override
     public int numberOfRetriesOnSameHost() {
         return delegate().numberOfRetriesOnSameHost();
@@ -85,4 +95,9 @@ abstract class ForwardingCassandraKeyValueServiceRuntimeConfig extends Cassandra
     public CassandraTracingConfig tracing() {
         return delegate().tracing();
     }
+
+    @Override
+    public boolean useCqlForAsyncWrites() {
+        return delegate().useCqlForAsyncWrites();
+    }
 }
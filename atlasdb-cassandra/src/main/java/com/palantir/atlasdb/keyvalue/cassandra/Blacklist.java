@@ -81,6 +81,7 @@ public class Blacklist {
                             SafeArg.of("cassandraServer", cassandraServer.cassandraHostName()));
                 } else if (isHostHealthy(container)) {
                     blacklistIterator.remove();
+                    container.resetConcurrencyLimit();
                     log.info(
                             "Added cassandraServer {} back into the pool after a waiting period and successful health"
                                     + " check.",
@@ -16,6 +16,7 @@
 package com.palantir.atlasdb.keyvalue.cassandra;
 
 import com.codahale.metrics.Gauge;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
 import com.google.common.base.MoreObjects;
 import com.palantir.atlasdb.cassandra.CassandraKeyValueServiceConfig;
@@ -23,9 +24,16 @@ import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.cassandra.CassandraClientFactory.CassandraClientConfig;
 import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraClientPoolHostLevelMetric;
 import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraClientPoolMetrics;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraHostConcurrencyLimitExceededException;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraHostConcurrencyLimiter;
 import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.InstrumentedGenericObjectPool;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.InstrumentedObjectPool;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.LockFreeObjectPool;
 import com.palantir.atlasdb.util.MetricsManager;
 import com.palantir.common.base.FunctionCheckedException;
+import com.palantir.common.concurrent.NamedThreadFactory;
+import com.palantir.common.concurrent.PTExecutors;
 import com.palantir.common.pooling.PoolingContainer;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.UnsafeArg;
@@ -39,15 +47,20 @@ import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
 import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.cassandra.thrift.TimedOutException;
 import org.apache.commons.pool2.impl.DefaultEvictionPolicy;
-import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.apache.thrift.transport.TMemoryInputTransport;
 import org.apache.thrift.transport.TTransport;
@@ -56,6 +69,13 @@ import org.apache.thrift.transport.layered.TFramedTransport;
 
 public class CassandraClientPoolingContainer implements PoolingContainer<CassandraClient> {
     private static final SafeLogger log = SafeLoggerFactory.get(CassandraClientPoolingContainer.class);
+    private static final ScheduledExecutorService LOCK_FREE_POOL_EVICTION_EXECUTOR =
+            PTExecutors.newSingleThreadScheduledExecutor(new NamedThreadFactory("CassandraClientPoolEviction", true));
+
+    private static final ExecutorService LOCK_FREE_POOL_CONNECTION_CREATION_EXECUTOR =
+            PTExecutors.newCachedThreadPool("CassandraClientPoolConnectionCreation");
+
+    private static final long NOT_BORROWED = Long.MIN_VALUE;
 
     private final CassandraServer cassandraServer;
 
@@ -68,10 +88,11 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
     private final MetricsManager metricsManager;
     private final AtomicLong count = new AtomicLong();
     private final AtomicInteger openRequests = new AtomicInteger();
-    private final GenericObjectPool<CassandraClient> clientPool;
+    private final InstrumentedObjectPool<CassandraClient> clientPool;
     private final int poolNumber;
     private final CassandraClientPoolMetrics poolMetrics;
     private final TimedRunner timedRunner;
+    private final Optional<CassandraHostConcurrencyLimiter> concurrencyLimiter;
 
     public CassandraClientPoolingContainer(
             MetricsManager metricsManager,
@@ -79,14 +100,35 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
             CassandraKeyValueServiceConfig config,
             int poolNumber,
             CassandraClientPoolMetrics poolMetrics) {
+        this(
+                metricsManager,
+                cassandraServer,
+                config,
+                poolNumber,
+                poolMetrics,
+                CassandraClientPoolingContainer::createClientPool);
+    }
+
+    @VisibleForTesting
+    CassandraClientPoolingContainer(
+            MetricsManager metricsManager,
+            CassandraServer cassandraServer,
+            CassandraKeyValueServiceConfig config,
+            int poolNumber,
+            CassandraClientPoolMetrics poolMetrics,
+            Function<CassandraClientPoolingContainer, InstrumentedObjectPool<CassandraClient>> clientPoolFactory) {
         this.metricsManager = metricsManager;
         this.cassandraServer = cassandraServer;
         this.proxy = cassandraServer.proxy();
         this.config = config;
         this.poolNumber = poolNumber;
         this.poolMetrics = poolMetrics;
-        this.clientPool = createClientPool();
+        this.clientPool = clientPoolFactory.apply(this);
         this.timedRunner = TimedRunner.create(config.timeoutOnConnectionBorrow().toJavaDuration());
+        this.concurrencyLimiter = config.hostConcurrencyLimit().enabled()
+                ? Optional.of(new CassandraHostConcurrencyLimiter(config.hostConcurrencyLimit()))
+                : Optional.empty();
+        concurrencyLimiter.ifPresent(this::registerConcurrencyLimitMetrics);
     }
 
     public CassandraServer getCassandraServer() {
@@ -103,6 +145,14 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
         return openRequests.get();
     }
 
+    /**
+     * Returns the adaptive concurrency limit of this host to its initial value. Expected to be called when the host is
+     * re-admitted after being blacklisted, so that a limit reduced while the host was struggling does not persist.
+     */
+    public void resetConcurrencyLimit() {
+        concurrencyLimiter.ifPresent(CassandraHostConcurrencyLimiter::reset);
+    }
+
     // returns negative if not available; only expected use is debugging
     public int getActiveCheckouts() {
         return clientPool.getNumActive();
@@ -126,7 +176,14 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
         ThreadNames.setThreadName(Thread.currentThread(), newThreadName);
         try {
             openRequests.getAndIncrement();
+            if (concurrencyLimiter.isPresent()) {
+                return runWithConcurrencyLimit(concurrencyLimiter.get(), fn);
+            }
             return runWithGoodResource(fn);
+        } catch (CassandraHostConcurrencyLimitExceededException e) {
+            // shedding is expected under load and is tracked by the shed requests metric, so is not worth a warning
+            log.debug("Request to host '{}' was shed", SafeArg.of("host", cassandraServer), e);
+            throw e;
         } catch (Throwable t) {
             log.warn("Error occurred talking to host '{}'", SafeArg.of("host", cassandraServer), t);
             if (t instanceof NoSuchElementException && t.getMessage().contains("Pool exhausted")) {
@@ -148,6 +205,48 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
         }
     }
 
+    private <V, K extends Exception> V runWithConcurrencyLimit(
+            CassandraHostConcurrencyLimiter limiter, FunctionCheckedException<CassandraClient, V, K> fn) throws K {
+        if (!limiter.tryAcquire()) {
+            throw new CassandraHostConcurrencyLimitExceededException(
+                    cassandraServer.cassandraHostName(), limiter.getLimit());
+        }
+        // the limit tracks how long the host takes to serve requests, so waiting for a connection is not counted
+        AtomicLong borrowedAtNanos = new AtomicLong(NOT_BORROWED);
+        boolean dropped = false;
+        try {
+            return runWithGoodResource(client -> {
+                borrowedAtNanos.set(System.nanoTime());
+                return fn.apply(client);
+            });
+        } catch (Throwable t) {
+            dropped = isIndicativeOfOverload(t);
+            throw t;
+        } finally {
+            long borrowedAt = borrowedAtNanos.get();
+            if (borrowedAt == NOT_BORROWED) {
+                limiter.releaseWithoutSample();
+            } else {
+                limiter.release(System.nanoTime() - borrowedAt, dropped);
+            }
+        }
+    }
+
+    /**
+     * Only timeouts talking to this particular host suggest that it is overloaded. Failures to reach enough replicas,
+     * an exhausted connection pool or a failure to connect at all say nothing about the load on this host.
+     */
+    private static boolean isIndicativeOfOverload(Throwable throwable) {
+        return throwable != null
+                // the host took longer than the socket timeout to respond
+                && (throwable instanceof SocketTimeoutException
+                        // the host timed out waiting for replicas it coordinates
+                        || throwable instanceof TimedOutException
+                        // the request outlived the borrow timeout of the timed runner
+                        || throwable instanceof TimeoutException
+                        || isIndicativeOfOverload(throwable.getCause()));
+    }
+
     @Override
     public <V> V runWithPooledResource(Function<CassandraClient, V> fn) {
         throw new UnsupportedOperationException("you should use FunctionCheckedException<?, ?, Exception> "
@@ -289,11 +388,51 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
      *    Discard any connections in this tenth of the pool whose TCP connections are closed.
      *    Discard any connections in this tenth of the pool that have been idle for more than 10 minutes,
      *       while still keeping a minimum number of idle connections around for fast borrows.
+     *
+     * If {@link CassandraKeyValueServiceConfig#useLockFreeConnectionPool()} is set, the same sizes and eviction
+     * timings are used, and every borrow is validated as above, but the eviction run only examines the least recently
+     * used idle connections.
      */
-    private GenericObjectPool<CassandraClient> createClientPool() {
+    private InstrumentedObjectPool<CassandraClient> createClientPool() {
         CassandraClientConfig clientConfig = CassandraClientConfig.of(config);
         CassandraClientFactory cassandraClientFactory =
                 new CassandraClientFactory(metricsManager, cassandraServer, clientConfig);
+
+        // the randomness here is to prevent all of the pools for all of the hosts
+        // evicting all at at once, which isn't great for C*.
+        int timeBetweenEvictionsSeconds = config.timeBetweenConnectionEvictionRunsSeconds();
+        int delta = ThreadLocalRandom.current().nextInt(Math.min(timeBetweenEvictionsSeconds / 2, 10));
+        Duration timeBetweenEvictionRuns = Duration.ofSeconds(timeBetweenEvictionsSeconds + delta);
+
+        InstrumentedObjectPool<CassandraClient> pool = config.useLockFreeConnectionPool()
+                ? createLockFreeClientPool(cassandraClientFactory, timeBetweenEvictionRuns)
+                : createGenericClientPool(cassandraClientFactory, timeBetweenEvictionRuns);
+        registerMetrics(pool);
+        return pool;
+    }
+
+    private InstrumentedObjectPool<CassandraClient> createLockFreeClientPool(
+            CassandraClientFactory cassandraClientFactory, Duration timeBetweenEvictionRuns) {
+        LockFreeObjectPool.Settings settings = LockFreeObjectPool.Settings.builder()
+                .minIdle(config.poolSize())
+                .maxTotal(config.maxConnectionBurstSize())
+                .idleTimeout(Duration.ofSeconds(config.idleConnectionTimeoutSeconds()))
+                .timeBetweenEvictionRuns(timeBetweenEvictionRuns)
+                .build();
+        log.info(
+                "Creating a lock-free Cassandra client pool for {} with the configuration {}",
+                SafeArg.of("cassandraHost", cassandraServer.cassandraHostName()),
+                SafeArg.of("proxy", proxy),
+                SafeArg.of("poolConfig", settings));
+        return new LockFreeObjectPool<>(
+                cassandraClientFactory,
+                settings,
+                LOCK_FREE_POOL_EVICTION_EXECUTOR,
+                LOCK_FREE_POOL_CONNECTION_CREATION_EXECUTOR);
+    }
+
+    private InstrumentedObjectPool<CassandraClient> createGenericClientPool(
+            CassandraClientFactory cassandraClientFactory, Duration timeBetweenEvictionRuns) {
         GenericObjectPoolConfig<CassandraClient> poolConfig = new GenericObjectPoolConfig<>();
 
         poolConfig.setMinIdle(config.poolSize());
@@ -310,20 +449,15 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
                 TimeUnit.MILLISECONDS.convert(Duration.ofSeconds(config.idleConnectionTimeoutSeconds())));
         poolConfig.setMinEvictableIdleTimeMillis(Long.MAX_VALUE);
 
-        // the randomness here is to prevent all of the pools for all of the hosts
-        // evicting all at at once, which isn't great for C*.
-        int timeBetweenEvictionsSeconds = config.timeBetweenConnectionEvictionRunsSeconds();
-        int delta = ThreadLocalRandom.current().nextInt(Math.min(timeBetweenEvictionsSeconds / 2, 10));
-        poolConfig.setTimeBetweenEvictionRunsMillis(
-                TimeUnit.MILLISECONDS.convert(Duration.ofSeconds(timeBetweenEvictionsSeconds + delta)));
+        poolConfig.setTimeBetweenEvictionRunsMillis(timeBetweenEvictionRuns.toMillis());
         poolConfig.setNumTestsPerEvictionRun(-(int) (1.0 / config.proportionConnectionsToCheckPerEvictionRun()));
         poolConfig.setTestWhileIdle(true);
 
         poolConfig.setJmxNamePrefix(proxy.getHostString());
         poolConfig.setEvictionPolicy(new DefaultEvictionPolicy<>());
-        GenericObjectPool<CassandraClient> pool = new GenericObjectPool<>(cassandraClientFactory, poolConfig);
+        InstrumentedGenericObjectPool<CassandraClient> pool =
+                new InstrumentedGenericObjectPool<>(cassandraClientFactory, poolConfig);
         pool.setSwallowedExceptionListener(exception -> log.info("Swallowed exception within object pool", exception));
-        registerMetrics(pool);
         log.info(
                 "Creating a Cassandra client pool for {} with the configuration {}",
                 SafeArg.of("cassandraHost", cassandraServer.cassandraHostName()),
@@ -355,7 +489,7 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
         }
     }
 
-    private void registerMetrics(GenericObjectPool<CassandraClient> pool) {
+    private void registerMetrics(InstrumentedObjectPool<CassandraClient> pool) {
         registerPoolMetric(CassandraClientPoolHostLevelMetric.MEAN_ACTIVE_TIME_MILLIS, pool::getMeanActiveTimeMillis);
         registerPoolMetric(CassandraClientPoolHostLevelMetric.NUM_IDLE, () -> (long) pool.getNumIdle());
         registerPoolMetric(CassandraClientPoolHostLevelMetric.NUM_ACTIVE, () -> (long) pool.getNumActive());
@@ -364,6 +498,12 @@ public class CassandraClientPoolingContainer implements PoolingContainer<Cassand
         registerPoolMetric(CassandraClientPoolHostLevelMetric.DESTROYED, pool::getDestroyedCount);
     }
 
+    private void registerConcurrencyLimitMetrics(CassandraHostConcurrencyLimiter limiter) {
+        registerPoolMetric(CassandraClientPoolHostLevelMetric.CONCURRENCY_LIMIT, () -> (long) limiter.getLimit());
+        registerPoolMetric(CassandraClientPoolHostLevelMetric.IN_FLIGHT_REQUESTS, () -> (long) limiter.getInFlight());
+        registerPoolMetric(CassandraClientPoolHostLevelMetric.SHED_REQUESTS, limiter::getShedRequests);
+    }
+
     private void registerPoolMetric(CassandraClientPoolHostLevelMetric metric, Gauge<Long> gauge) {
         poolMetrics.registerPoolMetric(metric, gauge, poolNumber);
     }
@@ -83,6 +83,10 @@ import com.palantir.atlasdb.keyvalue.cassandra.paging.RowGetter;
 import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
 import com.palantir.atlasdb.keyvalue.cassandra.sweep.CandidateRowForSweeping;
 import com.palantir.atlasdb.keyvalue.cassandra.sweep.CandidateRowsForSweepingIterator;
+import com.palantir.atlasdb.keyvalue.cassandra.sweep.GetCandidateRowsForSweeping;
+import com.palantir.atlasdb.keyvalue.cassandra.sweep.SweepTokenRanges;
+import com.palantir.atlasdb.keyvalue.cassandra.sweep.TokenRangeCandidateRowsForSweepingIterator;
+import com.palantir.atlasdb.keyvalue.cassandra.sweep.ValuesLoader;
 import com.palantir.atlasdb.keyvalue.cassandra.thrift.MutationMap;
 import com.palantir.atlasdb.keyvalue.cassandra.thrift.SlicePredicates;
 import com.palantir.atlasdb.keyvalue.cassandra.thrift.SlicePredicates.Limit;
@@ -1378,7 +1382,10 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
     @Override
     public ClosableIterator<List<CandidateCellForSweeping>> getCandidateCellsForSweeping(
             TableReference tableRef, CandidateCellForSweepingRequest request) {
-        return getCandidateRowsForSweeping("getCandidateCellsForSweeping", tableRef, request)
+        ClosableIterator<List<CandidateRowForSweeping>> candidateRows = runtimeConfig.get().sweepReadsFromOwningHosts()
+                ? getCandidateRowsForSweepingByTokenRange("getCandidateCellsForSweeping", tableRef, request)
+                : getCandidateRowsForSweeping("getCandidateCellsForSweeping", tableRef, request);
+        return candidateRows
                 .map(rows -> rows.stream()
                         .map(CandidateRowForSweeping::cells)
                         .flatMap(List::stream)
@@ -1389,8 +1396,7 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
             String kvsMethodName, TableReference tableRef, CandidateCellForSweepingRequest request) {
         RowGetter rowGetter = new RowGetter(clientPool, queryRunner, ConsistencyLevel.ALL, tableRef);
         return new CandidateRowsForSweepingIterator(
-                (iteratorTableRef, cells, maxTimestampExclusive) ->
-                        get(kvsMethodName, iteratorTableRef, cells, maxTimestampExclusive),
+                sweepValuesLoader(kvsMethodName),
                 newInstrumentedCqlExecutor(),
                 rowGetter,
                 tableRef,
@@ -1398,6 +1404,32 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
                 runtimeConfig.map(CassandraKeyValueServiceRuntimeConfig::sweepReadThreads));
     }
 
+    private ClosableIterator<List<CandidateRowForSweeping>> getCandidateRowsForSweepingByTokenRange(
+            String kvsMethodName, TableReference tableRef, CandidateCellForSweepingRequest request) {
+        CassandraKeyValueServiceRuntimeConfig currentConfig = runtimeConfig.get();
+        RowGetter rowGetter = new RowGetter(clientPool, queryRunner, ConsistencyLevel.ALL, tableRef);
+        ValuesLoader valuesLoader = sweepValuesLoader(kvsMethodName);
+        // Each range is read by a single thread, so that the concurrency on each host is bounded by its scans
+        return new TokenRangeCandidateRowsForSweepingIterator(
+                SweepTokenRanges.split(clientPool.getTokenMap(), request.startRowInclusive()),
+                (range, startRow) -> new GetCandidateRowsForSweeping(
+                                valuesLoader,
+                                newInstrumentedCqlExecutor(),
+                                rowGetter,
+                                tableRef,
+                                request.withStartRow(startRow),
+                                range.endRowInclusive(),
+                                Refreshable.only(1))
+                        .execute(),
+                currentConfig.sweepReadThreads(),
+                currentConfig.sweepReadThreadsPerHost());
+    }
+
+    private ValuesLoader sweepValuesLoader(String kvsMethodName) {
+        return (iteratorTableRef, cells, maxTimestampExclusive) ->
+                get(kvsMethodName, iteratorTableRef, cells, maxTimestampExclusive);
+    }
+
     /**
      * Returns a sorted list of row keys in the specified range; see
      * {@link CassandraKeyValueService#getRowKeysInRange(TableReference, byte[], byte[], int)}.
@@ -2169,6 +2201,46 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
         }
     }
 
+    /**
+     * Asynchronously puts values into the cassandra key-value store. If {@code useCqlForAsyncWrites} is set in the
+     * runtime config and the CQL client is available, the values are written with prepared CQL statements, batched per
+     * partition; otherwise this falls back to a synchronous {@link #multiPut(Map, long)}.
+     *
+     * @param valuesByTable map containing the key-value entries to put by table.
+     * @param timestamp must be non-negative and not equal to {@link Long#MAX_VALUE}
+     */
+    @Override
+    public ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        if (valuesByTable.values().stream().allMatch(Map::isEmpty)) {
+            return Futures.immediateVoidFuture();
+        }
+        if (runtimeConfig.get().useCqlForAsyncWrites() && asyncKeyValueService.isValid()) {
+            try {
+                return Futures.catching(
+                        asyncKeyValueService.multiPutAsync(valuesByTable, timestamp),
+                        IllegalStateException.class,
+                        e -> {
+                            log.warn(
+                                    "CQL Client closed during multiPutAsync. Delegating to synchronous multiPut. This"
+                                            + " should be very rare, and only happen once after the Cassandra Server"
+                                            + " list has changed.",
+                                    e);
+                            multiPut(valuesByTable, timestamp);
+                            return null;
+                        },
+                        executor);
+            } catch (IllegalStateException | DriverInternalError e) {
+                // If the container is closed, or we've reloaded into an invalid ThrowingCqlClient, after testing for
+                // validity
+                multiPut(valuesByTable, timestamp);
+                return Futures.immediateVoidFuture();
+            }
+        }
+        multiPut(valuesByTable, timestamp);
+        return Futures.immediateVoidFuture();
+    }
+
     private static class TableCellAndValue {
 
         private static byte[] extractRowName(TableCellAndValue input) {
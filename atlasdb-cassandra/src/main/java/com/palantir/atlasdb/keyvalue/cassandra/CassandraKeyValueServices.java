@@ -284,16 +284,67 @@ public final class CassandraKeyValueServices {
      * decompose it into the name and timestamp.
      */
     public static ColumnAndTimestamp decomposeColumnName(Column column) {
-        ByteBuffer nameBuffer;
+        return decomposeColumn(getNameBuffer(column));
+    }
+
+    static ByteBuffer getNameBuffer(Column column) {
         if (column.isSetName()) {
-            nameBuffer = column.bufferForName();
+            return column.bufferForName();
         } else {
             // the column buffer has not yet been set/cached
             // so we must fallback on the slowpath and force
             // the transform to bytes and wrap ourselves
-            nameBuffer = ByteBuffer.wrap(column.getName());
+            return ByteBuffer.wrap(column.getName());
         }
-        return decomposeColumn(nameBuffer);
+    }
+
+    /*
+     * The following methods read composite column names in place using absolute reads, so neither the column name
+     * nor the buffer itself are copied, and the position and limit of the buffer are left unchanged.
+     */
+
+    static int getColumnNameLength(ByteBuffer composite) {
+        return Short.toUnsignedInt(bigEndian(composite).getShort(composite.position()));
+    }
+
+    static long getTimestamp(ByteBuffer composite) {
+        ByteBuffer buffer = bigEndian(composite);
+        int timestampHeaderOffset = composite.position() + Short.BYTES + getColumnNameLength(buffer);
+        com.palantir.logsafe.Preconditions.checkArgument(buffer.getShort(timestampHeaderOffset) == 0);
+        com.palantir.logsafe.Preconditions.checkArgument(buffer.get(timestampHeaderOffset + Short.BYTES) == 8);
+        return ~buffer.getLong(timestampHeaderOffset + Short.BYTES + 1);
+    }
+
+    static boolean hasColumnName(ByteBuffer composite, byte[] columnName) {
+        if (getColumnNameLength(composite) != columnName.length) {
+            return false;
+        }
+        int nameOffset = composite.position() + Short.BYTES;
+        for (int index = 0; index < columnName.length; index++) {
+            if (composite.get(nameOffset + index) != columnName[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static byte[] getColumnName(ByteBuffer composite) {
+        byte[] columnName = new byte[getColumnNameLength(composite)];
+        int nameOffset = composite.position() + Short.BYTES;
+        if (composite.hasArray()) {
+            System.arraycopy(
+                    composite.array(), composite.arrayOffset() + nameOffset, columnName, 0, columnName.length);
+        } else {
+            ByteBuffer duplicate = composite.duplicate();
+            duplicate.position(nameOffset);
+            duplicate.get(columnName);
+        }
+        return columnName;
+    }
+
+    private static ByteBuffer bigEndian(ByteBuffer buffer) {
+        // Thrift buffers are big-endian, so this only allocates for buffers that did not come from Thrift
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? buffer : buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
     }
 
     public static byte[] getBytesFromByteBuffer(ByteBuffer buffer) {
@@ -20,7 +20,6 @@ import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
 import com.palantir.atlasdb.keyvalue.api.RangeRequests;
 import com.palantir.atlasdb.keyvalue.api.RowResult;
-import com.palantir.atlasdb.keyvalue.cassandra.CassandraKeyValueServices.ColumnAndTimestamp;
 import com.palantir.atlasdb.keyvalue.impl.Cells;
 import com.palantir.atlasdb.keyvalue.impl.RowResults;
 import com.palantir.atlasdb.tracing.TraceStatistics;
@@ -32,6 +31,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
+import org.apache.cassandra.thrift.Column;
 import org.apache.cassandra.thrift.ColumnOrSuperColumn;
 
 public abstract class ResultsExtractor<T> {
@@ -52,21 +52,28 @@ public abstract class ResultsExtractor<T> {
 
             maxRow = updatedMaxRow(maxRow, row);
 
+            // Columns of a row are sorted by column name and then by descending timestamp, so once a version of a
+            // column has been extracted, any further versions of that column are older and can never be the latest.
+            byte[] lastExtractedColumn = null;
             for (ColumnOrSuperColumn c : colEntry.getValue()) {
-                ColumnAndTimestamp columnAndTimestamp = CassandraKeyValueServices.decomposeColumnName(c.getColumn());
-                byte[] value = c.getColumn().getValue();
+                Column column = c.getColumn();
+                ByteBuffer compositeName = CassandraKeyValueServices.getNameBuffer(column);
 
                 // Read the value & the column name size; we're not currently trying to model all the overheads
-                TraceStatistics.incBytesRead(columnAndTimestamp.columnName());
-                TraceStatistics.incBytesRead(value);
-
-                internalExtractResult(
-                        startTs,
-                        selection,
-                        row,
-                        columnAndTimestamp.columnName(),
-                        value,
-                        columnAndTimestamp.timestamp());
+                TraceStatistics.incBytesRead(CassandraKeyValueServices.getColumnNameLength(compositeName));
+                TraceStatistics.incBytesRead(column.value.remaining());
+
+                long timestamp = CassandraKeyValueServices.getTimestamp(compositeName);
+                if (timestamp >= startTs
+                        || (lastExtractedColumn != null
+                                && CassandraKeyValueServices.hasColumnName(compositeName, lastExtractedColumn))) {
+                    internalSkipResult();
+                    continue;
+                }
+
+                byte[] columnName = CassandraKeyValueServices.getColumnName(compositeName);
+                internalExtractResult(startTs, selection, row, columnName, column.getValue(), timestamp);
+                lastExtractedColumn = columnName;
             }
         }
         return maxRow;
@@ -103,8 +110,20 @@ public abstract class ResultsExtractor<T> {
         return new SimpleTokenBackedResultsPage<>(nextStart, ret.values(), true);
     }
 
+    /**
+     * Called with the latest version of each column that was written before {@code startTs}. Column names and values
+     * are only copied out of the underlying Thrift buffers for these versions.
+     */
     public abstract void internalExtractResult(
             long startTs, ColumnSelection selection, byte[] row, byte[] col, byte[] val, long ts);
 
+    /**
+     * Called instead of {@link #internalExtractResult} for versions of columns that are either not visible at the
+     * start timestamp or older than a version that has already been extracted.
+     */
+    protected void internalSkipResult() {
+        // nothing to record by default
+    }
+
     public abstract Map<Cell, T> asMap();
 }
@@ -52,6 +52,12 @@ class ValueExtractor extends ResultsExtractor<Value> {
         }
     }
 
+    @Override
+    protected void internalSkipResult() {
+        TraceStatistics.incSkippedValues(1L);
+        notLatestVisibleValueCellFilterCounter.inc();
+    }
+
     @Override
     public Map<Cell, Value> asMap() {
         return collector;
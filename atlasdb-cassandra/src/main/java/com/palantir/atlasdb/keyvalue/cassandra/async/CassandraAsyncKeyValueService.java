@@ -16,8 +16,11 @@
 
 package com.palantir.atlasdb.keyvalue.cassandra.async;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.palantir.atlasdb.cassandra.ReloadingCloseableContainer;
+import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.futures.FuturesCombiner;
 import com.palantir.atlasdb.keyvalue.api.AsyncKeyValueService;
 import com.palantir.atlasdb.keyvalue.api.Cell;
@@ -28,18 +31,32 @@ import com.palantir.atlasdb.keyvalue.cassandra.async.queries.GetQuerySpec;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.GetQuerySpec.GetQueryParameters;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableCqlQueryContext;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableGetQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutablePutQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.PutQuerySpec;
+import com.palantir.atlasdb.keyvalue.impl.Cells;
 import com.palantir.atlasdb.logging.LoggingArgs;
 import com.palantir.common.streams.KeyedStream;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 public final class CassandraAsyncKeyValueService implements AsyncKeyValueService {
     private static final SafeLogger log = SafeLoggerFactory.get(CassandraAsyncKeyValueService.class);
 
+    /**
+     * Cassandra rejects batches larger than {@code batch_size_fail_threshold_in_kb}, which is 50KB by default, so
+     * writes to a single row are split into batches comfortably below that. A cell larger than this is written on
+     * its own, as a single insert is not subject to the threshold.
+     */
+    private static final long MAX_BATCH_SIZE_BYTES = 32 * 1024;
+
     private final String keyspace;
     private final ReloadingCloseableContainer<CqlClient> cqlClientContainer;
     private final FuturesCombiner futuresCombiner;
@@ -89,6 +106,71 @@ public final class CassandraAsyncKeyValueService implements AsyncKeyValueService
         return cqlClientContainer.get().executeQuery(new GetQuerySpec(queryContext, getQueryParameters));
     }
 
+    /**
+     * Writes the values using prepared CQL inserts, one unlogged batch per row. Every batch targets a single
+     * partition, so the token-aware load balancing policy routes it straight to a replica of that partition, and no
+     * thread is held while the writes are in flight.
+     */
+    @Override
+    public ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        if (log.isTraceEnabled()) {
+            log.trace(
+                    "Putting cells using CQL.",
+                    SafeArg.of("tables", valuesByTable.size()),
+                    SafeArg.of("timestamp", timestamp));
+        }
+
+        List<ListenableFuture<Void>> writes = new ArrayList<>();
+        valuesByTable.forEach((tableReference, values) -> {
+            CqlQueryContext queryContext = ImmutableCqlQueryContext.builder()
+                    .tableReference(tableReference)
+                    .keyspace(keyspace)
+                    .build();
+            for (Map<Cell, byte[]> batch : partitionIntoSingleRowBatches(values)) {
+                PutQuerySpec querySpec = new PutQuerySpec(
+                        queryContext,
+                        ImmutablePutQueryParameters.builder()
+                                .values(batch)
+                                .timestamp(timestamp)
+                                .build());
+                writes.add(cqlClientContainer.get().executeQuery(querySpec));
+            }
+        });
+
+        return Futures.whenAllSucceed(writes).call(() -> null, MoreExecutors.directExecutor());
+    }
+
+    private static List<Map<Cell, byte[]>> partitionIntoSingleRowBatches(Map<Cell, byte[]> values) {
+        Map<byte[], List<Map.Entry<Cell, byte[]>>> valuesByRow = new TreeMap<>(PtBytes.BYTES_COMPARATOR);
+        values.entrySet()
+                .forEach(entry -> valuesByRow
+                        .computeIfAbsent(entry.getKey().getRowName(), unused -> new ArrayList<>())
+                        .add(entry));
+
+        List<Map<Cell, byte[]>> batches = new ArrayList<>();
+        for (List<Map.Entry<Cell, byte[]>> rowValues : valuesByRow.values()) {
+            Map<Cell, byte[]> batch = new LinkedHashMap<>();
+            long batchSize = 0;
+            for (Map.Entry<Cell, byte[]> entry : rowValues) {
+                long entrySize = getEntrySize(entry);
+                if (!batch.isEmpty() && batchSize + entrySize > MAX_BATCH_SIZE_BYTES) {
+                    batches.add(batch);
+                    batch = new LinkedHashMap<>();
+                    batchSize = 0;
+                }
+                batch.put(entry.getKey(), entry.getValue());
+                batchSize += entrySize;
+            }
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static long getEntrySize(Map.Entry<Cell, byte[]> entry) {
+        return entry.getValue().length + Long.BYTES + Cells.getApproxSizeOfCell(entry.getKey());
+    }
+
     @Override
     public void close() {
         try {
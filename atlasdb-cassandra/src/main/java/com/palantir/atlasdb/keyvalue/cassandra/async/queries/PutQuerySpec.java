@@ -0,0 +1,162 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.async.queries;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.impl.AbstractKeyValueService;
+import com.palantir.logsafe.Preconditions;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes cells of a single row, i.e. a single Cassandra partition, at one timestamp. When there is more than one cell
+ * the inserts are sent as one unlogged batch: since all statements share the partition key the batch is applied
+ * atomically by a single replica set without the overhead of the batch log, and the driver can route it to a replica
+ * of the partition.
+ */
+@SuppressWarnings("InlineFormatString") // complex query string, makes more sense to keep extracted as a constant
+public final class PutQuerySpec implements CqlQuerySpec<Void> {
+
+    /**
+     * Matches the layout written through Thrift: timestamps are stored in {@code column2} as bitwise complements of
+     * the original values, and the Cassandra write timestamp is the AtlasDB timestamp.
+     */
+    private static final String QUERY_FORMAT = "INSERT INTO \"%s\".\"%s\" (key, column1, column2, value) "
+            + "VALUES (:row, :column, :timestamp, :value) "
+            + "USING TIMESTAMP :cassandraTimestamp;";
+
+    private final CqlQueryContext cqlQueryContext;
+    private final PutQueryParameters putQueryParameters;
+
+    public PutQuerySpec(CqlQueryContext cqlQueryContext, PutQueryParameters putQueryParameters) {
+        this.cqlQueryContext = cqlQueryContext;
+        this.putQueryParameters = putQueryParameters;
+    }
+
+    @Override
+    public CqlQueryContext cqlQueryContext() {
+        return cqlQueryContext;
+    }
+
+    @Override
+    public String formatQueryString() {
+        return String.format(
+                QUERY_FORMAT,
+                cqlQueryContext().keyspace(),
+                AbstractKeyValueService.internalTableName(cqlQueryContext().tableReference()));
+    }
+
+    @Override
+    public QueryType queryType() {
+        return QueryType.PUT;
+    }
+
+    @Override
+    public Statement makeExecutableStatement(PreparedStatement preparedStatement) {
+        List<Statement> inserts = putQueryParameters.values().entrySet().stream()
+                .map(entry -> bindInsert(preparedStatement, entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        if (inserts.size() == 1) {
+            return inserts.get(0).setIdempotent(true);
+        }
+        return new BatchStatement(BatchStatement.Type.UNLOGGED).addAll(inserts).setIdempotent(true);
+    }
+
+    private Statement bindInsert(PreparedStatement preparedStatement, Cell cell, byte[] value) {
+        return preparedStatement
+                .bind()
+                .setBytes("row", toReadOnlyByteBuffer(cell.getRowName()))
+                .setBytes("column", toReadOnlyByteBuffer(cell.getColumnName()))
+                .setLong("timestamp", ~putQueryParameters.timestamp())
+                .setBytes("value", toReadOnlyByteBuffer(value))
+                .setLong("cassandraTimestamp", putQueryParameters.timestamp());
+    }
+
+    private static ByteBuffer toReadOnlyByteBuffer(byte[] bytes) {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Matches the consistency of writes made through Thrift.
+     */
+    @Override
+    public ConsistencyLevel queryConsistency() {
+        return ConsistencyLevel.EACH_QUORUM;
+    }
+
+    @Override
+    public RowStreamAccumulator<Void> rowStreamAccumulator() {
+        return PutQueryAccumulator.INSTANCE;
+    }
+
+    @org.immutables.value.Value.Immutable
+    public interface PutQueryParameters {
+        Map<Cell, byte[]> values();
+
+        long timestamp();
+
+        @org.immutables.value.Value.Check
+        default void check() {
+            Preconditions.checkArgument(!values().isEmpty(), "Must write at least one cell");
+            byte[] row = values().keySet().iterator().next().getRowName();
+            Preconditions.checkArgument(
+                    values().keySet().stream().allMatch(cell -> Arrays.equals(cell.getRowName(), row)),
+                    "All cells written by a single put query must belong to the same row");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        PutQuerySpec that = (PutQuerySpec) other;
+        return cqlQueryContext.equals(that.cqlQueryContext) && putQueryParameters.equals(that.putQueryParameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cqlQueryContext, putQueryParameters);
+    }
+
+    private enum PutQueryAccumulator implements RowStreamAccumulator<Void> {
+        INSTANCE;
+
+        @Override
+        public void accumulateRowStream(Stream<Row> rowStream) {
+            // inserts return no rows
+        }
+
+        @Override
+        public Void result() {
+            return null;
+        }
+    }
+}
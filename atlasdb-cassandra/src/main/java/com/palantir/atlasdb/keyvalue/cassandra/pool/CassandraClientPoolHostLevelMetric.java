@@ -22,7 +22,10 @@ public enum CassandraClientPoolHostLevelMetric {
     NUM_ACTIVE("numActive", 0.1, 2.0),
     CREATED("created", 0.01, 2.0),
     DESTROYED_BY_EVICTOR("destroyedByEvictor", 0.01, 2.0),
-    DESTROYED("destroyed", 0.01, 2.0);
+    DESTROYED("destroyed", 0.01, 2.0),
+    CONCURRENCY_LIMIT("concurrencyLimit", 0.1, 2.0),
+    IN_FLIGHT_REQUESTS("inFlightRequests", 0.1, 2.0),
+    SHED_REQUESTS("shedRequests", 0.01, 2.0);
 
     public final String metricName;
     public final double minimumMeanThreshold;
@@ -0,0 +1,51 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.pool;
+
+import com.palantir.logsafe.Arg;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.SafeLoggable;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Thrown when a request is rejected by a {@link CassandraHostConcurrencyLimiter}. This extends
+ * {@link NoSuchElementException} so that, like a borrow attempt against an exhausted connection pool, it is retried
+ * with backoff and does not cause the host to be blacklisted.
+ */
+public final class CassandraHostConcurrencyLimitExceededException extends NoSuchElementException
+        implements SafeLoggable {
+    private static final long serialVersionUID = 1L;
+    private static final String MESSAGE = "Too many concurrent requests to Cassandra host";
+
+    private final List<Arg<?>> args;
+
+    public CassandraHostConcurrencyLimitExceededException(String cassandraHostName, int limit) {
+        super(MESSAGE + " " + cassandraHostName + " (limit " + limit + ")");
+        this.args = List.of(SafeArg.of("cassandraHostName", cassandraHostName), SafeArg.of("limit", limit));
+    }
+
+    @Override
+    public String getLogMessage() {
+        return MESSAGE;
+    }
+
+    @Override
+    public List<Arg<?>> getArgs() {
+        return args;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.pool;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.palantir.atlasdb.cassandra.CassandraHostConcurrencyLimitConfig;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Limits the number of requests in flight to a single Cassandra host, adapting the limit to the latency observed for
+ * completed requests as described in {@link CassandraHostConcurrencyLimitConfig}.
+ *
+ * The limit is decreased at most once per {@link CassandraHostConcurrencyLimitConfig#latencyThreshold()}: requests
+ * in flight when a host becomes overloaded tend to fail or complete slowly together, and should only count as a
+ * single congestion signal rather than collapsing the limit to its minimum.
+ *
+ * Callers must call {@link #release(long, boolean)} or {@link #releaseWithoutSample()} exactly once for every
+ * successful {@link #tryAcquire()}.
+ */
+public final class CassandraHostConcurrencyLimiter {
+    private final CassandraHostConcurrencyLimitConfig config;
+    private final long latencyThresholdNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong shedRequests = new AtomicLong();
+
+    @GuardedBy("this")
+    private double limit;
+
+    @GuardedBy("this")
+    private long lastDecreaseNanos;
+
+    private volatile int currentLimit;
+
+    public CassandraHostConcurrencyLimiter(CassandraHostConcurrencyLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    CassandraHostConcurrencyLimiter(CassandraHostConcurrencyLimitConfig config, LongSupplier nanoClock) {
+        this.config = config;
+        this.latencyThresholdNanos = config.latencyThreshold().toJavaDuration().toNanos();
+        this.nanoClock = nanoClock;
+        reset();
+    }
+
+    /**
+     * Returns true if the request may proceed, or false if the host already has as many requests in flight as the
+     * current limit allows.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= currentLimit) {
+                shedRequests.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Records the outcome of a request admitted by {@link #tryAcquire()}.
+     *
+     * @param latencyNanos time taken by the request once it had a connection to the host
+     * @param dropped whether the request timed out or failed in a way that suggests the host is overloaded
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            decreaseLimit();
+        } else if (inFlightBeforeRelease * 2 >= currentLimit) {
+            // only probe for more capacity if the current limit is actually being used
+            increaseLimit();
+        }
+    }
+
+    /**
+     * Releases a request admitted by {@link #tryAcquire()} that never reached the host, e.g. because no connection
+     * could be borrowed, and so says nothing about how loaded the host is.
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Returns the limit to its initial value, e.g. when a host is re-admitted after having been blacklisted.
+     */
+    public synchronized void reset() {
+        setLimit(config.initialLimit());
+        lastDecreaseNanos = nanoClock.getAsLong() - latencyThresholdNanos;
+    }
+
+    public int getLimit() {
+        return currentLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getShedRequests() {
+        return shedRequests.get();
+    }
+
+    private synchronized void decreaseLimit() {
+        long now = nanoClock.getAsLong();
+        if (now - lastDecreaseNanos < latencyThresholdNanos) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        setLimit(Math.max(config.minLimit(), limit * config.backoffRatio()));
+    }
+
+    private synchronized void increaseLimit() {
+        setLimit(Math.min(config.maxLimit(), limit + 1));
+    }
+
+    @GuardedBy("this")
+    private void setLimit(double newLimit) {
+        limit = newLimit;
+        currentLimit = (int) newLimit;
+    }
+}
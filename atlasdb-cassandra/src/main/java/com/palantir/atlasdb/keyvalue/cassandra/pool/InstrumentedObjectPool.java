@@ -0,0 +1,54 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.pool;
+
+import org.apache.commons.pool2.ObjectPool;
+
+/**
+ * An {@link ObjectPool} exposing the statistics published as {@link CassandraClientPoolHostLevelMetric}s. The
+ * method signatures match those of {@link org.apache.commons.pool2.impl.GenericObjectPool}.
+ */
+public interface InstrumentedObjectPool<T> extends ObjectPool<T> {
+    @Override
+    void returnObject(T obj);
+
+    @Override
+    void clear();
+
+    /**
+     * Returns the maximum number of objects that may be allocated by the pool at any one time, or a negative value
+     * if this is unbounded.
+     */
+    int getMaxTotal();
+
+    /**
+     * Mean time, in milliseconds, objects have spent borrowed from the pool, over recently returned objects.
+     */
+    long getMeanActiveTimeMillis();
+
+    /**
+     * Mean time, in milliseconds, objects have spent idle in the pool before being borrowed, over recently borrowed
+     * objects.
+     */
+    long getMeanIdleTimeMillis();
+
+    long getCreatedCount();
+
+    long getDestroyedByEvictorCount();
+
+    long getDestroyedCount();
+}
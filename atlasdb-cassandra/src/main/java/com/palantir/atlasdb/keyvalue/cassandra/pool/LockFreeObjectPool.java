@@ -0,0 +1,442 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.pool;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.immutables.value.Value;
+
+/**
+ * An object pool that does not take locks when borrowing or returning objects.
+ *
+ * Idle objects are kept on a {@link ConcurrentLinkedDeque} used as a stack, so that borrowers get the most recently
+ * returned, and hence warmest, object, while the least recently used objects collect at the tail, where they are
+ * evicted from. The numbers of objects in the pool are tracked with atomic counters, and borrowing from a pool that
+ * has no idle objects and is at its maximum size immediately throws a {@link NoSuchElementException}, in the same way
+ * as a non-blocking {@link org.apache.commons.pool2.impl.GenericObjectPool}.
+ *
+ * Objects are validated on every borrow unless {@link Settings#validateAfterIdle()} is set, in which case objects
+ * returned more recently than that are handed out without validation. Idle objects are evicted by a task scheduled on a
+ * provided executor, which only looks at the least recently used objects instead of scanning the whole pool. Since
+ * creating objects may block, the pool is topped back up to {@link Settings#minIdle()} on a separate executor, so that
+ * an eviction executor shared between pools is never held up by a slow factory.
+ */
+public final class LockFreeObjectPool<T> implements InstrumentedObjectPool<T> {
+    private static final SafeLogger log = SafeLoggerFactory.get(LockFreeObjectPool.class);
+
+    private static final int TIMING_SAMPLES = 100;
+
+    private final PooledObjectFactory<T> factory;
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentLinkedDeque<Entry<T>> idleObjects = new ConcurrentLinkedDeque<>();
+    private final ConcurrentHashMap<IdentityKey, Entry<T>> allObjects = new ConcurrentHashMap<>();
+    private final AtomicInteger numTotal = new AtomicInteger();
+    private final AtomicInteger numIdle = new AtomicInteger();
+    private final AtomicInteger numActive = new AtomicInteger();
+
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong destroyedByEvictorCount = new AtomicLong();
+    private final TimingSamples activeTimes = new TimingSamples();
+    private final TimingSamples idleTimes = new TimingSamples();
+
+    private final Executor idleObjectCreationExecutor;
+    private final AtomicBoolean creatingIdleObjects = new AtomicBoolean();
+    private final ScheduledFuture<?> evictionTask;
+    private volatile boolean closed = false;
+
+    public LockFreeObjectPool(
+            PooledObjectFactory<T> factory,
+            Settings settings,
+            ScheduledExecutorService evictionExecutor,
+            Executor idleObjectCreationExecutor) {
+        this(factory, settings, evictionExecutor, idleObjectCreationExecutor, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    LockFreeObjectPool(
+            PooledObjectFactory<T> factory,
+            Settings settings,
+            ScheduledExecutorService evictionExecutor,
+            Executor idleObjectCreationExecutor,
+            LongSupplier nanoClock) {
+        this.factory = factory;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.idleObjectCreationExecutor = idleObjectCreationExecutor;
+        long evictionPeriodNanos = settings.timeBetweenEvictionRuns().toNanos();
+        this.evictionTask = evictionExecutor.scheduleWithFixedDelay(
+                this::runEvictionSafely, evictionPeriodNanos, evictionPeriodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public T borrowObject() throws Exception {
+        assertOpen();
+        long now = nanoClock.getAsLong();
+        Entry<T> entry;
+        while ((entry = idleObjects.pollFirst()) != null) {
+            numIdle.decrementAndGet();
+            long idleNanos = now - entry.lastReturnedNanos;
+            if (idleNanos < settings.validateAfterIdle().toNanos() || isValid(entry)) {
+                idleTimes.record(idleNanos);
+                return activate(entry, now);
+            }
+            destroyQuietly(entry);
+        }
+        return activate(create(), now);
+    }
+
+    @Override
+    public void returnObject(T obj) {
+        Entry<T> entry = getEntry(obj);
+        long now = nanoClock.getAsLong();
+        activeTimes.record(now - entry.lastBorrowedNanos);
+        numActive.decrementAndGet();
+        try {
+            factory.passivateObject(entry.pooledObject);
+        } catch (Exception e) {
+            destroyQuietly(entry);
+            return;
+        }
+        entry.lastReturnedNanos = now;
+        idleObjects.offerFirst(entry);
+        numIdle.incrementAndGet();
+        if (closed && idleObjects.removeFirstOccurrence(entry)) {
+            // lost a race with close(), which may have already drained the idle objects
+            numIdle.decrementAndGet();
+            destroyQuietly(entry);
+        }
+    }
+
+    @Override
+    public void invalidateObject(T obj) throws Exception {
+        Entry<T> entry = getEntry(obj);
+        numActive.decrementAndGet();
+        destroy(entry);
+    }
+
+    @Override
+    public void addObject() throws Exception {
+        assertOpen();
+        Entry<T> entry = create();
+        entry.lastReturnedNanos = nanoClock.getAsLong();
+        idleObjects.offerFirst(entry);
+        numIdle.incrementAndGet();
+    }
+
+    @Override
+    public void clear() {
+        Entry<T> entry;
+        while ((entry = idleObjects.pollFirst()) != null) {
+            numIdle.decrementAndGet();
+            destroyQuietly(entry);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        evictionTask.cancel(false);
+        clear();
+    }
+
+    @Override
+    public int getNumActive() {
+        return numActive.get();
+    }
+
+    @Override
+    public int getNumIdle() {
+        return numIdle.get();
+    }
+
+    @Override
+    public int getMaxTotal() {
+        return settings.maxTotal();
+    }
+
+    @Override
+    public long getMeanActiveTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(activeTimes.mean());
+    }
+
+    @Override
+    public long getMeanIdleTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(idleTimes.mean());
+    }
+
+    @Override
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    @Override
+    public long getDestroyedByEvictorCount() {
+        return destroyedByEvictorCount.get();
+    }
+
+    @Override
+    public long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+
+    /**
+     * Destroys objects that have been idle for longer than {@link Settings#idleTimeout()}, as long as at least
+     * {@link Settings#minIdle()} objects remain idle, and then schedules topping the pool back up to
+     * {@link Settings#minIdle()} idle objects. Since idle objects are ordered by when they were returned, only the tail
+     * of the deque is examined.
+     */
+    @VisibleForTesting
+    void evict() {
+        long now = nanoClock.getAsLong();
+        long idleTimeoutNanos = settings.idleTimeout().toNanos();
+        Iterator<Entry<T>> leastRecentlyUsed = idleObjects.descendingIterator();
+        while (leastRecentlyUsed.hasNext() && numIdle.get() > settings.minIdle()) {
+            Entry<T> entry = leastRecentlyUsed.next();
+            if (now - entry.lastReturnedNanos < idleTimeoutNanos) {
+                break;
+            }
+            if (idleObjects.removeLastOccurrence(entry)) {
+                numIdle.decrementAndGet();
+                destroyedByEvictorCount.incrementAndGet();
+                destroyQuietly(entry);
+            }
+        }
+        scheduleEnsureMinIdle();
+    }
+
+    private void scheduleEnsureMinIdle() {
+        if (!needsIdleObjects() || !creatingIdleObjects.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            idleObjectCreationExecutor.execute(this::ensureMinIdle);
+        } catch (RejectedExecutionException e) {
+            creatingIdleObjects.set(false);
+            log.info("Could not schedule creating idle objects in pool", e);
+        }
+    }
+
+    private void ensureMinIdle() {
+        try {
+            while (needsIdleObjects()) {
+                addObject();
+            }
+        } catch (Exception e) {
+            log.info("Failed to create idle object in pool", e);
+        } finally {
+            creatingIdleObjects.set(false);
+        }
+    }
+
+    private boolean needsIdleObjects() {
+        return !closed && numIdle.get() < settings.minIdle() && numTotal.get() < settings.maxTotal();
+    }
+
+    private void runEvictionSafely() {
+        try {
+            evict();
+        } catch (Throwable t) {
+            log.warn("Failed to evict idle objects from pool", t);
+        }
+    }
+
+    private Entry<T> create() throws Exception {
+        while (true) {
+            int total = numTotal.get();
+            if (total >= settings.maxTotal()) {
+                throw new NoSuchElementException("Pool exhausted");
+            }
+            if (numTotal.compareAndSet(total, total + 1)) {
+                break;
+            }
+        }
+        PooledObject<T> pooledObject;
+        try {
+            pooledObject = factory.makeObject();
+        } catch (Exception e) {
+            numTotal.decrementAndGet();
+            throw e;
+        }
+        createdCount.incrementAndGet();
+        Entry<T> entry = new Entry<>(pooledObject);
+        allObjects.put(new IdentityKey(pooledObject.getObject()), entry);
+        return entry;
+    }
+
+    private T activate(Entry<T> entry, long now) throws Exception {
+        try {
+            factory.activateObject(entry.pooledObject);
+        } catch (Exception e) {
+            destroyQuietly(entry);
+            throw e;
+        }
+        entry.lastBorrowedNanos = now;
+        numActive.incrementAndGet();
+        return entry.pooledObject.getObject();
+    }
+
+    private boolean isValid(Entry<T> entry) {
+        return factory.validateObject(entry.pooledObject);
+    }
+
+    private void destroy(Entry<T> entry) throws Exception {
+        allObjects.remove(new IdentityKey(entry.pooledObject.getObject()));
+        destroyedCount.incrementAndGet();
+        try {
+            factory.destroyObject(entry.pooledObject);
+        } finally {
+            // only free up the slot once the object is gone, so that there are never more than maxTotal objects alive
+            numTotal.decrementAndGet();
+        }
+    }
+
+    private void destroyQuietly(Entry<T> entry) {
+        try {
+            destroy(entry);
+        } catch (Exception e) {
+            log.info("Swallowed exception when destroying pooled object", e);
+        }
+    }
+
+    private Entry<T> getEntry(T obj) {
+        Entry<T> entry = allObjects.get(new IdentityKey(obj));
+        if (entry == null) {
+            throw new SafeIllegalStateException("Object is not part of this pool");
+        }
+        return entry;
+    }
+
+    private void assertOpen() {
+        if (closed) {
+            throw new SafeIllegalStateException("Pool not open");
+        }
+    }
+
+    @Value.Immutable
+    public interface Settings {
+        int minIdle();
+
+        int maxTotal();
+
+        Duration idleTimeout();
+
+        Duration timeBetweenEvictionRuns();
+
+        /**
+         * Objects that were returned to the pool more recently than this are handed out again without validation. By
+         * default every object is validated on borrow.
+         */
+        @Value.Default
+        default Duration validateAfterIdle() {
+            return Duration.ZERO;
+        }
+
+        @Value.Check
+        default void check() {
+            Preconditions.checkArgument(
+                    0 <= minIdle() && minIdle() <= maxTotal(),
+                    "minIdle must be between 0 and maxTotal",
+                    SafeArg.of("minIdle", minIdle()),
+                    SafeArg.of("maxTotal", maxTotal()));
+            Preconditions.checkArgument(
+                    !timeBetweenEvictionRuns().isNegative() && !timeBetweenEvictionRuns().isZero(),
+                    "timeBetweenEvictionRuns must be positive",
+                    SafeArg.of("timeBetweenEvictionRuns", timeBetweenEvictionRuns()));
+        }
+
+        static ImmutableSettings.Builder builder() {
+            return ImmutableSettings.builder();
+        }
+    }
+
+    private static final class Entry<T> {
+        private final PooledObject<T> pooledObject;
+        private volatile long lastBorrowedNanos;
+        private volatile long lastReturnedNanos;
+
+        private Entry(PooledObject<T> pooledObject) {
+            this.pooledObject = pooledObject;
+        }
+    }
+
+    private static final class IdentityKey {
+        private final Object object;
+
+        private IdentityKey(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey && ((IdentityKey) other).object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+
+    /**
+     * Keeps the most recent durations in a ring buffer, in the same way as the statistics of
+     * {@link org.apache.commons.pool2.impl.GenericObjectPool}, but without synchronization.
+     */
+    private static final class TimingSamples {
+        private final AtomicLongArray samples = new AtomicLongArray(TIMING_SAMPLES);
+        private final AtomicLong index = new AtomicLong();
+
+        void record(long nanos) {
+            samples.set((int) (index.getAndIncrement() % TIMING_SAMPLES), nanos);
+        }
+
+        long mean() {
+            int count = (int) Math.min(index.get(), TIMING_SAMPLES);
+            if (count == 0) {
+                return 0;
+            }
+            long total = 0;
+            for (int sample = 0; sample < count; sample++) {
+                total += samples.get(sample);
+            }
+            return total / count;
+        }
+    }
+}
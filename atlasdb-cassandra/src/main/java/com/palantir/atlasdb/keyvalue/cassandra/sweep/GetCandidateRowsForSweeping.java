@@ -15,6 +15,7 @@
  */
 package com.palantir.atlasdb.keyvalue.cassandra.sweep;
 
+import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.CandidateCellForSweeping;
 import com.palantir.atlasdb.keyvalue.api.CandidateCellForSweepingRequest;
 import com.palantir.atlasdb.keyvalue.api.Cell;
@@ -43,6 +44,7 @@ public class GetCandidateRowsForSweeping {
     private final RowGetter rowGetter;
     private final TableReference table;
     private final CandidateCellForSweepingRequest request;
+    private final byte[] endRowInclusive;
     private final int timestampsBatchSize;
     private Refreshable<Integer> sweepReadThreadsRefreshable;
     private final int valuesBatchSize;
@@ -57,10 +59,33 @@ public class GetCandidateRowsForSweeping {
             TableReference table,
             CandidateCellForSweepingRequest request,
             Refreshable<Integer> sweepReadThreadsRefreshable) {
+        this(
+                valuesLoader,
+                cqlExecutor,
+                rowGetter,
+                table,
+                request,
+                PtBytes.EMPTY_BYTE_ARRAY,
+                sweepReadThreadsRefreshable);
+    }
+
+    /**
+     * Only rows up to and including {@code endRowInclusive} are considered, unless it is empty, in which case rows are
+     * considered up to the end of the table.
+     */
+    public GetCandidateRowsForSweeping(
+            ValuesLoader valuesLoader,
+            CqlExecutor cqlExecutor,
+            RowGetter rowGetter,
+            TableReference table,
+            CandidateCellForSweepingRequest request,
+            byte[] endRowInclusive,
+            Refreshable<Integer> sweepReadThreadsRefreshable) {
         this.table = table;
         this.cqlExecutor = cqlExecutor;
         this.rowGetter = rowGetter;
         this.request = request;
+        this.endRowInclusive = endRowInclusive;
         this.valuesLoader = valuesLoader;
         this.sweepReadThreadsRefreshable = sweepReadThreadsRefreshable;
 
@@ -86,6 +111,7 @@ public class GetCandidateRowsForSweeping {
                         rowGetter,
                         table,
                         request.startRowInclusive(),
+                        endRowInclusive,
                         timestampsBatchSize,
                         sweepReadThreadsRefreshable)
                 .execute();
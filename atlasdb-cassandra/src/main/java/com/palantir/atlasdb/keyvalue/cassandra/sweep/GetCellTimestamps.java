@@ -16,6 +16,7 @@
 package com.palantir.atlasdb.keyvalue.cassandra.sweep;
 
 import com.google.common.collect.Iterables;
+import com.google.common.primitives.UnsignedBytes;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.RangeRequests;
@@ -38,6 +39,7 @@ public class GetCellTimestamps {
     private final CqlExecutor cqlExecutor;
     private final TableReference tableRef;
     private final byte[] startRowInclusive;
+    private final byte[] endRowInclusive;
     private final int batchHint;
     private Refreshable<Integer> sweepReadThreadsRefreshable;
 
@@ -50,10 +52,33 @@ public class GetCellTimestamps {
             byte[] startRowInclusive,
             int batchHint,
             Refreshable<Integer> sweepReadThreadsRefreshable) {
+        this(
+                cqlExecutor,
+                rowGetter,
+                tableRef,
+                startRowInclusive,
+                PtBytes.EMPTY_BYTE_ARRAY,
+                batchHint,
+                sweepReadThreadsRefreshable);
+    }
+
+    /**
+     * Only rows up to and including {@code endRowInclusive} are read, unless it is empty, in which case rows are read
+     * up to the end of the table.
+     */
+    public GetCellTimestamps(
+            CqlExecutor cqlExecutor,
+            RowGetter rowGetter,
+            TableReference tableRef,
+            byte[] startRowInclusive,
+            byte[] endRowInclusive,
+            int batchHint,
+            Refreshable<Integer> sweepReadThreadsRefreshable) {
         this.cqlExecutor = cqlExecutor;
         this.rowGetter = rowGetter;
         this.tableRef = tableRef;
         this.startRowInclusive = startRowInclusive;
+        this.endRowInclusive = endRowInclusive;
         this.batchHint = batchHint;
         this.sweepReadThreadsRefreshable = sweepReadThreadsRefreshable;
     }
@@ -97,20 +122,27 @@ public class GetCellTimestamps {
         Integer executorThreads = sweepReadThreadsRefreshable.get();
         ExecutorService executor = PTExecutors.newFixedThreadPool(executorThreads);
 
-        while (timestamps.isEmpty()) {
-            List<byte[]> rows = rowGetter.getRowKeysInRange(rangeStart, PtBytes.EMPTY_BYTE_ARRAY, batchHint);
-            if (rows.isEmpty()) {
-                return;
+        try {
+            while (timestamps.isEmpty() && !isPastEndRow(rangeStart)) {
+                List<byte[]> rows = rowGetter.getRowKeysInRange(rangeStart, endRowInclusive, batchHint);
+                if (rows.isEmpty()) {
+                    return;
+                }
+
+                // Note that both ends of this range are *inclusive*
+                List<CellWithTimestamp> batch =
+                        cqlExecutor.getTimestamps(tableRef, rows, batchHint, executor, executorThreads);
+                timestamps.addAll(batch);
+                rangeStart = RangeRequests.nextLexicographicName(Iterables.getLast(rows));
             }
-
-            // Note that both ends of this range are *inclusive*
-            List<CellWithTimestamp> batch =
-                    cqlExecutor.getTimestamps(tableRef, rows, batchHint, executor, executorThreads);
-            timestamps.addAll(batch);
-            rangeStart = RangeRequests.nextLexicographicName(Iterables.getLast(rows));
+        } finally {
+            executor.shutdown();
         }
+    }
 
-        executor.shutdown();
+    private boolean isPastEndRow(byte[] row) {
+        return endRowInclusive.length > 0
+                && UnsignedBytes.lexicographicalComparator().compare(row, endRowInclusive) > 0;
     }
 
     private void fetchRemainingTimestampsForLastRow() {
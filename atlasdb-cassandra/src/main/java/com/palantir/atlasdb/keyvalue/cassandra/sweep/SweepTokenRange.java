@@ -0,0 +1,46 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.sweep;
+
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import java.util.Set;
+import org.immutables.value.Value;
+
+/**
+ * A contiguous range of rows of a table, all of which are owned by the same replicas.
+ */
+@Value.Immutable
+public interface SweepTokenRange {
+    @Value.Parameter
+    byte[] startRowInclusive();
+
+    /**
+     * The last row of the range, or an empty array if the range extends to the end of the table.
+     */
+    @Value.Parameter
+    byte[] endRowInclusive();
+
+    /**
+     * The replicas owning the rows of the range, which may be empty if they are not known.
+     */
+    @Value.Parameter
+    Set<CassandraServer> owners();
+
+    static SweepTokenRange of(byte[] startRowInclusive, byte[] endRowInclusive, Set<CassandraServer> owners) {
+        return ImmutableSweepTokenRange.of(startRowInclusive, endRowInclusive, owners);
+    }
+}
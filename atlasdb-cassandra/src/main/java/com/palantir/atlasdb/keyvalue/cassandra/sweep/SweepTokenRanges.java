@@ -0,0 +1,93 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.sweep;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.RangeRequests;
+import com.palantir.atlasdb.keyvalue.cassandra.LightweightOppToken;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class SweepTokenRanges {
+    private SweepTokenRanges() {
+        // utility
+    }
+
+    /**
+     * Splits the rows of a table from {@code startRowInclusive} onwards into the token ranges of the ring, in token
+     * order. If the ring does not cover every row from {@code startRowInclusive} onwards, for example because it has
+     * not been loaded yet, a single range with no known owners is returned instead, so that no rows are skipped.
+     */
+    public static List<SweepTokenRange> split(
+            RangeMap<LightweightOppToken, ? extends Set<CassandraServer>> tokenMap, byte[] startRowInclusive) {
+        Range<LightweightOppToken> rowsToSplit = startRowInclusive.length == 0
+                ? Range.all()
+                : Range.atLeast(new LightweightOppToken(startRowInclusive));
+
+        List<SweepTokenRange> ranges = new ArrayList<>();
+        byte[] nextRow = startRowInclusive;
+        for (Map.Entry<Range<LightweightOppToken>, ? extends Set<CassandraServer>> entry :
+                tokenMap.subRangeMap(rowsToSplit).asMapOfRanges().entrySet()) {
+            Range<LightweightOppToken> tokenRange = entry.getKey();
+            if (!Arrays.equals(getStartRowInclusive(tokenRange), nextRow)) {
+                return unsplit(startRowInclusive);
+            }
+            byte[] endRowInclusive = toBytes(LightweightOppToken.getUpperInclusive(tokenRange));
+            if (!tokenRange.hasUpperBound()) {
+                ranges.add(SweepTokenRange.of(nextRow, PtBytes.EMPTY_BYTE_ARRAY, entry.getValue()));
+                return ranges;
+            }
+            // A range ending at the minimum token holds no rows, and an empty end row would mean an unbounded range
+            if (endRowInclusive.length > 0) {
+                ranges.add(SweepTokenRange.of(nextRow, endRowInclusive, entry.getValue()));
+            }
+            nextRow = RangeRequests.nextLexicographicName(endRowInclusive);
+        }
+        return unsplit(startRowInclusive);
+    }
+
+    private static List<SweepTokenRange> unsplit(byte[] startRowInclusive) {
+        return ImmutableList.of(SweepTokenRange.of(startRowInclusive, PtBytes.EMPTY_BYTE_ARRAY, ImmutableSet.of()));
+    }
+
+    private static byte[] getStartRowInclusive(Range<LightweightOppToken> tokenRange) {
+        if (!tokenRange.hasLowerBound()) {
+            return PtBytes.EMPTY_BYTE_ARRAY;
+        }
+        byte[] lowerEndpoint = toBytes(tokenRange.lowerEndpoint());
+        return tokenRange.lowerBoundType() == BoundType.CLOSED
+                ? lowerEndpoint
+                : RangeRequests.nextLexicographicName(lowerEndpoint);
+    }
+
+    private static byte[] toBytes(LightweightOppToken token) {
+        ByteBuffer buffer = token.deserialize();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
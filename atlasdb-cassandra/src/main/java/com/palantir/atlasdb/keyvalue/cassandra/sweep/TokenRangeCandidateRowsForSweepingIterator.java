@@ -0,0 +1,235 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.sweep;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterables;
+import com.google.common.primitives.UnsignedBytes;
+import com.google.common.util.concurrent.SettableFuture;
+import com.palantir.atlasdb.keyvalue.api.RangeRequests;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.common.base.Throwables;
+import com.palantir.common.concurrent.PTExecutors;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Iterates over the candidate rows of a table by scanning its token ranges concurrently, returning the batches of
+ * each range in token order, so that the batches are in row order exactly as for
+ * {@link CandidateRowsForSweepingIterator}.
+ * <p>
+ * Only the first {@code maxRangesInFlight} ranges not yet consumed are scanned, and each of them fetches at most one
+ * batch ahead of the consumer: a range fetches its next batch only once the consumer has taken the previous one. A
+ * slow sweeper therefore holds back the scan rather than letting batches pile up in memory. A range is only scanned
+ * while each of its owners has fewer than {@code maxScansPerHost} scans in flight, since the reads of a range may go
+ * to any of its owners.
+ */
+public final class TokenRangeCandidateRowsForSweepingIterator
+        extends AbstractIterator<List<CandidateRowForSweeping>>
+        implements ClosableIterator<List<CandidateRowForSweeping>> {
+
+    private final List<RangeScan> scans;
+    private final BiFunction<SweepTokenRange, byte[], List<CandidateRowForSweeping>> batchLoader;
+    private final int maxRangesInFlight;
+    private final int maxScansPerHost;
+    private final ExecutorService executor;
+
+    @GuardedBy("this")
+    private final Map<CassandraServer, Integer> scansInFlightByHost = new HashMap<>();
+
+    @GuardedBy("this")
+    private int currentScan = 0;
+
+    @GuardedBy("this")
+    private boolean closed = false;
+
+    /**
+     * @param batchLoader loads the batch of candidate rows of the given range that starts at the given row
+     */
+    public TokenRangeCandidateRowsForSweepingIterator(
+            List<SweepTokenRange> ranges,
+            BiFunction<SweepTokenRange, byte[], List<CandidateRowForSweeping>> batchLoader,
+            int maxRangesInFlight,
+            int maxScansPerHost) {
+        Preconditions.checkArgument(
+                maxRangesInFlight > 0,
+                "maxRangesInFlight must be positive",
+                SafeArg.of("maxRangesInFlight", maxRangesInFlight));
+        Preconditions.checkArgument(
+                maxScansPerHost > 0,
+                "maxScansPerHost must be positive",
+                SafeArg.of("maxScansPerHost", maxScansPerHost));
+        this.scans = ranges.stream().map(RangeScan::new).collect(Collectors.toList());
+        this.batchLoader = batchLoader;
+        this.maxRangesInFlight = maxRangesInFlight;
+        this.maxScansPerHost = maxScansPerHost;
+        this.executor = PTExecutors.newFixedThreadPool(Math.min(maxRangesInFlight, Math.max(1, ranges.size())));
+    }
+
+    @Override
+    protected List<CandidateRowForSweeping> computeNext() {
+        while (true) {
+            SettableFuture<List<CandidateRowForSweeping>> nextBatch = getNextBatchOfCurrentScan();
+            if (nextBatch == null) {
+                close();
+                return endOfData();
+            }
+
+            List<CandidateRowForSweeping> batch = awaitBatch(nextBatch);
+            takeBatchOfCurrentScan(batch);
+            if (!batch.isEmpty()) {
+                return batch;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        executor.shutdownNow();
+        scans.forEach(scan -> {
+            if (scan.nextBatch != null) {
+                scan.nextBatch.cancel(false);
+            }
+        });
+    }
+
+    private List<CandidateRowForSweeping> awaitBatch(SettableFuture<List<CandidateRowForSweeping>> batch) {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw Throwables.rewrapAndThrowUncheckedException(e);
+        } catch (ExecutionException e) {
+            close();
+            throw Throwables.rewrapAndThrowUncheckedException(e.getCause());
+        }
+    }
+
+    @Nullable
+    private synchronized SettableFuture<List<CandidateRowForSweeping>> getNextBatchOfCurrentScan() {
+        Preconditions.checkState(!closed, "The iterator has been closed");
+        if (currentScan == scans.size()) {
+            return null;
+        }
+        startEligibleScans();
+        return scans.get(currentScan).nextBatch;
+    }
+
+    private synchronized void takeBatchOfCurrentScan(List<CandidateRowForSweeping> batch) {
+        RangeScan scan = scans.get(currentScan);
+        scan.nextBatch = null;
+        scan.nextStartRow = batch.isEmpty() ? null : getStartRowAfter(scan.range, Iterables.getLast(batch));
+        if (scan.nextStartRow == null) {
+            currentScan++;
+        }
+        startEligibleScans();
+    }
+
+    @Nullable
+    private static byte[] getStartRowAfter(SweepTokenRange range, CandidateRowForSweeping lastRow) {
+        byte[] nextRow = RangeRequests.nextLexicographicName(lastRow.rowName());
+        boolean isPastEndOfRange = range.endRowInclusive().length > 0
+                && UnsignedBytes.lexicographicalComparator().compare(nextRow, range.endRowInclusive()) > 0;
+        return isPastEndOfRange ? null : nextRow;
+    }
+
+    @GuardedBy("this")
+    private void startEligibleScans() {
+        if (closed) {
+            return;
+        }
+        int endOfWindow = Math.min(scans.size(), currentScan + maxRangesInFlight);
+        for (RangeScan scan : scans.subList(currentScan, endOfWindow)) {
+            if (scan.nextStartRow == null) {
+                continue;
+            }
+            if (scan.nextBatch == null) {
+                scan.nextBatch = SettableFuture.create();
+            }
+            if (!scan.inFlight && !scan.nextBatch.isDone() && hasCapacityOnAllOwners(scan.range)) {
+                startScan(scan);
+            }
+        }
+    }
+
+    @GuardedBy("this")
+    private boolean hasCapacityOnAllOwners(SweepTokenRange range) {
+        return range.owners().stream().allMatch(host -> scansInFlightByHost.getOrDefault(host, 0) < maxScansPerHost);
+    }
+
+    @GuardedBy("this")
+    private void startScan(RangeScan scan) {
+        scan.inFlight = true;
+        scan.range.owners().forEach(host -> scansInFlightByHost.merge(host, 1, Integer::sum));
+
+        byte[] startRow = scan.nextStartRow;
+        SettableFuture<List<CandidateRowForSweeping>> batch = scan.nextBatch;
+        executor.execute(() -> {
+            try {
+                batch.set(batchLoader.apply(scan.range, startRow));
+            } catch (Throwable t) {
+                batch.setException(t);
+            } finally {
+                finishScan(scan);
+            }
+        });
+    }
+
+    private synchronized void finishScan(RangeScan scan) {
+        scan.inFlight = false;
+        scan.range.owners().forEach(host -> scansInFlightByHost.merge(host, -1, Integer::sum));
+        startEligibleScans();
+    }
+
+    private static final class RangeScan {
+        private final SweepTokenRange range;
+
+        /**
+         * The first row of the next batch of the range, or null once the range has been read in full.
+         */
+        @Nullable
+        private byte[] nextStartRow;
+
+        /**
+         * The next batch of the range, once it has been requested and until the consumer takes it.
+         */
+        @Nullable
+        private SettableFuture<List<CandidateRowForSweeping>> nextBatch;
+
+        private boolean inFlight = false;
+
+        private RangeScan(SweepTokenRange range) {
+            this.range = range;
+            this.nextStartRow = range.startRowInclusive();
+        }
+    }
+}
@@ -19,6 +19,8 @@ package com.palantir.atlasdb.keyvalue.cassandra;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
@@ -107,6 +109,22 @@ public class BlacklistTest {
         assertThat(blacklist.contains(SERVER_1)).isFalse();
     }
 
+    @Test
+    public void resetsConcurrencyLimitOfHostRemovedFromBlacklist() {
+        blacklist.add(SERVER_1);
+        blacklist.checkAndUpdate(ImmutableMap.of(SERVER_1, goodContainer));
+
+        verify(goodContainer).resetConcurrencyLimit();
+    }
+
+    @Test
+    public void doesNotResetConcurrencyLimitOfHostRemainingBlacklisted() {
+        blacklist.add(SERVER_1);
+        blacklist.checkAndUpdate(ImmutableMap.of(SERVER_1, badContainer));
+
+        verify(badContainer, never()).resetConcurrencyLimit();
+    }
+
     @Test
     public void removesHostsFromBlacklistIfUnknown() {
         blacklist.add(SERVER_2);
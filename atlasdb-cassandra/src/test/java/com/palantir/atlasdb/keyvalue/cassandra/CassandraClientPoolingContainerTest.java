@@ -0,0 +1,177 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.keyvalue.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.palantir.atlasdb.cassandra.CassandraKeyValueServiceConfig;
+import com.palantir.atlasdb.cassandra.ImmutableCassandraCredentialsConfig;
+import com.palantir.atlasdb.cassandra.ImmutableCassandraHostConcurrencyLimitConfig;
+import com.palantir.atlasdb.cassandra.ImmutableCassandraKeyValueServiceConfig;
+import com.palantir.atlasdb.keyvalue.api.InsufficientConsistencyException;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraClientPoolHostLevelMetric;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraClientPoolMetrics;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraHostConcurrencyLimitExceededException;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.InstrumentedObjectPool;
+import com.palantir.atlasdb.util.MetricsManagers;
+import com.palantir.common.base.FunctionCheckedException;
+import com.palantir.conjure.java.api.config.service.HumanReadableDuration;
+import com.palantir.tritium.metrics.registry.DefaultTaggedMetricRegistry;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.NoSuchElementException;
+import org.apache.cassandra.thrift.TimedOutException;
+import org.apache.cassandra.thrift.UnavailableException;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class CassandraClientPoolingContainerTest {
+    private static final CassandraServer SERVER = CassandraServer.of(InetSocketAddress.createUnresolved("host", 9160));
+    private static final int INITIAL_LIMIT = 4;
+
+    private static final CassandraKeyValueServiceConfig CONFIG = ImmutableCassandraKeyValueServiceConfig.builder()
+            .credentials(ImmutableCassandraCredentialsConfig.builder()
+                    .username("a")
+                    .password("b")
+                    .build())
+            .hostConcurrencyLimit(ImmutableCassandraHostConcurrencyLimitConfig.builder()
+                    .enabled(true)
+                    .initialLimit(INITIAL_LIMIT)
+                    .minLimit(1)
+                    .maxLimit(INITIAL_LIMIT * 2)
+                    .latencyThreshold(HumanReadableDuration.minutes(1))
+                    .backoffRatio(0.5)
+                    .build())
+            .build();
+
+    @SuppressWarnings("unchecked") // Mock type is correct
+    private final InstrumentedObjectPool<CassandraClient> clientPool = mock(InstrumentedObjectPool.class);
+
+    private final CassandraClient client = mock(CassandraClient.class);
+    private final CassandraClientPoolMetrics poolMetrics = mock(CassandraClientPoolMetrics.class);
+    private final CassandraClientPoolingContainer container = new CassandraClientPoolingContainer(
+            MetricsManagers.of(new MetricRegistry(), new DefaultTaggedMetricRegistry()),
+            SERVER,
+            CONFIG,
+            0,
+            poolMetrics,
+            _container -> clientPool);
+
+    private Gauge<Long> concurrencyLimit;
+    private Gauge<Long> inFlightRequests;
+    private Gauge<Long> shedRequests;
+
+    @Before
+    public void setUp() throws Exception {
+        when(clientPool.borrowObject()).thenReturn(client);
+        concurrencyLimit = registeredGauge(CassandraClientPoolHostLevelMetric.CONCURRENCY_LIMIT);
+        inFlightRequests = registeredGauge(CassandraClientPoolHostLevelMetric.IN_FLIGHT_REQUESTS);
+        shedRequests = registeredGauge(CassandraClientPoolHostLevelMetric.SHED_REQUESTS);
+    }
+
+    @Test
+    public void shedsRequestsOverLimitWithoutBorrowingConnection() throws Exception {
+        assertThatThrownBy(() -> container.runWithPooledResource(nestedRequests(INITIAL_LIMIT + 1)))
+                .isInstanceOf(CassandraHostConcurrencyLimitExceededException.class);
+        verify(clientPool, times(INITIAL_LIMIT)).borrowObject();
+        assertThat(shedRequests.getValue()).isEqualTo(1);
+        assertThat(inFlightRequests.getValue()).isZero();
+    }
+
+    @Test
+    public void hostTimeoutsShrinkLimit() {
+        assertThatThrownBy(() -> container.runWithPooledResource(throwing(new TimedOutException())))
+                .isInstanceOf(TimedOutException.class);
+        assertThat(concurrencyLimit.getValue()).isEqualTo(INITIAL_LIMIT / 2);
+    }
+
+    @Test
+    public void socketTimeoutsShrinkLimit() {
+        assertThatThrownBy(() -> container.runWithPooledResource(
+                        throwing(new TTransportException(new SocketTimeoutException()))))
+                .isInstanceOf(TTransportException.class);
+        assertThat(concurrencyLimit.getValue()).isEqualTo(INITIAL_LIMIT / 2);
+    }
+
+    @Test
+    public void failuresNotImplicatingHostLoadDoNotShrinkLimit() {
+        assertThatThrownBy(() -> container.runWithPooledResource(throwing(new UnavailableException())))
+                .isInstanceOf(UnavailableException.class);
+        assertThatThrownBy(() -> container.runWithPooledResource(
+                        throwing(new InsufficientConsistencyException("not enough replicas"))))
+                .isInstanceOf(InsufficientConsistencyException.class);
+        assertThat(concurrencyLimit.getValue()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    @Test
+    public void failureToBorrowConnectionDoesNotAffectLimit() throws Exception {
+        when(clientPool.borrowObject()).thenThrow(new NoSuchElementException("Pool exhausted"));
+
+        assertThatThrownBy(() -> container.runWithPooledResource(nestedRequests(1)))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(concurrencyLimit.getValue()).isEqualTo(INITIAL_LIMIT);
+        assertThat(inFlightRequests.getValue()).isZero();
+    }
+
+    @Test
+    public void resetConcurrencyLimitRestoresInitialLimit() {
+        assertThatThrownBy(() -> container.runWithPooledResource(throwing(new TimedOutException())))
+                .isInstanceOf(TimedOutException.class);
+
+        container.resetConcurrencyLimit();
+
+        assertThat(concurrencyLimit.getValue()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    /**
+     * Makes a request that, while holding its connection, makes another request to the same host, and so on, so that
+     * {@code depth} requests are in flight at once.
+     */
+    private FunctionCheckedException<CassandraClient, Void, Exception> nestedRequests(int depth) {
+        return _client -> {
+            if (depth > 1) {
+                container.runWithPooledResource(nestedRequests(depth - 1));
+            }
+            return null;
+        };
+    }
+
+    private static FunctionCheckedException<CassandraClient, Void, Exception> throwing(Exception exception) {
+        return _client -> {
+            throw exception;
+        };
+    }
+
+    @SuppressWarnings("unchecked") // Captor type is correct
+    private Gauge<Long> registeredGauge(CassandraClientPoolHostLevelMetric metric) {
+        ArgumentCaptor<Gauge<Long>> gauge = ArgumentCaptor.forClass(Gauge.class);
+        verify(poolMetrics).registerPoolMetric(eq(metric), gauge.capture(), anyInt());
+        return gauge.getValue();
+    }
+}
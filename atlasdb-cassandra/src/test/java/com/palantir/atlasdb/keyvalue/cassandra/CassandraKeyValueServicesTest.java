@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.Value;
+import java.nio.ByteBuffer;
 import org.junit.Test;
 
 public class CassandraKeyValueServicesTest {
@@ -44,4 +45,21 @@ public class CassandraKeyValueServicesTest {
                         .getTimestamp())
                 .isEqualTo(2000);
     }
+
+    @Test
+    public void readsCompositeColumnNamesInPlace() {
+        byte[] column = PtBytes.toBytes("column");
+        ByteBuffer composite = CassandraKeyValueServices.makeCompositeBuffer(column, 1234L);
+        byte[] padded = new byte[composite.remaining() + 3];
+        composite.duplicate().get(padded, 3, composite.remaining());
+        ByteBuffer slice = ByteBuffer.wrap(padded, 3, composite.remaining());
+
+        assertThat(CassandraKeyValueServices.getColumnNameLength(slice)).isEqualTo(column.length);
+        assertThat(CassandraKeyValueServices.getColumnName(slice)).isEqualTo(column);
+        assertThat(CassandraKeyValueServices.getTimestamp(slice)).isEqualTo(1234L);
+        assertThat(CassandraKeyValueServices.hasColumnName(slice, column)).isTrue();
+        assertThat(CassandraKeyValueServices.hasColumnName(slice, PtBytes.toBytes("columm"))).isFalse();
+        assertThat(CassandraKeyValueServices.hasColumnName(slice, DATA)).isFalse();
+        assertThat(slice.position()).isEqualTo(3);
+    }
 }
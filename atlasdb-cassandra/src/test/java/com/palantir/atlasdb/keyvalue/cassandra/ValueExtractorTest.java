@@ -0,0 +1,84 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codahale.metrics.Counter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.util.MetricsManagers;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.cassandra.thrift.ColumnOrSuperColumn;
+import org.junit.Test;
+
+public class ValueExtractorTest {
+    private static final byte[] ROW = PtBytes.toBytes("row");
+    private static final Cell FIRST = Cell.create(ROW, PtBytes.toBytes("first"));
+    private static final Cell SECOND = Cell.create(ROW, PtBytes.toBytes("second"));
+    private static final long START_TS = 100L;
+
+    private final Counter skippedCounter = new Counter();
+    private final ValueExtractor extractor =
+            new ValueExtractor(MetricsManagers.createForTests(), new HashMap<>(), skippedCounter);
+
+    @Test
+    public void extractsLatestVersionVisibleAtStartTimestamp() {
+        // as returned by Cassandra: sorted by column name, and then by descending timestamp
+        extractor.extractResults(
+                ImmutableMap.of(
+                        ByteBuffer.wrap(ROW),
+                        ImmutableList.of(
+                                column(FIRST, 150L),
+                                column(FIRST, 90L),
+                                column(FIRST, 80L),
+                                column(SECOND, 100L),
+                                column(SECOND, 10L))),
+                START_TS,
+                ColumnSelection.all());
+
+        Map<Cell, Value> results = extractor.asMap();
+        assertThat(results).containsOnlyKeys(FIRST, SECOND);
+        assertThat(results.get(FIRST).getTimestamp()).isEqualTo(90L);
+        assertThat(results.get(FIRST).getContents()).isEqualTo(PtBytes.toBytes(90L));
+        assertThat(results.get(SECOND).getTimestamp()).isEqualTo(10L);
+        assertThat(skippedCounter.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void skipsColumnsNotInSelection() {
+        extractor.extractResults(
+                ImmutableMap.of(ByteBuffer.wrap(ROW), ImmutableList.of(column(FIRST, 10L), column(SECOND, 10L))),
+                START_TS,
+                ColumnSelection.create(ImmutableList.of(SECOND.getColumnName())));
+
+        assertThat(extractor.asMap()).containsOnlyKeys(SECOND);
+        assertThat(skippedCounter.getCount()).isEqualTo(1);
+    }
+
+    private static ColumnOrSuperColumn column(Cell cell, long timestamp) {
+        return new ColumnOrSuperColumn()
+                .setColumn(CassandraKeyValueServices.createColumn(
+                        cell, Value.create(PtBytes.toBytes(timestamp), timestamp)));
+    }
+}
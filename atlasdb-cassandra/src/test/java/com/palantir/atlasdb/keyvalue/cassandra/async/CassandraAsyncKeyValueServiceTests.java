@@ -17,6 +17,10 @@
 package com.palantir.atlasdb.keyvalue.cassandra.async;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
@@ -34,9 +38,12 @@ import com.palantir.atlasdb.keyvalue.cassandra.async.queries.CqlQueryContext;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.GetQuerySpec;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableCqlQueryContext;
 import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutableGetQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.ImmutablePutQueryParameters;
+import com.palantir.atlasdb.keyvalue.cassandra.async.queries.PutQuerySpec;
 import com.palantir.common.random.RandomBytes;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import org.junit.After;
 import org.junit.Before;
@@ -114,6 +121,60 @@ public class CassandraAsyncKeyValueServiceTests {
         assertThat(result).containsOnlyKeys(VISIBLE_CELL_1, VISIBLE_CELL_2);
     }
 
+    @Test
+    public void multiPutAsyncWritesEachRowInItsOwnQuery() throws Exception {
+        when(cqlClient.<Void>executeQuery(any(PutQuerySpec.class))).thenReturn(Futures.immediateVoidFuture());
+        Cell otherRowCell = Cell.create(PtBytes.toBytes(101), PtBytes.toBytes(100));
+        Map<Cell, byte[]> firstRow =
+                ImmutableMap.of(VISIBLE_CELL_1, RandomBytes.ofLength(10), VISIBLE_CELL_2, RandomBytes.ofLength(10));
+        Map<Cell, byte[]> secondRow = ImmutableMap.of(otherRowCell, RandomBytes.ofLength(10));
+        Map<Cell, byte[]> values = ImmutableMap.<Cell, byte[]>builder()
+                .putAll(firstRow)
+                .putAll(secondRow)
+                .buildOrThrow();
+
+        asyncKeyValueService.multiPutAsync(ImmutableMap.of(TABLE, values), TIMESTAMP).get();
+
+        verify(cqlClient).executeQuery(buildPutQuerySpec(firstRow));
+        verify(cqlClient).executeQuery(buildPutQuerySpec(secondRow));
+        verifyNoMoreInteractions(cqlClient);
+    }
+
+    @Test
+    public void multiPutAsyncSplitsLargeRowsIntoSeveralBatches() throws Exception {
+        when(cqlClient.<Void>executeQuery(any(PutQuerySpec.class))).thenReturn(Futures.immediateVoidFuture());
+        byte[] largeValue = RandomBytes.ofLength(20 * 1024);
+
+        asyncKeyValueService
+                .multiPutAsync(
+                        ImmutableMap.of(TABLE, ImmutableMap.of(VISIBLE_CELL_1, largeValue, VISIBLE_CELL_2, largeValue)),
+                        TIMESTAMP)
+                .get();
+
+        verify(cqlClient).executeQuery(buildPutQuerySpec(ImmutableMap.of(VISIBLE_CELL_1, largeValue)));
+        verify(cqlClient).executeQuery(buildPutQuerySpec(ImmutableMap.of(VISIBLE_CELL_2, largeValue)));
+    }
+
+    @Test
+    public void multiPutAsyncFailsIfAnyWriteFails() {
+        RuntimeException failure = new RuntimeException("boom");
+        when(cqlClient.<Void>executeQuery(any(PutQuerySpec.class)))
+                .thenReturn(Futures.immediateVoidFuture(), Futures.immediateFailedFuture(failure));
+        Cell otherRowCell = Cell.create(PtBytes.toBytes(101), PtBytes.toBytes(100));
+
+        assertThatThrownBy(() -> asyncKeyValueService
+                        .multiPutAsync(
+                                ImmutableMap.of(
+                                        TABLE,
+                                        ImmutableMap.of(
+                                                VISIBLE_CELL_1, RandomBytes.ofLength(10),
+                                                otherRowCell, RandomBytes.ofLength(10))),
+                                TIMESTAMP)
+                        .get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+    }
+
     @Test
     public void testIsValidFalseWhenClientContainerClose() {
         when(cqlClientContainer.isClosed()).thenReturn(true);
@@ -153,6 +214,15 @@ public class CassandraAsyncKeyValueServiceTests {
         return new GetQuerySpec(CQL_QUERY_CONTEXT, getQueryParameters);
     }
 
+    private static PutQuerySpec buildPutQuerySpec(Map<Cell, byte[]> values) {
+        return new PutQuerySpec(
+                CQL_QUERY_CONTEXT,
+                ImmutablePutQueryParameters.builder()
+                        .values(values)
+                        .timestamp(TIMESTAMP)
+                        .build());
+    }
+
     private static GetQuerySpec.GetQueryParameters buildGetQueryParameter(Cell cell) {
         return ImmutableGetQueryParameters.builder()
                 .cell(cell)
@@ -0,0 +1,143 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.atlasdb.cassandra.CassandraHostConcurrencyLimitConfig;
+import com.palantir.atlasdb.cassandra.ImmutableCassandraHostConcurrencyLimitConfig;
+import com.palantir.conjure.java.api.config.service.HumanReadableDuration;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class CassandraHostConcurrencyLimiterTest {
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private static final CassandraHostConcurrencyLimitConfig CONFIG =
+            ImmutableCassandraHostConcurrencyLimitConfig.builder()
+                    .enabled(true)
+                    .initialLimit(4)
+                    .minLimit(2)
+                    .maxLimit(6)
+                    .latencyThreshold(HumanReadableDuration.milliseconds(100))
+                    .backoffRatio(0.5)
+                    .build();
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final CassandraHostConcurrencyLimiter limiter = new CassandraHostConcurrencyLimiter(CONFIG, nanoTime::get);
+
+    @Test
+    public void shedsRequestsBeyondLimit() {
+        acquire(4);
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+        assertThat(limiter.getShedRequests()).isEqualTo(1);
+
+        limiter.release(FAST, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    public void limitGrowsWhenFastRequestsUseIt() {
+        acquire(2);
+        limiter.release(FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    public void limitDoesNotGrowWhenMostlyUnused() {
+        acquire(1);
+        limiter.release(FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    public void limitIsBoundedAboveByMaxLimit() {
+        IntStream.range(0, 10).forEach(_ignored -> {
+            acquire(4);
+            IntStream.range(0, 4).forEach(_unused -> limiter.release(FAST, false));
+        });
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    public void limitShrinksOnSlowOrDroppedRequestsDownToMinLimit() {
+        acquire(2);
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        advancePastDecreaseWindow();
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void limitShrinksAtMostOncePerWindow() {
+        acquire(4);
+        limiter.release(SLOW, false);
+        limiter.release(FAST, true);
+        limiter.release(SLOW, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void limitShrinksAgainInLaterWindow() {
+        CassandraHostConcurrencyLimiter limiterWithLowMinimum = new CassandraHostConcurrencyLimiter(
+                ImmutableCassandraHostConcurrencyLimitConfig.builder()
+                        .from(CONFIG)
+                        .minLimit(1)
+                        .build(),
+                nanoTime::get);
+        assertThat(limiterWithLowMinimum.tryAcquire()).isTrue();
+        limiterWithLowMinimum.release(SLOW, false);
+        assertThat(limiterWithLowMinimum.getLimit()).isEqualTo(2);
+
+        advancePastDecreaseWindow();
+        assertThat(limiterWithLowMinimum.tryAcquire()).isTrue();
+        limiterWithLowMinimum.release(SLOW, false);
+        assertThat(limiterWithLowMinimum.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    public void releaseWithoutSampleLeavesLimitUnchanged() {
+        acquire(4);
+        limiter.releaseWithoutSample();
+
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    public void resetRestoresInitialLimit() {
+        acquire(1);
+        limiter.release(SLOW, false);
+        limiter.reset();
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    private void advancePastDecreaseWindow() {
+        nanoTime.addAndGet(CONFIG.latencyThreshold().toJavaDuration().toNanos());
+    }
+
+    private void acquire(int permits) {
+        IntStream.range(0, permits).forEach(_ignored -> assertThat(limiter.tryAcquire()).isTrue());
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.palantir.common.concurrent.PTExecutors;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LockFreeObjectPoolTest {
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration VALIDATE_AFTER_IDLE = Duration.ofSeconds(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> pendingCreations = new ArrayList<>();
+    private final ScheduledExecutorService evictionExecutor = mock(ScheduledExecutorService.class);
+    private LockFreeObjectPool<AtomicBoolean> pool;
+
+    @Before
+    public void setUp() {
+        doReturn(mock(ScheduledFuture.class))
+                .when(evictionExecutor)
+                .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        pool = new LockFreeObjectPool<>(
+                new ValidityTrackingFactory(),
+                LockFreeObjectPool.Settings.builder()
+                        .minIdle(1)
+                        .maxTotal(2)
+                        .idleTimeout(IDLE_TIMEOUT)
+                        .timeBetweenEvictionRuns(Duration.ofSeconds(20))
+                        .validateAfterIdle(VALIDATE_AFTER_IDLE)
+                        .build(),
+                evictionExecutor,
+                pendingCreations::add,
+                clock::get);
+    }
+
+    @Test
+    public void reusesMostRecentlyReturnedObject() throws Exception {
+        AtomicBoolean first = pool.borrowObject();
+        AtomicBoolean second = pool.borrowObject();
+        pool.returnObject(first);
+        pool.returnObject(second);
+
+        assertThat(pool.borrowObject()).isSameAs(second);
+        assertThat(pool.getCreatedCount()).isEqualTo(2);
+        assertThat(pool.getNumActive()).isEqualTo(1);
+        assertThat(pool.getNumIdle()).isEqualTo(1);
+    }
+
+    @Test
+    public void throwsWhenExhausted() throws Exception {
+        pool.borrowObject();
+        AtomicBoolean second = pool.borrowObject();
+        assertThatThrownBy(pool::borrowObject)
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessageContaining("Pool exhausted");
+
+        pool.invalidateObject(second);
+        assertThat(pool.borrowObject()).isNotSameAs(second);
+        assertThat(pool.getDestroyedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void onlyValidatesObjectsThatHaveBeenIdleForAWhile() throws Exception {
+        AtomicBoolean object = pool.borrowObject();
+        pool.returnObject(object);
+        object.set(false);
+
+        assertThat(pool.borrowObject()).isSameAs(object);
+        pool.returnObject(object);
+
+        clock.addAndGet(VALIDATE_AFTER_IDLE.toNanos());
+        assertThat(pool.borrowObject()).isNotSameAs(object);
+        assertThat(pool.getDestroyedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void validatesEveryBorrowByDefault() throws Exception {
+        LockFreeObjectPool<AtomicBoolean> alwaysValidatingPool = new LockFreeObjectPool<>(
+                new ValidityTrackingFactory(),
+                LockFreeObjectPool.Settings.builder()
+                        .minIdle(0)
+                        .maxTotal(1)
+                        .idleTimeout(IDLE_TIMEOUT)
+                        .timeBetweenEvictionRuns(Duration.ofSeconds(20))
+                        .build(),
+                evictionExecutor,
+                Runnable::run,
+                clock::get);
+        AtomicBoolean object = alwaysValidatingPool.borrowObject();
+        alwaysValidatingPool.returnObject(object);
+        object.set(false);
+
+        assertThat(alwaysValidatingPool.borrowObject()).isNotSameAs(object);
+        assertThat(alwaysValidatingPool.getDestroyedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void evictsObjectsIdleForTooLongButKeepsMinIdle() throws Exception {
+        AtomicBoolean first = pool.borrowObject();
+        AtomicBoolean second = pool.borrowObject();
+        pool.returnObject(first);
+        pool.returnObject(second);
+
+        clock.addAndGet(IDLE_TIMEOUT.toNanos());
+        pool.evict();
+
+        assertThat(pool.getNumIdle()).isEqualTo(1);
+        assertThat(pool.getDestroyedByEvictorCount()).isEqualTo(1);
+        assertThat(pool.borrowObject()).isSameAs(second);
+    }
+
+    @Test
+    public void evictionCreatesObjectsUpToMinIdleOnCreationExecutor() {
+        pool.evict();
+        assertThat(pool.getCreatedCount()).isZero();
+
+        pool.evict();
+        assertThat(pendingCreations).hasSize(1);
+
+        pendingCreations.forEach(Runnable::run);
+        assertThat(pool.getNumIdle()).isEqualTo(1);
+        assertThat(pool.getCreatedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void countersRemainConsistentUnderConcurrentUse() throws Exception {
+        int maxTotal = 4;
+        LiveObjectTrackingFactory factory = new LiveObjectTrackingFactory();
+        LockFreeObjectPool<AtomicBoolean> concurrentPool = new LockFreeObjectPool<>(
+                factory,
+                LockFreeObjectPool.Settings.builder()
+                        .minIdle(2)
+                        .maxTotal(maxTotal)
+                        .idleTimeout(Duration.ZERO)
+                        .timeBetweenEvictionRuns(Duration.ofSeconds(20))
+                        .build(),
+                evictionExecutor,
+                Runnable::run,
+                System::nanoTime);
+
+        int workers = 8;
+        ExecutorService executor = PTExecutors.newFixedThreadPool(workers + 1);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            Future<?> evictor = executor.submit(() -> {
+                while (!done.get()) {
+                    concurrentPool.evict();
+                }
+            });
+            List<Future<?>> borrowers = new ArrayList<>();
+            for (int worker = 0; worker < workers; worker++) {
+                borrowers.add(executor.submit(() -> borrowAndReleaseRepeatedly(concurrentPool, 2_000)));
+            }
+            for (Future<?> borrower : borrowers) {
+                borrower.get(1, TimeUnit.MINUTES);
+            }
+            done.set(true);
+            evictor.get(1, TimeUnit.MINUTES);
+        } finally {
+            done.set(true);
+            executor.shutdownNow();
+        }
+
+        assertThat(factory.maxLive.get()).isLessThanOrEqualTo(maxTotal);
+        assertThat(concurrentPool.getNumActive()).isZero();
+        assertThat(concurrentPool.getNumIdle()).isEqualTo(factory.live.get()).isLessThanOrEqualTo(maxTotal);
+        assertThat(concurrentPool.getCreatedCount() - concurrentPool.getDestroyedCount())
+                .isEqualTo(factory.live.get());
+    }
+
+    private static Void borrowAndReleaseRepeatedly(LockFreeObjectPool<AtomicBoolean> pool, int iterations)
+            throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            AtomicBoolean object;
+            try {
+                object = pool.borrowObject();
+            } catch (NoSuchElementException e) {
+                continue;
+            }
+            int outcome = random.nextInt(10);
+            if (outcome == 0) {
+                pool.invalidateObject(object);
+            } else {
+                // some returned objects fail validation on their next borrow
+                object.set(outcome != 1);
+                pool.returnObject(object);
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void destroysObjectsReturnedAfterClose() throws Exception {
+        AtomicBoolean object = pool.borrowObject();
+        pool.close();
+        pool.returnObject(object);
+
+        assertThat(pool.getNumIdle()).isZero();
+        assertThat(pool.getDestroyedCount()).isEqualTo(1);
+        assertThatThrownBy(pool::borrowObject).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static final class LiveObjectTrackingFactory extends BasePooledObjectFactory<AtomicBoolean> {
+        private final AtomicInteger live = new AtomicInteger();
+        private final AtomicInteger maxLive = new AtomicInteger();
+
+        @Override
+        public AtomicBoolean create() {
+            maxLive.accumulateAndGet(live.incrementAndGet(), Math::max);
+            return new AtomicBoolean(true);
+        }
+
+        @Override
+        public PooledObject<AtomicBoolean> wrap(AtomicBoolean object) {
+            return new DefaultPooledObject<>(object);
+        }
+
+        @Override
+        public boolean validateObject(PooledObject<AtomicBoolean> pooledObject) {
+            return pooledObject.getObject().get();
+        }
+
+        @Override
+        public void destroyObject(PooledObject<AtomicBoolean> pooledObject) {
+            live.decrementAndGet();
+        }
+    }
+
+    private static final class ValidityTrackingFactory extends BasePooledObjectFactory<AtomicBoolean> {
+        @Override
+        public AtomicBoolean create() {
+            return new AtomicBoolean(true);
+        }
+
+        @Override
+        public PooledObject<AtomicBoolean> wrap(AtomicBoolean object) {
+            return new DefaultPooledObject<>(object);
+        }
+
+        @Override
+        public boolean validateObject(PooledObject<AtomicBoolean> pooledObject) {
+            return pooledObject.getObject().get();
+        }
+    }
+}
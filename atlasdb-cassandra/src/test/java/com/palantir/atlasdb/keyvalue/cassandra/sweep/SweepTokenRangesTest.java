@@ -0,0 +1,131 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.sweep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableRangeMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.cassandra.LightweightOppToken;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import java.net.InetSocketAddress;
+import org.junit.Test;
+
+public class SweepTokenRangesTest {
+    private static final CassandraServer SERVER_1 = CassandraServer.of(InetSocketAddress.createUnresolved("one", 9160));
+    private static final CassandraServer SERVER_2 = CassandraServer.of(InetSocketAddress.createUnresolved("two", 9160));
+    private static final CassandraServer SERVER_3 =
+            CassandraServer.of(InetSocketAddress.createUnresolved("three", 9160));
+
+    private static final byte[] EMPTY = PtBytes.EMPTY_BYTE_ARRAY;
+
+    private static final RangeMap<LightweightOppToken, ImmutableSet<CassandraServer>> RING =
+            ImmutableRangeMap.<LightweightOppToken, ImmutableSet<CassandraServer>>builder()
+                    .put(Range.atMost(token(0x10)), ImmutableSet.of(SERVER_1))
+                    .put(Range.openClosed(token(0x10), token(0x20)), ImmutableSet.of(SERVER_2))
+                    .put(Range.openClosed(token(0x20), token(0x30)), ImmutableSet.of(SERVER_3))
+                    .put(Range.greaterThan(token(0x30)), ImmutableSet.of(SERVER_1))
+                    .build();
+
+    @Test
+    public void splitsTableIntoTokenRangesOfRing() {
+        assertThat(SweepTokenRanges.split(RING, EMPTY))
+                .containsExactly(
+                        range(EMPTY, bytes(0x10), SERVER_1),
+                        range(bytes(0x10, 0x00), bytes(0x20), SERVER_2),
+                        range(bytes(0x20, 0x00), bytes(0x30), SERVER_3),
+                        range(bytes(0x30, 0x00), EMPTY, SERVER_1));
+    }
+
+    @Test
+    public void splitsOnlyRowsFromStartRow() {
+        assertThat(SweepTokenRanges.split(RING, bytes(0x25)))
+                .containsExactly(range(bytes(0x25), bytes(0x30), SERVER_3), range(bytes(0x30, 0x00), EMPTY, SERVER_1));
+    }
+
+    @Test
+    public void startRowOnTokenBoundaryStartsRangeAfterToken() {
+        assertThat(SweepTokenRanges.split(RING, bytes(0x30)))
+                .containsExactly(range(bytes(0x30), bytes(0x30), SERVER_3), range(bytes(0x30, 0x00), EMPTY, SERVER_1));
+    }
+
+    @Test
+    public void singleNodeRingIsOneRange() {
+        RangeMap<LightweightOppToken, ImmutableSet<CassandraServer>> ring =
+                ImmutableRangeMap.of(Range.all(), ImmutableSet.of(SERVER_1, SERVER_2));
+
+        assertThat(SweepTokenRanges.split(ring, bytes(0x25)))
+                .containsExactly(range(bytes(0x25), EMPTY, SERVER_1, SERVER_2));
+    }
+
+    @Test
+    public void skipsRangeEndingAtMinimumToken() {
+        RangeMap<LightweightOppToken, ImmutableSet<CassandraServer>> ring =
+                ImmutableRangeMap.<LightweightOppToken, ImmutableSet<CassandraServer>>builder()
+                        .put(Range.atMost(new LightweightOppToken(EMPTY)), ImmutableSet.of(SERVER_1))
+                        .put(Range.openClosed(new LightweightOppToken(EMPTY), token(0x10)), ImmutableSet.of(SERVER_2))
+                        .put(Range.greaterThan(token(0x10)), ImmutableSet.of(SERVER_1))
+                        .build();
+
+        assertThat(SweepTokenRanges.split(ring, EMPTY))
+                .containsExactly(range(bytes(0x00), bytes(0x10), SERVER_2), range(bytes(0x10, 0x00), EMPTY, SERVER_1));
+    }
+
+    @Test
+    public void doesNotSplitBeforeRingIsLoaded() {
+        assertThat(SweepTokenRanges.split(ImmutableRangeMap.of(), bytes(0x25)))
+                .containsExactly(range(bytes(0x25), EMPTY));
+    }
+
+    @Test
+    public void doesNotSplitRingWithGaps() {
+        RangeMap<LightweightOppToken, ImmutableSet<CassandraServer>> ring =
+                ImmutableRangeMap.<LightweightOppToken, ImmutableSet<CassandraServer>>builder()
+                        .put(Range.atMost(token(0x10)), ImmutableSet.of(SERVER_1))
+                        .put(Range.greaterThan(token(0x20)), ImmutableSet.of(SERVER_2))
+                        .build();
+
+        assertThat(SweepTokenRanges.split(ring, EMPTY)).containsExactly(range(EMPTY, EMPTY));
+    }
+
+    @Test
+    public void doesNotSplitRingNotCoveringEndOfTable() {
+        RangeMap<LightweightOppToken, ImmutableSet<CassandraServer>> ring =
+                ImmutableRangeMap.of(Range.atMost(token(0x10)), ImmutableSet.of(SERVER_1));
+
+        assertThat(SweepTokenRanges.split(ring, EMPTY)).containsExactly(range(EMPTY, EMPTY));
+    }
+
+    private static SweepTokenRange range(byte[] startRowInclusive, byte[] endRowInclusive, CassandraServer... owners) {
+        return SweepTokenRange.of(startRowInclusive, endRowInclusive, ImmutableSet.copyOf(owners));
+    }
+
+    private static LightweightOppToken token(int... bytes) {
+        return new LightweightOppToken(bytes(bytes));
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.cassandra.sweep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterators;
+import com.google.common.primitives.UnsignedBytes;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.CassandraServer;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class TokenRangeCandidateRowsForSweepingIteratorTest {
+    private static final CassandraServer SERVER_1 = CassandraServer.of(InetSocketAddress.createUnresolved("one", 9160));
+    private static final CassandraServer SERVER_2 = CassandraServer.of(InetSocketAddress.createUnresolved("two", 9160));
+    private static final CassandraServer SERVER_3 =
+            CassandraServer.of(InetSocketAddress.createUnresolved("three", 9160));
+
+    private static final int BATCH_SIZE = 2;
+
+    private static final SweepTokenRange FIRST_RANGE =
+            SweepTokenRange.of(PtBytes.EMPTY_BYTE_ARRAY, bytes(0x10), ImmutableSet.of(SERVER_1));
+    private static final SweepTokenRange SECOND_RANGE =
+            SweepTokenRange.of(bytes(0x10, 0x00), bytes(0x20), ImmutableSet.of(SERVER_2));
+    private static final SweepTokenRange THIRD_RANGE =
+            SweepTokenRange.of(bytes(0x20, 0x00), PtBytes.EMPTY_BYTE_ARRAY, ImmutableSet.of(SERVER_3));
+    private static final List<SweepTokenRange> RANGES = ImmutableList.of(FIRST_RANGE, SECOND_RANGE, THIRD_RANGE);
+
+    private final NavigableSet<byte[]> rows = new TreeSet<>(UnsignedBytes.lexicographicalComparator());
+
+    public TokenRangeCandidateRowsForSweepingIteratorTest() {
+        IntStream.of(0x01, 0x02, 0x03, 0x11, 0x12, 0x21, 0x22, 0x23).forEach(row -> rows.add(bytes(row)));
+    }
+
+    @Test
+    public void returnsBatchesOfEachRangeInTokenOrder() {
+        try (TokenRangeCandidateRowsForSweepingIterator iterator =
+                new TokenRangeCandidateRowsForSweepingIterator(RANGES, this::loadBatch, 3, 1)) {
+            assertThat(ImmutableList.copyOf(iterator).stream().map(this::rowNames))
+                    .containsExactly(
+                            ImmutableList.of(0x01, 0x02),
+                            ImmutableList.of(0x03),
+                            ImmutableList.of(0x11, 0x12),
+                            ImmutableList.of(0x21, 0x22),
+                            ImmutableList.of(0x23));
+        }
+    }
+
+    @Test
+    public void skipsRangesWithoutRows() {
+        rows.removeIf(row -> UnsignedBytes.toInt(row[0]) < 0x20);
+
+        try (TokenRangeCandidateRowsForSweepingIterator iterator =
+                new TokenRangeCandidateRowsForSweepingIterator(RANGES, this::loadBatch, 3, 1)) {
+            assertThat(ImmutableList.copyOf(iterator).stream().map(this::rowNames))
+                    .containsExactly(ImmutableList.of(0x21, 0x22), ImmutableList.of(0x23));
+        }
+    }
+
+    @Test
+    public void scansLaterRangesWhileEarlierRangeIsSlow() {
+        CountDownLatch secondRangeLoaded = new CountDownLatch(1);
+        BiFunction<SweepTokenRange, byte[], List<CandidateRowForSweeping>> loader = (range, startRow) -> {
+            if (range.equals(FIRST_RANGE)) {
+                await(secondRangeLoaded);
+            }
+            List<CandidateRowForSweeping> batch = loadBatch(range, startRow);
+            if (range.equals(SECOND_RANGE)) {
+                secondRangeLoaded.countDown();
+            }
+            return batch;
+        };
+
+        try (TokenRangeCandidateRowsForSweepingIterator iterator =
+                new TokenRangeCandidateRowsForSweepingIterator(RANGES, loader, 3, 1)) {
+            assertThat(rowNames(iterator.next())).containsExactly(0x01, 0x02);
+        }
+    }
+
+    @Test
+    public void scansEachHostForAtMostConfiguredNumberOfRangesAtOnce() {
+        List<SweepTokenRange> rangesOnOneHost = RANGES.stream()
+                .map(range -> SweepTokenRange.of(
+                        range.startRowInclusive(), range.endRowInclusive(), ImmutableSet.of(SERVER_1, SERVER_2)))
+                .collect(Collectors.toList());
+        AtomicInteger scansInFlight = new AtomicInteger();
+        AtomicInteger maxScansInFlight = new AtomicInteger();
+        BiFunction<SweepTokenRange, byte[], List<CandidateRowForSweeping>> loader = (range, startRow) -> {
+            maxScansInFlight.accumulateAndGet(scansInFlight.incrementAndGet(), Math::max);
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+            scansInFlight.decrementAndGet();
+            return loadBatch(range, startRow);
+        };
+
+        try (TokenRangeCandidateRowsForSweepingIterator iterator =
+                new TokenRangeCandidateRowsForSweepingIterator(rangesOnOneHost, loader, 3, 2)) {
+            assertThat(Iterators.size(iterator)).isEqualTo(5);
+        }
+        assertThat(maxScansInFlight).hasValueBetween(1, 2);
+    }
+
+    @Test
+    public void readsAtMostOneBatchAheadForRangesInWindow() {
+        List<SweepTokenRange> loadedRanges = new CopyOnWriteArrayList<>();
+        CountDownLatch loads = new CountDownLatch(3);
+        BiFunction<SweepTokenRange, byte[], List<CandidateRowForSweeping>> loader = (range, startRow) -> {
+            loadedRanges.add(range);
+            loads.countDown();
+            return loadBatch(range, startRow);
+        };
+
+        try (TokenRangeCandidateRowsForSweepingIterator iterator =
+                new TokenRangeCandidateRowsForSweepingIterator(RANGES, loader, 2, 1)) {
+            iterator.next();
+            await(loads);
+
+            // The first batch of each range in the window, and the second batch of the first range once it was taken
+            assertThat(loadedRanges).containsExactlyInAnyOrder(FIRST_RANGE, FIRST_RANGE, SECOND_RANGE);
+        }
+    }
+
+    @Test
+    public void propagatesFailureToLoadBatch() {
+        BiFunction<SweepTokenRange, byte[], List<CandidateRowForSweeping>> loader = (range, startRow) -> {
+            if (range.equals(SECOND_RANGE)) {
+                throw new IllegalStateException("Cassandra is unavailable");
+            }
+            return loadBatch(range, startRow);
+        };
+
+        try (TokenRangeCandidateRowsForSweepingIterator iterator =
+                new TokenRangeCandidateRowsForSweepingIterator(RANGES, loader, 3, 1)) {
+            assertThat(rowNames(iterator.next())).containsExactly(0x01, 0x02);
+            assertThat(rowNames(iterator.next())).containsExactly(0x03);
+            assertThatThrownBy(iterator::next)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Cassandra is unavailable");
+        }
+    }
+
+    private List<CandidateRowForSweeping> loadBatch(SweepTokenRange range, byte[] startRow) {
+        NavigableSet<byte[]> rowsInRange = range.endRowInclusive().length == 0
+                ? rows.tailSet(startRow, true)
+                : rows.subSet(startRow, true, range.endRowInclusive(), true);
+        List<CandidateRowForSweeping> batch = new ArrayList<>();
+        for (byte[] row : rowsInRange) {
+            if (batch.size() == BATCH_SIZE) {
+                break;
+            }
+            batch.add(CandidateRowForSweeping.of(row, ImmutableList.of()));
+        }
+        return batch;
+    }
+
+    private List<Integer> rowNames(List<CandidateRowForSweeping> batch) {
+        return batch.stream()
+                .map(row -> UnsignedBytes.toInt(row.rowName()[0]))
+                .collect(Collectors.toList());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+}
@@ -1075,6 +1075,15 @@ public final class AllValueTypesTestTable implements
 
     public static final class AllValueTypesTestRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Column0 hydratedColumn0;
+        private Column1 hydratedColumn1;
+        private Column10 hydratedColumn10;
+        private Column2 hydratedColumn2;
+        private Column3 hydratedColumn3;
+        private Column4 hydratedColumn4;
+        private Column5 hydratedColumn5;
+        private Column6 hydratedColumn6;
+        private Column9 hydratedColumn9;
 
         public static AllValueTypesTestRowResult of(RowResult<byte[]> row) {
             return new AllValueTypesTestRowResult(row);
@@ -1152,75 +1161,91 @@ public final class AllValueTypesTestTable implements
         }
 
         public Long getColumn0() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c0"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn0 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c0"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn0 = Column0.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column0 value = Column0.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn0.getValue();
         }
 
         public Long getColumn1() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c1"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn1 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c1"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn1 = Column1.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column1 value = Column1.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn1.getValue();
         }
 
         public UUID getColumn10() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c10"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn10 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c10"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn10 = Column10.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column10 value = Column10.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn10.getValue();
         }
 
         public Long getColumn2() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c2"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn2 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c2"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn2 = Column2.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column2 value = Column2.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn2.getValue();
         }
 
         public Long getColumn3() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c3"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn3 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c3"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn3 = Column3.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column3 value = Column3.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn3.getValue();
         }
 
         public Sha256Hash getColumn4() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c4"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn4 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c4"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn4 = Column4.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column4 value = Column4.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn4.getValue();
         }
 
         public String getColumn5() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c5"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn5 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c5"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn5 = Column5.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column5 value = Column5.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn5.getValue();
         }
 
         public String getColumn6() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c6"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn6 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c6"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn6 = Column6.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column6 value = Column6.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn6.getValue();
         }
 
         public byte[] getColumn7() {
@@ -1242,12 +1267,14 @@ public final class AllValueTypesTestTable implements
         }
 
         public Long getColumn9() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c9"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn9 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c9"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn9 = Column9.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column9 value = Column9.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn9.getValue();
         }
 
         public static Function<AllValueTypesTestRowResult, Long> getColumn0Fun() {
@@ -1913,6 +1940,10 @@ public final class AllValueTypesTestTable implements
         }
     }
 
+    public Optional<AllValueTypesTestRowResult> getRow(AllValueTypesTestRow row, Collection<AllValueTypesTestNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<AllValueTypesTestRowResult> getRows(Iterable<AllValueTypesTestRow> rows) {
         return getRows(rows, allColumns);
@@ -1928,6 +1959,10 @@ public final class AllValueTypesTestTable implements
         return rowResults;
     }
 
+    public List<AllValueTypesTestRowResult> getRows(Iterable<AllValueTypesTestRow> rows, Collection<AllValueTypesTestNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<AllValueTypesTestNamedColumnValue<?>> getRowColumns(AllValueTypesTestRow row) {
         return getRowColumns(row, allColumns);
@@ -2133,5 +2168,5 @@ public final class AllValueTypesTestTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "Wiqs1OWnWhpAhvVYVCck2w==";
+    static String __CLASS_HASH = "Spnl/aabIX/5hpUJyDf37A==";
 }
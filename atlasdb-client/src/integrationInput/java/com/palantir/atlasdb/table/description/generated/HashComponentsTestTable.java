@@ -338,6 +338,7 @@ public final class HashComponentsTestTable implements
 
     public static final class HashComponentsTestRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Column hydratedColumn;
 
         public static HashComponentsTestRowResult of(RowResult<byte[]> row) {
             return new HashComponentsTestRowResult(row);
@@ -375,12 +376,14 @@ public final class HashComponentsTestTable implements
         }
 
         public String getColumn() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn = Column.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column value = Column.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn.getValue();
         }
 
         public static Function<HashComponentsTestRowResult, String> getColumnFun() {
@@ -506,6 +509,10 @@ public final class HashComponentsTestTable implements
         }
     }
 
+    public Optional<HashComponentsTestRowResult> getRow(HashComponentsTestRow row, Collection<HashComponentsTestNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<HashComponentsTestRowResult> getRows(Iterable<HashComponentsTestRow> rows) {
         return getRows(rows, allColumns);
@@ -521,6 +528,10 @@ public final class HashComponentsTestTable implements
         return rowResults;
     }
 
+    public List<HashComponentsTestRowResult> getRows(Iterable<HashComponentsTestRow> rows, Collection<HashComponentsTestNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<HashComponentsTestNamedColumnValue<?>> getRowColumns(HashComponentsTestRow row) {
         return getRowColumns(row, allColumns);
@@ -788,5 +799,5 @@ public final class HashComponentsTestTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "mVbrY0jjQd3NuKOQiV/PKg==";
+    static String __CLASS_HASH = "AwlzN4N7g6r9sIlKTdBebw==";
 }
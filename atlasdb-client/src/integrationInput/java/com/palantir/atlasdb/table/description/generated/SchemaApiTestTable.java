@@ -357,6 +357,7 @@ public final class SchemaApiTestTable implements
 
     public static final class SchemaApiTestRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Column1 hydratedColumn1;
 
         public static SchemaApiTestRowResult of(RowResult<byte[]> row) {
             return new SchemaApiTestRowResult(row);
@@ -398,12 +399,14 @@ public final class SchemaApiTestTable implements
         }
 
         public Long getColumn1() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn1 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn1 = Column1.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column1 value = Column1.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn1.getValue();
         }
 
         public com.palantir.atlasdb.table.description.test.StringValue getColumn2() {
@@ -592,6 +595,10 @@ public final class SchemaApiTestTable implements
         }
     }
 
+    public Optional<SchemaApiTestRowResult> getRow(SchemaApiTestRow row, Collection<SchemaApiTestNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<SchemaApiTestRowResult> getRows(Iterable<SchemaApiTestRow> rows) {
         return getRows(rows, allColumns);
@@ -607,6 +614,10 @@ public final class SchemaApiTestTable implements
         return rowResults;
     }
 
+    public List<SchemaApiTestRowResult> getRows(Iterable<SchemaApiTestRow> rows, Collection<SchemaApiTestNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<SchemaApiTestNamedColumnValue<?>> getRowColumns(SchemaApiTestRow row) {
         return getRowColumns(row, allColumns);
@@ -691,6 +702,67 @@ public final class SchemaApiTestTable implements
         return transformed;
     }
 
+    public com.google.common.util.concurrent.ListenableFuture<Optional<SchemaApiTestRowResult>> getRowAsync(SchemaApiTestRow row) {
+        return getRowAsync(row, Arrays.asList(SchemaApiTestNamedColumn.values()));
+    }
+
+    public com.google.common.util.concurrent.ListenableFuture<Optional<SchemaApiTestRowResult>> getRowAsync(SchemaApiTestRow row, Collection<SchemaApiTestNamedColumn> columns) {
+        return com.google.common.util.concurrent.Futures.transform(
+                getRowsAsync(ImmutableSet.of(row), columns),
+                rowResults -> rowResults.isEmpty() ? Optional.<SchemaApiTestRowResult>empty() : Optional.of(rowResults.get(0)),
+                com.google.common.util.concurrent.MoreExecutors.directExecutor());
+    }
+
+    public com.google.common.util.concurrent.ListenableFuture<List<SchemaApiTestRowResult>> getRowsAsync(Iterable<SchemaApiTestRow> rows) {
+        return getRowsAsync(rows, Arrays.asList(SchemaApiTestNamedColumn.values()));
+    }
+
+    public com.google.common.util.concurrent.ListenableFuture<List<SchemaApiTestRowResult>> getRowsAsync(Iterable<SchemaApiTestRow> rows, Collection<SchemaApiTestNamedColumn> columns) {
+        Set<Cell> cells = Sets.newHashSet();
+        for (byte[] row : Persistables.persistAll(rows)) {
+            for (SchemaApiTestNamedColumn column : columns) {
+                cells.add(Cell.create(row, column.getShortName()));
+            }
+        }
+        return com.google.common.util.concurrent.Futures.transform(t.getAsync(tableRef, cells), results -> {
+            List<SchemaApiTestRowResult> rowResults = Lists.newArrayList();
+            for (RowResult<byte[]> row : com.palantir.atlasdb.keyvalue.impl.RowResults.viewOfMap(Cells.breakCellsUpByRow(results))) {
+                rowResults.add(SchemaApiTestRowResult.of(row));
+            }
+            return rowResults;
+        }, com.google.common.util.concurrent.MoreExecutors.directExecutor());
+    }
+
+    public com.google.common.util.concurrent.ListenableFuture<Map<SchemaApiTestRow, Long>> getColumn1sAsync(Collection<SchemaApiTestRow> rows) {
+        Map<Cell, SchemaApiTestRow> cells = Maps.newHashMapWithExpectedSize(rows.size());
+        for (SchemaApiTestRow row : rows) {
+            cells.put(Cell.create(row.persistToBytes(), PtBytes.toCachedBytes("c")), row);
+        }
+        return com.google.common.util.concurrent.Futures.transform(t.getAsync(tableRef, cells.keySet()), results -> {
+            Map<SchemaApiTestRow, Long> ret = Maps.newHashMapWithExpectedSize(results.size());
+            for (Entry<Cell, byte[]> e : results.entrySet()) {
+                Long val = Column1.BYTES_HYDRATOR.hydrateFromBytes(e.getValue()).getValue();
+                ret.put(cells.get(e.getKey()), val);
+            }
+            return ret;
+        }, com.google.common.util.concurrent.MoreExecutors.directExecutor());
+    }
+
+    public com.google.common.util.concurrent.ListenableFuture<Map<SchemaApiTestRow, com.palantir.atlasdb.table.description.test.StringValue>> getColumn2sAsync(Collection<SchemaApiTestRow> rows) {
+        Map<Cell, SchemaApiTestRow> cells = Maps.newHashMapWithExpectedSize(rows.size());
+        for (SchemaApiTestRow row : rows) {
+            cells.put(Cell.create(row.persistToBytes(), PtBytes.toCachedBytes("d")), row);
+        }
+        return com.google.common.util.concurrent.Futures.transform(t.getAsync(tableRef, cells.keySet()), results -> {
+            Map<SchemaApiTestRow, com.palantir.atlasdb.table.description.test.StringValue> ret = Maps.newHashMapWithExpectedSize(results.size());
+            for (Entry<Cell, byte[]> e : results.entrySet()) {
+                com.palantir.atlasdb.table.description.test.StringValue val = Column2.BYTES_HYDRATOR.hydrateFromBytes(e.getValue()).getValue();
+                ret.put(cells.get(e.getKey()), val);
+            }
+            return ret;
+        }, com.google.common.util.concurrent.MoreExecutors.directExecutor());
+    }
+
     private RangeRequest optimizeRangeRequest(RangeRequest range) {
         if (range.getColumnNames().isEmpty()) {
             return range.getBuilder().retainColumns(allColumns).build();
@@ -874,5 +946,5 @@ public final class SchemaApiTestTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "cFj0qWUr9nog+ayklatsig==";
+    static String __CLASS_HASH = "S183vmMMhSUR22Yku1oWeA==";
 }
@@ -6,6 +6,9 @@ import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
@@ -81,6 +84,22 @@ public class SchemaApiTestV2Table {
         }
     }
 
+    /**
+     * Returns a future of the value for column Column1 and specified row components.
+     * The read goes through Transaction#getAsync and does not block the calling thread.
+     */
+    public ListenableFuture<Optional<Long>> getColumn1Async(String component1) {
+        SchemaApiTestTable.SchemaApiTestRow row = SchemaApiTestTable.SchemaApiTestRow.of(component1);
+        Cell cell = Cell.create(row.persistToBytes(), PtBytes.toCachedBytes("c"));
+        return Futures.transform(
+                t.getAsync(tableRef, ImmutableSet.of(cell)),
+                results -> Optional.ofNullable(results.get(cell))
+                        .map(bytes -> SchemaApiTestTable.Column1.BYTES_HYDRATOR
+                                .hydrateFromBytes(bytes)
+                                .getValue()),
+                MoreExecutors.directExecutor());
+    }
+
     /**
      * Returns a mapping from the specified row keys to their value at column Column1.
      * As the Column1 values are all loaded in memory, do not use for large amounts of data.
@@ -183,6 +202,22 @@ public class SchemaApiTestV2Table {
         }
     }
 
+    /**
+     * Returns a future of the value for column Column2 and specified row components.
+     * The read goes through Transaction#getAsync and does not block the calling thread.
+     */
+    public ListenableFuture<Optional<StringValue>> getColumn2Async(String component1) {
+        SchemaApiTestTable.SchemaApiTestRow row = SchemaApiTestTable.SchemaApiTestRow.of(component1);
+        Cell cell = Cell.create(row.persistToBytes(), PtBytes.toCachedBytes("d"));
+        return Futures.transform(
+                t.getAsync(tableRef, ImmutableSet.of(cell)),
+                results -> Optional.ofNullable(results.get(cell))
+                        .map(bytes -> SchemaApiTestTable.Column2.BYTES_HYDRATOR
+                                .hydrateFromBytes(bytes)
+                                .getValue()),
+                MoreExecutors.directExecutor());
+    }
+
     /**
      * Returns a mapping from the specified row keys to their value at column Column2.
      * As the Column2 values are all loaded in memory, do not use for large amounts of data.
@@ -28,6 +28,7 @@ import com.palantir.atlasdb.keyvalue.api.CheckAndSetRequest;
 import com.palantir.atlasdb.keyvalue.api.ClusterAvailabilityStatus;
 import com.palantir.atlasdb.keyvalue.api.ColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
 import com.palantir.atlasdb.keyvalue.api.KeyAlreadyExistsException;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
 import com.palantir.atlasdb.keyvalue.api.MultiCheckAndSetException;
@@ -41,9 +42,14 @@ import com.palantir.atlasdb.keyvalue.api.Value;
 import com.palantir.common.base.ClosableIterator;
 import com.palantir.util.paging.TokenBackedBasicResultsPage;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An implementation of KeyValueService which delegates reads to the first KeyValueService and
@@ -309,6 +315,34 @@ public class DualWriteKeyValueService implements KeyValueService {
         return delegate1.shouldTriggerCompactions() || delegate2.shouldTriggerCompactions();
     }
 
+    /**
+     * Compacting a table compacts it in both delegates, so the estimates of both for a table are added together. If
+     * only one delegate can estimate its candidates, its estimates are used alone.
+     */
+    @Override
+    public Optional<List<CompactionCandidate>> getCompactionCandidates() {
+        Optional<List<CompactionCandidate>> candidates1 = delegate1.getCompactionCandidates();
+        Optional<List<CompactionCandidate>> candidates2 = delegate2.getCompactionCandidates();
+        if (!candidates1.isPresent() || !candidates2.isPresent()) {
+            return candidates1.isPresent() ? candidates1 : candidates2;
+        }
+        Map<TableReference, CompactionCandidate> candidatesByTable = new HashMap<>();
+        Stream.concat(candidates1.get().stream(), candidates2.get().stream())
+                .forEach(candidate -> candidatesByTable.merge(
+                        candidate.tableRef(), candidate, DualWriteKeyValueService::combineEstimates));
+        return Optional.of(candidatesByTable.values().stream()
+                .sorted(Comparator.comparingDouble(CompactionCandidate::estimatedReclaimableBytesPerSecond)
+                        .reversed())
+                .collect(Collectors.toList()));
+    }
+
+    private static CompactionCandidate combineEstimates(CompactionCandidate first, CompactionCandidate second) {
+        return CompactionCandidate.of(
+                first.tableRef(),
+                first.estimatedReclaimableBytes() + second.estimatedReclaimableBytes(),
+                first.estimatedCompactionDuration().plus(second.estimatedCompactionDuration()));
+    }
+
     @Override
     public List<byte[]> getRowKeysInRange(TableReference tableRef, byte[] startRow, byte[] endRow, int maxResults) {
         return delegate1.getRowKeysInRange(tableRef, startRow, endRow, maxResults);
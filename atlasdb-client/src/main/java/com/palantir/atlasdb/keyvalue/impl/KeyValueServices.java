@@ -226,6 +226,13 @@ public final class KeyValueServices {
                 return Futures.immediateFuture(keyValueService.get(tableRef, timestampByCell));
             }
 
+            @Override
+            public ListenableFuture<Void> multiPutAsync(
+                    Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+                keyValueService.multiPut(valuesByTable, timestamp);
+                return Futures.immediateVoidFuture();
+            }
+
             @Override
             public void close() {
                 // NoOp
@@ -32,6 +32,7 @@ import com.palantir.atlasdb.keyvalue.api.CheckAndSetRequest;
 import com.palantir.atlasdb.keyvalue.api.ClusterAvailabilityStatus;
 import com.palantir.atlasdb.keyvalue.api.ColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
 import com.palantir.atlasdb.keyvalue.api.KeyAlreadyExistsException;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
 import com.palantir.atlasdb.keyvalue.api.MultiCheckAndSetException;
@@ -50,6 +51,7 @@ import com.palantir.util.paging.TokenBackedBasicResultsPage;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -341,6 +343,23 @@ public final class ProfilingKeyValueService implements KeyValueService {
         });
     }
 
+    @Override
+    public ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        long startTime = System.currentTimeMillis();
+        return KvsProfilingLogger.maybeLogAsync(
+                () -> delegate.multiPutAsync(valuesByTable, timestamp),
+                (logger, stopwatch) -> logger.log(
+                        "Call to KVS.multiPutAsync",
+                        LoggingArgs.startTimeMillis(startTime),
+                        LoggingArgs.tableCount(valuesByTable.keySet().size()),
+                        LoggingArgs.cellCount(valuesByTable.values().stream()
+                                .mapToInt(Map::size)
+                                .sum()),
+                        LoggingArgs.durationMillis(stopwatch)),
+                (logger, result) -> {});
+    }
+
     @Override
     public void put(TableReference tableRef, Map<Cell, byte[]> values, long timestamp) {
         maybeLog(
@@ -534,6 +553,11 @@ public final class ProfilingKeyValueService implements KeyValueService {
         return delegate.shouldTriggerCompactions();
     }
 
+    @Override
+    public Optional<List<CompactionCandidate>> getCompactionCandidates() {
+        return maybeLog(delegate::getCompactionCandidates, logTime("getCompactionCandidates"));
+    }
+
     @Override
     public List<byte[]> getRowKeysInRange(TableReference tableRef, byte[] startRow, byte[] endRow, int maxResults) {
         return maybeLog(
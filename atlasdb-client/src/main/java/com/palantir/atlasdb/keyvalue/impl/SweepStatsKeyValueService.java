@@ -26,6 +26,9 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ClusterAvailabilityStatus;
@@ -133,6 +136,22 @@ public final class SweepStatsKeyValueService extends ForwardingKeyValueService {
     @Override
     public void multiPut(Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
         delegate().multiPut(valuesByTable, timestamp);
+        recordMultiPut(valuesByTable);
+    }
+
+    @Override
+    public ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        return Futures.transform(
+                delegate().multiPutAsync(valuesByTable, timestamp),
+                result -> {
+                    recordMultiPut(valuesByTable);
+                    return result;
+                },
+                MoreExecutors.directExecutor());
+    }
+
+    private void recordMultiPut(Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable) {
         if (isEnabled.get()) {
             int newWrites = 0;
             long writesSize = 0;
@@ -34,6 +34,7 @@ import com.palantir.atlasdb.keyvalue.api.CheckAndSetRequest;
 import com.palantir.atlasdb.keyvalue.api.ClusterAvailabilityStatus;
 import com.palantir.atlasdb.keyvalue.api.ColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
 import com.palantir.atlasdb.keyvalue.api.KeyAlreadyExistsException;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
 import com.palantir.atlasdb.keyvalue.api.MultiCheckAndSetException;
@@ -60,6 +61,7 @@ import com.palantir.util.paging.TokenBackedBasicResultsPage;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -408,6 +410,23 @@ public final class TracingKeyValueService extends ForwardingObject implements Ke
         }
     }
 
+    @Override
+    public ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        // As with getAsync, we'll be completing in a different thread, so we can only clear the current statistics.
+        TraceStatistics.getCurrentAndClear();
+        TraceStatistic current = TraceStatistics.getReferenceToCurrent();
+
+        DetachedSpan detachedSpan = DetachedSpan.start("atlasdb-kvs.multiPutAsync");
+        ListenableFuture<Void> future = delegate().multiPutAsync(valuesByTable, timestamp);
+
+        return attachDetachedSpanCompletion(detachedSpan, future, tracingExecutorService, sink -> {
+            sink.statistics(current);
+            sink.size("values", valuesByTable);
+            sink.timestamp(timestamp);
+        });
+    }
+
     @Override
     public void put(TableReference tableRef, Map<Cell, byte[]> values, long timestamp) {
         //noinspection unused - try-with-resources closes trace
@@ -499,6 +518,14 @@ public final class TracingKeyValueService extends ForwardingObject implements Ke
         return delegate().shouldTriggerCompactions();
     }
 
+    @Override
+    public Optional<List<CompactionCandidate>> getCompactionCandidates() {
+        //noinspection unused - try-with-resources closes trace
+        try (CloseableTracer trace = startLocalTrace("atlasdb-kvs.getCompactionCandidates")) {
+            return delegate().getCompactionCandidates();
+        }
+    }
+
     @Override
     public List<byte[]> getRowKeysInRange(TableReference tableRef, byte[] startRow, byte[] endRow, int maxResults) {
         try (CloseableTracer trace = startLocalTrace("atlasdb-kvs.getRowKeysInRange", sink -> {
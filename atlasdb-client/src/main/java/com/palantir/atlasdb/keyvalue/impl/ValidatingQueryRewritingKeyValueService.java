@@ -22,6 +22,8 @@ import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ClusterAvailabilityStatus;
@@ -183,6 +185,22 @@ public class ValidatingQueryRewritingKeyValueService extends ForwardingKeyValueS
         return delegate.getRows(tableRef, rows, columnSelection, timestamp);
     }
 
+    @Override
+    public ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        if (valuesByTable.isEmpty()) {
+            return Futures.immediateVoidFuture();
+        }
+        if (valuesByTable.size() == 1) {
+            Preconditions.checkArgument(timestamp != Long.MAX_VALUE);
+            Preconditions.checkArgument(timestamp >= 0);
+            Preconditions.checkArgument(
+                    !Iterables.getOnlyElement(valuesByTable.keySet()).equals(TransactionConstants.TRANSACTION_TABLE),
+                    TRANSACTION_ERROR);
+        }
+        return delegate.multiPutAsync(valuesByTable, timestamp);
+    }
+
     @Override
     public void multiPut(Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp)
             throws KeyAlreadyExistsException {
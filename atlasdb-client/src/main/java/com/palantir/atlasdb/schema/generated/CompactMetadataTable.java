@@ -295,6 +295,7 @@ public final class CompactMetadataTable implements
 
     public static final class CompactMetadataRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private LastCompactTime hydratedLastCompactTime;
 
         public static CompactMetadataRowResult of(RowResult<byte[]> row) {
             return new CompactMetadataRowResult(row);
@@ -332,12 +333,14 @@ public final class CompactMetadataTable implements
         }
 
         public Long getLastCompactTime() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("t"));
-            if (bytes == null) {
-                return null;
+            if (hydratedLastCompactTime == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("t"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedLastCompactTime = LastCompactTime.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            LastCompactTime value = LastCompactTime.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedLastCompactTime.getValue();
         }
 
         public static Function<CompactMetadataRowResult, Long> getLastCompactTimeFun() {
@@ -463,6 +466,10 @@ public final class CompactMetadataTable implements
         }
     }
 
+    public Optional<CompactMetadataRowResult> getRow(CompactMetadataRow row, Collection<CompactMetadataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<CompactMetadataRowResult> getRows(Iterable<CompactMetadataRow> rows) {
         return getRows(rows, allColumns);
@@ -478,6 +485,10 @@ public final class CompactMetadataTable implements
         return rowResults;
     }
 
+    public List<CompactMetadataRowResult> getRows(Iterable<CompactMetadataRow> rows, Collection<CompactMetadataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<CompactMetadataNamedColumnValue<?>> getRowColumns(CompactMetadataRow row) {
         return getRowColumns(row, allColumns);
@@ -683,5 +694,5 @@ public final class CompactMetadataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "PSwZcMysyzWemW+V1hGphQ==";
+    static String __CLASS_HASH = "tYrE4UFuxBtu8KjcBwZ/Ew==";
 }
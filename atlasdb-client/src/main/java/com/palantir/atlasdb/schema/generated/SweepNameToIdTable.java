@@ -477,6 +477,10 @@ public final class SweepNameToIdTable implements
         }
     }
 
+    public Optional<SweepNameToIdRowResult> getRow(SweepNameToIdRow row, Collection<SweepNameToIdNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<SweepNameToIdRowResult> getRows(Iterable<SweepNameToIdRow> rows) {
         return getRows(rows, allColumns);
@@ -492,6 +496,10 @@ public final class SweepNameToIdTable implements
         return rowResults;
     }
 
+    public List<SweepNameToIdRowResult> getRows(Iterable<SweepNameToIdRow> rows, Collection<SweepNameToIdNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<SweepNameToIdNamedColumnValue<?>> getRowColumns(SweepNameToIdRow row) {
         return getRowColumns(row, allColumns);
@@ -697,5 +705,5 @@ public final class SweepNameToIdTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "ZVl8vtH0bWDeCq5tKMA3Aw==";
+    static String __CLASS_HASH = "oNWYbor4e61nNXw1Cip7IA==";
 }
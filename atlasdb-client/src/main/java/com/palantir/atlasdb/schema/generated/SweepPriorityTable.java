@@ -535,6 +535,11 @@ public final class SweepPriorityTable implements
 
     public static final class SweepPriorityRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private CellsDeleted hydratedCellsDeleted;
+        private CellsExamined hydratedCellsExamined;
+        private LastSweepTime hydratedLastSweepTime;
+        private MinimumSweptTimestamp hydratedMinimumSweptTimestamp;
+        private WriteCount hydratedWriteCount;
 
         public static SweepPriorityRowResult of(RowResult<byte[]> row) {
             return new SweepPriorityRowResult(row);
@@ -588,48 +593,58 @@ public final class SweepPriorityTable implements
         }
 
         public Long getCellsDeleted() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("d"));
-            if (bytes == null) {
-                return null;
+            if (hydratedCellsDeleted == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("d"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedCellsDeleted = CellsDeleted.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            CellsDeleted value = CellsDeleted.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedCellsDeleted.getValue();
         }
 
         public Long getCellsExamined() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("e"));
-            if (bytes == null) {
-                return null;
+            if (hydratedCellsExamined == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("e"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedCellsExamined = CellsExamined.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            CellsExamined value = CellsExamined.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedCellsExamined.getValue();
         }
 
         public Long getLastSweepTime() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("t"));
-            if (bytes == null) {
-                return null;
+            if (hydratedLastSweepTime == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("t"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedLastSweepTime = LastSweepTime.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            LastSweepTime value = LastSweepTime.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedLastSweepTime.getValue();
         }
 
         public Long getMinimumSweptTimestamp() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("m"));
-            if (bytes == null) {
-                return null;
+            if (hydratedMinimumSweptTimestamp == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("m"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedMinimumSweptTimestamp = MinimumSweptTimestamp.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            MinimumSweptTimestamp value = MinimumSweptTimestamp.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedMinimumSweptTimestamp.getValue();
         }
 
         public Long getWriteCount() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("w"));
-            if (bytes == null) {
-                return null;
+            if (hydratedWriteCount == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("w"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedWriteCount = WriteCount.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            WriteCount value = WriteCount.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedWriteCount.getValue();
         }
 
         public static Function<SweepPriorityRowResult, Long> getCellsDeletedFun() {
@@ -971,6 +986,10 @@ public final class SweepPriorityTable implements
         }
     }
 
+    public Optional<SweepPriorityRowResult> getRow(SweepPriorityRow row, Collection<SweepPriorityNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<SweepPriorityRowResult> getRows(Iterable<SweepPriorityRow> rows) {
         return getRows(rows, allColumns);
@@ -986,6 +1005,10 @@ public final class SweepPriorityTable implements
         return rowResults;
     }
 
+    public List<SweepPriorityRowResult> getRows(Iterable<SweepPriorityRow> rows, Collection<SweepPriorityNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<SweepPriorityNamedColumnValue<?>> getRowColumns(SweepPriorityRow row) {
         return getRowColumns(row, allColumns);
@@ -1253,5 +1276,5 @@ public final class SweepPriorityTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "rABMHBdCo+LhmxyLoeFFwQ==";
+    static String __CLASS_HASH = "8s9EFi8sMii3lcuMrQOfeQ==";
 }
@@ -321,6 +321,7 @@ public final class SweepShardProgressTable implements
 
     public static final class SweepShardProgressRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Value hydratedValue;
 
         public static SweepShardProgressRowResult of(RowResult<byte[]> row) {
             return new SweepShardProgressRowResult(row);
@@ -358,12 +359,14 @@ public final class SweepShardProgressTable implements
         }
 
         public Long getValue() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("v"));
-            if (bytes == null) {
-                return null;
+            if (hydratedValue == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("v"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedValue = Value.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Value value = Value.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedValue.getValue();
         }
 
         public static Function<SweepShardProgressRowResult, Long> getValueFun() {
@@ -489,6 +492,10 @@ public final class SweepShardProgressTable implements
         }
     }
 
+    public Optional<SweepShardProgressRowResult> getRow(SweepShardProgressRow row, Collection<SweepShardProgressNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<SweepShardProgressRowResult> getRows(Iterable<SweepShardProgressRow> rows) {
         return getRows(rows, allColumns);
@@ -504,6 +511,10 @@ public final class SweepShardProgressTable implements
         return rowResults;
     }
 
+    public List<SweepShardProgressRowResult> getRows(Iterable<SweepShardProgressRow> rows, Collection<SweepShardProgressNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<SweepShardProgressNamedColumnValue<?>> getRowColumns(SweepShardProgressRow row) {
         return getRowColumns(row, allColumns);
@@ -709,5 +720,5 @@ public final class SweepShardProgressTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "2Fj81SsG3WRpPjQ1kYDw3A==";
+    static String __CLASS_HASH = "LGZ2+YdAtS7MLCkiM1DvEg==";
 }
@@ -295,6 +295,7 @@ public final class TableClearsTable implements
 
     public static final class TableClearsRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private LastClearedTimestamp hydratedLastClearedTimestamp;
 
         public static TableClearsRowResult of(RowResult<byte[]> row) {
             return new TableClearsRowResult(row);
@@ -332,12 +333,14 @@ public final class TableClearsTable implements
         }
 
         public Long getLastClearedTimestamp() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("l"));
-            if (bytes == null) {
-                return null;
+            if (hydratedLastClearedTimestamp == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("l"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedLastClearedTimestamp = LastClearedTimestamp.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            LastClearedTimestamp value = LastClearedTimestamp.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedLastClearedTimestamp.getValue();
         }
 
         public static Function<TableClearsRowResult, Long> getLastClearedTimestampFun() {
@@ -463,6 +466,10 @@ public final class TableClearsTable implements
         }
     }
 
+    public Optional<TableClearsRowResult> getRow(TableClearsRow row, Collection<TableClearsNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<TableClearsRowResult> getRows(Iterable<TableClearsRow> rows) {
         return getRows(rows, allColumns);
@@ -478,6 +485,10 @@ public final class TableClearsTable implements
         return rowResults;
     }
 
+    public List<TableClearsRowResult> getRows(Iterable<TableClearsRow> rows, Collection<TableClearsNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<TableClearsNamedColumnValue<?>> getRowColumns(TableClearsRow row) {
         return getRowColumns(row, allColumns);
@@ -683,5 +694,5 @@ public final class TableClearsTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "Wm/9d03F9WHgPC5jjTUOaA==";
+    static String __CLASS_HASH = "MQ8ZIkZeiU/Tgtb6z9W4nA==";
 }
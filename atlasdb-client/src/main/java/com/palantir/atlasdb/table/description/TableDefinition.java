@@ -362,6 +362,21 @@ public class TableDefinition extends AbstractDefinition {
         this.v2TableEnabled = true;
     }
 
+    public boolean hasAsyncMethodsEnabled() {
+        return this.asyncMethodsEnabled;
+    }
+
+    /**
+     * Enables generation of additional table methods that return a {@code ListenableFuture}, reading through
+     * {@code Transaction#getAsync} instead of blocking the calling thread. Existing generated methods are unchanged.
+     *
+     * This is a beta feature. API stability is not guaranteed, and the risk of defects is higher.
+     */
+    @Beta
+    public void enableAsyncMethods() {
+        this.asyncMethodsEnabled = true;
+    }
+
     public void validate() {
         toTableMetadata();
         getConstraintMetadata();
@@ -397,6 +412,7 @@ public class TableDefinition extends AbstractDefinition {
     private LogSafety tableNameSafety = LogSafety.UNSAFE;
     private LogSafety defaultNamedComponentLogSafety = LogSafety.UNSAFE;
     private boolean v2TableEnabled = false;
+    private boolean asyncMethodsEnabled = false;
 
     public TableMetadata toTableMetadata() {
         com.palantir.logsafe.Preconditions.checkState(!rowNameComponents.isEmpty(), "No row name components defined.");
@@ -19,7 +19,9 @@ import static com.palantir.atlasdb.table.description.render.ColumnRenderers.Type
 import static com.palantir.atlasdb.table.description.render.ColumnRenderers.VarName;
 import static com.palantir.atlasdb.table.description.render.ColumnRenderers.short_name;
 
+import com.palantir.atlasdb.table.description.ColumnValueDescription;
 import com.palantir.atlasdb.table.description.NamedColumnDescription;
+import com.palantir.atlasdb.table.description.ValueType;
 import java.util.SortedSet;
 
 @SuppressWarnings("checkstyle:AvoidNestedBlocks")
@@ -70,6 +72,11 @@ class NamedRowResultRenderer extends Renderer {
 
     private void fields() {
         line("private final RowResult<byte[]> row;");
+        for (NamedColumnDescription col : cols) {
+            if (isCachedOnceHydrated(col)) {
+                line("private ", Renderers.CamelCase(col.getLongName()), " hydrated", VarName(col), ";");
+            }
+        }
     }
 
     private void staticFactory() {
@@ -139,25 +146,62 @@ class NamedRowResultRenderer extends Renderer {
         line("}");
     }
 
+    /**
+     * Columns are hydrated on first access, so callers only pay for the columns they actually read. Immutable values
+     * are then cached; values that callers could mutate are hydrated again on every access, so that one caller's
+     * changes are never seen by another.
+     */
     private void getCol(NamedColumnDescription col) {
         line("public ", TypeName(col), " get", VarName(col), "() {");
         {
-            line("byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes(", short_name(col), "));");
-            line("if (bytes == null) {");
-            {
-                line("return null;");
+            if (isCachedOnceHydrated(col)) {
+                line("if (hydrated", VarName(col), " == null) {");
+                {
+                    line("byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes(", short_name(col), "));");
+                    line("if (bytes == null) {");
+                    {
+                        line("return null;");
+                    }
+                    line("}");
+                    line(
+                            "hydrated",
+                            VarName(col),
+                            " = ",
+                            Renderers.CamelCase(col.getLongName()),
+                            ".BYTES_HYDRATOR.hydrateFromBytes(bytes);");
+                }
+                line("}");
+                line("return hydrated", VarName(col), ".getValue();");
+            } else {
+                line("byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes(", short_name(col), "));");
+                line("if (bytes == null) {");
+                {
+                    line("return null;");
+                }
+                line("}");
+                line(
+                        Renderers.CamelCase(col.getLongName()),
+                        " value = ",
+                        Renderers.CamelCase(col.getLongName()),
+                        ".BYTES_HYDRATOR.hydrateFromBytes(bytes);");
+                line("return value.getValue();");
             }
-            line("}");
-            line(
-                    Renderers.CamelCase(col.getLongName()),
-                    " value = ",
-                    Renderers.CamelCase(col.getLongName()),
-                    ".BYTES_HYDRATOR.hydrateFromBytes(bytes);");
-            line("return value.getValue();");
         }
         line("}");
     }
 
+    private static boolean isCachedOnceHydrated(NamedColumnDescription col) {
+        ColumnValueDescription value = col.getValue();
+        switch (value.getFormat()) {
+            case PROTO:
+                return true;
+            case VALUE_TYPE:
+                return value.getValueType() != ValueType.BLOB && value.getValueType() != ValueType.SIZED_BLOB;
+            default:
+                return false;
+        }
+    }
+
     private void getColFun(NamedColumnDescription col) {
         line("public static Function<", rowResult, ", ", TypeName(col), "> get", VarName(col), "Fun() {");
         {
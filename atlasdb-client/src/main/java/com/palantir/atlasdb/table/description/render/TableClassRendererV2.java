@@ -29,6 +29,9 @@ import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
@@ -73,6 +76,7 @@ public class TableClassRendererV2 {
     private final Namespace namespace;
 
     private final TableMetadata tableMetadata;
+    private final boolean asyncMethodsEnabled;
     private final String rawTableName;
     private final String tableName;
 
@@ -95,6 +99,7 @@ public class TableClassRendererV2 {
         this.rawTableName = rawTableName;
         this.tableName = Renderers.getClassTableName(rawTableName, table);
         this.tableMetadata = table.toTableMetadata();
+        this.asyncMethodsEnabled = table.hasAsyncMethodsEnabled();
 
         this.simpleTableName = this.tableName + SCHEMA_V2_TABLE_NAME;
         this.tableClassName = this.tableName + "Table";
@@ -226,6 +231,9 @@ public class TableClassRendererV2 {
         List<MethodSpec> getterResults = new ArrayList<>();
         for (NamedColumnDescription col : ColumnRenderers.namedColumns(tableMetadata)) {
             getterResults.add(renderNamedGetColumn(col));
+            if (asyncMethodsEnabled) {
+                getterResults.add(renderNamedGetColumnAsync(col));
+            }
             if (tableMetadata.getRowMetadata().getRowParts().size() == 1) {
                 getterResults.add(renderNamedGetSeveralRows(col));
                 if (tableMetadata.isRangeScanAllowed()) {
@@ -283,6 +291,43 @@ public class TableClassRendererV2 {
         return getterBuilder.build();
     }
 
+    private MethodSpec renderNamedGetColumnAsync(NamedColumnDescription col) {
+        MethodSpec.Builder getterBuilder = MethodSpec.methodBuilder("get" + VarName(col) + "Async")
+                .addModifiers(Modifier.PUBLIC)
+                .addJavadoc(
+                        "Returns a future of the value for column $L and specified row components.\n"
+                                + "The read goes through Transaction#getAsync and does not block the calling thread.",
+                        VarName(col));
+
+        getterBuilder = addParametersFromRowComponents(getterBuilder, tableMetadata);
+
+        getterBuilder.returns(ParameterizedTypeName.get(
+                ClassName.get(ListenableFuture.class),
+                ParameterizedTypeName.get(
+                        ClassName.get(Optional.class), TypeName.get(getColumnClassForGenericTypeParameter(col)))));
+        getterBuilder
+                .addStatement("$T row = $T.of($L)", rowType, rowType, getArgumentsFromRowComponents(tableMetadata))
+                .addStatement(
+                        "$T cell = $T.create(row.persistToBytes(), $T.toCachedBytes($S))",
+                        Cell.class,
+                        Cell.class,
+                        PtBytes.class,
+                        col.getShortName())
+                .addStatement(
+                        "return $T.transform(\n"
+                                + "t.getAsync(tableRef, $T.of(cell)),\n"
+                                + "results -> $T.ofNullable(results.get(cell))\n"
+                                + ".map(bytes -> $T.BYTES_HYDRATOR.hydrateFromBytes(bytes).getValue()),\n"
+                                + "$T.directExecutor())",
+                        Futures.class,
+                        ImmutableSet.class,
+                        Optional.class,
+                        tableType.nestedClass(VarName(col)),
+                        MoreExecutors.class);
+
+        return getterBuilder.build();
+    }
+
     private MethodSpec renderNamedGetSeveralRows(NamedColumnDescription col) {
         com.palantir.logsafe.Preconditions.checkArgument(
                 tableMetadata.getRowMetadata().getRowParts().size() == 1);
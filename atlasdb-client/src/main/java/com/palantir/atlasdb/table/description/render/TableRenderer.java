@@ -116,6 +116,12 @@ import javax.annotation.processing.Generated;
 
 @SuppressWarnings("checkstyle:all") // too many warnings to fix
 public class TableRenderer {
+    // Async methods are opt-in, so their types are fully qualified rather than added to the imports of every table.
+    private static final String LISTENABLE_FUTURE = "com.google.common.util.concurrent.ListenableFuture";
+    private static final String FUTURES = "com.google.common.util.concurrent.Futures";
+    private static final String DIRECT_EXECUTOR = "com.google.common.util.concurrent.MoreExecutors.directExecutor()";
+    private static final String ROW_RESULTS = "com.palantir.atlasdb.keyvalue.impl.RowResults";
+
     private final String packageName;
     private final Namespace namespace;
     private final OptionalType optionalType;
@@ -142,6 +148,7 @@ public class TableRenderer {
         private final String raw_table_name;
         private final boolean isGeneric;
         private final boolean isNestedIndex;
+        private final boolean asyncMethodsEnabled;
         private final String outerTable;
         private final String Table;
         private final String Row;
@@ -159,6 +166,7 @@ public class TableRenderer {
             this.raw_table_name = rawTableName;
             this.isGeneric = table.getGenericTableName() != null;
             this.isNestedIndex = false;
+            this.asyncMethodsEnabled = table.hasAsyncMethodsEnabled();
             this.outerTable = null;
             this.Table = tableName + "Table";
             this.Row = tableName + "Row";
@@ -177,6 +185,7 @@ public class TableRenderer {
             this.raw_table_name = index.getIndexName();
             this.isGeneric = false;
             this.isNestedIndex = true;
+            this.asyncMethodsEnabled = false;
             this.outerTable = outerTable;
             this.Table = tableName + "Table";
             this.Row = tableName + "Row";
@@ -322,6 +331,10 @@ public class TableRenderer {
             renderGetRowsColumnRange(false);
             line();
             renderGetRowsColumnRangeIterator(false);
+            if (asyncMethodsEnabled) {
+                line();
+                renderNamedAsync();
+            }
 
             if (!cellReferencingIndices.isEmpty()) {
                 line();
@@ -365,6 +378,10 @@ public class TableRenderer {
             renderGetRowsColumnRange(true);
             line();
             renderGetRowsColumnRangeIterator(true);
+            if (asyncMethodsEnabled) {
+                line();
+                renderDynamicGetAsync();
+            }
         }
 
         private void fields(boolean isDynamic) {
@@ -1475,6 +1492,12 @@ public class TableRenderer {
                 line("}");
             }
             line("}");
+            line();
+            line("public ", "Optional<", RowResult, ">", " getRow(", Row, " row, Collection<", Column, "> columns) {");
+            {
+                line("return getRow(row, getColumnSelection(columns));");
+            }
+            line("}");
         }
 
         private void renderOptionalReturnValue(@Nullable String value) {
@@ -1507,6 +1530,12 @@ public class TableRenderer {
                 line("return rowResults;");
             }
             line("}");
+            line();
+            line("public List<", RowResult, "> getRows(Iterable<", Row, "> rows, Collection<", Column, "> columns) {");
+            {
+                line("return getRows(rows, getColumnSelection(columns));");
+            }
+            line("}");
         }
 
         private void renderDynamicGet() {
@@ -1541,6 +1570,186 @@ public class TableRenderer {
             line("}");
         }
 
+        private void renderNamedAsync() {
+            renderNamedGetRowAsync();
+            line();
+            renderNamedGetRowsAsync();
+            for (NamedColumnDescription col : ColumnRenderers.namedColumns(table)) {
+                line();
+                renderNamedGetColumnAsync(col);
+            }
+        }
+
+        private void renderNamedGetRowAsync() {
+            line("public ", LISTENABLE_FUTURE, "<Optional<", RowResult, ">> getRowAsync(", Row, " row) {");
+            {
+                line("return getRowAsync(row, Arrays.asList(", Column, ".values()));");
+            }
+            line("}");
+            line();
+            line(
+                    "public ",
+                    LISTENABLE_FUTURE,
+                    "<Optional<",
+                    RowResult,
+                    ">> getRowAsync(",
+                    Row,
+                    " row, Collection<",
+                    Column,
+                    "> columns) {");
+            {
+                line("return ", FUTURES, ".transform(");
+                line("        getRowsAsync(ImmutableSet.of(row), columns),");
+                line(
+                        "        rowResults -> rowResults.isEmpty() ? Optional.<",
+                        RowResult,
+                        ">",
+                        optionalType.nullMethod(),
+                        "() : Optional.of(rowResults.get(0)),");
+                line("        ", DIRECT_EXECUTOR, ");");
+            }
+            line("}");
+        }
+
+        private void renderNamedGetRowsAsync() {
+            line("public ", LISTENABLE_FUTURE, "<List<", RowResult, ">> getRowsAsync(Iterable<", Row, "> rows) {");
+            {
+                line("return getRowsAsync(rows, Arrays.asList(", Column, ".values()));");
+            }
+            line("}");
+            line();
+            line(
+                    "public ",
+                    LISTENABLE_FUTURE,
+                    "<List<",
+                    RowResult,
+                    ">> getRowsAsync(Iterable<",
+                    Row,
+                    "> rows, Collection<",
+                    Column,
+                    "> columns) {");
+            {
+                line("Set<Cell> cells = Sets.newHashSet();");
+                line("for (byte[] row : Persistables.persistAll(rows)) {");
+                {
+                    line("for (", Column, " column : columns) {");
+                    {
+                        line("cells.add(Cell.create(row, column.getShortName()));");
+                    }
+                    line("}");
+                }
+                line("}");
+                line("return ", FUTURES, ".transform(t.getAsync(tableRef, cells), results -> {");
+                {
+                    line("List<", RowResult, "> rowResults = Lists.newArrayList();");
+                    line(
+                            "for (RowResult<byte[]> row : ",
+                            ROW_RESULTS,
+                            ".viewOfMap(Cells.breakCellsUpByRow(results))) {");
+                    {
+                        line("rowResults.add(", RowResult, ".of(row));");
+                    }
+                    line("}");
+                    line("return rowResults;");
+                }
+                line("}, ", DIRECT_EXECUTOR, ");");
+            }
+            line("}");
+        }
+
+        private void renderNamedGetColumnAsync(NamedColumnDescription col) {
+            line(
+                    "public ",
+                    LISTENABLE_FUTURE,
+                    "<Map<",
+                    Row,
+                    ", ",
+                    ColumnRenderers.TypeName(col),
+                    ">> get",
+                    ColumnRenderers.VarName(col),
+                    "sAsync(Collection<",
+                    Row,
+                    "> rows) {");
+            {
+                line("Map<Cell, ", Row, "> cells = Maps.newHashMapWithExpectedSize(rows.size());");
+                line("for (", Row, " row : rows) {");
+                {
+                    line(
+                            "cells.put(Cell.create(row.persistToBytes(), PtBytes.toCachedBytes(",
+                            ColumnRenderers.short_name(col),
+                            ")), row);");
+                }
+                line("}");
+                line("return ", FUTURES, ".transform(t.getAsync(tableRef, cells.keySet()), results -> {");
+                {
+                    line(
+                            "Map<",
+                            Row,
+                            ", ",
+                            ColumnRenderers.TypeName(col),
+                            "> ret = Maps.newHashMapWithExpectedSize(results.size());");
+                    line("for (Entry<Cell, byte[]> e : results.entrySet()) {");
+                    {
+                        line(
+                                ColumnRenderers.TypeName(col),
+                                " val = ",
+                                ColumnRenderers.VarName(col),
+                                ".BYTES_HYDRATOR.hydrateFromBytes(e.getValue()).getValue();");
+                        line("ret.put(cells.get(e.getKey()), val);");
+                    }
+                    line("}");
+                    line("return ret;");
+                }
+                line("}, ", DIRECT_EXECUTOR, ");");
+            }
+            line("}");
+        }
+
+        private void renderDynamicGetAsync() {
+            line(
+                    "public ",
+                    LISTENABLE_FUTURE,
+                    "<Multimap<",
+                    Row,
+                    ", ",
+                    ColumnValue,
+                    ">> getAsync(Multimap<",
+                    Row,
+                    ", ",
+                    Column,
+                    "> cells) {");
+            {
+                line("Set<Cell> rawCells = ColumnValues.toCells(cells);");
+                line("return ", FUTURES, ".transform(t.getAsync(tableRef, rawCells), rawResults -> {");
+                {
+                    line("Multimap<", Row, ", ", ColumnValue, "> rowMap = ArrayListMultimap.create();");
+                    line("for (Entry<Cell, byte[]> e : rawResults.entrySet()) {");
+                    {
+                        line("if (e.getValue().length > 0) {");
+                        {
+                            line(Row, " row = ", Row, ".BYTES_HYDRATOR.hydrateFromBytes(e.getKey().getRowName());");
+                            line(
+                                    Column,
+                                    " col = ",
+                                    Column,
+                                    ".BYTES_HYDRATOR.hydrateFromBytes(e.getKey().getColumnName());");
+                            line(
+                                    table.getColumns().getDynamicColumn().getValue().getJavaObjectTypeName(),
+                                    " val = ",
+                                    ColumnValue,
+                                    ".hydrateValue(e.getValue());");
+                            line("rowMap.put(row, ", ColumnValue, ".of(col, val));");
+                        }
+                        line("}");
+                    }
+                    line("}");
+                    line("return rowMap;");
+                }
+                line("}, ", DIRECT_EXECUTOR, ");");
+            }
+            line("}");
+        }
+
         private void renderGetRowsMultimap(boolean isDynamic) {
             line("@Override");
             line("public Multimap<", Row, ", ", ColumnValue, "> getRowsMultimap(Iterable<", Row, "> rows) {");
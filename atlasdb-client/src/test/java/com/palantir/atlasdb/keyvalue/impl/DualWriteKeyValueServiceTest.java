@@ -22,11 +22,20 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import com.palantir.atlasdb.keyvalue.api.CheckAndSetCompatibility;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 import org.junit.Test;
 
 public class DualWriteKeyValueServiceTest {
+    private static final TableReference TABLE_1 = TableReference.createFromFullyQualifiedName("ns.table1");
+    private static final TableReference TABLE_2 = TableReference.createFromFullyQualifiedName("ns.table2");
+
     private final KeyValueService delegate1 = mock(KeyValueService.class);
     private final KeyValueService delegate2 = mock(KeyValueService.class);
 
@@ -45,4 +54,29 @@ public class DualWriteKeyValueServiceTest {
         verify(delegate1).getCheckAndSetCompatibility();
         verifyNoMoreInteractions(delegate1, delegate2);
     }
+
+    @Test
+    public void addsTheCompactionEstimatesOfBothDelegatesForEachTable() {
+        when(delegate1.getCompactionCandidates())
+                .thenReturn(Optional.of(ImmutableList.of(
+                        CompactionCandidate.of(TABLE_1, 100, Duration.ofSeconds(1)),
+                        CompactionCandidate.of(TABLE_2, 400, Duration.ofSeconds(1)))));
+        when(delegate2.getCompactionCandidates())
+                .thenReturn(Optional.of(ImmutableList.of(CompactionCandidate.of(TABLE_1, 500, Duration.ofSeconds(1)))));
+
+        assertThat(dualWriteService.getCompactionCandidates())
+                .hasValue(ImmutableList.of(
+                        CompactionCandidate.of(TABLE_2, 400, Duration.ofSeconds(1)),
+                        CompactionCandidate.of(TABLE_1, 600, Duration.ofSeconds(2))));
+    }
+
+    @Test
+    public void usesTheCompactionEstimatesOfTheOnlyDelegateThatCanEstimateThem() {
+        Optional<List<CompactionCandidate>> candidates =
+                Optional.of(ImmutableList.of(CompactionCandidate.of(TABLE_1, 100, Duration.ofSeconds(1))));
+        when(delegate1.getCompactionCandidates()).thenReturn(Optional.empty());
+        when(delegate2.getCompactionCandidates()).thenReturn(candidates);
+
+        assertThat(dualWriteService.getCompactionCandidates()).isEqualTo(candidates);
+    }
 }
@@ -49,6 +49,7 @@ public class ApiTestSchema implements AtlasSchema {
                 column("column2", "d", StringValuePersister.class);
 
                 enableV2Table();
+                enableAsyncMethods();
                 rangeScanAllowed();
             }
         });
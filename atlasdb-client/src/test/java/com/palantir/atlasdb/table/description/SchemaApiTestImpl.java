@@ -16,19 +16,32 @@
 package com.palantir.atlasdb.table.description;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
 import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
 import com.palantir.atlasdb.keyvalue.api.RangeRequest;
 import com.palantir.atlasdb.ptobject.EncodingUtils;
 import com.palantir.atlasdb.table.description.generated.ApiTestTableFactory;
 import com.palantir.atlasdb.table.description.generated.HashComponentsTestTable;
 import com.palantir.atlasdb.table.description.generated.SchemaApiTestTable;
+import com.palantir.atlasdb.table.description.generated.SchemaApiTestTable.SchemaApiTestNamedColumn;
 import com.palantir.atlasdb.table.description.generated.SchemaApiTestTable.SchemaApiTestRow;
 import com.palantir.atlasdb.table.description.generated.SchemaApiTestTable.SchemaApiTestRowResult;
 import com.palantir.atlasdb.table.description.test.StringValue;
 import com.palantir.atlasdb.transaction.api.Transaction;
+import com.palantir.atlasdb.transaction.impl.AbstractTransaction;
 import com.palantir.common.base.BatchingVisitableView;
 import com.palantir.common.base.BatchingVisitables;
 import java.util.List;
@@ -146,4 +159,59 @@ public class SchemaApiTestImpl extends AbstractSchemaApiTest {
         assertThat(HashComponentsTestTable.HashComponentsTestRow.BYTES_HYDRATOR.hydrateFromBytes(persistedRow))
                 .isEqualTo(testRow);
     }
+
+    @Test
+    public void testGetColumnAsyncReadsThroughGetAsync() throws Exception {
+        AbstractTransaction transaction = mock(AbstractTransaction.class);
+        Cell cell = getCell(TEST_ROW_KEY, FIRST_COL_SHORT_NAME);
+        Cell cell2 = getCell(TEST_ROW_KEY2, FIRST_COL_SHORT_NAME);
+        when(transaction.getAsync(any(), eq(ImmutableSet.of(cell, cell2))))
+                .thenReturn(Futures.immediateFuture(ImmutableMap.of(cell, encodeLong(TEST_VALUE_LONG))));
+
+        SchemaApiTestTable table = tableFactory.getSchemaApiTestTable(transaction);
+        Map<SchemaApiTestRow, Long> result = table.getColumn1sAsync(
+                        ImmutableList.of(SchemaApiTestRow.of(TEST_ROW_KEY), SchemaApiTestRow.of(TEST_ROW_KEY2)))
+                .get();
+
+        assertThat(result)
+                .containsExactlyEntriesOf(ImmutableMap.of(SchemaApiTestRow.of(TEST_ROW_KEY), TEST_VALUE_LONG));
+        verify(transaction, never()).get(any(), any());
+    }
+
+    @Test
+    public void testGetRowAsyncReturnsRequestedColumns() throws Exception {
+        AbstractTransaction transaction = mock(AbstractTransaction.class);
+        Cell firstColumn = getCell(TEST_ROW_KEY, FIRST_COL_SHORT_NAME);
+        Cell secondColumn = getCell(TEST_ROW_KEY, SECOND_COL_SHORT_NAME);
+        when(transaction.getAsync(any(), eq(ImmutableSet.of(firstColumn, secondColumn))))
+                .thenReturn(Futures.immediateFuture(ImmutableMap.of(
+                        firstColumn,
+                        encodeLong(TEST_VALUE_LONG),
+                        secondColumn,
+                        STRING_VALUE_PERSISTER.persistToBytes(TEST_VALUE_STRING))));
+
+        SchemaApiTestTable table = tableFactory.getSchemaApiTestTable(transaction);
+        Optional<SchemaApiTestRowResult> result = table.getRowAsync(SchemaApiTestRow.of(TEST_ROW_KEY)).get();
+
+        assertThat(result).hasValueSatisfying(rowResult -> {
+            assertThat(rowResult.getRowName()).isEqualTo(SchemaApiTestRow.of(TEST_ROW_KEY));
+            assertThat(rowResult.getColumn1()).isEqualTo(TEST_VALUE_LONG);
+            assertThat(rowResult.getColumn2()).isEqualTo(TEST_VALUE_STRING);
+        });
+        verify(transaction, never()).getRows(any(), any(), any());
+    }
+
+    @Test
+    public void testGetRowAsyncIsEmptyIfRowIsAbsent() throws Exception {
+        AbstractTransaction transaction = mock(AbstractTransaction.class);
+        when(transaction.getAsync(any(), eq(ImmutableSet.of(getCell(TEST_ROW_KEY, FIRST_COL_SHORT_NAME)))))
+                .thenReturn(Futures.immediateFuture(ImmutableMap.of()));
+
+        SchemaApiTestTable table = tableFactory.getSchemaApiTestTable(transaction);
+
+        assertThat(table.getRowAsync(
+                                SchemaApiTestRow.of(TEST_ROW_KEY), ImmutableList.of(SchemaApiTestNamedColumn.COLUMN1))
+                        .get())
+                .isEmpty();
+    }
 }
@@ -15,15 +15,22 @@
  */
 package com.palantir.atlasdb.table.description;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.RangeRequest;
 import com.palantir.atlasdb.table.description.generated.ApiTestTableFactory;
 import com.palantir.atlasdb.table.description.generated.SchemaApiTestTable;
@@ -114,4 +121,27 @@ public class SchemaApiTestV2Impl extends AbstractSchemaApiTest {
 
         verify(table, never()).putColumn1(any(), anyLong());
     }
+
+    @Test
+    public void testGetColumnAsyncReadsThroughGetAsync() throws Exception {
+        AbstractTransaction transaction = mock(AbstractTransaction.class);
+        Cell cell = getCell(TEST_ROW_KEY, FIRST_COL_SHORT_NAME);
+        when(transaction.getAsync(any(), eq(ImmutableSet.of(cell))))
+                .thenReturn(Futures.immediateFuture(ImmutableMap.of(cell, encodeLong(TEST_VALUE_LONG))));
+
+        SchemaApiTestV2Table table = tableFactory.getSchemaApiTestV2Table(transaction);
+
+        assertThat(table.getColumn1Async(TEST_ROW_KEY).get()).contains(TEST_VALUE_LONG);
+        verify(transaction, never()).getRows(any(), any(), any());
+    }
+
+    @Test
+    public void testGetColumnAsyncIsEmptyIfCellIsAbsent() throws Exception {
+        AbstractTransaction transaction = mock(AbstractTransaction.class);
+        when(transaction.getAsync(any(), any())).thenReturn(Futures.immediateFuture(ImmutableMap.of()));
+
+        SchemaApiTestV2Table table = tableFactory.getSchemaApiTestV2Table(transaction);
+
+        assertThat(table.getColumn2Async(TEST_ROW_KEY).get()).isEmpty();
+    }
 }
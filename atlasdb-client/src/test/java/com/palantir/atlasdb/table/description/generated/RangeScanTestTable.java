@@ -295,6 +295,7 @@ public final class RangeScanTestTable implements
 
     public static final class RangeScanTestRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Column1 hydratedColumn1;
 
         public static RangeScanTestRowResult of(RowResult<byte[]> row) {
             return new RangeScanTestRowResult(row);
@@ -332,12 +333,14 @@ public final class RangeScanTestTable implements
         }
 
         public Long getColumn1() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c"));
-            if (bytes == null) {
-                return null;
+            if (hydratedColumn1 == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("c"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedColumn1 = Column1.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Column1 value = Column1.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedColumn1.getValue();
         }
 
         public static Function<RangeScanTestRowResult, Long> getColumn1Fun() {
@@ -463,6 +466,10 @@ public final class RangeScanTestTable implements
         }
     }
 
+    public Optional<RangeScanTestRowResult> getRow(RangeScanTestRow row, Collection<RangeScanTestNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<RangeScanTestRowResult> getRows(Iterable<RangeScanTestRow> rows) {
         return getRows(rows, allColumns);
@@ -478,6 +485,10 @@ public final class RangeScanTestTable implements
         return rowResults;
     }
 
+    public List<RangeScanTestRowResult> getRows(Iterable<RangeScanTestRow> rows, Collection<RangeScanTestNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<RangeScanTestNamedColumnValue<?>> getRowColumns(RangeScanTestRow row) {
         return getRowColumns(row, allColumns);
@@ -745,5 +756,5 @@ public final class RangeScanTestTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "1i+tNWsmUREmFNoXh6QUeg==";
+    static String __CLASS_HASH = "KCjsTXAlyaEClLqoFEVpng==";
 }
@@ -63,6 +63,85 @@ public class TableRendererTest {
                 .contains("Optional.empty");
     }
 
+    @Test
+    public void testNamedRowResultsCacheImmutableColumnsOnFirstAccess() {
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", getSimpleTableDefinition(TABLE_REF), NO_INDICES))
+                .doesNotContain("hydratedRowName")
+                .contains("private Col1 hydratedCol1;")
+                .contains("if (hydratedCol1 == null) {")
+                .contains("hydratedCol1 = Col1.BYTES_HYDRATOR.hydrateFromBytes(bytes);")
+                .contains("return hydratedCol1.getValue();");
+    }
+
+    @Test
+    public void testNamedRowResultsDoNotCacheMutableColumns() {
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render(
+                        "table", getTableWithUserSpecifiedPersister(TABLE_REF, JsonNodePersister.class), NO_INDICES))
+                .doesNotContain("hydratedCol1")
+                .contains("Col1 value = Col1.BYTES_HYDRATOR.hydrateFromBytes(bytes);");
+    }
+
+    @Test
+    public void testRowsMultimapIsMaterialized() {
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", getSimpleTableDefinition(TABLE_REF), NO_INDICES))
+                .contains("Multimap<TestTableRow, TestTableNamedColumnValue<?>> rowMap = ArrayListMultimap.create();")
+                .doesNotContain("Multimaps.transformValues");
+        assertThat(renderer.render(
+                        "table",
+                        getTableWithUserSpecifiedPersisterInDynamicColumns(TABLE_REF, JsonNodePersister.class),
+                        NO_INDICES))
+                .contains("rowMap.put(row, TestTableColumnValue.of(col, val));")
+                .doesNotContain("Multimaps.transformValues");
+    }
+
+    @Test
+    public void testRendersTypedColumnProjections() {
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", getSimpleTableDefinition(TABLE_REF), NO_INDICES))
+                .contains("public Optional<TestTableRowResult> getRow(TestTableRow row,"
+                        + " Collection<TestTableNamedColumn> columns) {")
+                .contains("public List<TestTableRowResult> getRows(Iterable<TestTableRow> rows,"
+                        + " Collection<TestTableNamedColumn> columns) {")
+                .contains("return getRows(rows, getColumnSelection(columns));");
+    }
+
+    @Test
+    public void testDoesNotRenderAsyncMethodsByDefault() {
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", getSimpleTableDefinition(TABLE_REF), NO_INDICES))
+                .doesNotContain("ListenableFuture")
+                .doesNotContain("getAsync");
+    }
+
+    @Test
+    public void testRendersAsyncMethodsForNamedColumnsWhenEnabled() {
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.GUAVA);
+        TableDefinition definition = getSimpleTableDefinition(TABLE_REF);
+        definition.enableAsyncMethods();
+        assertThat(renderer.render("table", definition, NO_INDICES))
+                .contains("ListenableFuture<Optional<TestTableRowResult>> getRowAsync(TestTableRow row) {")
+                .contains("ListenableFuture<List<TestTableRowResult>> getRowsAsync(Iterable<TestTableRow> rows,"
+                        + " Collection<TestTableNamedColumn> columns) {")
+                .contains("ListenableFuture<Map<TestTableRow, Long>> getCol1sAsync(Collection<TestTableRow> rows) {")
+                .contains("Optional.<TestTableRowResult>absent()")
+                .contains("t.getAsync(tableRef, cells");
+    }
+
+    @Test
+    public void testRendersAsyncMethodsForDynamicColumnsWhenEnabled() {
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        TableDefinition definition =
+                getTableWithUserSpecifiedPersisterInDynamicColumns(TABLE_REF, JsonNodePersister.class);
+        definition.enableAsyncMethods();
+        assertThat(renderer.render("table", definition, NO_INDICES))
+                .contains("ListenableFuture<Multimap<TestTableRow, TestTableColumnValue>> getAsync("
+                        + "Multimap<TestTableRow, TestTableColumn> cells) {")
+                .contains("t.getAsync(tableRef, rawCells)");
+    }
+
     private TableDefinition getSimpleTableDefinition(TableReference tableRef) {
         return new TableDefinition() {
             {
@@ -17,7 +17,9 @@ package com.palantir.atlasdb.config;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.collect.ImmutableMap;
 import com.palantir.atlasdb.AtlasDbConstants;
+import com.palantir.atlasdb.autobatch.AutobatcherWaitStrategy;
 import com.palantir.atlasdb.compact.CompactorConfig;
 import com.palantir.atlasdb.internalschema.ImmutableInternalSchemaRuntimeConfig;
 import com.palantir.atlasdb.internalschema.InternalSchemaRuntimeConfig;
@@ -27,6 +29,7 @@ import com.palantir.atlasdb.stream.StreamStorePersistenceConfigurations;
 import com.palantir.atlasdb.sweep.queue.config.TargetedSweepRuntimeConfig;
 import com.palantir.atlasdb.transaction.ImmutableTransactionConfig;
 import com.palantir.atlasdb.transaction.TransactionConfig;
+import java.util.Map;
 import java.util.Optional;
 import org.immutables.value.Value;
 
@@ -118,6 +121,18 @@ public abstract class AtlasDbRuntimeConfig {
         return true;
     }
 
+    /**
+     * Wait strategies for the autobatchers that start transactions and get commit timestamps from TimeLock, keyed by
+     * the autobatcher's safe loggable purpose ({@code transaction-starter} and {@code get-commit-timestamp}).
+     * Autobatchers without an entry use {@link AutobatcherWaitStrategy#BLOCKING}.
+     *
+     * More active strategies reduce the latency of waking up the batching thread, at the cost of CPU while it is idle.
+     */
+    @Value.Default
+    public Map<String, AutobatcherWaitStrategy> autobatcherWaitStrategies() {
+        return ImmutableMap.of();
+    }
+
     public static ImmutableAtlasDbRuntimeConfig defaultRuntimeConfig() {
         return ImmutableAtlasDbRuntimeConfig.builder().build();
     }
@@ -17,6 +17,7 @@
 package com.palantir.atlasdb.factory;
 
 import com.google.common.base.Suppliers;
+import com.palantir.atlasdb.autobatch.AutobatcherWaitStrategy;
 import com.palantir.atlasdb.config.AtlasDbConfig;
 import com.palantir.atlasdb.config.AtlasDbRuntimeConfig;
 import com.palantir.atlasdb.config.ServerListConfig;
@@ -76,6 +77,7 @@ import com.palantir.timestamp.TimestampManagementService;
 import com.palantir.timestamp.TimestampService;
 import com.palantir.timestamp.TimestampStoreInvalidator;
 import com.palantir.util.OptionalResolver;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -276,7 +278,8 @@ public final class DefaultLockAndTimestampServiceFactory implements LockAndTimes
                 timeLockFeedbackBackgroundTask,
                 timelockRequestBatcherProviders,
                 schemas,
-                config.lockWatchCaching());
+                config.lockWatchCaching(),
+                () -> runtimeConfig.get().autobatcherWaitStrategies());
 
         TimeLockMigrator migrator = TimeLockMigrator.create(
                 lockAndTimestampServices.managedTimestampService(), invalidator, config.initializeAsync());
@@ -301,7 +304,8 @@ public final class DefaultLockAndTimestampServiceFactory implements LockAndTimes
             Optional<TimeLockFeedbackBackgroundTask> timeLockFeedbackBackgroundTask,
             Optional<TimeLockRequestBatcherProviders> timelockRequestBatcherProviders,
             Set<Schema> schemas,
-            LockWatchCachingConfig cachingConfig) {
+            LockWatchCachingConfig cachingConfig,
+            Supplier<Map<String, AutobatcherWaitStrategy>> autobatcherWaitStrategies) {
         AtlasDbDialogueServiceProvider serviceProvider = AtlasDbDialogueServiceProvider.create(
                 timelockServerListConfig, reloadingFactory, userAgent, metricsManager.getTaggedRegistry());
 
@@ -346,7 +350,13 @@ public final class DefaultLockAndTimestampServiceFactory implements LockAndTimes
                         batcherProviders.startTransactions().getBatcher(multiClientTimelockServiceSupplier)));
 
         TimeLockHelperServices timeLockHelperServices = TimeLockHelperServices.create(
-                timelockNamespace, metricsManager, schemas, lockWatchingService, cachingConfig, requestBatcherProvider);
+                timelockNamespace,
+                metricsManager,
+                schemas,
+                lockWatchingService,
+                cachingConfig,
+                requestBatcherProvider,
+                autobatcherWaitStrategies);
         LockWatchManagerInternal lockWatchManager = timeLockHelperServices.lockWatchManager();
 
         RemoteTimelockServiceAdapter remoteTimelockServiceAdapter = RemoteTimelockServiceAdapter.create(
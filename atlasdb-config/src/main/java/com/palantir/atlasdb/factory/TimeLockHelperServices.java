@@ -16,6 +16,8 @@
 
 package com.palantir.atlasdb.factory;
 
+import com.google.common.collect.ImmutableMap;
+import com.palantir.atlasdb.autobatch.AutobatcherWaitStrategy;
 import com.palantir.atlasdb.keyvalue.api.LockWatchCachingConfig;
 import com.palantir.atlasdb.keyvalue.api.watch.LockWatchManagerImpl;
 import com.palantir.atlasdb.keyvalue.api.watch.LockWatchManagerInternal;
@@ -25,6 +27,7 @@ import com.palantir.atlasdb.util.MetricsManager;
 import com.palantir.lock.client.LockWatchStarter;
 import com.palantir.lock.client.RequestBatchersFactory;
 import com.palantir.lock.watch.LockWatchCache;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -43,13 +46,31 @@ public interface TimeLockHelperServices {
             LockWatchStarter lockWatchStarter,
             LockWatchCachingConfig lockWatchCachingConfig,
             Supplier<Optional<RequestBatchersFactory.MultiClientRequestBatchers>> requestBatcherProvider) {
+        return create(
+                namespace,
+                metricsManager,
+                schemas,
+                lockWatchStarter,
+                lockWatchCachingConfig,
+                requestBatcherProvider,
+                ImmutableMap::of);
+    }
+
+    static TimeLockHelperServices create(
+            String namespace,
+            MetricsManager metricsManager,
+            Set<Schema> schemas,
+            LockWatchStarter lockWatchStarter,
+            LockWatchCachingConfig lockWatchCachingConfig,
+            Supplier<Optional<RequestBatchersFactory.MultiClientRequestBatchers>> requestBatcherProvider,
+            Supplier<Map<String, AutobatcherWaitStrategy>> autobatcherWaitStrategies) {
 
         LockWatchManagerInternal lockWatchManager =
                 LockWatchManagerImpl.create(metricsManager, schemas, lockWatchStarter, lockWatchCachingConfig);
         LockWatchCache lockWatchCache = lockWatchManager.getCache();
 
-        RequestBatchersFactory requestBatchersFactory =
-                RequestBatchersFactory.create(lockWatchCache, Namespace.of(namespace), requestBatcherProvider.get());
+        RequestBatchersFactory requestBatchersFactory = RequestBatchersFactory.create(
+                lockWatchCache, Namespace.of(namespace), requestBatcherProvider.get(), autobatcherWaitStrategies);
 
         return ImmutableTimeLockHelperServices.builder()
                 .lockWatchManager(lockWatchManager)
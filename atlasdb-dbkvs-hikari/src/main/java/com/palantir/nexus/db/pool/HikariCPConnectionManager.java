@@ -35,6 +35,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.TimeZone;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -122,6 +123,23 @@ public class HikariCPConnectionManager extends BaseConnectionManager {
         }
     }
 
+    /**
+     * Hands out a connection only if the pool has an idle one and no other thread is already waiting for one. If
+     * another thread takes the idle connection first, this waits as {@link #getConnection} does.
+     */
+    @Override
+    public Optional<Connection> tryGetConnectionUnchecked() {
+        State stateLocal = state;
+        if (stateLocal.type != StateType.NORMAL) {
+            return Optional.empty();
+        }
+        HikariPoolMXBean pool = stateLocal.dataSourcePool.getHikariPoolMXBean();
+        if (pool == null || pool.getIdleConnections() == 0 || pool.getThreadsAwaitingConnection() > 0) {
+            return Optional.empty();
+        }
+        return Optional.of(getConnectionUnchecked());
+    }
+
     /**
      * Attempts to acquire a valid database connection from the pool.
      * @param profiler Connection acquisition profiler for this attempt to acquire a connection
@@ -20,6 +20,7 @@ import com.palantir.logsafe.exceptions.SafeRuntimeException;
 import com.palantir.nexus.db.DBType;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -62,6 +63,24 @@ public class HikariClientPoolConnectionManagerView extends BaseConnectionManager
         }
     }
 
+    @Override
+    public Optional<Connection> tryGetConnectionUnchecked() {
+        if (!semaphore.tryAcquire()) {
+            return Optional.empty();
+        }
+        Optional<Connection> connection;
+        try {
+            connection = sharedManager.tryGetConnectionUnchecked();
+        } catch (RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+        if (!connection.isPresent()) {
+            semaphore.release();
+        }
+        return connection.map(conn -> ConnectionWithCallback.wrap(conn, semaphore::release));
+    }
+
     @Override
     public void close() throws SQLException {
         // do not close shared manager
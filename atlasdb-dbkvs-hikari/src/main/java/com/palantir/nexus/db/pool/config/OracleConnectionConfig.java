@@ -113,6 +113,16 @@ public abstract class OracleConnectionConfig extends ConnectionConfig {
         return ImmutableMap.of();
     }
 
+    /**
+     * The number of statements the Oracle driver implicitly caches on each pooled connection, keyed by SQL text.
+     * Zero disables caching. Postgres needs no equivalent, as pgjdbc already caches statements per connection
+     * (see its preparedStatementCacheQueries connection parameter).
+     */
+    @Value.Default
+    public int getPreparedStatementCacheSize() {
+        return 256;
+    }
+
     @Value.Default
     public ConnectionProtocol getProtocol() {
         return ConnectionProtocol.TCP;
@@ -144,6 +154,8 @@ public abstract class OracleConnectionConfig extends ConnectionConfig {
                 "oracle.net.CONNECT_TIMEOUT", Long.toString(TimeUnit.SECONDS.toMillis(getConnectionTimeoutSeconds())));
 
         props.setProperty("oracle.jdbc.maxCachedBufferSize", "100000");
+        props.putIfAbsent(
+                "oracle.jdbc.implicitStatementCacheSize", Integer.toString(getPreparedStatementCacheSize()));
 
         if (getProtocol() == ConnectionProtocol.TCPS) {
             // Create the truststore
@@ -16,6 +16,7 @@
 
 package com.palantir.nexus.db.pool;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
@@ -26,6 +27,7 @@ import static org.mockito.Mockito.when;
 import com.palantir.logsafe.exceptions.SafeRuntimeException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
 import org.junit.Test;
 
 public class HikariClientPoolConnectionManagerViewTest {
@@ -83,6 +85,39 @@ public class HikariClientPoolConnectionManagerViewTest {
         assertThatCode(view2::getConnection).doesNotThrowAnyException();
     }
 
+    @Test
+    public void tryGetConnectionDoesNotWaitForPermit() throws SQLException {
+        when(sharedManager.getConnection()).thenReturn(mock(Connection.class));
+        when(sharedManager.tryGetConnectionUnchecked()).thenReturn(Optional.of(mock(Connection.class)));
+        ConnectionManager connectionManager = new HikariClientPoolConnectionManagerView(sharedManager, 1, 10);
+
+        Connection connection = connectionManager.getConnection();
+        assertThat(connectionManager.tryGetConnectionUnchecked()).isEmpty();
+        connection.close();
+        assertThat(connectionManager.tryGetConnectionUnchecked()).isPresent();
+    }
+
+    @Test
+    public void tryGetConnectionReleasesPermitIfSharedPoolHasNoConnectionFree() throws SQLException {
+        when(sharedManager.tryGetConnectionUnchecked()).thenReturn(Optional.empty());
+        ConnectionManager connectionManager = new HikariClientPoolConnectionManagerView(sharedManager, 1, 0);
+
+        assertThat(connectionManager.tryGetConnectionUnchecked()).isEmpty();
+        assertThatCode(connectionManager::getConnection).doesNotThrowAnyException();
+        assertGetConnectionTimesOut(connectionManager);
+    }
+
+    @Test
+    public void closingConnectionFromTryGetReleasesPermit() throws SQLException {
+        when(sharedManager.tryGetConnectionUnchecked()).thenReturn(Optional.of(mock(Connection.class)));
+        ConnectionManager connectionManager = new HikariClientPoolConnectionManagerView(sharedManager, 1, 0);
+
+        Connection connection = connectionManager.tryGetConnectionUnchecked().orElseThrow();
+        assertGetConnectionTimesOut(connectionManager);
+        connection.close();
+        assertThatCode(connectionManager::getConnection).doesNotThrowAnyException();
+    }
+
     private static void assertGetConnectionTimesOut(ConnectionManager connectionManager) {
         assertThatThrownBy(connectionManager::getConnection)
                 .isInstanceOf(SafeRuntimeException.class)
@@ -140,6 +140,22 @@ public class OracleConnectionConfigTest {
         }
     }
 
+    @Test
+    public void configuresImplicitStatementCacheFromPreparedStatementCacheSize() {
+        OracleConnectionConfig connectionConfig = getBaseBuilder().sid(SID).preparedStatementCacheSize(17).build();
+        assertThat(connectionConfig.getHikariProperties())
+                .containsEntry("oracle.jdbc.implicitStatementCacheSize", "17");
+    }
+
+    @Test
+    public void explicitConnectionParameterOverridesStatementCacheSize() {
+        OracleConnectionConfig connectionConfig = getBaseBuilder()
+                .sid(SID)
+                .connectionParameters(ImmutableMap.of("oracle.jdbc.implicitStatementCacheSize", "5"))
+                .build();
+        assertThat(connectionConfig.getHikariProperties()).containsEntry("oracle.jdbc.implicitStatementCacheSize", "5");
+    }
+
     private static OracleConnectionConfig.Builder getBaseBuilder() {
         return new OracleConnectionConfig.Builder()
                 .dbPassword(PASSWORD)
@@ -15,13 +15,27 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import com.google.common.primitives.Ints;
 import com.palantir.atlasdb.AtlasDbConstants;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
 import com.palantir.atlasdb.keyvalue.api.Namespace;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.Value;
 import com.palantir.atlasdb.keyvalue.dbkvs.AbstractDbKvsKeyValueServiceTest;
 import com.palantir.atlasdb.keyvalue.impl.TestResourceManager;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.After;
 import org.junit.ClassRule;
@@ -35,6 +49,10 @@ public class DbKvsPostgresKeyValueServiceTest extends AbstractDbKvsKeyValueServi
     private static final String TEST_LONG_TABLE_NAME =
             "ThisShouldAlwaysBeAVeryLongTableNameThatExceedsPostgresLengthLimit";
     private static final int TWO_UNDERSCORES = 2;
+    private static final TableReference ARRAY_BIND_TABLE = TableReference.create(TEST_NAMESPACE, "array_bind");
+    private static final byte[] FIRST_COLUMN = {0x00, 0x01};
+    private static final byte[] SECOND_COLUMN = {(byte) 0xFF, 0x00};
+    private static final int NUM_ROWS = 2_000;
 
     public DbKvsPostgresKeyValueServiceTest() {
         super(TRM);
@@ -89,6 +107,68 @@ public class DbKvsPostgresKeyValueServiceTest extends AbstractDbKvsKeyValueServi
                 .isInstanceOf(RuntimeException.class);
     }
 
+    @Test
+    public void getRowsBindsLargeRowAndColumnListsAsArrays() {
+        keyValueService.createTable(ARRAY_BIND_TABLE, AtlasDbConstants.GENERIC_TABLE_METADATA);
+        List<byte[]> rows = arrayBindRows();
+        Map<Cell, byte[]> values = rows.stream()
+                .flatMap(row -> ImmutableList.of(Cell.create(row, FIRST_COLUMN), Cell.create(row, SECOND_COLUMN))
+                        .stream())
+                .collect(Collectors.toMap(cell -> cell, Cell::getRowName));
+        keyValueService.put(ARRAY_BIND_TABLE, values, 5L);
+
+        Map<byte[], RowResult<Value>> result = keyValueService.getRows(
+                ARRAY_BIND_TABLE, rows, ColumnSelection.create(ImmutableList.of(SECOND_COLUMN)), 6L);
+
+        assertThat(result).hasSize(NUM_ROWS);
+        rows.forEach(row -> {
+            RowResult<Value> rowResult = result.get(row);
+            assertThat(rowResult.getColumns().keySet()).containsExactly(SECOND_COLUMN);
+            assertThat(rowResult.getColumns().get(SECOND_COLUMN).getContents()).isEqualTo(row);
+        });
+    }
+
+    @Test
+    public void getBindsCellsWithPerCellTimestampsAsArrays() {
+        keyValueService.createTable(ARRAY_BIND_TABLE, AtlasDbConstants.GENERIC_TABLE_METADATA);
+        List<byte[]> rows = arrayBindRows();
+        keyValueService.put(ARRAY_BIND_TABLE, valuesForEachRow(rows, new byte[] {1}), 5L);
+        keyValueService.put(ARRAY_BIND_TABLE, valuesForEachRow(rows, new byte[] {2}), 10L);
+        Map<Cell, Long> timestampByCell = IntStream.range(0, NUM_ROWS)
+                .boxed()
+                .collect(Collectors.toMap(
+                        index -> Cell.create(rows.get(index), FIRST_COLUMN), index -> index % 2 == 0 ? 6L : 11L));
+
+        Map<Cell, Value> result = keyValueService.get(ARRAY_BIND_TABLE, timestampByCell);
+
+        assertThat(result).hasSize(NUM_ROWS);
+        timestampByCell.forEach((cell, timestamp) ->
+                assertThat(result.get(cell).getTimestamp()).isEqualTo(timestamp == 6L ? 5L : 10L));
+    }
+
+    @Test
+    public void getAllTimestampsBindsCellsAsArrays() {
+        keyValueService.createTable(ARRAY_BIND_TABLE, AtlasDbConstants.GENERIC_TABLE_METADATA);
+        Cell first = Cell.create(new byte[] {0x00}, FIRST_COLUMN);
+        Cell second = Cell.create(new byte[] {(byte) 0xFF}, SECOND_COLUMN);
+        keyValueService.put(ARRAY_BIND_TABLE, ImmutableMap.of(first, new byte[] {1}, second, new byte[] {1}), 5L);
+        keyValueService.put(ARRAY_BIND_TABLE, ImmutableMap.of(first, new byte[] {2}), 10L);
+
+        Multimap<Cell, Long> result =
+                keyValueService.getAllTimestamps(ARRAY_BIND_TABLE, ImmutableSet.of(first, second), 20L);
+
+        assertThat(result.get(first)).containsExactlyInAnyOrder(5L, 10L);
+        assertThat(result.get(second)).containsExactly(5L);
+    }
+
+    private static List<byte[]> arrayBindRows() {
+        return IntStream.range(0, NUM_ROWS).mapToObj(Ints::toByteArray).collect(Collectors.toList());
+    }
+
+    private static Map<Cell, byte[]> valuesForEachRow(List<byte[]> rows, byte[] value) {
+        return rows.stream().collect(Collectors.toMap(row -> Cell.create(row, FIRST_COLUMN), row -> value));
+    }
+
     private void createTwoTablesWithSamePrefix(String tableNamePrefix) {
         TableReference longTableName1 = TableReference.create(TEST_NAMESPACE, tableNamePrefix + "1");
         TableReference longTableName2 = TableReference.create(TEST_NAMESPACE, tableNamePrefix + "2");
@@ -67,7 +67,10 @@ public class DbAtlasDbFactory implements AtlasDbFactory {
             boolean initializeAsync) {
 
         return ConnectionManagerAwareDbKvs.create(
-                DbKeyValueServiceConfigs.toDbKeyValueServiceConfig(config), runtimeConfig, initializeAsync);
+                DbKeyValueServiceConfigs.toDbKeyValueServiceConfig(config),
+                runtimeConfig,
+                initializeAsync,
+                metricsManager);
     }
 
     @Override
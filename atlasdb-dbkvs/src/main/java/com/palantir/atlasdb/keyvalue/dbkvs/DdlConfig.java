@@ -47,6 +47,15 @@ public abstract class DdlConfig {
         return 256;
     }
 
+    /**
+     * The number of batches of range requests that getFirstBatchForRanges loads concurrently. Each batch holds a
+     * connection while it runs, so this is capped at {@link #poolSize()}. The default of 1 loads batches serially.
+     */
+    @Value.Default
+    public int getRangesParallelism() {
+        return 1;
+    }
+
     @Value.Default
     public int mutationBatchCount() {
         return 1000;
@@ -68,6 +68,24 @@ public abstract class OracleDdlConfig extends DdlConfig {
 
     public abstract OverflowMigrationState overflowMigrationState();
 
+    /**
+     * The maximum number of chunks of overflow values that a single read loads concurrently, each on its own pooled
+     * connection. If greater than one, overflow values start loading while the rows that refer to them are still
+     * being read. If one, all overflow values for a read are loaded after the read, on its connection.
+     */
+    @Value.Default
+    public int overflowLoadParallelism() {
+        return 1;
+    }
+
+    /**
+     * The number of overflow values loaded by each query when {@link #overflowLoadParallelism()} is greater than one.
+     */
+    @Value.Default
+    public int overflowLoadBatchSize() {
+        return 256;
+    }
+
     @Value.Default
     public boolean enableOracleEnterpriseFeatures() {
         return false;
@@ -151,6 +169,9 @@ public abstract class OracleDdlConfig extends DdlConfig {
                 overflowTablePrefix().endsWith("_") || overflowTablePrefix().endsWith("$"),
                 "Oracle " + "'overflowTablePrefix' must end with an underscore or a dollar sign.");
 
+        Preconditions.checkState(overflowLoadParallelism() > 0, "Oracle 'overflowLoadParallelism' must be positive.");
+        Preconditions.checkState(overflowLoadBatchSize() > 0, "Oracle 'overflowLoadBatchSize' must be positive.");
+
         checkTablePrefixLengthLimits();
 
         Preconditions.checkState(
@@ -50,4 +50,34 @@ public abstract class PostgresDdlConfig extends DdlConfig {
     public HumanReadableDuration compactInterval() {
         return HumanReadableDuration.seconds(0);
     }
+
+    /**
+     * If true, range scans load their next page on a separate connection while the current page is being consumed,
+     * and size pages according to the width of the cells they have read. This roughly doubles the number of
+     * connections used by each range scan. Read-ahead runs on a dedicated pool of {@link #poolSize()} threads.
+     */
+    @Value.Default
+    public boolean readAheadRangeScans() {
+        return false;
+    }
+
+    /**
+     * If true, scans for sweep candidates read through server-side cursors, each covering many pages, rather than
+     * issuing a separate bounded query for every page. Each cursor is bounded and held in a short transaction of its
+     * own. A scan that loses its connection continues with per-page queries.
+     */
+    @Value.Default
+    public boolean streamingSweepCandidateScans() {
+        return false;
+    }
+
+    /**
+     * If true, the background compactor chooses which table to vacuum from the dead and live tuple counts and sizes
+     * in {@code pg_stat_user_tables}, rather than from sweep and compaction history. Tables with little bloat are
+     * not vacuumed at all.
+     */
+    @Value.Default
+    public boolean compactionCandidatesFromTableStatistics() {
+        return false;
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl;
+
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import java.util.List;
+import java.util.Set;
+
+public interface CompactionCandidateLoader {
+    /**
+     * Returns those of the given tables that are worth compacting, in decreasing order of
+     * {@link CompactionCandidate#estimatedReclaimableBytesPerSecond()}.
+     */
+    List<CompactionCandidate> getCompactionCandidates(Set<TableReference> tableRefs);
+}
@@ -15,6 +15,7 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl;
 
+import com.codahale.metrics.MetricRegistry;
 import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
 import com.palantir.atlasdb.keyvalue.dbkvs.DbKeyValueServiceConfig;
@@ -22,9 +23,12 @@ import com.palantir.atlasdb.keyvalue.dbkvs.util.SqlConnectionSuppliers;
 import com.palantir.atlasdb.keyvalue.impl.ForwardingKeyValueService;
 import com.palantir.atlasdb.spi.KeyValueServiceRuntimeConfig;
 import com.palantir.atlasdb.spi.LocalConnectionConfig;
+import com.palantir.atlasdb.util.MetricsManager;
+import com.palantir.atlasdb.util.MetricsManagers;
 import com.palantir.nexus.db.pool.ConnectionManager;
 import com.palantir.nexus.db.pool.HikariClientPoolConnectionManagers;
 import com.palantir.refreshable.Refreshable;
+import com.palantir.tritium.metrics.registry.DefaultTaggedMetricRegistry;
 import java.util.Optional;
 
 // This class should be removed and replaced by DbKvs when InDbTimestampStore depends directly on DbKvs
@@ -56,6 +60,18 @@ public final class ConnectionManagerAwareDbKvs extends ForwardingKeyValueService
             DbKeyValueServiceConfig config,
             Refreshable<Optional<KeyValueServiceRuntimeConfig>> runtimeConfig,
             boolean initializeAsync) {
+        return create(
+                config,
+                runtimeConfig,
+                initializeAsync,
+                MetricsManagers.of(new MetricRegistry(), new DefaultTaggedMetricRegistry()));
+    }
+
+    public static ConnectionManagerAwareDbKvs create(
+            DbKeyValueServiceConfig config,
+            Refreshable<Optional<KeyValueServiceRuntimeConfig>> runtimeConfig,
+            boolean initializeAsync,
+            MetricsManager metricsManager) {
         ConnectionManager connManager;
         if (config.sharedResourcesConfig().isPresent()) {
             LocalConnectionConfig localConnectionConfig =
@@ -71,7 +87,7 @@ public final class ConnectionManagerAwareDbKvs extends ForwardingKeyValueService
         SqlConnectionSupplier sqlConnSupplier =
                 SqlConnectionSuppliers.createSimpleConnectionSupplier(connManager, config, runtimeConfig);
         return new ConnectionManagerAwareDbKvs(
-                DbKvs.create(config, sqlConnSupplier, initializeAsync), connManager, sqlConnSupplier);
+                DbKvs.create(config, sqlConnSupplier, initializeAsync, metricsManager), connManager, sqlConnSupplier);
     }
 
     private ConnectionManagerAwareDbKvs(
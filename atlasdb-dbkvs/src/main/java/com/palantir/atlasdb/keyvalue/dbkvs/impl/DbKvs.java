@@ -15,6 +15,7 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Function;
 import com.google.common.base.Functions;
 import com.google.common.base.Stopwatch;
@@ -48,6 +49,7 @@ import com.palantir.atlasdb.keyvalue.api.CheckAndSetRequest;
 import com.palantir.atlasdb.keyvalue.api.ClusterAvailabilityStatus;
 import com.palantir.atlasdb.keyvalue.api.ColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
 import com.palantir.atlasdb.keyvalue.api.KeyAlreadyExistsException;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
 import com.palantir.atlasdb.keyvalue.api.MultiCheckAndSetException;
@@ -77,6 +79,7 @@ import com.palantir.atlasdb.keyvalue.dbkvs.impl.oracle.OracleGetRange;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.oracle.OracleOverflowValueLoader;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.DbkvsVersionException;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresCellTsPageLoader;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresCompactionCandidateLoader;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresGetRange;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresPrefixedTableNames;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges.DbKvsGetRange;
@@ -91,6 +94,8 @@ import com.palantir.atlasdb.keyvalue.impl.LocalRowColumnRangeIterator;
 import com.palantir.atlasdb.logging.LoggingArgs;
 import com.palantir.atlasdb.spi.SharedResourcesConfig;
 import com.palantir.atlasdb.tracing.TraceStatistics;
+import com.palantir.atlasdb.util.MetricsManager;
+import com.palantir.atlasdb.util.MetricsManagers;
 import com.palantir.common.annotation.Output;
 import com.palantir.common.base.ClosableIterator;
 import com.palantir.common.base.ClosableIterators;
@@ -110,6 +115,7 @@ import com.palantir.nexus.db.sql.AgnosticResultRow;
 import com.palantir.nexus.db.sql.AgnosticResultSet;
 import com.palantir.nexus.db.sql.SqlConnection;
 import com.palantir.nylon.threads.ThreadNames;
+import com.palantir.tritium.metrics.registry.DefaultTaggedMetricRegistry;
 import com.palantir.util.crypto.Sha256Hash;
 import com.palantir.util.paging.AbstractPagingIterable;
 import com.palantir.util.paging.SimpleTokenBackedResultsPage;
@@ -160,6 +166,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     private final OverflowValueLoader overflowValueLoader;
     private final DbKvsGetRange getRangeStrategy;
     private final DbKvsGetCandidateCellsForSweeping getCandidateCellsForSweepingStrategy;
+    private final Optional<CompactionCandidateLoader> compactionCandidateLoader;
     private final InitializingWrapper wrapper = new InitializingWrapper();
 
     public static DbKeyValueService create(DbKeyValueServiceConfig config, SqlConnectionSupplier sqlConnSupplier) {
@@ -168,7 +175,15 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
 
     public static DbKeyValueService create(
             DbKeyValueServiceConfig config, SqlConnectionSupplier sqlConnSupplier, boolean initializeAsync) {
-        DbKvs dbKvs = createNoInit(config.ddl(), sqlConnSupplier, config.sharedResourcesConfig());
+        return create(config, sqlConnSupplier, initializeAsync, unpublishedMetricsManager());
+    }
+
+    public static DbKeyValueService create(
+            DbKeyValueServiceConfig config,
+            SqlConnectionSupplier sqlConnSupplier,
+            boolean initializeAsync,
+            MetricsManager metricsManager) {
+        DbKvs dbKvs = createNoInit(config.ddl(), sqlConnSupplier, config.sharedResourcesConfig(), metricsManager);
         dbKvs.wrapper.initialize(initializeAsync);
         return dbKvs.wrapper.isInitialized() ? dbKvs : dbKvs.wrapper;
     }
@@ -182,6 +197,14 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
             DdlConfig config,
             SqlConnectionSupplier connections,
             Optional<SharedResourcesConfig> sharedResourcesConfig) {
+        return createNoInit(config, connections, sharedResourcesConfig, unpublishedMetricsManager());
+    }
+
+    public static DbKvs createNoInit(
+            DdlConfig config,
+            SqlConnectionSupplier connections,
+            Optional<SharedResourcesConfig> sharedResourcesConfig,
+            MetricsManager metricsManager) {
         ExecutorService executor = SharedFixedExecutors.createOrGetShared(
                 "Atlas Relational KVS",
                 config.poolSize(),
@@ -201,7 +224,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
 
             @Override
             public DbKvs visit(OracleDdlConfig oracleDdlConfig) {
-                return createOracle(executor, oracleDdlConfig, connections);
+                return createOracle(executor, oracleDdlConfig, connections, metricsManager);
             }
         });
     }
@@ -211,7 +234,8 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         PostgresPrefixedTableNames prefixedTableNames = new PostgresPrefixedTableNames(config);
         DbTableFactory tableFactory = new PostgresDbTableFactory(config, prefixedTableNames);
         TableMetadataCache tableMetadataCache = new TableMetadataCache(tableFactory);
-        CellTsPairLoader cellTsPairLoader = new PostgresCellTsPageLoader(prefixedTableNames, connections);
+        CellTsPairLoader cellTsPairLoader = new PostgresCellTsPageLoader(
+                prefixedTableNames, connections, config.streamingSweepCandidateScans());
         return new DbKvs(
                 executor,
                 config,
@@ -219,19 +243,36 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
                 connections,
                 new ParallelTaskRunner(newFixedThreadPool(config.poolSize()), config.fetchBatchSize()),
                 (conns, tbl, ids) -> Collections.emptyMap(), // no overflow on postgres
-                new PostgresGetRange(prefixedTableNames, connections, tableMetadataCache),
-                new DbKvsGetCandidateCellsForSweeping(cellTsPairLoader));
+                new PostgresGetRange(
+                        prefixedTableNames,
+                        connections,
+                        tableMetadataCache,
+                        config.readAheadRangeScans()
+                                ? Optional.of(newReadAheadThreadPool(config.poolSize()))
+                                : Optional.empty()),
+                new DbKvsGetCandidateCellsForSweeping(cellTsPairLoader),
+                config.compactionCandidatesFromTableStatistics()
+                        ? Optional.of(new PostgresCompactionCandidateLoader(prefixedTableNames, connections, config))
+                        : Optional.empty());
     }
 
     private static DbKvs createOracle(
-            ExecutorService executor, OracleDdlConfig oracleDdlConfig, SqlConnectionSupplier connections) {
+            ExecutorService executor,
+            OracleDdlConfig oracleDdlConfig,
+            SqlConnectionSupplier connections,
+            MetricsManager metricsManager) {
         OracleTableNameGetter tableNameGetter = OracleTableNameGetterImpl.createDefault(oracleDdlConfig);
         OraclePrefixedTableNames prefixedTableNames = new OraclePrefixedTableNames(tableNameGetter);
         TableValueStyleCacheImpl valueStyleCache = new TableValueStyleCacheImpl();
         DbTableFactory tableFactory = new OracleDbTableFactory(
                 oracleDdlConfig, tableNameGetter, prefixedTableNames, valueStyleCache, executor);
         TableMetadataCache tableMetadataCache = new TableMetadataCache(tableFactory);
-        OverflowValueLoader overflowValueLoader = new OracleOverflowValueLoader(oracleDdlConfig, tableNameGetter);
+        OverflowValueLoader overflowValueLoader = new OracleOverflowValueLoader(
+                oracleDdlConfig,
+                tableNameGetter,
+                connections,
+                newOverflowLoaderThreadPool(oracleDdlConfig.poolSize()),
+                metricsManager);
         DbKvsGetRange getRange = new OracleGetRange(
                 connections,
                 overflowValueLoader,
@@ -254,7 +295,8 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
                 new ImmediateSingleBatchTaskRunner(),
                 overflowValueLoader,
                 getRange,
-                new DbKvsGetCandidateCellsForSweeping(cellTsPageLoader));
+                new DbKvsGetCandidateCellsForSweeping(cellTsPageLoader),
+                Optional.empty());
     }
 
     private DbKvs(
@@ -265,7 +307,8 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
             BatchingTaskRunner batchingQueryRunner,
             OverflowValueLoader overflowValueLoader,
             DbKvsGetRange getRangeStrategy,
-            DbKvsGetCandidateCellsForSweeping getCandidateCellsForSweepingStrategy) {
+            DbKvsGetCandidateCellsForSweeping getCandidateCellsForSweepingStrategy,
+            Optional<CompactionCandidateLoader> compactionCandidateLoader) {
         super(executor);
         this.config = config;
         this.dbTables = dbTables;
@@ -274,12 +317,25 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         this.overflowValueLoader = overflowValueLoader;
         this.getRangeStrategy = getRangeStrategy;
         this.getCandidateCellsForSweepingStrategy = getCandidateCellsForSweepingStrategy;
+        this.compactionCandidateLoader = compactionCandidateLoader;
+    }
+
+    private static MetricsManager unpublishedMetricsManager() {
+        return MetricsManagers.of(new MetricRegistry(), new DefaultTaggedMetricRegistry());
     }
 
     private static ExecutorService newFixedThreadPool(int maxPoolSize) {
         return PTExecutors.newFixedThreadPool(maxPoolSize, "Atlas DbKvs reader");
     }
 
+    private static ExecutorService newReadAheadThreadPool(int maxPoolSize) {
+        return PTExecutors.newFixedThreadPool(maxPoolSize, "Atlas DbKvs range read-ahead");
+    }
+
+    private static ExecutorService newOverflowLoaderThreadPool(int maxPoolSize) {
+        return PTExecutors.newCachedThreadPoolWithMaxThreads(maxPoolSize, "Atlas DbKvs overflow loader");
+    }
+
     private void init() {
         checkDatabaseVersion();
         databaseSpecificInitialization();
@@ -310,6 +366,8 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         dbTables.close();
         connections.close();
         batchingQueryRunner.close();
+        getRangeStrategy.close();
+        overflowValueLoader.close();
     }
 
     @Override
@@ -347,6 +405,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
             DbReadTable table, TableReference tableRef, ClosableIterator<AgnosticLightResultRow> rows) {
         Map<Cell, Value> results = new HashMap<>();
         Map<Cell, OverflowValue> overflowResults = new HashMap<>();
+        OverflowValueLoad overflowLoad = overflowValueLoader.startLoad(table.getConnectionSupplier(), tableRef);
         try (ClosableIterator<AgnosticLightResultRow> iter = rows) {
             boolean hasOverflow = table.hasOverflowValues();
             while (iter.hasNext()) {
@@ -375,11 +434,13 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
                     OverflowValue oldOv = overflowResults.put(cell, ov);
                     if (oldOv != null && oldOv.ts() > ov.ts()) {
                         overflowResults.put(cell, oldOv);
+                    } else {
+                        overflowLoad.add(overflowId);
                     }
                 }
             }
         }
-        fillOverflowValues(table.getConnectionSupplier(), tableRef, overflowResults, results);
+        fillOverflowValues(overflowLoad, overflowResults, results);
         return results;
     }
 
@@ -654,14 +715,20 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     @Override
     public Map<RangeRequest, TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> getFirstBatchForRanges(
             TableReference tableRef, Iterable<RangeRequest> rangeRequests, long timestamp) {
-        return new DbKvsGetRanges(this, dbTables.getDbType(), connections, dbTables.getPrefixedTableNames())
+        return new DbKvsGetRanges(
+                        this,
+                        dbTables.getDbType(),
+                        connections,
+                        dbTables.getPrefixedTableNames(),
+                        executor,
+                        Math.min(config.getRangesParallelism(), config.poolSize()))
                 .getFirstBatchForRanges(tableRef, rangeRequests, timestamp);
     }
 
     @Override
     public ClosableIterator<RowResult<Value>> getRange(
             TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
-        return ClosableIterators.wrapWithEmptyClose(getRangeStrategy.getRange(tableRef, rangeRequest, timestamp));
+        return getRangeStrategy.getRange(tableRef, rangeRequest, timestamp);
     }
 
     public void setMaxRangeOfTimestampsBatchSize(long newValue) {
@@ -742,8 +809,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     @Override
     public ClosableIterator<List<CandidateCellForSweeping>> getCandidateCellsForSweeping(
             TableReference tableRef, CandidateCellForSweepingRequest request) {
-        return ClosableIterators.wrapWithEmptyClose(
-                getCandidateCellsForSweepingStrategy.getCandidateCellsForSweeping(tableRef, request));
+        return getCandidateCellsForSweepingStrategy.getCandidateCellsForSweeping(tableRef, request);
     }
 
     private TokenBackedBasicResultsPage<RowResult<Set<Long>>, Token> getTimestampsPage(
@@ -1047,6 +1113,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         boolean hasOverflow = table.hasOverflowValues();
         Map<Cell, Value> values = new HashMap<>();
         Map<Cell, OverflowValue> overflowValues = new HashMap<>();
+        OverflowValueLoad overflowLoad = overflowValueLoader.startLoad(table.getConnectionSupplier(), tableRef);
 
         try (ClosableIterator<AgnosticLightResultRow> iter = rowLoader.get()) {
             while (iter.hasNext()) {
@@ -1066,12 +1133,14 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
                     OverflowValue oldOv = overflowValues.put(cell, ov);
                     if (oldOv != null && oldOv.ts() > ov.ts()) {
                         overflowValues.put(cell, oldOv);
+                    } else {
+                        overflowLoad.add(overflowId);
                     }
                 }
             }
         }
 
-        fillOverflowValues(table.getConnectionSupplier(), tableRef, overflowValues, values);
+        fillOverflowValues(overflowLoad, overflowValues, values);
 
         Map<byte[], List<Map.Entry<Cell, Value>>> results = Maps.newHashMapWithExpectedSize(allRows.size());
         for (Map.Entry<Sha256Hash, List<Cell>> e : cellsByRow.entrySet()) {
@@ -1086,9 +1155,8 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         return results;
     }
 
-    private void fillOverflowValues(
-            ConnectionSupplier conns,
-            TableReference tableRef,
+    private static void fillOverflowValues(
+            OverflowValueLoad overflowLoad,
             Map<Cell, OverflowValue> overflowValues,
             @Output Map<Cell, Value> values) {
         Iterator<Map.Entry<Cell, OverflowValue>> overflowIterator =
@@ -1100,8 +1168,8 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
                 overflowIterator.remove();
             }
         }
-        Map<Long, byte[]> resolvedOverflowValues = overflowValueLoader.loadOverflowValues(
-                conns, tableRef, Collections2.transform(overflowValues.values(), OverflowValue::id));
+        Map<Long, byte[]> resolvedOverflowValues =
+                overflowLoad.complete(Collections2.transform(overflowValues.values(), OverflowValue::id));
         for (Map.Entry<Cell, OverflowValue> entry : overflowValues.entrySet()) {
             Cell cell = entry.getKey();
             OverflowValue ov = entry.getValue();
@@ -1276,6 +1344,11 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         });
     }
 
+    @Override
+    public Optional<List<CompactionCandidate>> getCompactionCandidates() {
+        return compactionCandidateLoader.map(loader -> loader.getCompactionCandidates(getAllTableNames()));
+    }
+
     @Override
     public ClusterAvailabilityStatus getClusterAvailabilityStatus() {
         try {
@@ -0,0 +1,34 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A load of overflow values whose ids are discovered one at a time, typically while reading the rows that refer to
+ * them. Implementations may start loading values as soon as their ids are added.
+ */
+public interface OverflowValueLoad {
+    void add(long overflowId);
+
+    /**
+     * Returns at least the values of the given ids, all of which must have been added to this load, waiting for any
+     * loads that are still in progress. Ids that were added but are not given here need not be loaded.
+     */
+    Map<Long, byte[]> complete(Collection<Long> overflowIds);
+}
@@ -22,4 +22,22 @@ import java.util.Map;
 public interface OverflowValueLoader {
     Map<Long, byte[]> loadOverflowValues(
             ConnectionSupplier conns, TableReference tableRef, Collection<Long> overflowIds);
+
+    /**
+     * Starts a load to which overflow ids can be added as they are read. By default, nothing is loaded until the load
+     * is completed, at which point the required values are loaded with {@link #loadOverflowValues}.
+     */
+    default OverflowValueLoad startLoad(ConnectionSupplier conns, TableReference tableRef) {
+        return new OverflowValueLoad() {
+            @Override
+            public void add(long overflowId) {}
+
+            @Override
+            public Map<Long, byte[]> complete(Collection<Long> overflowIds) {
+                return loadOverflowValues(conns, tableRef, overflowIds);
+            }
+        };
+    }
+
+    default void close() {}
 }
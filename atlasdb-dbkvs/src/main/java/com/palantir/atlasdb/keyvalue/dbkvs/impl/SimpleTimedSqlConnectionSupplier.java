@@ -25,6 +25,8 @@ import com.palantir.nexus.db.sql.ConnectionBackedSqlConnectionImpl;
 import com.palantir.nexus.db.sql.SQL;
 import com.palantir.nexus.db.sql.SqlConnection;
 import com.palantir.nexus.db.sql.SqlConnectionHelper;
+import java.sql.Connection;
+import java.util.Optional;
 
 public final class SimpleTimedSqlConnectionSupplier implements SqlConnectionSupplier {
     private final ConnectionSupplier connectionSupplier;
@@ -37,8 +39,17 @@ public final class SimpleTimedSqlConnectionSupplier implements SqlConnectionSupp
 
     @Override
     public SqlConnection get() {
+        return wrap(connectionSupplier.get());
+    }
+
+    @Override
+    public Optional<SqlConnection> tryGetUnshared() {
+        return connectionSupplier.tryGetUnsharedConnection().map(this::wrap);
+    }
+
+    private SqlConnection wrap(Connection connection) {
         return new ConnectionBackedSqlConnectionImpl(
-                connectionSupplier.get(),
+                connection,
                 () -> {
                     throw new UnsupportedOperationException("This SQL connection does not provide reliable timestamp.");
                 },
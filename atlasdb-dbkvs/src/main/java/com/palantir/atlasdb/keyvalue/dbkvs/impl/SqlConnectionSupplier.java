@@ -18,12 +18,21 @@ package com.palantir.atlasdb.keyvalue.dbkvs.impl;
 import com.palantir.exception.PalantirSqlException;
 import com.palantir.nexus.db.sql.SqlConnection;
 import java.io.Closeable;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 public interface SqlConnectionSupplier extends Supplier<SqlConnection>, Closeable {
     @Override
     SqlConnection get();
 
+    /**
+     * Returns a connection that is not shared with other users of this supplier, but only if one can be obtained
+     * without waiting for the pool. The caller must close it. By default, no connection is returned.
+     */
+    default Optional<SqlConnection> tryGetUnshared() {
+        return Optional.empty();
+    }
+
     @Override
     void close() throws PalantirSqlException;
 }
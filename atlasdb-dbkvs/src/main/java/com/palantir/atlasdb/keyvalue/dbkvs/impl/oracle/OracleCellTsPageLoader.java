@@ -31,6 +31,8 @@ import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.CellTsPairInfo;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.CellTsPairLoader;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.CellTsPairToken;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.SweepQueryHelpers;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.common.base.ClosableIterators;
 import com.palantir.common.exception.TableMappingNotFoundException;
 import com.palantir.logsafe.Preconditions;
 import com.palantir.nexus.db.DBType;
@@ -95,15 +97,15 @@ public class OracleCellTsPageLoader implements CellTsPairLoader {
     }
 
     @Override
-    public Iterator<List<CellTsPairInfo>> createPageIterator(
+    public ClosableIterator<List<CellTsPairInfo>> createPageIterator(
             TableReference tableRef, CandidateCellForSweepingRequest request) {
         TableDetails tableDetails = getTableDetailsUsingNewConnection(tableRef);
-        return new PageIterator(
+        return ClosableIterators.wrapWithEmptyClose(new PageIterator(
                 connectionPool,
                 request,
                 tableDetails,
                 Math.max(1, request.batchSizeHint().orElse(DEFAULT_BATCH_SIZE)),
-                request.startRowInclusive());
+                request.startRowInclusive()));
     }
 
     private static class PageIterator implements Iterator<List<CellTsPairInfo>> {
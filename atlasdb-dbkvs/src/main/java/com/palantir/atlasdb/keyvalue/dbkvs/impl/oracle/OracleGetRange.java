@@ -31,6 +31,7 @@ import com.palantir.atlasdb.keyvalue.dbkvs.OracleDdlConfig;
 import com.palantir.atlasdb.keyvalue.dbkvs.OracleTableNameGetter;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.FullQuery;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.OverflowValueLoad;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.OverflowValueLoader;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.SqlConnectionSupplier;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.TableMetadataCache;
@@ -153,13 +154,14 @@ public class OracleGetRange implements DbKvsGetRange {
     }
 
     @Override
-    public Iterator<RowResult<Value>> getRange(TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
+    public ClosableIterator<RowResult<Value>> getRange(
+            TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
         boolean haveOverflow = checkIfTableHasOverflowUsingNewConnection(tableRef);
         int maxRowsPerPage = RangeHelpers.getMaxRowsPerPage(rangeRequest);
         int maxCellsPerPage = DbKvsGetRanges.getMaxCellsPerPage(
                 tableRef, rangeRequest, maxRowsPerPage, connectionPool, tableMetadataCache);
 
-        return Iterators.concat(new PageIterator(
+        return ClosableIterators.wrapWithEmptyClose(Iterators.concat(new PageIterator(
                 rangeRequest.getStartInclusive(),
                 rangeRequest.getEndExclusive(),
                 rangeRequest.getColumnNames(),
@@ -168,7 +170,7 @@ public class OracleGetRange implements DbKvsGetRange {
                 haveOverflow,
                 maxRowsPerPage,
                 maxCellsPerPage,
-                timestamp));
+                timestamp)));
     }
 
     private boolean checkIfTableHasOverflowUsingNewConnection(TableReference tableRef) {
@@ -216,14 +218,12 @@ public class OracleGetRange implements DbKvsGetRange {
                 return endOfData();
             } else {
                 try (ConnectionSupplier conns = new ConnectionSupplier(connectionPool)) {
-                    List<RawSqlRow> sqlRows = loadSqlRows(conns);
-                    Map<Long, byte[]> overflowValues = overflowValueLoader.loadOverflowValues(
-                            conns,
-                            tableRef,
-                            sqlRows.stream()
-                                    .map(r -> r.overflowId)
-                                    .filter(Objects::nonNull)
-                                    .collect(Collectors.toList()));
+                    OverflowValueLoad overflowLoad = overflowValueLoader.startLoad(conns, tableRef);
+                    List<RawSqlRow> sqlRows = loadSqlRows(conns, overflowLoad);
+                    Map<Long, byte[]> overflowValues = overflowLoad.complete(sqlRows.stream()
+                            .map(r -> r.overflowId)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList()));
                     List<RowResult<Value>> rowResults = createRowResults(sqlRows, overflowValues, maxRowsPerPage);
                     if (rowResults.isEmpty()) {
                         endOfResults = true;
@@ -239,7 +239,7 @@ public class OracleGetRange implements DbKvsGetRange {
         }
 
         @SuppressWarnings("deprecation")
-        private List<RawSqlRow> loadSqlRows(ConnectionSupplier conns) {
+        private List<RawSqlRow> loadSqlRows(ConnectionSupplier conns, OverflowValueLoad overflowLoad) {
             List<RawSqlRow> sqlRows = new ArrayList<>();
             try (ClosableIterator<AgnosticLightResultRow> rangeResults = selectNextPage(conns)) {
                 while (rangeResults.hasNext()) {
@@ -248,6 +248,9 @@ public class OracleGetRange implements DbKvsGetRange {
                     long ts = row.getLong("ts");
                     byte[] val = row.getBytes("val");
                     Long overflowId = haveOverflowValues ? row.getLongObject("overflow") : null;
+                    if (overflowId != null) {
+                        overflowLoad.add(overflowId);
+                    }
                     sqlRows.add(new RawSqlRow(cell, ts, val, overflowId));
                 }
             }
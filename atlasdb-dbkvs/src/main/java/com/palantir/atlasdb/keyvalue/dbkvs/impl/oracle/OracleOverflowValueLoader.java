@@ -15,46 +15,104 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl.oracle;
 
+import com.codahale.metrics.Meter;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.palantir.atlasdb.futures.AtlasFutures;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.dbkvs.OracleDdlConfig;
 import com.palantir.atlasdb.keyvalue.dbkvs.OracleTableNameGetter;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.FullQuery;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.OverflowMigrationState;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.OverflowValueLoad;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.OverflowValueLoader;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.SqlConnectionSupplier;
+import com.palantir.atlasdb.util.MetricsManager;
 import com.palantir.common.base.ClosableIterator;
 import com.palantir.common.base.ClosableIterators;
 import com.palantir.common.exception.TableMappingNotFoundException;
 import com.palantir.db.oracle.JdbcHandler.ArrayHandler;
 import com.palantir.nexus.db.sql.AgnosticLightResultRow;
 import com.palantir.nexus.db.sql.AgnosticLightResultSet;
+import com.palantir.nexus.db.sql.SqlConnection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * Loads overflow values by joining against a collection of their ids bound as a single array.
+ *
+ * If {@link OracleDdlConfig#overflowLoadParallelism()} is greater than one, ids are split into chunks of
+ * {@link OracleDdlConfig#overflowLoadBatchSize()}, and each chunk that fills up while the rows referring to it are
+ * still being read is loaded on the executor, but only if a pooled connection can be borrowed for it without waiting.
+ * All other ids are loaded on the reader's connection when the load is completed, so that a read never waits for a
+ * connection that it may itself be preventing other reads from returning to the pool.
+ */
 public class OracleOverflowValueLoader implements OverflowValueLoader {
 
     private final OracleDdlConfig config;
     private final OracleTableNameGetter tableNameGetter;
+    private final SqlConnectionSupplier connectionPool;
+    private final ExecutorService executor;
+    private final Meter overflowValuesLoaded;
+    private final Meter overflowBytesLoaded;
 
-    public OracleOverflowValueLoader(OracleDdlConfig config, OracleTableNameGetter tableNameGetter) {
+    public OracleOverflowValueLoader(
+            OracleDdlConfig config,
+            OracleTableNameGetter tableNameGetter,
+            SqlConnectionSupplier connectionPool,
+            ExecutorService executor,
+            MetricsManager metricsManager) {
         this.config = config;
         this.tableNameGetter = tableNameGetter;
+        this.connectionPool = connectionPool;
+        this.executor = executor;
+        this.overflowValuesLoaded =
+                metricsManager.registerOrGetMeter(OracleOverflowValueLoader.class, "overflowValuesLoaded");
+        this.overflowBytesLoaded =
+                metricsManager.registerOrGetMeter(OracleOverflowValueLoader.class, "overflowBytesLoaded");
     }
 
     @Override
     public Map<Long, byte[]> loadOverflowValues(
             ConnectionSupplier conns, TableReference tableRef, Collection<Long> overflowIds) {
+        if (overflowIds.size() <= config.overflowLoadBatchSize() || config.overflowLoadParallelism() <= 1) {
+            return loadChunk(conns, tableRef, overflowIds);
+        }
+        OverflowValueLoad load = startLoad(conns, tableRef);
+        overflowIds.forEach(load::add);
+        return load.complete(overflowIds);
+    }
+
+    @Override
+    public OverflowValueLoad startLoad(ConnectionSupplier conns, TableReference tableRef) {
+        if (config.overflowLoadParallelism() <= 1) {
+            return OverflowValueLoader.super.startLoad(conns, tableRef);
+        }
+        return new ParallelOverflowValueLoad(conns, tableRef);
+    }
+
+    private Map<Long, byte[]> loadChunk(
+            ConnectionSupplier conns, TableReference tableRef, Collection<Long> overflowIds) {
         if (overflowIds.isEmpty()) {
             return new HashMap<>();
         } else {
             Map<Long, byte[]> ret = Maps.newHashMapWithExpectedSize(overflowIds.size());
+            long bytesLoaded = 0;
             for (FullQuery query : getOverflowQueries(conns, tableRef, overflowIds)) {
                 try (ClosableIterator<AgnosticLightResultRow> overflowIter = select(conns, query)) {
                     while (overflowIter.hasNext()) {
@@ -64,13 +122,91 @@ public class OracleOverflowValueLoader implements OverflowValueLoader {
                         byte[] val = row.getBytes("val");
                         long id = row.getLong("id");
                         ret.put(id, val);
+                        if (val != null) {
+                            bytesLoaded += val.length;
+                        }
                     }
                 }
             }
+            overflowValuesLoaded.mark(ret.size());
+            overflowBytesLoaded.mark(bytesLoaded);
             return ret;
         }
     }
 
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private final class ParallelOverflowValueLoad implements OverflowValueLoad {
+        private final ConnectionSupplier conns;
+        private final TableReference tableRef;
+        private final List<Future<Map<Long, byte[]>>> backgroundLoads = new ArrayList<>();
+        private final List<Long> readerIds = new ArrayList<>();
+        private List<Long> pendingIds = new ArrayList<>();
+
+        private ParallelOverflowValueLoad(ConnectionSupplier conns, TableReference tableRef) {
+            this.conns = conns;
+            this.tableRef = tableRef;
+        }
+
+        @Override
+        public void add(long overflowId) {
+            pendingIds.add(overflowId);
+            if (pendingIds.size() >= config.overflowLoadBatchSize()) {
+                List<Long> chunk = pendingIds;
+                pendingIds = new ArrayList<>();
+                if (!hasCapacityForBackgroundLoad() || !tryLoadInBackground(chunk)) {
+                    readerIds.addAll(chunk);
+                }
+            }
+        }
+
+        private boolean tryLoadInBackground(List<Long> chunk) {
+            Optional<SqlConnection> connection = connectionPool.tryGetUnshared();
+            if (!connection.isPresent()) {
+                return false;
+            }
+            ConnectionSupplier backgroundConns = new ConnectionSupplier(connection::get);
+            // Hands the borrowed connection to the supplier, so that closing the supplier returns it to the pool.
+            backgroundConns.get();
+            try {
+                backgroundLoads.add(executor.submit(() -> {
+                    try (ConnectionSupplier loadConns = backgroundConns) {
+                        return loadChunk(loadConns, tableRef, chunk);
+                    }
+                }));
+                return true;
+            } catch (RejectedExecutionException e) {
+                backgroundConns.close();
+                return false;
+            }
+        }
+
+        @Override
+        public Map<Long, byte[]> complete(Collection<Long> overflowIds) {
+            Set<Long> requiredIds = new HashSet<>(overflowIds);
+            List<Long> requiredReaderIds = Stream.concat(readerIds.stream(), pendingIds.stream())
+                    .filter(requiredIds::contains)
+                    .collect(Collectors.toList());
+            Map<Long, byte[]> ret = new HashMap<>();
+            for (List<Long> chunk : Lists.partition(requiredReaderIds, config.overflowLoadBatchSize())) {
+                ret.putAll(loadChunk(conns, tableRef, chunk));
+            }
+            for (Future<Map<Long, byte[]>> load : backgroundLoads) {
+                ret.putAll(AtlasFutures.getUnchecked(load));
+            }
+            return ret;
+        }
+
+        // The reader's own connection counts towards the parallelism.
+        private boolean hasCapacityForBackgroundLoad() {
+            long inProgress = backgroundLoads.stream().filter(load -> !load.isDone()).count();
+            return inProgress < config.overflowLoadParallelism() - 1;
+        }
+    }
+
     private ClosableIterator<AgnosticLightResultRow> select(ConnectionSupplier conns, FullQuery query) {
         AgnosticLightResultSet results =
                 conns.get().selectLightResultSetUnregisteredQuery(query.getQuery(), query.getArgs());
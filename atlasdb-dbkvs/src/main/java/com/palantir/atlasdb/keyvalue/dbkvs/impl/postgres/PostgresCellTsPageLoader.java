@@ -15,6 +15,8 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.palantir.atlasdb.keyvalue.api.CandidateCellForSweepingRequest;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
@@ -27,38 +29,69 @@ import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.CellTsPairInfo;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.CellTsPairLoader;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.CellTsPairToken;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.SweepQueryHelpers;
+import com.palantir.atlasdb.logging.LoggingArgs;
+import com.palantir.common.annotation.Output;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.common.base.ClosableIterators;
+import com.palantir.exception.PalantirSqlException;
 import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
 import com.palantir.nexus.db.DBType;
 import com.palantir.nexus.db.sql.AgnosticLightResultRow;
 import com.palantir.nexus.db.sql.AgnosticLightResultSet;
+import com.palantir.nexus.db.sql.SqlConnection;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
 public class PostgresCellTsPageLoader implements CellTsPairLoader {
+    private static final SafeLogger log = SafeLoggerFactory.get(PostgresCellTsPageLoader.class);
 
     private final PostgresPrefixedTableNames prefixedTableNames;
     private final SqlConnectionSupplier connectionPool;
+    private final boolean streaming;
 
     private static final int DEFAULT_BATCH_SIZE = 1000;
 
+    /**
+     * Each streaming query reads at most this many pages before its transaction is ended and a new query is issued,
+     * so that no single transaction holds back vacuum for the length of a whole scan.
+     */
+    @VisibleForTesting
+    static final int STREAMING_PAGES_PER_QUERY = 100;
+
     public PostgresCellTsPageLoader(
             PostgresPrefixedTableNames prefixedTableNames, SqlConnectionSupplier connectionPool) {
+        this(prefixedTableNames, connectionPool, false);
+    }
+
+    /**
+     * If {@code streaming} is true, each scan reads its candidates through server-side cursors that each cover many
+     * pages, instead of issuing a bounded query per page. See {@link StreamingPageIterator}.
+     */
+    public PostgresCellTsPageLoader(
+            PostgresPrefixedTableNames prefixedTableNames, SqlConnectionSupplier connectionPool, boolean streaming) {
         this.prefixedTableNames = prefixedTableNames;
         this.connectionPool = connectionPool;
+        this.streaming = streaming;
     }
 
     @Override
-    public Iterator<List<CellTsPairInfo>> createPageIterator(
+    public ClosableIterator<List<CellTsPairInfo>> createPageIterator(
             TableReference tableRef, CandidateCellForSweepingRequest request) {
-        return new PageIterator(
-                connectionPool,
-                request,
-                Math.max(1, request.batchSizeHint().orElse(DEFAULT_BATCH_SIZE)),
-                DbKvs.internalTableName(tableRef),
-                prefixedTableNames.get(tableRef),
-                request.startRowInclusive());
+        int batchSize = Math.max(1, request.batchSizeHint().orElse(DEFAULT_BATCH_SIZE));
+        String tableName = DbKvs.internalTableName(tableRef);
+        String prefixedTableName = prefixedTableNames.get(tableRef);
+        CellTsPairToken startToken = CellTsPairToken.startRow(request.startRowInclusive());
+        if (streaming) {
+            return new StreamingPageIterator(tableRef, request, batchSize, tableName, prefixedTableName, startToken);
+        }
+        return ClosableIterators.wrapWithEmptyClose(new PageIterator(
+                connectionPool, request, batchSize, tableName, prefixedTableName, startToken));
     }
 
     private static class PageIterator implements Iterator<List<CellTsPairInfo>> {
@@ -76,13 +109,13 @@ public class PostgresCellTsPageLoader implements CellTsPairLoader {
                 int sqlRowLimit,
                 String tableName,
                 String prefixedTableName,
-                byte[] startRowInclusive) {
+                CellTsPairToken token) {
             this.connectionPool = connectionPool;
             this.request = request;
             this.sqlRowLimit = sqlRowLimit;
             this.tableName = tableName;
             this.prefixedTableName = prefixedTableName;
-            this.token = CellTsPairToken.startRow(startRowInclusive);
+            this.token = token;
         }
 
         @Override
@@ -106,87 +139,17 @@ public class PostgresCellTsPageLoader implements CellTsPairLoader {
                     AgnosticLightResultSet resultSet = selectNextPage(conns)) {
                 List<CellTsPairInfo> ret = new ArrayList<>();
                 for (AgnosticLightResultRow row : resultSet) {
-                    byte[] rowName = row.getBytes("row_name");
-                    byte[] colName = row.getBytes("col_name");
-                    if (request.shouldCheckIfLatestValueIsEmpty()) {
-                        long[] sortedTimestamps = castAndSortTimestamps((Object[]) row.getArray("timestamps"));
-                        boolean isLatestValEmpty = row.getBoolean("latest_val_empty");
-                        for (int i = 0; i < sortedTimestamps.length - 1; ++i) {
-                            ret.add(new CellTsPairInfo(rowName, colName, sortedTimestamps[i], false));
-                        }
-                        // For the maximum timestamp, we know whether its value is empty or not,
-                        // so we handle it separately
-                        ret.add(new CellTsPairInfo(
-                                rowName, colName, sortedTimestamps[sortedTimestamps.length - 1], isLatestValEmpty));
-                    } else {
-                        long ts = row.getLong("ts");
-                        ret.add(new CellTsPairInfo(rowName, colName, ts, false));
-                    }
+                    addCellTsPairs(request, row, ret);
                 }
                 return ret;
             }
         }
 
         private AgnosticLightResultSet selectNextPage(ConnectionSupplier conns) {
-            FullQuery fullQuery = getFullQuery();
+            FullQuery fullQuery = getFullQuery(request, tableName, prefixedTableName, token, sqlRowLimit);
             return conns.get().selectLightResultSetUnregisteredQuery(fullQuery.getQuery(), fullQuery.getArgs());
         }
 
-        private FullQuery getFullQuery() {
-            if (request.shouldCheckIfLatestValueIsEmpty()) {
-                FullQuery.Builder queryBuilder = FullQuery.builder()
-                        .append("/* GET_CANDIDATE_CELLS_FOR_SWEEPING_THOROUGH(")
-                        .append(tableName)
-                        .append(") */")
-                        .append("  SELECT cells.row_name, cells.col_name, cells.timestamps, ")
-                        .append("         length(v.val) = 0 AS latest_val_empty")
-                        .append("  FROM (")
-                        .append("    SELECT")
-                        .append("      row_name, col_name, MAX(ts) AS max_ts, ARRAY_AGG(ts) AS timestamps")
-                        .append("    FROM (")
-                        .append("      SELECT row_name, col_name, ts")
-                        .append("      FROM ")
-                        .append(prefixedTableName)
-                        .append("      WHERE ts < ? ", request.maxTimestampExclusive());
-                SweepQueryHelpers.appendIgnoredTimestampPredicate(request, queryBuilder);
-                RangePredicateHelper.create(false, DBType.POSTGRESQL, queryBuilder)
-                        .startCellTsInclusive(
-                                token.startRowInclusive(), token.startColInclusive(), token.startTsInclusive());
-                return queryBuilder
-                        .append("      ORDER BY row_name, col_name, ts")
-                        .append("      LIMIT ?", sqlRowLimit)
-                        .append("    ) sub")
-                        .append("    GROUP BY row_name, col_name")
-                        .append("    ORDER BY row_name, col_name")
-                        .append("  ) cells")
-                        .append("  JOIN ")
-                        .append(prefixedTableName)
-                        .append(" v")
-                        .append("  ON cells.row_name = v.row_name")
-                        .append("  AND cells.col_name = v.col_name")
-                        .append("  AND cells.max_ts = v.ts")
-                        .append("  ORDER BY cells.row_name, cells.col_name")
-                        .build();
-            } else {
-                FullQuery.Builder queryBuilder = FullQuery.builder()
-                        .append("/* GET_CANDIDATE_CELLS_FOR_SWEEPING_CONSERVATIVE(")
-                        .append(tableName)
-                        .append(" */")
-                        .append("  SELECT row_name, col_name, ts")
-                        .append("  FROM ")
-                        .append(prefixedTableName)
-                        .append("  WHERE ts < ? ", request.maxTimestampExclusive());
-                SweepQueryHelpers.appendIgnoredTimestampPredicate(request, queryBuilder);
-                RangePredicateHelper.create(false, DBType.POSTGRESQL, queryBuilder)
-                        .startCellTsInclusive(
-                                token.startRowInclusive(), token.startColInclusive(), token.startTsInclusive());
-                return queryBuilder
-                        .append("  ORDER BY row_name, col_name, ts")
-                        .append("  LIMIT ?", sqlRowLimit)
-                        .build();
-            }
-        }
-
         private CellTsPairToken computeNextStartPosition(List<CellTsPairInfo> results) {
             if (results.size() < sqlRowLimit) {
                 return CellTsPairToken.end();
@@ -197,6 +160,210 @@ public class PostgresCellTsPageLoader implements CellTsPairLoader {
         }
     }
 
+    /**
+     * Reads candidates through a server-side cursor held open on a dedicated connection. Rows are fetched from the
+     * cursor {@code batchSize} at a time, and only when the caller asks for the next page, so client memory stays
+     * bounded by the batch size however large the table is. Each query is limited to
+     * {@link #STREAMING_PAGES_PER_QUERY} pages and runs in its own transaction. Once a query is exhausted, its
+     * transaction is ended and, unless the query came back short, the next one starts after the last pair returned.
+     *
+     * If reading from the cursor fails, for example because the connection was lost, the scan falls back to paged
+     * queries starting just after the last (cell, ts) pair that was returned.
+     */
+    private final class StreamingPageIterator implements ClosableIterator<List<CellTsPairInfo>> {
+        private final TableReference tableRef;
+        private final CandidateCellForSweepingRequest request;
+        private final int batchSize;
+        private final String tableName;
+        private final String prefixedTableName;
+        private final int queryRowLimit;
+
+        private CellTsPairToken token;
+        private int pairsReadFromQuery;
+        private SqlConnection connection;
+        private AgnosticLightResultSet resultSet;
+        private Iterator<AgnosticLightResultRow> rows;
+        private boolean reachedEnd = false;
+        private Iterator<List<CellTsPairInfo>> fallback;
+
+        StreamingPageIterator(
+                TableReference tableRef,
+                CandidateCellForSweepingRequest request,
+                int batchSize,
+                String tableName,
+                String prefixedTableName,
+                CellTsPairToken token) {
+            this.tableRef = tableRef;
+            this.request = request;
+            this.batchSize = batchSize;
+            this.tableName = tableName;
+            this.prefixedTableName = prefixedTableName;
+            this.queryRowLimit = (int) Math.min(Integer.MAX_VALUE, (long) batchSize * STREAMING_PAGES_PER_QUERY);
+            this.token = token;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return fallback != null ? fallback.hasNext() : !reachedEnd;
+        }
+
+        // As with PageIterator, the last page may be empty.
+        @Override
+        public List<CellTsPairInfo> next() {
+            Preconditions.checkState(hasNext());
+            if (fallback != null) {
+                return fallback.next();
+            }
+            try {
+                return readNextPage();
+            } catch (PalantirSqlException e) {
+                log.warn(
+                        "Streaming scan for sweep candidates failed, falling back to paged queries",
+                        LoggingArgs.tableRef(tableRef),
+                        e);
+                close();
+                fallback = new PageIterator(connectionPool, request, batchSize, tableName, prefixedTableName, token);
+                return fallback.hasNext() ? fallback.next() : ImmutableList.of();
+            }
+        }
+
+        private List<CellTsPairInfo> readNextPage() {
+            if (rows == null) {
+                openCursor();
+            }
+            List<CellTsPairInfo> page = new ArrayList<>(batchSize);
+            while (page.size() < batchSize && rows.hasNext()) {
+                addCellTsPairs(request, rows.next(), page);
+            }
+            pairsReadFromQuery += page.size();
+            if (!page.isEmpty()) {
+                token = CellTsPairToken.continueRow(Iterables.getLast(page));
+            }
+            if (!rows.hasNext()) {
+                // The LIMIT applies to (cell, ts) pairs, so a query that returned fewer has reached the end.
+                reachedEnd = pairsReadFromQuery < queryRowLimit;
+                close();
+            }
+            return page;
+        }
+
+        private void openCursor() {
+            connection = connectionPool.get();
+            try {
+                // Postgres only keeps a cursor open, rather than sending the whole result set, inside a transaction.
+                connection.getUnderlyingConnection().setAutoCommit(false);
+            } catch (SQLException e) {
+                throw PalantirSqlException.create(e);
+            }
+            FullQuery fullQuery = getFullQuery(request, tableName, prefixedTableName, token, queryRowLimit);
+            resultSet = connection.selectLightResultSetUnregisteredQueryWithFetchSize(
+                    fullQuery.getQuery(), batchSize, fullQuery.getArgs());
+            rows = resultSet.iterator();
+            pairsReadFromQuery = 0;
+        }
+
+        @Override
+        public void close() {
+            rows = null;
+            if (resultSet != null) {
+                resultSet.close();
+                resultSet = null;
+            }
+            if (connection != null) {
+                try {
+                    Connection underlyingConnection = connection.getUnderlyingConnection();
+                    underlyingConnection.rollback();
+                    underlyingConnection.setAutoCommit(true);
+                    underlyingConnection.close();
+                } catch (SQLException | PalantirSqlException e) {
+                    log.debug("Error occurred closing the streaming sweep connection", e);
+                } finally {
+                    connection = null;
+                }
+            }
+        }
+    }
+
+    private static void addCellTsPairs(
+            CandidateCellForSweepingRequest request, AgnosticLightResultRow row, @Output List<CellTsPairInfo> ret) {
+        byte[] rowName = row.getBytes("row_name");
+        byte[] colName = row.getBytes("col_name");
+        if (request.shouldCheckIfLatestValueIsEmpty()) {
+            long[] sortedTimestamps = castAndSortTimestamps((Object[]) row.getArray("timestamps"));
+            boolean isLatestValEmpty = row.getBoolean("latest_val_empty");
+            for (int i = 0; i < sortedTimestamps.length - 1; ++i) {
+                ret.add(new CellTsPairInfo(rowName, colName, sortedTimestamps[i], false));
+            }
+            // For the maximum timestamp, we know whether its value is empty or not,
+            // so we handle it separately
+            ret.add(new CellTsPairInfo(
+                    rowName, colName, sortedTimestamps[sortedTimestamps.length - 1], isLatestValEmpty));
+        } else {
+            long ts = row.getLong("ts");
+            ret.add(new CellTsPairInfo(rowName, colName, ts, false));
+        }
+    }
+
+    private static FullQuery getFullQuery(
+            CandidateCellForSweepingRequest request,
+            String tableName,
+            String prefixedTableName,
+            CellTsPairToken token,
+            int sqlRowLimit) {
+        if (request.shouldCheckIfLatestValueIsEmpty()) {
+            FullQuery.Builder queryBuilder = FullQuery.builder()
+                    .append("/* GET_CANDIDATE_CELLS_FOR_SWEEPING_THOROUGH(")
+                    .append(tableName)
+                    .append(") */")
+                    .append("  SELECT cells.row_name, cells.col_name, cells.timestamps, ")
+                    .append("         length(v.val) = 0 AS latest_val_empty")
+                    .append("  FROM (")
+                    .append("    SELECT")
+                    .append("      row_name, col_name, MAX(ts) AS max_ts, ARRAY_AGG(ts) AS timestamps")
+                    .append("    FROM (")
+                    .append("      SELECT row_name, col_name, ts")
+                    .append("      FROM ")
+                    .append(prefixedTableName)
+                    .append("      WHERE ts < ? ", request.maxTimestampExclusive());
+            SweepQueryHelpers.appendIgnoredTimestampPredicate(request, queryBuilder);
+            RangePredicateHelper.create(false, DBType.POSTGRESQL, queryBuilder)
+                    .startCellTsInclusive(
+                            token.startRowInclusive(), token.startColInclusive(), token.startTsInclusive());
+            return queryBuilder
+                    .append("      ORDER BY row_name, col_name, ts")
+                    .append("      LIMIT ?", sqlRowLimit)
+                    .append("    ) sub")
+                    .append("    GROUP BY row_name, col_name")
+                    .append("    ORDER BY row_name, col_name")
+                    .append("  ) cells")
+                    .append("  JOIN ")
+                    .append(prefixedTableName)
+                    .append(" v")
+                    .append("  ON cells.row_name = v.row_name")
+                    .append("  AND cells.col_name = v.col_name")
+                    .append("  AND cells.max_ts = v.ts")
+                    .append("  ORDER BY cells.row_name, cells.col_name")
+                    .build();
+        } else {
+            FullQuery.Builder queryBuilder = FullQuery.builder()
+                    .append("/* GET_CANDIDATE_CELLS_FOR_SWEEPING_CONSERVATIVE(")
+                    .append(tableName)
+                    .append(" */")
+                    .append("  SELECT row_name, col_name, ts")
+                    .append("  FROM ")
+                    .append(prefixedTableName)
+                    .append("  WHERE ts < ? ", request.maxTimestampExclusive());
+            SweepQueryHelpers.appendIgnoredTimestampPredicate(request, queryBuilder);
+            RangePredicateHelper.create(false, DBType.POSTGRESQL, queryBuilder)
+                    .startCellTsInclusive(
+                            token.startRowInclusive(), token.startColInclusive(), token.startTsInclusive());
+            return queryBuilder
+                    .append("  ORDER BY row_name, col_name, ts")
+                    .append("  LIMIT ?", sqlRowLimit)
+                    .build();
+        }
+    }
+
     // Postgres doesn't guarantee the order of results of ARRAY_AGG, so we sort the timestamps ourselves.
     private static long[] castAndSortTimestamps(Object[] timestampJdbcArray) {
         long[] sortedTimestamps = new long[timestampJdbcArray.length];
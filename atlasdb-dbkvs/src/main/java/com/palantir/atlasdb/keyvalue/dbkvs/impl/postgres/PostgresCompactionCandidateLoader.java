@@ -0,0 +1,124 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.CompactionCandidateLoader;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.SqlConnectionSupplier;
+import com.palantir.nexus.db.sql.AgnosticResultRow;
+import com.palantir.nexus.db.sql.AgnosticResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Estimates the benefit of vacuuming each table from the tuple counts and sizes that Postgres keeps in
+ * {@code pg_stat_user_tables}.
+ *
+ * VACUUM makes the space held by dead tuples available for reuse, so the space a vacuum reclaims is roughly the dead
+ * fraction of the table's heap. Its cost is dominated by reading the heap and every index, so it takes time
+ * proportional to the total size of the relation, plus a fixed overhead. Tables are ranked by the ratio of the two,
+ * which favours large heavily churned tables over small ones and over large ones with little bloat.
+ */
+public class PostgresCompactionCandidateLoader implements CompactionCandidateLoader {
+    @VisibleForTesting
+    static final long MIN_RECLAIMABLE_BYTES = 1024 * 1024;
+
+    private static final long ESTIMATED_VACUUM_BYTES_PER_SECOND = 64 * 1024 * 1024;
+    private static final Duration ESTIMATED_VACUUM_OVERHEAD = Duration.ofSeconds(1);
+
+    private final PostgresPrefixedTableNames prefixedTableNames;
+    private final SqlConnectionSupplier connectionPool;
+    private final PostgresDdlConfig config;
+
+    public PostgresCompactionCandidateLoader(
+            PostgresPrefixedTableNames prefixedTableNames,
+            SqlConnectionSupplier connectionPool,
+            PostgresDdlConfig config) {
+        this.prefixedTableNames = prefixedTableNames;
+        this.connectionPool = connectionPool;
+        this.config = config;
+    }
+
+    @Override
+    public List<CompactionCandidate> getCompactionCandidates(Set<TableReference> tableRefs) {
+        Map<String, TableReference> tableRefsByPrefixedName =
+                tableRefs.stream().collect(Collectors.toMap(prefixedTableNames::get, Function.identity(), (a, b) -> a));
+        long compactIntervalMillis = config.compactInterval().toMilliseconds();
+
+        List<CompactionCandidate> candidates = new ArrayList<>();
+        try (ConnectionSupplier conns = new ConnectionSupplier(connectionPool)) {
+            AgnosticResultSet rs = conns.get()
+                    .selectResultSetUnregisteredQuery("SELECT relname, n_live_tup, n_dead_tup, "
+                            + "pg_table_size(relid) AS heap_bytes, "
+                            + "pg_total_relation_size(relid) AS total_bytes, "
+                            + "FLOOR(EXTRACT(EPOCH FROM GREATEST( "
+                            + "  last_vacuum, last_autovacuum, last_analyze, last_autoanalyze"
+                            + "))*1000) AS last, "
+                            + "FLOOR(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP)*1000) AS current "
+                            + "FROM pg_stat_user_tables");
+            for (AgnosticResultRow row : rs.rows()) {
+                TableReference tableRef = tableRefsByPrefixedName.get(row.getString("relname"));
+                if (tableRef == null || compactedWithinInterval(row, compactIntervalMillis)) {
+                    continue;
+                }
+                estimate(
+                                tableRef,
+                                row.getLong("n_live_tup"),
+                                row.getLong("n_dead_tup"),
+                                row.getLong("heap_bytes"),
+                                row.getLong("total_bytes"))
+                        .ifPresent(candidates::add);
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(CompactionCandidate::estimatedReclaimableBytesPerSecond)
+                .reversed());
+        return candidates;
+    }
+
+    private static boolean compactedWithinInterval(AgnosticResultRow row, long compactIntervalMillis) {
+        // last could be null if vacuum has never run
+        long last = row.getLong("last", -1);
+        return compactIntervalMillis > 0 && last != -1 && row.getLong("current") - last < compactIntervalMillis;
+    }
+
+    @VisibleForTesting
+    static Optional<CompactionCandidate> estimate(
+            TableReference tableRef, long liveTuples, long deadTuples, long heapBytes, long totalBytes) {
+        if (deadTuples <= 0 || heapBytes <= 0) {
+            return Optional.empty();
+        }
+        double deadFraction = (double) deadTuples / (Math.max(liveTuples, 0L) + deadTuples);
+        long reclaimableBytes = (long) (heapBytes * deadFraction);
+        if (reclaimableBytes < MIN_RECLAIMABLE_BYTES) {
+            return Optional.empty();
+        }
+        Duration duration = ESTIMATED_VACUUM_OVERHEAD.plusMillis(
+                Math.max(totalBytes, heapBytes) * 1000 / ESTIMATED_VACUUM_BYTES_PER_SECOND);
+        return Optional.of(CompactionCandidate.of(tableRef, reclaimableBytes, duration));
+    }
+}
@@ -15,10 +15,12 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Iterators;
 import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.futures.AtlasFutures;
 import com.palantir.atlasdb.keyvalue.api.RangeRequest;
 import com.palantir.atlasdb.keyvalue.api.RangeRequests;
 import com.palantir.atlasdb.keyvalue.api.RowResult;
@@ -47,6 +49,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /* 1) On Postgres, there seems to be no efficient way to page at atlas row boundaries.
  *    The approach with 'DENSE_RANK() <= x' that works exceptionally well on Oracle,
@@ -121,26 +125,50 @@ import java.util.Set;
  *
  */
 public class PostgresGetRange implements DbKvsGetRange {
+    /**
+     * With read-ahead, two pages may be held in memory at once, so pages are sized to stay around this many bytes.
+     */
+    private static final long READ_AHEAD_TARGET_PAGE_BYTES = 8 * 1024 * 1024;
+
+    private static final int READ_AHEAD_MIN_CELLS_PER_PAGE = 16;
+
     private final PostgresPrefixedTableNames prefixedTableNames;
     private final SqlConnectionSupplier connectionPool;
     private final TableMetadataCache tableMetadataCache;
+    private final Optional<ExecutorService> readAheadExecutor;
 
     public PostgresGetRange(
             PostgresPrefixedTableNames prefixedTableNames,
             SqlConnectionSupplier connectionPool,
             TableMetadataCache tableMetadataCache) {
+        this(prefixedTableNames, connectionPool, tableMetadataCache, Optional.empty());
+    }
+
+    /**
+     * If {@code readAheadExecutor} is present, each range scan loads its next page on that executor, using a
+     * connection of its own, while the caller consumes the current page. Page sizes are then also adjusted to the
+     * observed width of the cells read so far. The executor is owned by this object and is shut down by
+     * {@link #close}; closing a range iterator cancels its pending read-ahead.
+     */
+    public PostgresGetRange(
+            PostgresPrefixedTableNames prefixedTableNames,
+            SqlConnectionSupplier connectionPool,
+            TableMetadataCache tableMetadataCache,
+            Optional<ExecutorService> readAheadExecutor) {
         this.prefixedTableNames = prefixedTableNames;
         this.connectionPool = connectionPool;
         this.tableMetadataCache = tableMetadataCache;
+        this.readAheadExecutor = readAheadExecutor;
     }
 
     @Override
-    public Iterator<RowResult<Value>> getRange(TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
+    public ClosableIterator<RowResult<Value>> getRange(
+            TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
         int maxRowsPerPage = RangeHelpers.getMaxRowsPerPage(rangeRequest);
         int maxCellsPerPage = DbKvsGetRanges.getMaxCellsPerPage(
                 tableRef, rangeRequest, maxRowsPerPage, connectionPool, tableMetadataCache);
         String tableName = DbKvs.internalTableName(tableRef);
-        Iterator<Iterator<RowResult<Value>>> pageIterator = new PageIterator(
+        PageIterator pageIterator = new PageIterator(
                 rangeRequest.getStartInclusive(),
                 rangeRequest.getEndExclusive(),
                 rangeRequest.getColumnNames(),
@@ -150,7 +178,23 @@ public class PostgresGetRange implements DbKvsGetRange {
                 maxCellsPerPage,
                 tableName,
                 prefixedTableNames.get(tableRef));
-        return Iterators.concat(pageIterator);
+        return ClosableIterators.wrap(Iterators.concat(pageIterator), pageIterator::cancelReadAhead);
+    }
+
+    @Override
+    public void close() {
+        readAheadExecutor.ifPresent(ExecutorService::shutdownNow);
+    }
+
+    @VisibleForTesting
+    static int getReadAheadCellsPerPage(long pageBytes, int numCells, int maxCellsPerPage) {
+        if (numCells == 0) {
+            return maxCellsPerPage;
+        }
+        long bytesPerCell = Math.max(1, pageBytes / numCells);
+        long cellsPerPage = READ_AHEAD_TARGET_PAGE_BYTES / bytesPerCell;
+        int minCellsPerPage = Math.min(READ_AHEAD_MIN_CELLS_PER_PAGE, maxCellsPerPage);
+        return (int) Math.max(minCellsPerPage, Math.min(maxCellsPerPage, cellsPerPage));
     }
 
     private class PageIterator extends AbstractIterator<Iterator<RowResult<Value>>> {
@@ -158,6 +202,8 @@ public class PostgresGetRange implements DbKvsGetRange {
         private ImmutableSortedMap.Builder<byte[], Value> currentRowCells = RangeHelpers.newColumnMap();
         private byte[] firstRowStartColumnInclusive = PtBytes.EMPTY_BYTE_ARRAY;
         private boolean endOfResults = false;
+        private int cellsPerPage;
+        private Future<Page> nextPage = null;
 
         private final byte[] endExclusive;
         private final Set<byte[]> columnSelection;
@@ -185,48 +231,63 @@ public class PostgresGetRange implements DbKvsGetRange {
             this.ts = ts;
             this.maxRowsPerPage = maxRowsPerPage;
             this.maxCellsPerPage = maxCellsPerPage;
+            this.cellsPerPage = maxCellsPerPage;
             this.tableName = tableName;
             this.prefixedTableName = prefixedTableName;
         }
 
         @Override
-        @SuppressWarnings("deprecation")
         protected Iterator<RowResult<Value>> computeNext() {
             if (endOfResults) {
                 return endOfData();
-            } else {
-                try (ConnectionSupplier conns = new ConnectionSupplier(connectionPool);
-                        ClosableIterator<AgnosticLightResultRow> iter = selectNextPage(conns)) {
-                    List<RowResult<Value>> results = new ArrayList<>(maxRowsPerPage);
-                    int numSqlRows = 0;
-                    byte[] colName = null;
-                    while (iter.hasNext()) {
-                        numSqlRows += 1;
-                        AgnosticLightResultRow sqlRow = iter.next();
-                        byte[] rowName = sqlRow.getBytes("row_name");
-                        colName = Preconditions.checkNotNull(
-                                sqlRow.getBytes("col_name"), "received a null col_name from the database");
-                        if (!Arrays.equals(currentRowName, rowName)) {
-                            flushCurrentRow(results);
-                            currentRowName = rowName;
-                        }
-                        byte[] rawVal = sqlRow.getBytes("val");
-                        Value value = Value.create(rawVal, sqlRow.getLong("ts"));
-                        currentRowCells.put(colName, value);
+            }
+            Page page =
+                    nextPage == null ? loadPage(getRangeQuery(), cellsPerPage) : AtlasFutures.getUnchecked(nextPage);
+            nextPage = null;
 
-                        // Track the bytes read from the DB (ignoring overheads)
-                        TraceStatistics.incBytesRead(rowName);
-                        TraceStatistics.incBytesRead(colName);
-                        TraceStatistics.incBytesRead(rawVal);
-                    }
-                    if (numSqlRows < maxCellsPerPage || colName == null) {
-                        getCurrentRowResult().ifPresent(results::add);
-                        endOfResults = true;
-                    } else {
-                        computeNextStartPosition(colName, results);
-                    }
-                    return results.iterator();
+            List<RowResult<Value>> results = new ArrayList<>(maxRowsPerPage);
+            byte[] colName = null;
+            for (SqlCell cell : page.cells) {
+                colName = cell.colName;
+                if (!Arrays.equals(currentRowName, cell.rowName)) {
+                    flushCurrentRow(results);
+                    currentRowName = cell.rowName;
                 }
+                currentRowCells.put(colName, Value.create(cell.val, cell.ts));
+
+                // Track the bytes read from the DB (ignoring overheads)
+                TraceStatistics.incBytesRead(cell.rowName);
+                TraceStatistics.incBytesRead(colName);
+                TraceStatistics.incBytesRead(cell.val);
+            }
+            if (page.cells.size() < page.cellLimit || colName == null) {
+                getCurrentRowResult().ifPresent(results::add);
+                endOfResults = true;
+            } else {
+                computeNextStartPosition(colName, results);
+            }
+            if (!endOfResults) {
+                readAheadExecutor.ifPresent(executor -> readAhead(executor, page));
+            }
+            return results.iterator();
+        }
+
+        private void readAhead(ExecutorService executor, Page previousPage) {
+            cellsPerPage =
+                    getReadAheadCellsPerPage(previousPage.sizeInBytes, previousPage.cells.size(), maxCellsPerPage);
+            FullQuery query = getRangeQuery();
+            int cellLimit = cellsPerPage;
+            nextPage = executor.submit(() -> loadPage(query, cellLimit));
+        }
+
+        /**
+         * Stops the scan, so that a caller abandoning it does not leave a page loading on a pooled connection.
+         */
+        private void cancelReadAhead() {
+            endOfResults = true;
+            if (nextPage != null) {
+                nextPage.cancel(true);
+                nextPage = null;
             }
         }
 
@@ -257,11 +318,31 @@ public class PostgresGetRange implements DbKvsGetRange {
             }
         }
 
-        private ClosableIterator<AgnosticLightResultRow> selectNextPage(ConnectionSupplier conns) {
-            FullQuery query = getRangeQuery();
+        @SuppressWarnings("deprecation")
+        private Page loadPage(FullQuery query, int cellLimit) {
+            try (ConnectionSupplier conns = new ConnectionSupplier(connectionPool);
+                    ClosableIterator<AgnosticLightResultRow> iter = selectPage(conns, query, cellLimit)) {
+                List<SqlCell> cells = new ArrayList<>(cellLimit);
+                long sizeInBytes = 0;
+                while (iter.hasNext()) {
+                    AgnosticLightResultRow sqlRow = iter.next();
+                    SqlCell cell = new SqlCell(
+                            sqlRow.getBytes("row_name"),
+                            Preconditions.checkNotNull(
+                                    sqlRow.getBytes("col_name"), "received a null col_name from the database"),
+                            sqlRow.getLong("ts"),
+                            sqlRow.getBytes("val"));
+                    cells.add(cell);
+                    sizeInBytes += cell.sizeInBytes();
+                }
+                return new Page(cells, cellLimit, sizeInBytes);
+            }
+        }
+
+        private ClosableIterator<AgnosticLightResultRow> selectPage(
+                ConnectionSupplier conns, FullQuery query, int cellLimit) {
             AgnosticLightResultSet rs = conns.get()
-                    .selectLightResultSetUnregisteredQueryWithFetchSize(
-                            query.getQuery(), maxCellsPerPage, query.getArgs());
+                    .selectLightResultSetUnregisteredQueryWithFetchSize(query.getQuery(), cellLimit, query.getArgs());
             return ClosableIterators.wrap(rs.iterator(), rs);
         }
 
@@ -288,7 +369,7 @@ public class PostgresGetRange implements DbKvsGetRange {
                     .append(direction)
                     .append(", col_name ")
                     .append(direction)
-                    .append("    LIMIT ?", maxCellsPerPage)
+                    .append("    LIMIT ?", cellsPerPage)
                     .append("  ) i")
                     .append("  WHERE wrap.row_name = i.row_name")
                     .append("    AND wrap.col_name = i.col_name")
@@ -300,4 +381,34 @@ public class PostgresGetRange implements DbKvsGetRange {
             return queryBuilder.build();
         }
     }
+
+    private static final class Page {
+        private final List<SqlCell> cells;
+        private final int cellLimit;
+        private final long sizeInBytes;
+
+        private Page(List<SqlCell> cells, int cellLimit, long sizeInBytes) {
+            this.cells = cells;
+            this.cellLimit = cellLimit;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+
+    private static final class SqlCell {
+        private final byte[] rowName;
+        private final byte[] colName;
+        private final long ts;
+        private final byte[] val;
+
+        private SqlCell(byte[] rowName, byte[] colName, long ts, byte[] val) {
+            this.rowName = rowName;
+            this.colName = colName;
+            this.ts = ts;
+            this.val = val;
+        }
+
+        private long sizeInBytes() {
+            return rowName.length + colName.length + Long.BYTES + (val == null ? 0 : val.length);
+        }
+    }
 }
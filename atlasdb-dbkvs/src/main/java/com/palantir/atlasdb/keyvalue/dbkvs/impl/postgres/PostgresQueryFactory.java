@@ -30,7 +30,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Row, column and cell lists are bound as arrays rather than as one placeholder per element, so that every query
+ * shape has a fixed text no matter how many rows or cells are requested. This lets the driver and the server reuse
+ * prepared statements and their plans across calls.
+ */
 public class PostgresQueryFactory extends AbstractDbQueryFactory {
+    private static final String BYTEA_ARRAY_PARAM = "CAST(? AS BYTEA[])";
+    private static final String INT8_ARRAY_PARAM = "CAST(? AS INT8[])";
+
     private final String tableName;
     private final PostgresDdlConfig config;
 
@@ -48,11 +56,11 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
                 + "    AND m.ts < ? "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())))
+                        : "    AND m.col_name = ANY(" + BYTEA_ARRAY_PARAM + ")")
                 + " GROUP BY m.row_name, m.col_name";
         query = wrapQueryWithIncludeValue("GET_LATEST_ROW", query, includeValue);
         FullQuery fullQuery = new FullQuery(query).withArgs(row, ts);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArg(toByteaArray(columns.getSelectedColumns()));
     }
 
     @Override
@@ -60,15 +68,15 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_LATEST_ROWS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m "
-                + "  WHERE m.row_name IN " + numParams(Iterables.size(rows))
+                + "  WHERE m.row_name = ANY(" + BYTEA_ARRAY_PARAM + ")"
                 + "    AND m.ts < ? "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())))
+                        : "    AND m.col_name = ANY(" + BYTEA_ARRAY_PARAM + ")")
                 + " GROUP BY m.row_name, m.col_name ";
         query = wrapQueryWithIncludeValue("GET_LATEST_ROW", query, includeValue);
-        FullQuery fullQuery = new FullQuery(query).withArgs(rows).withArg(ts);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+        FullQuery fullQuery = new FullQuery(query).withArg(toByteaArray(rows)).withArg(ts);
+        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArg(toByteaArray(columns.getSelectedColumns()));
     }
 
     @Override
@@ -77,16 +85,16 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_LATEST_ROWS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m,"
-                + "     (VALUES " + groupOfNumParams(2, rows.size()) + ") t(row_name, ts) "
+                + "     UNNEST(" + BYTEA_ARRAY_PARAM + ", " + INT8_ARRAY_PARAM + ") t(row_name, ts) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.ts < t.ts "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())))
+                        : "    AND m.col_name = ANY(" + BYTEA_ARRAY_PARAM + ")")
                 + " GROUP BY m.row_name, m.col_name ";
         query = wrapQueryWithIncludeValue("GET_LATEST_ROW", query, includeValue);
         FullQuery fullQuery = addRowTsArgs(new FullQuery(query), rows);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArg(toByteaArray(columns.getSelectedColumns()));
     }
 
     @Override
@@ -98,9 +106,9 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
                 + "    AND m.ts < ? "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())));
+                        : "    AND m.col_name = ANY(" + BYTEA_ARRAY_PARAM + ")");
         FullQuery fullQuery = new FullQuery(query).withArgs(row, ts);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArg(toByteaArray(columns.getSelectedColumns()));
     }
 
     @Override
@@ -108,13 +116,13 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ALL_ROWS (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, m.ts" + (includeValue ? ", m.val " : " ")
                 + "   FROM " + prefixedTableName() + " m "
-                + "  WHERE m.row_name IN " + numParams(Iterables.size(rows))
+                + "  WHERE m.row_name = ANY(" + BYTEA_ARRAY_PARAM + ")"
                 + "    AND m.ts < ? "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())));
-        FullQuery fullQuery = new FullQuery(query).withArgs(rows).withArg(ts);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+                        : "    AND m.col_name = ANY(" + BYTEA_ARRAY_PARAM + ")");
+        FullQuery fullQuery = new FullQuery(query).withArg(toByteaArray(rows)).withArg(ts);
+        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArg(toByteaArray(columns.getSelectedColumns()));
     }
 
     @Override
@@ -123,14 +131,14 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ALL_ROWS (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, m.ts" + (includeValue ? ", m.val " : " ")
                 + "   FROM " + prefixedTableName() + " m,"
-                + "     (VALUES " + groupOfNumParams(2, rows.size()) + ") t(row_name, ts) "
+                + "     UNNEST(" + BYTEA_ARRAY_PARAM + ", " + INT8_ARRAY_PARAM + ") t(row_name, ts) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.ts < t.ts "
                 + (columns.allColumnsSelected()
                         ? ""
-                        : "    AND m.col_name IN " + numParams(Iterables.size(columns.getSelectedColumns())));
+                        : "    AND m.col_name = ANY(" + BYTEA_ARRAY_PARAM + ")");
         FullQuery fullQuery = addRowTsArgs(new FullQuery(query), rows);
-        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArgs(columns.getSelectedColumns());
+        return columns.allColumnsSelected() ? fullQuery : fullQuery.withArg(toByteaArray(columns.getSelectedColumns()));
     }
 
     @Override
@@ -152,7 +160,7 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_LATEST_CELLS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m,"
-                + "    (VALUES " + groupOfNumParams(2, Iterables.size(cells)) + ") t(row_name, col_name) "
+                + "     UNNEST(" + BYTEA_ARRAY_PARAM + ", " + BYTEA_ARRAY_PARAM + ") t(row_name, col_name) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.col_name = t.col_name "
                 + "    AND m.ts < ? "
@@ -166,7 +174,8 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_LATEST_CELLS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m,"
-                + "     (VALUES " + groupOfNumParams(3, Iterables.size(cells)) + ") t(row_name, col_name, ts) "
+                + "     UNNEST(" + BYTEA_ARRAY_PARAM + ", " + BYTEA_ARRAY_PARAM + ", " + INT8_ARRAY_PARAM + ")"
+                + "       t(row_name, col_name, ts) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.col_name = t.col_name "
                 + "    AND m.ts < t.ts "
@@ -191,7 +200,7 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ALL_CELLS (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, m.ts" + (includeValue ? ", m.val " : " ")
                 + "   FROM " + prefixedTableName() + " m,"
-                + "     (VALUES " + groupOfNumParams(2, Iterables.size(cells)) + ") t(row_name, col_name) "
+                + "     UNNEST(" + BYTEA_ARRAY_PARAM + ", " + BYTEA_ARRAY_PARAM + ") t(row_name, col_name) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.col_name = t.col_name "
                 + "    AND m.ts < ? ";
@@ -203,7 +212,8 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ALL_CELLS (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, m.ts" + (includeValue ? ", m.val " : " ")
                 + "   FROM " + prefixedTableName() + " m,"
-                + "     (VALUES " + groupOfNumParams(3, Iterables.size(cells)) + ") t(row_name, col_name, ts) "
+                + "     UNNEST(" + BYTEA_ARRAY_PARAM + ", " + BYTEA_ARRAY_PARAM + ", " + INT8_ARRAY_PARAM + ")"
+                + "       t(row_name, col_name, ts) "
                 + "  WHERE m.row_name = t.row_name "
                 + "    AND m.col_name = t.col_name "
                 + "    AND m.ts < t.ts ";
@@ -238,15 +248,8 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         return false;
     }
 
-    private String numParams(int numParams) {
-        StringBuilder builder = new StringBuilder(2 * numParams + 1).append('(');
-        Joiner.on(',').appendTo(builder, Iterables.limit(Iterables.cycle('?'), numParams));
-        return builder.append(')').toString();
-    }
-
-    private String groupOfNumParams(int numParams, int numEntries) {
-        String params = numParams(numParams);
-        return Joiner.on(',').join(Iterables.limit(Iterables.cycle(params), numEntries));
+    private static byte[][] toByteaArray(Iterable<byte[]> values) {
+        return Iterables.toArray(values, byte[].class);
     }
 
     private String wrapQueryWithIncludeValue(String wrappedName, String query, boolean includeValue) {
@@ -261,26 +264,44 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
                 + "   AND wrap.ts = i.ts ";
     }
 
-    private FullQuery addRowTsArgs(FullQuery fullQuery, Iterable<Map.Entry<byte[], Long>> rows) {
+    private FullQuery addRowTsArgs(FullQuery fullQuery, Collection<Map.Entry<byte[], Long>> rows) {
+        byte[][] rowNames = new byte[rows.size()][];
+        long[] timestamps = new long[rows.size()];
+        int index = 0;
         for (Map.Entry<byte[], Long> entry : rows) {
-            fullQuery.withArgs(entry.getKey(), entry.getValue());
+            rowNames[index] = entry.getKey();
+            timestamps[index] = entry.getValue();
+            index++;
         }
-        return fullQuery;
+        return fullQuery.withArgs(rowNames, timestamps);
     }
 
     private FullQuery addCellArgs(FullQuery fullQuery, Iterable<Cell> cells) {
+        int size = Iterables.size(cells);
+        byte[][] rowNames = new byte[size][];
+        byte[][] colNames = new byte[size][];
+        int index = 0;
         for (Cell cell : cells) {
-            fullQuery.withArgs(cell.getRowName(), cell.getColumnName());
+            rowNames[index] = cell.getRowName();
+            colNames[index] = cell.getColumnName();
+            index++;
         }
-        return fullQuery;
+        return fullQuery.withArgs(rowNames, colNames);
     }
 
     private FullQuery addCellTsArgs(FullQuery fullQuery, Collection<Map.Entry<Cell, Long>> cells) {
+        byte[][] rowNames = new byte[cells.size()][];
+        byte[][] colNames = new byte[cells.size()][];
+        long[] timestamps = new long[cells.size()];
+        int index = 0;
         for (Map.Entry<Cell, Long> entry : cells) {
             Cell cell = entry.getKey();
-            fullQuery.withArgs(cell.getRowName(), cell.getColumnName(), entry.getValue());
+            rowNames[index] = cell.getRowName();
+            colNames[index] = cell.getColumnName();
+            timestamps[index] = entry.getValue();
+            index++;
         }
-        return fullQuery;
+        return fullQuery.withArgs(rowNames, colNames, timestamps);
     }
 
     private String prefixedTableName() {
@@ -293,12 +314,12 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ROWS_COLUMN_RANGE_COUNT(" + tableName + ") */"
                 + " SELECT m.row_name, COUNT(m.col_name) AS column_count "
                 + "   FROM " + prefixedTableName() + " m "
-                + "  WHERE m.row_name IN " + numParams(Iterables.size(rows))
+                + "  WHERE m.row_name = ANY(" + BYTEA_ARRAY_PARAM + ")"
                 + "    AND m.ts < ? "
                 + (columnRangeSelection.getStartCol().length > 0 ? " AND m.col_name >= ?" : "")
                 + (columnRangeSelection.getEndCol().length > 0 ? " AND m.col_name < ?" : "")
                 + " GROUP BY m.row_name";
-        FullQuery fullQuery = new FullQuery(query).withArgs(rows).withArg(ts);
+        FullQuery fullQuery = new FullQuery(query).withArg(toByteaArray(rows)).withArg(ts);
         if (columnRangeSelection.getStartCol().length > 0) {
             fullQuery = fullQuery.withArg(columnRangeSelection.getStartCol());
         }
@@ -339,14 +360,14 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         String query = " /* GET_ROWS_COLUMN_RANGE_FULLY_LOADED_ROW (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts"
                 + "   FROM " + prefixedTableName() + " m "
-                + "  WHERE m.row_name IN " + numParams(Iterables.size(rows))
+                + "  WHERE m.row_name = ANY(" + BYTEA_ARRAY_PARAM + ")"
                 + "    AND m.ts < ? "
                 + (columnRangeSelection.getStartCol().length > 0 ? " AND m.col_name >= ?" : "")
                 + (columnRangeSelection.getEndCol().length > 0 ? " AND m.col_name < ?" : "")
                 + " GROUP BY m.row_name, m.col_name"
                 + " ORDER BY m.row_name ASC, m.col_name ASC";
         String wrappedQuery = wrapQueryWithIncludeValue("GET_ROWS_COLUMN_RANGE_FULLY_LOADED_ROW", query, true);
-        FullQuery fullQuery = new FullQuery(wrappedQuery).withArgs(rows).withArg(ts);
+        FullQuery fullQuery = new FullQuery(wrappedQuery).withArg(toByteaArray(rows)).withArg(ts);
         if (columnRangeSelection.getStartCol().length > 0) {
             fullQuery = fullQuery.withArg(columnRangeSelection.getStartCol());
         }
@@ -19,8 +19,14 @@ import com.palantir.atlasdb.keyvalue.api.RangeRequest;
 import com.palantir.atlasdb.keyvalue.api.RowResult;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.api.Value;
-import java.util.Iterator;
+import com.palantir.common.base.ClosableIterator;
 
 public interface DbKvsGetRange {
-    Iterator<RowResult<Value>> getRange(TableReference tableRef, RangeRequest rangeRequest, long timestamp);
+    ClosableIterator<RowResult<Value>> getRange(TableReference tableRef, RangeRequest rangeRequest, long timestamp);
+
+    /**
+     * Releases any resources held for loading ranges. Iterators returned by {@link #getRange} must not be used
+     * afterwards.
+     */
+    default void close() {}
 }
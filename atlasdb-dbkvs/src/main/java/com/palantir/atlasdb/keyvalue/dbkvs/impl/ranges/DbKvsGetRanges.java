@@ -15,14 +15,18 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Ordering;
 import com.google.common.collect.SortedSetMultimap;
 import com.google.common.collect.TreeMultimap;
 import com.google.common.primitives.UnsignedBytes;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.palantir.atlasdb.AtlasDbPerformanceConstants;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
@@ -40,6 +44,7 @@ import com.palantir.atlasdb.keyvalue.dbkvs.impl.oracle.PrimaryKeyConstraintNames
 import com.palantir.atlasdb.keyvalue.impl.Cells;
 import com.palantir.atlasdb.keyvalue.impl.RowResults;
 import com.palantir.atlasdb.table.description.TableMetadata;
+import com.palantir.common.base.Throwables;
 import com.palantir.common.collect.IterableView;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.logger.SafeLogger;
@@ -63,6 +68,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 @SuppressWarnings("InlineFormatString") // complex query string, makes more sense to keep extracted as a constant
@@ -74,31 +83,100 @@ public class DbKvsGetRanges {
     private static final byte[] LARGEST_NAME =
             Cells.createLargestCellForRow(new byte[] {0}).getColumnName();
 
+    private static final int MAX_RANGES_PER_QUERY = 500;
+
     private final DbKvs kvs;
     private final DBType dbType;
     private final Supplier<SqlConnection> connectionSupplier;
     private PrefixedTableNames prefixedTableNames;
+    private final ExecutorService executor;
+    private final int parallelism;
 
     public DbKvsGetRanges(
             DbKvs kvs,
             DBType dbType,
             Supplier<SqlConnection> connectionSupplier,
             PrefixedTableNames prefixedTableNames) {
+        this(kvs, dbType, connectionSupplier, prefixedTableNames, MoreExecutors.newDirectExecutorService(), 1);
+    }
+
+    /**
+     * Loads up to {@code parallelism} batches of range requests at a time on {@code executor}. Each batch holds a
+     * connection while it runs, so {@code parallelism} should not exceed what the connection pool can spare.
+     */
+    public DbKvsGetRanges(
+            DbKvs kvs,
+            DBType dbType,
+            Supplier<SqlConnection> connectionSupplier,
+            PrefixedTableNames prefixedTableNames,
+            ExecutorService executor,
+            int parallelism) {
         this.kvs = kvs;
         this.dbType = dbType;
         this.connectionSupplier = connectionSupplier;
         this.prefixedTableNames = prefixedTableNames;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
     }
 
     public Map<RangeRequest, TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> getFirstBatchForRanges(
             TableReference tableRef, Iterable<RangeRequest> rangeRequests, long timestamp) {
+        if (parallelism == 1) {
+            Map<RangeRequest, TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> results = new HashMap<>();
+            for (List<RangeRequest> batch : Iterables.partition(rangeRequests, MAX_RANGES_PER_QUERY)) {
+                results.putAll(getFirstPages(tableRef, batch, timestamp));
+            }
+            return results;
+        }
+        return getFirstBatchForRangesInParallel(tableRef, ImmutableList.copyOf(rangeRequests), timestamp);
+    }
+
+    private Map<RangeRequest, TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> getFirstBatchForRangesInParallel(
+            TableReference tableRef, List<RangeRequest> rangeRequests, long timestamp) {
+        int batchSize = getParallelBatchSize(rangeRequests.size(), parallelism);
+        List<List<RangeRequest>> batches = Lists.partition(rangeRequests, batchSize);
+        List<Callable<Map<RangeRequest, TokenBackedBasicResultsPage<RowResult<Value>, byte[]>>>> callables =
+                new ArrayList<>();
+        for (int worker = 0; worker < Math.min(parallelism, batches.size()); worker++) {
+            int firstBatch = worker;
+            callables.add(() -> {
+                Map<RangeRequest, TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> results = new HashMap<>();
+                for (int index = firstBatch; index < batches.size(); index += parallelism) {
+                    results.putAll(getFirstPages(tableRef, batches.get(index), timestamp));
+                }
+                return results;
+            });
+        }
+
+        List<Future<Map<RangeRequest, TokenBackedBasicResultsPage<RowResult<Value>, byte[]>>>> futures;
+        try {
+            futures = executor.invokeAll(callables);
+        } catch (InterruptedException e) {
+            throw Throwables.throwUncheckedException(e);
+        }
         Map<RangeRequest, TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> results = new HashMap<>();
-        for (List<RangeRequest> batch : Iterables.partition(rangeRequests, 500)) {
-            results.putAll(getFirstPages(tableRef, batch, timestamp));
+        for (Future<Map<RangeRequest, TokenBackedBasicResultsPage<RowResult<Value>, byte[]>>> future : futures) {
+            try {
+                results.putAll(future.get());
+            } catch (InterruptedException e) {
+                throw Throwables.throwUncheckedException(e);
+            } catch (ExecutionException e) {
+                throw Throwables.rewrapAndThrowUncheckedException(e.getCause());
+            }
         }
         return results;
     }
 
+    /**
+     * Spreads the requests evenly over the available parallelism, without putting more than
+     * {@link #MAX_RANGES_PER_QUERY} requests into one query.
+     */
+    @VisibleForTesting
+    static int getParallelBatchSize(int numRequests, int parallelism) {
+        int evenlySpread = (numRequests + parallelism - 1) / parallelism;
+        return Math.max(1, Math.min(MAX_RANGES_PER_QUERY, evenlySpread));
+    }
+
     private Map<RangeRequest, TokenBackedBasicResultsPage<RowResult<Value>, byte[]>> getFirstPages(
             TableReference tableRef, List<RangeRequest> requests, long timestamp) {
         List<String> subQueries = new ArrayList<>();
@@ -17,10 +17,11 @@ package com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep;
 
 import com.palantir.atlasdb.keyvalue.api.CandidateCellForSweepingRequest;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
-import java.util.Iterator;
+import com.palantir.common.base.ClosableIterator;
 import java.util.List;
 
 public interface CellTsPairLoader {
 
-    Iterator<List<CellTsPairInfo>> createPageIterator(TableReference tableRef, CandidateCellForSweepingRequest request);
+    ClosableIterator<List<CellTsPairInfo>> createPageIterator(
+            TableReference tableRef, CandidateCellForSweepingRequest request);
 }
@@ -19,6 +19,8 @@ import com.google.common.collect.Iterators;
 import com.palantir.atlasdb.keyvalue.api.CandidateCellForSweeping;
 import com.palantir.atlasdb.keyvalue.api.CandidateCellForSweepingRequest;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.common.base.ClosableIterators;
 import java.util.Iterator;
 import java.util.List;
 
@@ -30,10 +32,10 @@ public class DbKvsGetCandidateCellsForSweeping {
         this.cellTsPairLoader = cellTsPairLoader;
     }
 
-    public Iterator<List<CandidateCellForSweeping>> getCandidateCellsForSweeping(
+    public ClosableIterator<List<CandidateCellForSweeping>> getCandidateCellsForSweeping(
             TableReference tableRef, CandidateCellForSweepingRequest request) {
-        Iterator<List<CellTsPairInfo>> cellTsIter = cellTsPairLoader.createPageIterator(tableRef, request);
+        ClosableIterator<List<CellTsPairInfo>> cellTsIter = cellTsPairLoader.createPageIterator(tableRef, request);
         Iterator<List<CandidateCellForSweeping>> rawIter = CandidateGroupingIterator.create(cellTsIter);
-        return Iterators.filter(rawIter, page -> !page.isEmpty());
+        return ClosableIterators.wrap(Iterators.filter(rawIter, page -> !page.isEmpty()), cellTsIter);
     }
 }
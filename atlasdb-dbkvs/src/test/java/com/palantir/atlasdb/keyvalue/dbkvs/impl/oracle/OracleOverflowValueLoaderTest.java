@@ -0,0 +1,171 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.oracle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.dbkvs.ImmutableOracleDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.OracleDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.OracleTableNameGetter;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.OverflowMigrationState;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.OverflowValueLoad;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.SqlConnectionSupplier;
+import com.palantir.atlasdb.util.MetricsManagers;
+import com.palantir.nexus.db.sql.AgnosticLightResultRow;
+import com.palantir.nexus.db.sql.AgnosticLightResultSet;
+import com.palantir.nexus.db.sql.SqlConnection;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OracleOverflowValueLoaderTest {
+    private static final TableReference TABLE = TableReference.createFromFullyQualifiedName("ns.test");
+    private static final OracleDdlConfig CONFIG = ImmutableOracleDdlConfig.builder()
+            .overflowMigrationState(OverflowMigrationState.UNSTARTED)
+            .overflowLoadParallelism(2)
+            .overflowLoadBatchSize(2)
+            .build();
+
+    private final SqlConnection readerConnection = mock(SqlConnection.class);
+    private final SqlConnection pooledConnection = mock(SqlConnection.class);
+    private final SqlConnectionSupplier connectionPool = mock(SqlConnectionSupplier.class);
+    private final Connection pooledUnderlyingConnection = mock(Connection.class);
+    private final ConnectionSupplier readerConns = new ConnectionSupplier(() -> readerConnection);
+    private final ExecutorService executor = MoreExecutors.newDirectExecutorService();
+
+    private OracleOverflowValueLoader loader;
+
+    @Before
+    public void setUp() {
+        when(readerConnection.getUnderlyingConnection()).thenReturn(mock(Connection.class));
+        when(pooledConnection.getUnderlyingConnection()).thenReturn(pooledUnderlyingConnection);
+        when(connectionPool.tryGetUnshared()).thenReturn(Optional.of(pooledConnection));
+        loader = new OracleOverflowValueLoader(
+                CONFIG,
+                mock(OracleTableNameGetter.class),
+                connectionPool,
+                executor,
+                MetricsManagers.createForTests());
+    }
+
+    @Test
+    public void loadsFullChunksOnPooledConnectionsWhileIdsAreAdded() {
+        when(pooledConnection.selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class)))
+                .thenReturn(resultSet(1L, 2L), resultSet(3L, 4L));
+        when(readerConnection.selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class)))
+                .thenReturn(resultSet(5L));
+
+        OverflowValueLoad load = loader.startLoad(readerConns, TABLE);
+        List<Long> ids = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+        ids.forEach(load::add);
+        verify(pooledConnection, times(2)).selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class));
+
+        Map<Long, byte[]> values = load.complete(ids);
+        assertThat(values).containsOnlyKeys(ids);
+        verify(readerConnection).selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class));
+        verify(pooledUnderlyingConnection, times(2)).close();
+    }
+
+    @Test(timeout = 10_000)
+    public void loadsEverythingOnReaderConnectionWhenItHoldsTheOnlyPooledConnection() throws Exception {
+        Semaphore poolPermits = new Semaphore(1);
+        poolPermits.acquire();
+        when(connectionPool.tryGetUnshared())
+                .thenAnswer(invocation ->
+                        poolPermits.tryAcquire() ? Optional.of(pooledConnection) : Optional.empty());
+        when(connectionPool.get()).thenAnswer(invocation -> {
+            poolPermits.acquire();
+            return pooledConnection;
+        });
+        when(readerConnection.selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class)))
+                .thenReturn(resultSet(1L, 2L), resultSet(3L, 4L), resultSet(5L));
+
+        OverflowValueLoad load = loader.startLoad(readerConns, TABLE);
+        List<Long> ids = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+        ids.forEach(load::add);
+
+        assertThat(load.complete(ids)).containsOnlyKeys(ids);
+        verify(readerConnection, times(3)).selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class));
+        verify(pooledConnection, never()).selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class));
+    }
+
+    @Test
+    public void returnsBorrowedConnectionAndLoadsOnReaderConnectionIfExecutorRejectsLoad() throws Exception {
+        executor.shutdown();
+        when(readerConnection.selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class)))
+                .thenReturn(resultSet(1L, 2L), resultSet(3L));
+
+        OverflowValueLoad load = loader.startLoad(readerConns, TABLE);
+        List<Long> ids = Arrays.asList(1L, 2L, 3L);
+        ids.forEach(load::add);
+
+        assertThat(load.complete(ids)).containsOnlyKeys(ids);
+        verify(pooledUnderlyingConnection).close();
+        verify(pooledConnection, never()).selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class));
+    }
+
+    @Test
+    public void closeShutsDownExecutor() {
+        loader.close();
+        assertThat(executor.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void doesNotLoadPendingIdsThatAreNotRequired() {
+        when(pooledConnection.selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class)))
+                .thenReturn(resultSet(1L, 2L));
+
+        OverflowValueLoad load = loader.startLoad(readerConns, TABLE);
+        Arrays.asList(1L, 2L, 3L).forEach(load::add);
+
+        assertThat(load.complete(Arrays.asList(1L, 2L))).containsOnlyKeys(1L, 2L);
+        verify(readerConnection, never()).selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class));
+    }
+
+    private static AgnosticLightResultSet resultSet(Long... ids) {
+        List<AgnosticLightResultRow> rows = Arrays.stream(ids)
+                .map(OracleOverflowValueLoaderTest::row)
+                .collect(Collectors.toList());
+        AgnosticLightResultSet resultSet = mock(AgnosticLightResultSet.class);
+        when(resultSet.iterator()).thenReturn(rows.iterator());
+        return resultSet;
+    }
+
+    private static AgnosticLightResultRow row(long id) {
+        AgnosticLightResultRow row = mock(AgnosticLightResultRow.class);
+        when(row.getLong("id")).thenReturn(id);
+        when(row.getBytes("val")).thenReturn(new byte[] {(byte) id});
+        return row;
+    }
+}
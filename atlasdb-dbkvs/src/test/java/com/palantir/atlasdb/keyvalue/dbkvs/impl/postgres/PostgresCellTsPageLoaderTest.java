@@ -0,0 +1,177 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.CandidateCellForSweepingRequest;
+import com.palantir.atlasdb.keyvalue.api.ImmutableCandidateCellForSweepingRequest;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.dbkvs.ImmutablePostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.SqlConnectionSupplier;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.CellTsPairInfo;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.exception.PalantirSqlException;
+import com.palantir.nexus.db.sql.AgnosticLightResultRow;
+import com.palantir.nexus.db.sql.AgnosticLightResultSet;
+import com.palantir.nexus.db.sql.SqlConnection;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class PostgresCellTsPageLoaderTest {
+    private static final TableReference TABLE = TableReference.createFromFullyQualifiedName("ns.table");
+    private static final int BATCH_SIZE = 2;
+    private static final CandidateCellForSweepingRequest REQUEST = ImmutableCandidateCellForSweepingRequest.builder()
+            .startRowInclusive(PtBytes.EMPTY_BYTE_ARRAY)
+            .batchSizeHint(BATCH_SIZE)
+            .maxTimestampExclusive(100L)
+            .shouldCheckIfLatestValueIsEmpty(false)
+            .shouldDeleteGarbageCollectionSentinels(true)
+            .build();
+
+    private final SqlConnectionSupplier connectionPool = mock(SqlConnectionSupplier.class);
+    private final SqlConnection sqlConnection = mock(SqlConnection.class);
+    private final Connection underlyingConnection = mock(Connection.class);
+    private final PostgresCellTsPageLoader loader = new PostgresCellTsPageLoader(
+            new PostgresPrefixedTableNames(ImmutablePostgresDdlConfig.builder().build()), connectionPool, true);
+
+    @Before
+    public void setUp() {
+        when(connectionPool.get()).thenReturn(sqlConnection);
+        when(sqlConnection.getUnderlyingConnection()).thenReturn(underlyingConnection);
+    }
+
+    @Test
+    public void streamsPagesFromSingleCursor() throws SQLException {
+        AgnosticLightResultSet cursor = resultSet(rows(row("a", 1), row("a", 2), row("b", 1)));
+        when(sqlConnection.selectLightResultSetUnregisteredQueryWithFetchSize(
+                        anyString(), anyInt(), any(Object[].class)))
+                .thenReturn(cursor);
+
+        try (ClosableIterator<List<CellTsPairInfo>> pages = loader.createPageIterator(TABLE, REQUEST)) {
+            assertThat(rowsAndTimestamps(pages.next())).containsExactly("a1", "a2");
+            assertThat(rowsAndTimestamps(pages.next())).containsExactly("b1");
+            assertThat(pages.hasNext()).isFalse();
+        }
+
+        verify(underlyingConnection).setAutoCommit(false);
+        verify(cursor).close();
+        verify(underlyingConnection).close();
+    }
+
+    @Test
+    public void fallsBackToPagedQueriesAfterLastReturnedCell() throws SQLException {
+        Iterator<AgnosticLightResultRow> failingRows = new Iterator<>() {
+            private final Iterator<AgnosticLightResultRow> delegate = rows(row("a", 1), row("a", 2), row("b", 1));
+
+            @Override
+            public boolean hasNext() {
+                if (!delegate.hasNext()) {
+                    throw PalantirSqlException.create("connection lost");
+                }
+                return true;
+            }
+
+            @Override
+            public AgnosticLightResultRow next() {
+                return delegate.next();
+            }
+        };
+        when(sqlConnection.selectLightResultSetUnregisteredQueryWithFetchSize(
+                        anyString(), anyInt(), any(Object[].class)))
+                .thenReturn(resultSet(failingRows));
+        when(sqlConnection.selectLightResultSetUnregisteredQuery(anyString(), any(Object[].class)))
+                .thenReturn(resultSet(rows(row("b", 1))));
+
+        try (ClosableIterator<List<CellTsPairInfo>> pages = loader.createPageIterator(TABLE, REQUEST)) {
+            assertThat(rowsAndTimestamps(pages.next())).containsExactly("a1", "a2");
+            assertThat(rowsAndTimestamps(pages.next())).containsExactly("b1");
+            assertThat(pages.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void startsNewQueryInNewTransactionOnceQueryLimitIsReached() throws SQLException {
+        int queryRowLimit = BATCH_SIZE * PostgresCellTsPageLoader.STREAMING_PAGES_PER_QUERY;
+        AgnosticLightResultRow[] firstQueryRows = IntStream.range(0, queryRowLimit)
+                .mapToObj(index -> row(String.format("a%04d", index), 1))
+                .toArray(AgnosticLightResultRow[]::new);
+        when(sqlConnection.selectLightResultSetUnregisteredQueryWithFetchSize(
+                        anyString(), anyInt(), any(Object[].class)))
+                .thenReturn(resultSet(rows(firstQueryRows)))
+                .thenReturn(resultSet(rows(row("b", 1))));
+
+        List<CellTsPairInfo> cellTsPairs = new ArrayList<>();
+        try (ClosableIterator<List<CellTsPairInfo>> pages = loader.createPageIterator(TABLE, REQUEST)) {
+            pages.forEachRemaining(cellTsPairs::addAll);
+        }
+
+        assertThat(cellTsPairs).hasSize(queryRowLimit + 1);
+        assertThat(PtBytes.toString(cellTsPairs.get(queryRowLimit).rowName)).isEqualTo("b");
+        ArgumentCaptor<String> queries = ArgumentCaptor.forClass(String.class);
+        verify(sqlConnection, times(2))
+                .selectLightResultSetUnregisteredQueryWithFetchSize(
+                        queries.capture(), eq(BATCH_SIZE), any(Object[].class));
+        assertThat(queries.getAllValues()).allSatisfy(query -> assertThat(query).contains("LIMIT ?"));
+        verify(underlyingConnection, times(2)).setAutoCommit(false);
+        verify(underlyingConnection, times(2)).rollback();
+        verify(underlyingConnection, times(2)).close();
+    }
+
+    private static AgnosticLightResultSet resultSet(Iterator<AgnosticLightResultRow> rows) {
+        AgnosticLightResultSet resultSet = mock(AgnosticLightResultSet.class);
+        when(resultSet.iterator()).thenReturn(rows);
+        return resultSet;
+    }
+
+    private static Iterator<AgnosticLightResultRow> rows(AgnosticLightResultRow... rows) {
+        return ImmutableList.copyOf(rows).iterator();
+    }
+
+    @SuppressWarnings("deprecation") // mocking the methods used by the loader
+    private static AgnosticLightResultRow row(String rowName, long ts) {
+        AgnosticLightResultRow row = mock(AgnosticLightResultRow.class);
+        when(row.getBytes("row_name")).thenReturn(PtBytes.toBytes(rowName));
+        when(row.getBytes("col_name")).thenReturn(PtBytes.toBytes("col"));
+        when(row.getLong("ts")).thenReturn(ts);
+        return row;
+    }
+
+    private static List<String> rowsAndTimestamps(List<CellTsPairInfo> page) {
+        return page.stream()
+                .map(cellTs -> PtBytes.toString(cellTs.rowName) + cellTs.ts)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import java.time.Duration;
+import org.junit.Test;
+
+public class PostgresCompactionCandidateLoaderTest {
+    private static final TableReference TABLE = TableReference.createFromFullyQualifiedName("ns.table");
+    private static final long GIB = 1024L * 1024 * 1024;
+
+    @Test
+    public void estimatesDeadFractionOfHeapAsReclaimable() {
+        CompactionCandidate candidate = PostgresCompactionCandidateLoader.estimate(TABLE, 3_000, 1_000, GIB, 2 * GIB)
+                .orElseThrow();
+
+        assertThat(candidate.tableRef()).isEqualTo(TABLE);
+        assertThat(candidate.estimatedReclaimableBytes()).isEqualTo(GIB / 4);
+        assertThat(candidate.estimatedCompactionDuration()).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    public void ignoresTablesWithLittleBloat() {
+        assertThat(PostgresCompactionCandidateLoader.estimate(TABLE, 1_000, 0, GIB, GIB))
+                .isEmpty();
+        assertThat(PostgresCompactionCandidateLoader.estimate(
+                        TABLE, 1_000, 1, PostgresCompactionCandidateLoader.MIN_RECLAIMABLE_BYTES, GIB))
+                .isEmpty();
+    }
+
+    @Test
+    public void prefersHeavilyChurnedTablesOverLargeTablesWithLittleBloat() {
+        CompactionCandidate churned = PostgresCompactionCandidateLoader.estimate(TABLE, 1_000, 9_000, GIB, GIB)
+                .orElseThrow();
+        CompactionCandidate large = PostgresCompactionCandidateLoader.estimate(
+                        TABLE, 95_000, 5_000, 10 * GIB, 20 * GIB)
+                .orElseThrow();
+
+        assertThat(churned.estimatedReclaimableBytesPerSecond())
+                .isGreaterThan(large.estimatedReclaimableBytesPerSecond());
+    }
+}
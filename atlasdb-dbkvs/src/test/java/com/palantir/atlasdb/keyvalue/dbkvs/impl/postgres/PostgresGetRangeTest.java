@@ -0,0 +1,184 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.RangeRequest;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.keyvalue.dbkvs.ImmutablePostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.SqlConnectionSupplier;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.TableMetadataCache;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.nexus.db.sql.AgnosticLightResultRow;
+import com.palantir.nexus.db.sql.AgnosticLightResultSet;
+import com.palantir.nexus.db.sql.SqlConnection;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PostgresGetRangeTest {
+    private static final int MAX_CELLS_PER_PAGE = 1_000;
+    private static final TableReference TABLE = TableReference.createFromFullyQualifiedName("ns.table");
+    private static final byte[] COLUMN = PtBytes.toBytes("col");
+    // Two rows of one column each, so pages hold at most three cells
+    private static final RangeRequest RANGE_REQUEST = RangeRequest.builder()
+            .retainColumns(ColumnSelection.create(ImmutableList.of(COLUMN)))
+            .batchHint(2)
+            .build();
+
+    private final SqlConnectionSupplier connectionPool = mock(SqlConnectionSupplier.class);
+    private final SqlConnection sqlConnection = mock(SqlConnection.class);
+    private final Connection underlyingConnection = mock(Connection.class);
+    private final PostgresGetRange getRange = new PostgresGetRange(
+            new PostgresPrefixedTableNames(ImmutablePostgresDdlConfig.builder().build()),
+            connectionPool,
+            mock(TableMetadataCache.class),
+            Optional.of(Executors.newSingleThreadExecutor()));
+
+    @Before
+    public void setUp() {
+        when(connectionPool.get()).thenReturn(sqlConnection);
+        when(sqlConnection.getUnderlyingConnection()).thenReturn(underlyingConnection);
+    }
+
+    @After
+    public void tearDown() {
+        getRange.close();
+    }
+
+    @Test
+    public void loadsNextPageWhileCurrentPageIsConsumed() throws InterruptedException {
+        CountDownLatch nextPageRequested = new CountDownLatch(1);
+        when(sqlConnection.selectLightResultSetUnregisteredQueryWithFetchSize(
+                        anyString(), anyInt(), any(Object[].class)))
+                .thenReturn(resultSet(rows(cell("a"), cell("b"), cell("c"))))
+                .thenAnswer(invocation -> {
+                    nextPageRequested.countDown();
+                    return resultSet(rows(cell("d")));
+                });
+
+        try (ClosableIterator<RowResult<Value>> rowResults = getRange.getRange(TABLE, RANGE_REQUEST, 100L)) {
+            assertThat(PtBytes.toString(rowResults.next().getRowName())).isEqualTo("a");
+            assertThat(nextPageRequested.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(remainingRowNames(rowResults)).containsExactly("b", "c", "d");
+        }
+    }
+
+    @Test
+    public void closingAbandonedScanCancelsReadAhead() throws InterruptedException, SQLException {
+        CountDownLatch readAheadStarted = new CountDownLatch(1);
+        CountDownLatch readAheadInterrupted = new CountDownLatch(1);
+        when(sqlConnection.selectLightResultSetUnregisteredQueryWithFetchSize(
+                        anyString(), anyInt(), any(Object[].class)))
+                .thenReturn(resultSet(rows(cell("a"), cell("b"), cell("c"))))
+                .thenAnswer(invocation -> {
+                    readAheadStarted.countDown();
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        readAheadInterrupted.countDown();
+                    }
+                    return resultSet(rows());
+                });
+
+        ClosableIterator<RowResult<Value>> rowResults = getRange.getRange(TABLE, RANGE_REQUEST, 100L);
+        rowResults.next();
+        assertThat(readAheadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        rowResults.close();
+
+        assertThat(readAheadInterrupted.await(10, TimeUnit.SECONDS)).isTrue();
+        verify(underlyingConnection, timeout(10_000).times(2)).close();
+        assertThat(remainingRowNames(rowResults)).containsExactly("b");
+        verify(sqlConnection, times(2))
+                .selectLightResultSetUnregisteredQueryWithFetchSize(anyString(), anyInt(), any(Object[].class));
+    }
+
+    @Test
+    public void usesMaximumPageSizeForNarrowCells() {
+        assertThat(PostgresGetRange.getReadAheadCellsPerPage(100 * 100, 100, MAX_CELLS_PER_PAGE))
+                .isEqualTo(MAX_CELLS_PER_PAGE);
+    }
+
+    @Test
+    public void shrinksPagesOfWideCells() {
+        long cellSize = 64 * 1024;
+        assertThat(PostgresGetRange.getReadAheadCellsPerPage(10 * cellSize, 10, MAX_CELLS_PER_PAGE))
+                .isEqualTo(128);
+    }
+
+    @Test
+    public void neverShrinksBelowMinimumPageSize() {
+        long oneGigabyte = 1024L * 1024 * 1024;
+        assertThat(PostgresGetRange.getReadAheadCellsPerPage(oneGigabyte, 1, MAX_CELLS_PER_PAGE))
+                .isEqualTo(16);
+    }
+
+    @Test
+    public void usesMaximumPageSizeForEmptyPages() {
+        assertThat(PostgresGetRange.getReadAheadCellsPerPage(0, 0, MAX_CELLS_PER_PAGE))
+                .isEqualTo(MAX_CELLS_PER_PAGE);
+    }
+
+    private static AgnosticLightResultSet resultSet(Iterator<AgnosticLightResultRow> rows) {
+        AgnosticLightResultSet resultSet = mock(AgnosticLightResultSet.class);
+        when(resultSet.iterator()).thenReturn(rows);
+        return resultSet;
+    }
+
+    private static Iterator<AgnosticLightResultRow> rows(AgnosticLightResultRow... rows) {
+        return ImmutableList.copyOf(rows).iterator();
+    }
+
+    @SuppressWarnings("deprecation") // mocking the methods used by the range scan
+    private static AgnosticLightResultRow cell(String rowName) {
+        AgnosticLightResultRow row = mock(AgnosticLightResultRow.class);
+        when(row.getBytes("row_name")).thenReturn(PtBytes.toBytes(rowName));
+        when(row.getBytes("col_name")).thenReturn(COLUMN);
+        when(row.getLong("ts")).thenReturn(1L);
+        when(row.getBytes("val")).thenReturn(PtBytes.toBytes(rowName));
+        return row;
+    }
+
+    private static List<String> remainingRowNames(Iterator<RowResult<Value>> rowResults) {
+        return ImmutableList.copyOf(rowResults).stream()
+                .map(rowResult -> PtBytes.toString(rowResult.getRowName()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.dbkvs.ImmutablePostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.FullQuery;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class PostgresQueryFactoryTest {
+    private static final long TIMESTAMP = 42L;
+
+    private final PostgresQueryFactory queryFactory =
+            new PostgresQueryFactory("test_table", ImmutablePostgresDdlConfig.builder().build());
+
+    @Test
+    public void rowQueriesHaveSameTextRegardlessOfNumberOfRows() {
+        FullQuery oneRow = queryFactory.getAllRowsQuery(rows(1), TIMESTAMP, columns(1), true);
+        FullQuery manyRows = queryFactory.getAllRowsQuery(rows(10), TIMESTAMP, columns(5), true);
+
+        assertThat(oneRow.getQuery()).isEqualTo(manyRows.getQuery());
+    }
+
+    @Test
+    public void bindsRowsAndColumnsAsArrays() {
+        FullQuery query = queryFactory.getLatestRowsQuery(rows(3), TIMESTAMP, columns(2), false);
+
+        assertThat(query.getArgs()).hasSize(3);
+        assertThat((byte[][]) query.getArgs()[0]).containsExactlyElementsOf(rows(3));
+        assertThat(query.getArgs()[1]).isEqualTo(TIMESTAMP);
+        assertThat((byte[][]) query.getArgs()[2]).hasSize(2);
+    }
+
+    @Test
+    public void cellQueriesHaveSameTextRegardlessOfNumberOfCells() {
+        FullQuery oneCell = queryFactory.getLatestCellsQuery(cellsWithTimestamps(1), true);
+        FullQuery manyCells = queryFactory.getLatestCellsQuery(cellsWithTimestamps(10), true);
+
+        assertThat(oneCell.getQuery()).isEqualTo(manyCells.getQuery());
+    }
+
+    @Test
+    public void bindsCellsAndTimestampsAsParallelArrays() {
+        Map<Cell, Long> cells = cellsWithTimestamps(4).stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        FullQuery query = queryFactory.getAllCellsQuery(cells.entrySet(), false);
+
+        Object[] args = query.getArgs();
+        assertThat(args).hasSize(3);
+        byte[][] rowNames = (byte[][]) args[0];
+        byte[][] colNames = (byte[][]) args[1];
+        long[] timestamps = (long[]) args[2];
+        for (int index = 0; index < timestamps.length; index++) {
+            assertThat(cells).containsEntry(Cell.create(rowNames[index], colNames[index]), timestamps[index]);
+        }
+    }
+
+    private static List<byte[]> rows(int numRows) {
+        return IntStream.range(0, numRows)
+                .mapToObj(index -> PtBytes.toBytes("name" + index))
+                .collect(Collectors.toList());
+    }
+
+    private static ColumnSelection columns(int numColumns) {
+        return ColumnSelection.create(rows(numColumns));
+    }
+
+    private static List<Map.Entry<Cell, Long>> cellsWithTimestamps(int numCells) {
+        return rows(numCells).stream()
+                .map(name -> Maps.immutableEntry(Cell.create(name, name), TIMESTAMP))
+                .collect(ImmutableList.toImmutableList());
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class DbKvsGetRangesTest {
+    @Test
+    public void parallelBatchesSpreadRequestsEvenly() {
+        assertThat(DbKvsGetRanges.getParallelBatchSize(100, 4)).isEqualTo(25);
+        assertThat(DbKvsGetRanges.getParallelBatchSize(101, 4)).isEqualTo(26);
+    }
+
+    @Test
+    public void parallelBatchesAreNeverEmpty() {
+        assertThat(DbKvsGetRanges.getParallelBatchSize(2, 8)).isEqualTo(1);
+    }
+
+    @Test
+    public void parallelBatchesRespectQuerySizeLimit() {
+        assertThat(DbKvsGetRanges.getParallelBatchSize(10_000, 4)).isEqualTo(500);
+    }
+}
@@ -295,6 +295,7 @@ public final class LatestSnapshotTable implements
 
     public static final class LatestSnapshotRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private StreamId hydratedStreamId;
 
         public static LatestSnapshotRowResult of(RowResult<byte[]> row) {
             return new LatestSnapshotRowResult(row);
@@ -332,12 +333,14 @@ public final class LatestSnapshotTable implements
         }
 
         public Long getStreamId() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("i"));
-            if (bytes == null) {
-                return null;
+            if (hydratedStreamId == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("i"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedStreamId = StreamId.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            StreamId value = StreamId.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedStreamId.getValue();
         }
 
         public static Function<LatestSnapshotRowResult, Long> getStreamIdFun() {
@@ -463,6 +466,10 @@ public final class LatestSnapshotTable implements
         }
     }
 
+    public Optional<LatestSnapshotRowResult> getRow(LatestSnapshotRow row, Collection<LatestSnapshotNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<LatestSnapshotRowResult> getRows(Iterable<LatestSnapshotRow> rows) {
         return getRows(rows, allColumns);
@@ -478,6 +485,10 @@ public final class LatestSnapshotTable implements
         return rowResults;
     }
 
+    public List<LatestSnapshotRowResult> getRows(Iterable<LatestSnapshotRow> rows, Collection<LatestSnapshotNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<LatestSnapshotNamedColumnValue<?>> getRowColumns(LatestSnapshotRow row) {
         return getRowColumns(row, allColumns);
@@ -683,5 +694,5 @@ public final class LatestSnapshotTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "IGBmCsqLmahL4VNCmymeTA==";
+    static String __CLASS_HASH = "Ms7bojiZB1PdqCFzltAH4A==";
 }
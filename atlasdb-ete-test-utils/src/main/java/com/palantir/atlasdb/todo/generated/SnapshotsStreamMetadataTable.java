@@ -320,6 +320,7 @@ public final class SnapshotsStreamMetadataTable implements
 
     public static final class SnapshotsStreamMetadataRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Metadata hydratedMetadata;
 
         public static SnapshotsStreamMetadataRowResult of(RowResult<byte[]> row) {
             return new SnapshotsStreamMetadataRowResult(row);
@@ -357,12 +358,14 @@ public final class SnapshotsStreamMetadataTable implements
         }
 
         public com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata getMetadata() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
-            if (bytes == null) {
-                return null;
+            if (hydratedMetadata == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedMetadata = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Metadata value = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedMetadata.getValue();
         }
 
         public static Function<SnapshotsStreamMetadataRowResult, com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata> getMetadataFun() {
@@ -488,6 +491,10 @@ public final class SnapshotsStreamMetadataTable implements
         }
     }
 
+    public Optional<SnapshotsStreamMetadataRowResult> getRow(SnapshotsStreamMetadataRow row, Collection<SnapshotsStreamMetadataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<SnapshotsStreamMetadataRowResult> getRows(Iterable<SnapshotsStreamMetadataRow> rows) {
         return getRows(rows, allColumns);
@@ -503,6 +510,10 @@ public final class SnapshotsStreamMetadataTable implements
         return rowResults;
     }
 
+    public List<SnapshotsStreamMetadataRowResult> getRows(Iterable<SnapshotsStreamMetadataRow> rows, Collection<SnapshotsStreamMetadataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<SnapshotsStreamMetadataNamedColumnValue<?>> getRowColumns(SnapshotsStreamMetadataRow row) {
         return getRowColumns(row, allColumns);
@@ -708,5 +719,5 @@ public final class SnapshotsStreamMetadataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "AgT8WHSuUvJzkk+inw4twg==";
+    static String __CLASS_HASH = "XOR1b4QnV6q7CEhV+p7ctA==";
 }
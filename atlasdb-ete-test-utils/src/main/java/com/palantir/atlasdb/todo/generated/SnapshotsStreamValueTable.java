@@ -475,6 +475,10 @@ public final class SnapshotsStreamValueTable implements
         }
     }
 
+    public Optional<SnapshotsStreamValueRowResult> getRow(SnapshotsStreamValueRow row, Collection<SnapshotsStreamValueNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<SnapshotsStreamValueRowResult> getRows(Iterable<SnapshotsStreamValueRow> rows) {
         return getRows(rows, allColumns);
@@ -490,6 +494,10 @@ public final class SnapshotsStreamValueTable implements
         return rowResults;
     }
 
+    public List<SnapshotsStreamValueRowResult> getRows(Iterable<SnapshotsStreamValueRow> rows, Collection<SnapshotsStreamValueNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<SnapshotsStreamValueNamedColumnValue<?>> getRowColumns(SnapshotsStreamValueRow row) {
         return getRowColumns(row, allColumns);
@@ -695,5 +703,5 @@ public final class SnapshotsStreamValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "9m/lRuE/UHMttmLTS1Q8iQ==";
+    static String __CLASS_HASH = "GMQdG+VIbQBlo2CDd7Grzg==";
 }
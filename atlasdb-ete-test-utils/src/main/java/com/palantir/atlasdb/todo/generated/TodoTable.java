@@ -295,6 +295,7 @@ public final class TodoTable implements
 
     public static final class TodoRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Text hydratedText;
 
         public static TodoRowResult of(RowResult<byte[]> row) {
             return new TodoRowResult(row);
@@ -332,12 +333,14 @@ public final class TodoTable implements
         }
 
         public String getText() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("t"));
-            if (bytes == null) {
-                return null;
+            if (hydratedText == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("t"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedText = Text.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Text value = Text.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedText.getValue();
         }
 
         public static Function<TodoRowResult, String> getTextFun() {
@@ -463,6 +466,10 @@ public final class TodoTable implements
         }
     }
 
+    public Optional<TodoRowResult> getRow(TodoRow row, Collection<TodoNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<TodoRowResult> getRows(Iterable<TodoRow> rows) {
         return getRows(rows, allColumns);
@@ -478,6 +485,10 @@ public final class TodoTable implements
         return rowResults;
     }
 
+    public List<TodoRowResult> getRows(Iterable<TodoRow> rows, Collection<TodoNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<TodoNamedColumnValue<?>> getRowColumns(TodoRow row) {
         return getRowColumns(row, allColumns);
@@ -683,5 +694,5 @@ public final class TodoTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "1g5OdW5n4H7icFXg1gG2Xg==";
+    static String __CLASS_HASH = "WeRwNIxmWyq0TKAKhof/2g==";
 }
@@ -463,6 +463,10 @@ public final class AuditedDataTable implements
         }
     }
 
+    public Optional<AuditedDataRowResult> getRow(AuditedDataRow row, Collection<AuditedDataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<AuditedDataRowResult> getRows(Iterable<AuditedDataRow> rows) {
         return getRows(rows, allColumns);
@@ -478,6 +482,10 @@ public final class AuditedDataTable implements
         return rowResults;
     }
 
+    public List<AuditedDataRowResult> getRows(Iterable<AuditedDataRow> rows, Collection<AuditedDataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<AuditedDataNamedColumnValue<?>> getRowColumns(AuditedDataRow row) {
         return getRowColumns(row, allColumns);
@@ -683,5 +691,5 @@ public final class AuditedDataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "AkImLEM5fv/Ji8qCyRf5dw==";
+    static String __CLASS_HASH = "jwMVltM8xTa2zp/ddjAgUw==";
 }
@@ -334,6 +334,7 @@ public final class DataStreamMetadataTable implements
 
     public static final class DataStreamMetadataRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Metadata hydratedMetadata;
 
         public static DataStreamMetadataRowResult of(RowResult<byte[]> row) {
             return new DataStreamMetadataRowResult(row);
@@ -371,12 +372,14 @@ public final class DataStreamMetadataTable implements
         }
 
         public com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata getMetadata() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
-            if (bytes == null) {
-                return null;
+            if (hydratedMetadata == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedMetadata = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Metadata value = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedMetadata.getValue();
         }
 
         public static Function<DataStreamMetadataRowResult, com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata> getMetadataFun() {
@@ -502,6 +505,10 @@ public final class DataStreamMetadataTable implements
         }
     }
 
+    public Optional<DataStreamMetadataRowResult> getRow(DataStreamMetadataRow row, Collection<DataStreamMetadataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<DataStreamMetadataRowResult> getRows(Iterable<DataStreamMetadataRow> rows) {
         return getRows(rows, allColumns);
@@ -517,6 +524,10 @@ public final class DataStreamMetadataTable implements
         return rowResults;
     }
 
+    public List<DataStreamMetadataRowResult> getRows(Iterable<DataStreamMetadataRow> rows, Collection<DataStreamMetadataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<DataStreamMetadataNamedColumnValue<?>> getRowColumns(DataStreamMetadataRow row) {
         return getRowColumns(row, allColumns);
@@ -722,5 +733,5 @@ public final class DataStreamMetadataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "AFwooxC06krTqFv58UfkcA==";
+    static String __CLASS_HASH = "SM51vUt6F7lrMtYgsvCIkg==";
 }
@@ -490,6 +490,10 @@ public final class DataStreamValueTable implements
         }
     }
 
+    public Optional<DataStreamValueRowResult> getRow(DataStreamValueRow row, Collection<DataStreamValueNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<DataStreamValueRowResult> getRows(Iterable<DataStreamValueRow> rows) {
         return getRows(rows, allColumns);
@@ -505,6 +509,10 @@ public final class DataStreamValueTable implements
         return rowResults;
     }
 
+    public List<DataStreamValueRowResult> getRows(Iterable<DataStreamValueRow> rows, Collection<DataStreamValueNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<DataStreamValueNamedColumnValue<?>> getRowColumns(DataStreamValueRow row) {
         return getRowColumns(row, allColumns);
@@ -710,5 +718,5 @@ public final class DataStreamValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "hogeDv0tsmrHDkXuhcwteQ==";
+    static String __CLASS_HASH = "KOIQIZTTZh4bheZm71qN8A==";
 }
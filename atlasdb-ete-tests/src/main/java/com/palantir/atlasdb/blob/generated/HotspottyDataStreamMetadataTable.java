@@ -320,6 +320,7 @@ public final class HotspottyDataStreamMetadataTable implements
 
     public static final class HotspottyDataStreamMetadataRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Metadata hydratedMetadata;
 
         public static HotspottyDataStreamMetadataRowResult of(RowResult<byte[]> row) {
             return new HotspottyDataStreamMetadataRowResult(row);
@@ -357,12 +358,14 @@ public final class HotspottyDataStreamMetadataTable implements
         }
 
         public com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata getMetadata() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
-            if (bytes == null) {
-                return null;
+            if (hydratedMetadata == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedMetadata = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Metadata value = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedMetadata.getValue();
         }
 
         public static Function<HotspottyDataStreamMetadataRowResult, com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata> getMetadataFun() {
@@ -488,6 +491,10 @@ public final class HotspottyDataStreamMetadataTable implements
         }
     }
 
+    public Optional<HotspottyDataStreamMetadataRowResult> getRow(HotspottyDataStreamMetadataRow row, Collection<HotspottyDataStreamMetadataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<HotspottyDataStreamMetadataRowResult> getRows(Iterable<HotspottyDataStreamMetadataRow> rows) {
         return getRows(rows, allColumns);
@@ -503,6 +510,10 @@ public final class HotspottyDataStreamMetadataTable implements
         return rowResults;
     }
 
+    public List<HotspottyDataStreamMetadataRowResult> getRows(Iterable<HotspottyDataStreamMetadataRow> rows, Collection<HotspottyDataStreamMetadataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<HotspottyDataStreamMetadataNamedColumnValue<?>> getRowColumns(HotspottyDataStreamMetadataRow row) {
         return getRowColumns(row, allColumns);
@@ -708,5 +719,5 @@ public final class HotspottyDataStreamMetadataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "KLkPI2rjlr8itPxC4ZWJLg==";
+    static String __CLASS_HASH = "X1/ZmTpPDb9Cwip880nD1A==";
 }
@@ -475,6 +475,10 @@ public final class HotspottyDataStreamValueTable implements
         }
     }
 
+    public Optional<HotspottyDataStreamValueRowResult> getRow(HotspottyDataStreamValueRow row, Collection<HotspottyDataStreamValueNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<HotspottyDataStreamValueRowResult> getRows(Iterable<HotspottyDataStreamValueRow> rows) {
         return getRows(rows, allColumns);
@@ -490,6 +494,10 @@ public final class HotspottyDataStreamValueTable implements
         return rowResults;
     }
 
+    public List<HotspottyDataStreamValueRowResult> getRows(Iterable<HotspottyDataStreamValueRow> rows, Collection<HotspottyDataStreamValueNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<HotspottyDataStreamValueNamedColumnValue<?>> getRowColumns(HotspottyDataStreamValueRow row) {
         return getRowColumns(row, allColumns);
@@ -695,5 +703,5 @@ public final class HotspottyDataStreamValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "9KSCRtbyVXFg2nb/7Wc8OA==";
+    static String __CLASS_HASH = "lLUzyytIJjrDPHD7ipRuVQ==";
 }
@@ -63,9 +63,11 @@ public final class BackgroundCompactor implements AutoCloseable {
             return Optional.empty();
         }
 
-        CompactPriorityCalculator compactPriorityCalculator = CompactPriorityCalculator.create(transactionManager);
+        CompactionOutcomeMetrics compactionOutcomeMetrics = new CompactionOutcomeMetrics(metricsManager);
+        CompactPriorityCalculator compactPriorityCalculator =
+                CompactPriorityCalculator.create(transactionManager, keyValueService, compactionOutcomeMetrics);
         BackgroundCompactor backgroundCompactor = new BackgroundCompactor(
-                metricsManager,
+                compactionOutcomeMetrics,
                 transactionManager,
                 keyValueService,
                 lockService,
@@ -80,13 +82,13 @@ public final class BackgroundCompactor implements AutoCloseable {
 
     @VisibleForTesting
     BackgroundCompactor(
-            MetricsManager metricsManager,
+            CompactionOutcomeMetrics compactionOutcomeMetrics,
             TransactionManager transactionManager,
             KeyValueService keyValueService,
             LockService lockService,
             Supplier<CompactorConfig> compactorConfigSupplier,
             CompactPriorityCalculator compactPriorityCalculator) {
-        this.compactionOutcomeMetrics = new CompactionOutcomeMetrics(metricsManager);
+        this.compactionOutcomeMetrics = compactionOutcomeMetrics;
         this.transactionManager = transactionManager;
         this.keyValueService = keyValueService;
         this.lockService = lockService;
@@ -16,6 +16,8 @@
 package com.palantir.atlasdb.compact;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
+import com.palantir.atlasdb.keyvalue.api.KeyValueService;
 import com.palantir.atlasdb.logging.LoggingArgs;
 import com.palantir.atlasdb.transaction.api.Transaction;
 import com.palantir.atlasdb.transaction.api.TransactionManager;
@@ -24,6 +26,7 @@ import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.Unsafe;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,26 +38,72 @@ class CompactPriorityCalculator {
     private static final SafeLogger log = SafeLoggerFactory.get(CompactPriorityCalculator.class);
 
     private final TransactionManager transactionManager;
+    private final KeyValueService keyValueService;
     private final CompactionHistoryProvider compactionHistoryProvider;
     private final SweepHistoryProvider sweepHistoryProvider;
+    private final CompactionOutcomeMetrics compactionOutcomeMetrics;
 
-    static CompactPriorityCalculator create(TransactionManager transactionManager) {
+    static CompactPriorityCalculator create(
+            TransactionManager transactionManager,
+            KeyValueService keyValueService,
+            CompactionOutcomeMetrics compactionOutcomeMetrics) {
         return new CompactPriorityCalculator(
-                transactionManager, new SweepHistoryProvider(), new CompactionHistoryProvider());
+                transactionManager,
+                keyValueService,
+                new SweepHistoryProvider(),
+                new CompactionHistoryProvider(),
+                compactionOutcomeMetrics);
     }
 
     @VisibleForTesting
     CompactPriorityCalculator(
             TransactionManager transactionManager,
+            KeyValueService keyValueService,
             SweepHistoryProvider sweepHistoryProvider,
-            CompactionHistoryProvider compactionHistoryProvider) {
+            CompactionHistoryProvider compactionHistoryProvider,
+            CompactionOutcomeMetrics compactionOutcomeMetrics) {
         this.transactionManager = transactionManager;
+        this.keyValueService = keyValueService;
         this.sweepHistoryProvider = sweepHistoryProvider;
         this.compactionHistoryProvider = compactionHistoryProvider;
+        this.compactionOutcomeMetrics = compactionOutcomeMetrics;
     }
 
+    /**
+     * Prefers the key value service's own estimates of which tables are worth compacting, if it has any, and
+     * otherwise chooses a table from sweep and compaction history.
+     */
     Optional<String> selectTableToCompact() {
-        return transactionManager.runTaskReadOnly(this::selectTableToCompactInternal);
+        Optional<List<CompactionCandidate>> candidates = keyValueService.getCompactionCandidates();
+        if (candidates.isPresent()) {
+            return selectTableToCompactFromCandidates(candidates.get());
+        }
+
+        Optional<String> tableToCompact = transactionManager.runTaskReadOnly(this::selectTableToCompactInternal);
+        tableToCompact.ifPresent(unused -> compactionOutcomeMetrics.registerHistoryBasedDecision());
+        return tableToCompact;
+    }
+
+    @VisibleForTesting
+    Optional<String> selectTableToCompactFromCandidates(List<CompactionCandidate> candidates) {
+        Optional<CompactionCandidate> bestCandidate = candidates.stream()
+                .max(Comparator.comparingDouble(CompactionCandidate::estimatedReclaimableBytesPerSecond));
+        if (!bestCandidate.isPresent()) {
+            log.info("Not compacting, because the key value service does not expect compacting any table to reclaim"
+                    + " a worthwhile amount of space.");
+            return Optional.empty();
+        }
+
+        CompactionCandidate candidate = bestCandidate.get();
+        log.info(
+                "Choosing to compact {}, because compacting it is expected to reclaim {} bytes in {} ms,"
+                        + " the best rate of {} candidate tables.",
+                LoggingArgs.tableRef(candidate.tableRef()),
+                SafeArg.of("estimatedReclaimableBytes", candidate.estimatedReclaimableBytes()),
+                SafeArg.of("estimatedCompactionMillis", candidate.estimatedCompactionDuration().toMillis()),
+                SafeArg.of("numCandidates", candidates.size()));
+        compactionOutcomeMetrics.registerEstimatedDecision(candidate);
+        return Optional.of(candidate.tableRef().getQualifiedName());
     }
 
     @VisibleForTesting
@@ -143,4 +192,9 @@ class CompactPriorityCalculator {
     private static Arg<String> safeTableRef(String fullyQualifiedName) {
         return LoggingArgs.safeInternalTableName(fullyQualifiedName);
     }
+
+    enum DecisionSource {
+        TABLE_STATISTICS,
+        COMPACTION_HISTORY
+    }
 }
@@ -15,17 +15,25 @@
  */
 package com.palantir.atlasdb.compact;
 
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.SlidingTimeWindowReservoir;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
 import com.palantir.atlasdb.util.MetricsManager;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 class CompactionOutcomeMetrics {
     private final SlidingTimeWindowReservoir reservoir;
+    private final Map<CompactPriorityCalculator.DecisionSource, Counter> decisions =
+            new EnumMap<>(CompactPriorityCalculator.DecisionSource.class);
 
     private boolean shutdown;
+    private volatile long lastEstimatedReclaimableBytes;
+    private volatile double lastEstimatedReclaimableBytesPerSecond;
 
     CompactionOutcomeMetrics(MetricsManager metricsManager) {
         Arrays.stream(BackgroundCompactor.CompactionOutcome.values())
@@ -35,6 +43,22 @@ class CompactionOutcomeMetrics {
                         () -> getOutcomeCount(outcome),
                         ImmutableMap.of("status", outcome.name())));
         reservoir = new SlidingTimeWindowReservoir(60L, TimeUnit.SECONDS);
+
+        Arrays.stream(CompactPriorityCalculator.DecisionSource.values())
+                .forEach(source -> decisions.put(
+                        source,
+                        metricsManager.registerOrGetTaggedCounter(
+                                BackgroundCompactor.class, "decision", ImmutableMap.of("source", source.name()))));
+        metricsManager.registerOrGet(
+                BackgroundCompactor.class,
+                "estimatedReclaimableBytes",
+                () -> lastEstimatedReclaimableBytes,
+                ImmutableMap.of());
+        metricsManager.registerOrGet(
+                BackgroundCompactor.class,
+                "estimatedReclaimableBytesPerSecond",
+                () -> lastEstimatedReclaimableBytesPerSecond,
+                ImmutableMap.of());
     }
 
     @VisibleForTesting
@@ -56,4 +80,30 @@ class CompactionOutcomeMetrics {
 
         reservoir.update(outcome.ordinal());
     }
+
+    /**
+     * Records that a table was chosen for compaction from sweep and compaction history, for which we have no estimate
+     * of the space that compacting it will reclaim.
+     */
+    void registerHistoryBasedDecision() {
+        decisions.get(CompactPriorityCalculator.DecisionSource.COMPACTION_HISTORY).inc();
+        lastEstimatedReclaimableBytes = 0L;
+        lastEstimatedReclaimableBytesPerSecond = 0.0;
+    }
+
+    void registerEstimatedDecision(CompactionCandidate candidate) {
+        decisions.get(CompactPriorityCalculator.DecisionSource.TABLE_STATISTICS).inc();
+        lastEstimatedReclaimableBytes = candidate.estimatedReclaimableBytes();
+        lastEstimatedReclaimableBytesPerSecond = candidate.estimatedReclaimableBytesPerSecond();
+    }
+
+    @VisibleForTesting
+    long getDecisionCount(CompactPriorityCalculator.DecisionSource source) {
+        return decisions.get(source).getCount();
+    }
+
+    @VisibleForTesting
+    long getLastEstimatedReclaimableBytes() {
+        return lastEstimatedReclaimableBytes;
+    }
 }
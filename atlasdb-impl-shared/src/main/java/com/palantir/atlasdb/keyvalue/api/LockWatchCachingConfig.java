@@ -18,6 +18,8 @@ package com.palantir.atlasdb.keyvalue.api;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
 import org.immutables.value.Value;
 
 @Value.Immutable
@@ -50,6 +52,47 @@ public interface LockWatchCachingConfig {
         return 0.1;
     }
 
+    /**
+     * If true, concurrent transactions that miss the cache for the same watched cell at the same lock watch version
+     * share a single remote read, rather than each reading the cell from the KVS. Reads are still recorded per
+     * transaction, so the values read and validated by each transaction are unchanged.
+     */
+    @Value.Default
+    default boolean shareInFlightReads() {
+        return false;
+    }
+
+    /**
+     * If true, transactions cache the entire contents of rows read in full from watched tables, and column range
+     * reads on those tables are served by slicing cached rows. A cache miss reads the whole row rather than only the
+     * requested columns, so this is only beneficial for tables whose rows are small relative to typical ranges.
+     *
+     * As with the rest of the value cache, only tables under an entire-table lock watch cache rows. Exact row watches
+     * would also be sufficient to cache the watched rows, but are not yet supported here.
+     */
+    @Value.Default
+    default boolean cacheCompleteRows() {
+        return false;
+    }
+
+    /**
+     * The maximum number of columns a row may have for its complete contents to be cached when
+     * {@link #cacheCompleteRows()} is true. A cache miss reads at most one more column than this from each row; rows
+     * with more columns are not cached, and column range reads on them fall back to paged reads from the KVS.
+     */
+    @Value.Default
+    default int maxCompleteRowColumns() {
+        return 1_000;
+    }
+
+    @Value.Check
+    default void check() {
+        Preconditions.checkArgument(
+                maxCompleteRowColumns() > 0,
+                "maxCompleteRowColumns must be positive",
+                SafeArg.of("maxCompleteRowColumns", maxCompleteRowColumns()));
+    }
+
     static ImmutableLockWatchCachingConfig.Builder builder() {
         return ImmutableLockWatchCachingConfig.builder();
     }
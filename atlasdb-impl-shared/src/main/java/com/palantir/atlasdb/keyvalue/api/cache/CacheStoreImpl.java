@@ -40,14 +40,25 @@ final class CacheStoreImpl implements CacheStore {
     private final double validationProbability;
     private final Runnable failureCallback;
     private final CacheMetrics metrics;
+    private final boolean shareInFlightReads;
+    private final boolean cacheCompleteRows;
+    private final int maxCompleteRowColumns;
+    private volatile InFlightReadRegistry inFlightReads;
 
     CacheStoreImpl(
             SnapshotStore snapshotStore,
             double validationProbability,
             Runnable failureCallback,
             CacheMetrics metrics,
-            int maxCacheCount) {
+            int maxCacheCount,
+            boolean shareInFlightReads,
+            boolean cacheCompleteRows,
+            int maxCompleteRowColumns) {
         this.snapshotStore = snapshotStore;
+        this.shareInFlightReads = shareInFlightReads;
+        this.cacheCompleteRows = cacheCompleteRows;
+        this.maxCompleteRowColumns = maxCompleteRowColumns;
+        this.inFlightReads = new InFlightReadRegistry();
         this.failureCallback = failureCallback;
         this.metrics = metrics;
         this.maxCacheCount = maxCacheCount;
@@ -62,7 +73,8 @@ final class CacheStoreImpl implements CacheStore {
 
         cacheMap.computeIfAbsent(timestamp, key -> snapshotStore
                 .getSnapshot(key)
-                .map(snapshot -> TransactionScopedCacheImpl.create(snapshot, metrics))
+                .map(snapshot -> TransactionScopedCacheImpl.create(
+                        snapshot, metrics, getSharedReads(key), cacheCompleteRows, maxCompleteRowColumns))
                 .map(newCache ->
                         ValidatingTransactionScopedCache.create(newCache, validationProbability, failureCallback))
                 .map(Caches::create)
@@ -82,6 +94,9 @@ final class CacheStoreImpl implements CacheStore {
     @Override
     public void reset() {
         cacheMap.clear();
+        // Sequences from before the reset may be reused with a different meaning, so in-flight reads must not be
+        // shared with transactions created afterwards.
+        inFlightReads = new InFlightReadRegistry();
     }
 
     @Override
@@ -96,6 +111,14 @@ final class CacheStoreImpl implements CacheStore {
                 .orElseGet(() -> NoOpTransactionScopedCache.create().createReadOnlyCache(CommitUpdate.invalidateAll()));
     }
 
+    private Optional<InFlightReadRegistry.SnapshotReads> getSharedReads(StartTimestamp timestamp) {
+        if (!shareInFlightReads) {
+            return Optional.empty();
+        }
+        InFlightReadRegistry registry = inFlightReads;
+        return snapshotStore.getSequence(timestamp).map(registry::atSequence);
+    }
+
     private void validateStateSize() {
         if (cacheMap.size() > maxCacheCount) {
             log.warn(
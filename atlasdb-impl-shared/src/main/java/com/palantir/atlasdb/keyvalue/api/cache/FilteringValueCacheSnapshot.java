@@ -55,6 +55,20 @@ final class FilteringValueCacheSnapshot implements ValueCacheSnapshot {
         return lockedCells.isUnlocked(cellReference) && delegate.isUnlocked(cellReference);
     }
 
+    @Override
+    public Optional<CompleteRow> getCompleteRow(TableRowReference rowReference) {
+        if (!lockedCells.isRowUnlocked(rowReference)) {
+            return Optional.empty();
+        } else {
+            return delegate.getCompleteRow(rowReference);
+        }
+    }
+
+    @Override
+    public boolean isRowUnlocked(TableRowReference rowReference) {
+        return lockedCells.isRowUnlocked(rowReference) && delegate.isRowUnlocked(rowReference);
+    }
+
     @Override
     public boolean isWatched(TableReference tableReference) {
         return delegate.isWatched(tableReference);
@@ -85,6 +99,11 @@ final class FilteringValueCacheSnapshot implements ValueCacheSnapshot {
 
         Set<CellReference> lockedCells();
 
+        @Value.Derived
+        default Set<TableRowReference> lockedRows() {
+            return lockedCells().stream().map(TableRowReference::of).collect(Collectors.toSet());
+        }
+
         static LockedCells invalidateAll() {
             return ImmutableLockedCells.builder().allLocked(true).build();
         }
@@ -102,5 +121,9 @@ final class FilteringValueCacheSnapshot implements ValueCacheSnapshot {
         default boolean isUnlocked(CellReference cellReference) {
             return !allLocked() && !lockedCells().contains(cellReference);
         }
+
+        default boolean isRowUnlocked(TableRowReference rowReference) {
+            return !allLocked() && !lockedRows().contains(rowReference);
+        }
     }
 }
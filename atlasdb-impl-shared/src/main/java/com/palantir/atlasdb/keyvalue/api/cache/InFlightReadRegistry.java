@@ -0,0 +1,215 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.api.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.watch.Sequence;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import javax.annotation.concurrent.ThreadSafe;
+import org.immutables.value.Value;
+
+/**
+ * Tracks remote reads of watched cells that are currently in flight, so that concurrent cache misses for the same cell
+ * at the same snapshot sequence can share a single read from the key value service.
+ * <p>
+ * This relies on the same invariant as the value cache itself: for a given sequence, a watched cell that is unlocked
+ * has the same committed value for every transaction at that sequence. Callers must therefore only register cells
+ * that are unlocked in their snapshot, and that they have not written to locally (as the value loader would otherwise
+ * return the transaction's own uncommitted write).
+ * <p>
+ * Sequences are only meaningful for a given lock watch log; the registry must be replaced whenever the cache is reset.
+ */
+@ThreadSafe
+final class InFlightReadRegistry {
+    private final Map<InFlightRead, ListenableFuture<CacheValue>> inFlightReads = new ConcurrentHashMap<>();
+
+    SnapshotReads atSequence(Sequence sequence) {
+        return new SnapshotReads(sequence);
+    }
+
+    @VisibleForTesting
+    int inFlightReadCount() {
+        return inFlightReads.size();
+    }
+
+    final class SnapshotReads {
+        private final Sequence sequence;
+
+        private SnapshotReads(Sequence sequence) {
+            this.sequence = sequence;
+        }
+
+        /**
+         * Loads the given cells, joining any in-flight reads for cells in {@code shareableCells} rather than reading
+         * them again. Cells that are not shareable, or that no other transaction is currently reading, are loaded with
+         * a single call to the value loader. If a joined read fails, the affected cells are loaded again with this
+         * transaction's own loader.
+         */
+        ListenableFuture<Map<Cell, byte[]>> read(
+                TableReference table,
+                Set<Cell> cells,
+                Set<Cell> shareableCells,
+                Function<Set<Cell>, ListenableFuture<Map<Cell, byte[]>>> valueLoader) {
+            Map<InFlightRead, SettableFuture<CacheValue>> ownedReads = new HashMap<>();
+            Map<Cell, ListenableFuture<CacheValue>> joinedReads = new HashMap<>();
+            Set<Cell> cellsToLoad = new HashSet<>();
+
+            for (Cell cell : cells) {
+                if (!shareableCells.contains(cell)) {
+                    cellsToLoad.add(cell);
+                    continue;
+                }
+                InFlightRead key = InFlightRead.of(table, cell, sequence);
+                SettableFuture<CacheValue> future = SettableFuture.create();
+                ListenableFuture<CacheValue> existing = inFlightReads.putIfAbsent(key, future);
+                if (existing == null) {
+                    ownedReads.put(key, future);
+                    cellsToLoad.add(cell);
+                } else {
+                    joinedReads.put(cell, existing);
+                }
+            }
+
+            ListenableFuture<Map<Cell, byte[]>> loadedReads = load(cellsToLoad, ownedReads, valueLoader);
+            ListenableFuture<Map<Cell, byte[]>> sharedReads = awaitJoinedReads(joinedReads, valueLoader);
+            return Futures.whenAllSucceed(loadedReads, sharedReads)
+                    .call(
+                            () -> ImmutableMap.<Cell, byte[]>builder()
+                                    .putAll(AtlasFutures.getDone(loadedReads))
+                                    .putAll(AtlasFutures.getDone(sharedReads))
+                                    .buildOrThrow(),
+                            MoreExecutors.directExecutor());
+        }
+
+        private ListenableFuture<Map<Cell, byte[]>> load(
+                Set<Cell> cellsToLoad,
+                Map<InFlightRead, SettableFuture<CacheValue>> ownedReads,
+                Function<Set<Cell>, ListenableFuture<Map<Cell, byte[]>>> valueLoader) {
+            if (cellsToLoad.isEmpty()) {
+                return Futures.immediateFuture(ImmutableMap.of());
+            }
+
+            ListenableFuture<Map<Cell, byte[]>> reads;
+            try {
+                reads = valueLoader.apply(cellsToLoad);
+            } catch (RuntimeException | Error e) {
+                completeExceptionally(ownedReads, e);
+                throw e;
+            }
+            reads.addListener(() -> publish(ownedReads, reads), MoreExecutors.directExecutor());
+            return reads;
+        }
+
+        private ListenableFuture<Map<Cell, byte[]>> awaitJoinedReads(
+                Map<Cell, ListenableFuture<CacheValue>> joinedReads,
+                Function<Set<Cell>, ListenableFuture<Map<Cell, byte[]>>> valueLoader) {
+            if (joinedReads.isEmpty()) {
+                return Futures.immediateFuture(ImmutableMap.of());
+            }
+
+            List<Cell> joinedCells = List.copyOf(joinedReads.keySet());
+            ListenableFuture<List<CacheValue>> values = Futures.successfulAsList(
+                    joinedCells.stream().map(joinedReads::get).collect(ImmutableList.toImmutableList()));
+            return Futures.transformAsync(
+                    values,
+                    results -> {
+                        Map<Cell, byte[]> sharedValues = new HashMap<>();
+                        Set<Cell> failedCells = new HashSet<>();
+                        for (int i = 0; i < joinedCells.size(); i++) {
+                            Cell cell = joinedCells.get(i);
+                            CacheValue value = results.get(i);
+                            if (value == null) {
+                                failedCells.add(cell);
+                            } else {
+                                value.value().ifPresent(bytes -> sharedValues.put(cell, bytes));
+                            }
+                        }
+                        if (failedCells.isEmpty()) {
+                            return Futures.immediateFuture(sharedValues);
+                        }
+                        return Futures.transform(
+                                valueLoader.apply(failedCells),
+                                reloaded -> ImmutableMap.<Cell, byte[]>builder()
+                                        .putAll(sharedValues)
+                                        .putAll(reloaded)
+                                        .buildOrThrow(),
+                                MoreExecutors.directExecutor());
+                    },
+                    MoreExecutors.directExecutor());
+        }
+    }
+
+    private void publish(
+            Map<InFlightRead, SettableFuture<CacheValue>> ownedReads, ListenableFuture<Map<Cell, byte[]>> reads) {
+        Map<Cell, byte[]> values;
+        try {
+            values = Futures.getDone(reads);
+        } catch (ExecutionException e) {
+            completeExceptionally(ownedReads, e.getCause());
+            return;
+        } catch (CancellationException e) {
+            completeExceptionally(ownedReads, e);
+            return;
+        }
+        ownedReads.forEach((key, future) -> {
+            inFlightReads.remove(key, future);
+            byte[] value = values.get(key.cell());
+            future.set(value == null ? CacheValue.empty() : CacheValue.of(value));
+        });
+    }
+
+    private void completeExceptionally(Map<InFlightRead, SettableFuture<CacheValue>> ownedReads, Throwable failure) {
+        ownedReads.forEach((key, future) -> {
+            inFlightReads.remove(key, future);
+            future.setException(failure);
+        });
+    }
+
+    @Value.Immutable
+    interface InFlightRead {
+        TableReference table();
+
+        Cell cell();
+
+        Sequence sequence();
+
+        static InFlightRead of(TableReference table, Cell cell, Sequence sequence) {
+            return ImmutableInFlightRead.builder()
+                    .table(table)
+                    .cell(cell)
+                    .sequence(sequence)
+                    .build();
+        }
+    }
+}
@@ -43,10 +43,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
+/**
+ * Processing of transaction starts, which applies new events to the value store and takes snapshots of it, and
+ * removal of transaction state, which modifies the snapshot store, require exclusive access. Processing of commit
+ * timestamps only touches the concurrent cache store and the events for the committing transactions, and so is done
+ * while holding the lock in shared mode, allowing many committing threads to proceed concurrently.
+ */
 @ThreadSafe
 public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopingCache {
     private static final SafeLogger log = SafeLoggerFactory.get(LockWatchValueScopingCacheImpl.class);
@@ -54,11 +62,12 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
     private static final int MAX_CACHE_COUNT = 20_000;
     private final LockWatchEventCache eventCache;
     private final CacheStore cacheStore;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
-    @GuardedBy("this")
+    @GuardedBy("lock")
     private final ValueStore valueStore;
 
-    @GuardedBy("this")
+    @GuardedBy("lock")
     private final SnapshotStore snapshotStore;
 
     private volatile Optional<LockWatchVersion> currentVersion = Optional.empty();
@@ -70,6 +79,9 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
             LockWatchEventCache eventCache,
             long maxCacheSize,
             double validationProbability,
+            boolean shareInFlightReads,
+            boolean cacheCompleteRows,
+            int maxCompleteRowColumns,
             Set<TableReference> watchedTablesFromSchema,
             SnapshotStore snapshotStore,
             Runnable failureCallback,
@@ -78,8 +90,15 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
         this.snapshotStore = snapshotStore;
         this.valueStore = new ValueStoreImpl(watchedTablesFromSchema, maxCacheSize, metrics);
         this.cacheMetrics = metrics;
-        this.cacheStore =
-                new CacheStoreImpl(snapshotStore, validationProbability, failureCallback, metrics, MAX_CACHE_COUNT);
+        this.cacheStore = new CacheStoreImpl(
+                snapshotStore,
+                validationProbability,
+                failureCallback,
+                metrics,
+                MAX_CACHE_COUNT,
+                shareInFlightReads,
+                cacheCompleteRows,
+                maxCompleteRowColumns);
     }
 
     public static LockWatchValueScopingCache create(
@@ -87,6 +106,9 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
             CacheMetrics metrics,
             long maxCacheSize,
             double validationProbability,
+            boolean shareInFlightReads,
+            boolean cacheCompleteRows,
+            int maxCompleteRowColumns,
             Set<TableReference> watchedTablesFromSchema) {
         ResilientLockWatchProxy<LockWatchValueScopingCache> proxyFactory =
                 ResilientLockWatchProxy.newValueCacheProxyFactory(NoOpLockWatchValueScopingCache.create(), metrics);
@@ -94,6 +116,9 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
                 eventCache,
                 maxCacheSize,
                 validationProbability,
+                shareInFlightReads,
+                cacheCompleteRows,
+                maxCompleteRowColumns,
                 watchedTablesFromSchema,
                 SnapshotStoreImpl.create(metrics),
                 proxyFactory::fallback,
@@ -103,30 +128,45 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
     }
 
     @Override
-    public synchronized void processStartTransactions(Set<Long> startTimestamps) {
-        TransactionsLockWatchUpdate updateForTransactions =
-                eventCache.getUpdateForTransactions(startTimestamps, currentVersion);
+    public void processStartTransactions(Set<Long> startTimestamps) {
+        lock.writeLock().lock();
+        try {
+            TransactionsLockWatchUpdate updateForTransactions =
+                    eventCache.getUpdateForTransactions(startTimestamps, currentVersion);
 
-        Optional<LockWatchVersion> latestVersionFromUpdate = computeMaxUpdateVersion(updateForTransactions);
+            Optional<LockWatchVersion> latestVersionFromUpdate = computeMaxUpdateVersion(updateForTransactions);
 
-        if (updateForTransactions.clearCache()) {
-            clearCache(updateForTransactions, latestVersionFromUpdate);
-        }
+            if (updateForTransactions.clearCache()) {
+                clearCache(updateForTransactions, latestVersionFromUpdate);
+            }
 
-        updateStores(updateForTransactions);
-        updateCurrentVersion(latestVersionFromUpdate);
+            updateStores(updateForTransactions);
+            updateCurrentVersion(latestVersionFromUpdate);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
-    public synchronized void updateCacheWithCommitTimestampsInformation(Set<Long> startTimestamps) {
-        startTimestamps.forEach(this::processCommitUpdate);
+    public void updateCacheWithCommitTimestampsInformation(Set<Long> startTimestamps) {
+        lock.readLock().lock();
+        try {
+            startTimestamps.forEach(this::processCommitUpdate);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
-    public synchronized void ensureStateRemoved(long startTimestamp) {
+    public void ensureStateRemoved(long startTimestamp) {
         StartTimestamp startTs = StartTimestamp.of(startTimestamp);
-        snapshotStore.removeTimestamp(startTs);
-        cacheStore.removeCache(startTs);
+        lock.writeLock().lock();
+        try {
+            snapshotStore.removeTimestamp(startTs);
+            cacheStore.removeCache(startTs);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -134,8 +174,10 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
         TransactionScopedCache cache = cacheStore.getCache(StartTimestamp.of(startTimestamp));
         cache.finalise();
 
-        Map<CellReference, CacheValue> cachedValues = cache.getValueDigest().loadedValues();
-        if (!cachedValues.isEmpty()) {
+        ValueDigest valueDigest = cache.getValueDigest();
+        Map<CellReference, CacheValue> cachedValues = valueDigest.loadedValues();
+        Map<TableRowReference, CompleteRow> cachedRows = valueDigest.loadedRows();
+        if (!cachedValues.isEmpty() || !cachedRows.isEmpty()) {
             eventCache.getEventUpdate(startTimestamp).accept(new CommitUpdate.Visitor<Void>() {
                 @Override
                 public Void invalidateAll() {
@@ -153,16 +195,28 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
                             .collect(ImmutableSet.toImmutableSet());
 
                     final Map<CellReference, CacheValue> toUpdate;
+                    final Map<TableRowReference, CompleteRow> rowsToUpdate;
                     if (invalidatedCells.isEmpty()) {
                         toUpdate = cachedValues;
+                        rowsToUpdate = cachedRows;
                     } else {
                         toUpdate = KeyedStream.stream(cachedValues)
                                 .filterKeys(cellReference -> !invalidatedCells.contains(cellReference))
                                 .collectToMap();
+                        Set<TableRowReference> invalidatedRows = invalidatedCells.stream()
+                                .map(TableRowReference::of)
+                                .collect(Collectors.toSet());
+                        rowsToUpdate = KeyedStream.stream(cachedRows)
+                                .filterKeys(rowReference -> !invalidatedRows.contains(rowReference))
+                                .collectToMap();
                     }
 
-                    synchronized (LockWatchValueScopingCacheImpl.this) {
+                    lock.writeLock().lock();
+                    try {
                         toUpdate.forEach(valueStore::putValue);
+                        rowsToUpdate.forEach(valueStore::putCompleteRow);
+                    } finally {
+                        lock.writeLock().unlock();
                     }
                     return null;
                 }
@@ -187,7 +241,7 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
         return cacheStore.getReadOnlyCache(StartTimestamp.of(startTs));
     }
 
-    private synchronized void processCommitUpdate(long startTimestamp) {
+    private void processCommitUpdate(long startTimestamp) {
         StartTimestamp startTs = StartTimestamp.of(startTimestamp);
         TransactionScopedCache cache = cacheStore.getCache(startTs);
         cache.finalise();
@@ -208,16 +262,15 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
      *  3. For each transaction, we must create a transaction scoped cache. We do this now as we have tighter guarantees
      *     around when the cache is created, and thus deleted.
      */
-    private synchronized void updateStores(TransactionsLockWatchUpdate updateForTransactions) {
+    @GuardedBy("lock")
+    private void updateStores(TransactionsLockWatchUpdate updateForTransactions) {
         Multimap<Sequence, StartTimestamp> reversedMap = createSequenceTimestampMultimap(updateForTransactions);
 
         // Without this block, updates with no events would not store a snapshot.
         Optional<Sequence> maybeSeq =
                 currentVersion.map(LockWatchVersion::version).map(Sequence::of);
         if (maybeSeq.isPresent()) {
-            synchronized (this) {
-                snapshotStore.storeSnapshot(maybeSeq.get(), reversedMap.get(maybeSeq.get()), valueStore.getSnapshot());
-            }
+            snapshotStore.storeSnapshot(maybeSeq.get(), reversedMap.get(maybeSeq.get()), valueStore.getSnapshot());
         }
 
         for (LockWatchEvent event : updateForTransactions.events()) {
@@ -237,14 +290,16 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
         }
     }
 
-    private synchronized boolean isNewEvent(LockWatchEvent event) {
+    @GuardedBy("lock")
+    private boolean isNewEvent(LockWatchEvent event) {
         return currentVersion
                 .map(LockWatchVersion::version)
                 .map(current -> current < event.sequence())
                 .orElse(true);
     }
 
-    private synchronized void assertNoSnapshotsMissing(Multimap<Sequence, StartTimestamp> reversedMap) {
+    @GuardedBy("lock")
+    private void assertNoSnapshotsMissing(Multimap<Sequence, StartTimestamp> reversedMap) {
         Set<Sequence> sequences = reversedMap.keySet();
         if (sequences.stream().map(snapshotStore::getSnapshotForSequence).anyMatch(Optional::isEmpty)) {
             log.warn(
@@ -260,7 +315,8 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
         }
     }
 
-    private synchronized void updateCurrentVersion(Optional<LockWatchVersion> maybeUpdateVersion) {
+    @GuardedBy("lock")
+    private void updateCurrentVersion(Optional<LockWatchVersion> maybeUpdateVersion) {
         maybeUpdateVersion
                 .filter(this::shouldUpdateVersion)
                 .ifPresent(updateVersion -> currentVersion = Optional.of(updateVersion));
@@ -271,11 +327,13 @@ public final class LockWatchValueScopingCacheImpl implements LockWatchValueScopi
                 .max(Comparator.comparingLong(LockWatchVersion::version));
     }
 
-    private synchronized boolean shouldUpdateVersion(LockWatchVersion updateVersion) {
+    @GuardedBy("lock")
+    private boolean shouldUpdateVersion(LockWatchVersion updateVersion) {
         return currentVersion.isEmpty() || currentVersion.orElseThrow().version() < updateVersion.version();
     }
 
-    private synchronized void clearCache(
+    @GuardedBy("lock")
+    private void clearCache(
             TransactionsLockWatchUpdate updateForTransactions, Optional<LockWatchVersion> latestVersionFromUpdate) {
         LockWatchEvent firstEvent = null;
         LockWatchEvent lastEvent = null;
@@ -39,6 +39,8 @@ public interface SnapshotStore {
 
     Optional<ValueCacheSnapshot> getSnapshot(StartTimestamp timestamp);
 
+    Optional<Sequence> getSequence(StartTimestamp timestamp);
+
     Optional<ValueCacheSnapshot> getSnapshotForSequence(Sequence sequence);
 
     void removeTimestamp(StartTimestamp timestamp);
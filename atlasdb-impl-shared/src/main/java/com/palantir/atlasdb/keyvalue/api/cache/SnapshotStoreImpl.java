@@ -88,6 +88,11 @@ final class SnapshotStoreImpl implements SnapshotStore {
         return Optional.ofNullable(timestampMap.get(timestamp)).flatMap(this::getSnapshotForSequence);
     }
 
+    @Override
+    public Optional<Sequence> getSequence(StartTimestamp timestamp) {
+        return Optional.ofNullable(timestampMap.get(timestamp));
+    }
+
     @Override
     public void removeTimestamp(StartTimestamp timestamp) {
         Optional.ofNullable(timestampMap.remove(timestamp))
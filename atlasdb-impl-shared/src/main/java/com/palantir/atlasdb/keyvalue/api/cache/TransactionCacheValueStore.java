@@ -39,12 +39,33 @@ interface TransactionCacheValueStore {
 
     Map<Cell, CacheValue> getCachedValues(TableReference table, Set<Cell> cells);
 
+    /**
+     * Returns the cells which are unlocked in the underlying snapshot and have not been written to by this
+     * transaction. A remote read of any of these cells returns the same value for every transaction at the same
+     * snapshot sequence.
+     */
+    Set<Cell> getUnlockedAndUnwrittenCells(TableReference table, Set<Cell> cells);
+
+    /**
+     * Returns the complete contents of those rows which are cached, either locally or in the underlying snapshot.
+     * Rows containing any cell written to by this transaction are never returned.
+     */
+    Map<TableRowReference, CompleteRow> getCachedRows(TableReference table, Iterable<byte[]> rows);
+
+    /**
+     * Caches the complete contents of rows read remotely, unless any cell in the row is locked or has been written to
+     * by this transaction.
+     */
+    void cacheRemoteRowReads(Map<TableRowReference, CompleteRow> remoteRows);
+
     /**
      * Contains a map of all the values that were read remotely and stored locally (filtering out those that were
      * unable to be cached due to values being locked). Also note that writes do not appear in the digest.
      */
     Map<CellReference, CacheValue> getValueDigest();
 
+    Map<TableRowReference, CompleteRow> getRowDigest();
+
     Set<CellReference> getHitDigest();
 
     TransactionCacheValueStore createWithFilteredSnapshot(CommitUpdate commitUpdate);
@@ -27,6 +27,7 @@ import com.palantir.lock.watch.CommitUpdate;
 import com.palantir.logsafe.UnsafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -39,10 +40,14 @@ import org.immutables.value.Value;
 final class TransactionCacheValueStoreImpl implements TransactionCacheValueStore {
     private final ValueCacheSnapshot snapshot;
     private final Map<CellReference, LocalCacheEntry> localUpdates;
+    private final Map<TableRowReference, CompleteRow> rowReads;
+    private final Set<TableRowReference> writtenRows;
 
     TransactionCacheValueStoreImpl(ValueCacheSnapshot snapshot) {
         this.snapshot = snapshot;
         this.localUpdates = new HashMap<>();
+        this.rowReads = new HashMap<>();
+        this.writtenRows = new HashSet<>();
     }
 
     @Override
@@ -93,6 +98,8 @@ final class TransactionCacheValueStoreImpl implements TransactionCacheValueStore
                     // no-op - hits contain the same values as stored in the snapshot
             }
         });
+        writtenRows.forEach(newStore.writtenRows::add);
+        newStore.cacheRemoteRowReads(rowReads);
 
         return newStore;
     }
@@ -117,6 +124,40 @@ final class TransactionCacheValueStoreImpl implements TransactionCacheValueStore
                 .buildOrThrow();
     }
 
+    @Override
+    public Set<Cell> getUnlockedAndUnwrittenCells(TableReference table, Set<Cell> cells) {
+        return cells.stream()
+                .filter(cell -> {
+                    CellReference cellReference = CellReference.of(table, cell);
+                    return snapshot.isUnlocked(cellReference) && !isLocallyWritten(cellReference);
+                })
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<TableRowReference, CompleteRow> getCachedRows(TableReference table, Iterable<byte[]> rows) {
+        Map<TableRowReference, CompleteRow> cachedRows = new HashMap<>();
+        for (byte[] row : rows) {
+            TableRowReference rowReference = TableRowReference.of(table, row);
+            if (writtenRows.contains(rowReference)) {
+                continue;
+            }
+            Optional.ofNullable(rowReads.get(rowReference))
+                    .or(() -> snapshot.getCompleteRow(rowReference))
+                    .ifPresent(completeRow -> cachedRows.put(rowReference, completeRow));
+        }
+        return cachedRows;
+    }
+
+    @Override
+    public void cacheRemoteRowReads(Map<TableRowReference, CompleteRow> remoteRows) {
+        remoteRows.forEach((rowReference, completeRow) -> {
+            if (snapshot.isRowUnlocked(rowReference) && !writtenRows.contains(rowReference)) {
+                rowReads.putIfAbsent(rowReference, completeRow);
+            }
+        });
+    }
+
     @Override
     public Map<CellReference, CacheValue> getValueDigest() {
         return KeyedStream.stream(localUpdates)
@@ -126,6 +167,11 @@ final class TransactionCacheValueStoreImpl implements TransactionCacheValueStore
                 .collectToMap();
     }
 
+    @Override
+    public Map<TableRowReference, CompleteRow> getRowDigest() {
+        return ImmutableMap.copyOf(rowReads);
+    }
+
     @Override
     public Set<CellReference> getHitDigest() {
         return KeyedStream.stream(localUpdates)
@@ -168,7 +214,15 @@ final class TransactionCacheValueStoreImpl implements TransactionCacheValueStore
                 .collect(Collectors.toSet());
     }
 
+    private boolean isLocallyWritten(CellReference cellReference) {
+        LocalCacheEntry entry = localUpdates.get(cellReference);
+        return entry != null && entry.status().equals(Status.WRITE);
+    }
+
     private void recordRemoteWriteInternal(CellReference cellReference) {
+        TableRowReference rowReference = TableRowReference.of(cellReference);
+        writtenRows.add(rowReference);
+        rowReads.remove(rowReference);
         if (snapshot.isUnlocked(cellReference)) {
             localUpdates.put(cellReference, LocalCacheEntry.write());
         }
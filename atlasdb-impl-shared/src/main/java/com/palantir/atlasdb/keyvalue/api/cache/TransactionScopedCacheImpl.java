@@ -16,6 +16,7 @@
 
 package com.palantir.atlasdb.keyvalue.api.cache;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Streams;
@@ -34,29 +35,68 @@ import com.palantir.atlasdb.transaction.api.TransactionLockWatchFailedException;
 import com.palantir.common.streams.KeyedStream;
 import com.palantir.lock.watch.CommitUpdate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 @ThreadSafe
 public final class TransactionScopedCacheImpl implements TransactionScopedCache {
     private final TransactionCacheValueStore valueStore;
     private final CacheMetrics metrics;
+    private final Optional<InFlightReadRegistry.SnapshotReads> sharedReads;
+    private final boolean cacheCompleteRows;
+    private final int maxCompleteRowColumns;
+
+    @GuardedBy("this")
+    private final Set<TableRowReference> oversizedRows = new HashSet<>();
+
     private volatile boolean finalised = false;
 
-    private TransactionScopedCacheImpl(TransactionCacheValueStore valueStore, CacheMetrics metrics) {
+    private TransactionScopedCacheImpl(
+            TransactionCacheValueStore valueStore,
+            CacheMetrics metrics,
+            Optional<InFlightReadRegistry.SnapshotReads> sharedReads,
+            boolean cacheCompleteRows,
+            int maxCompleteRowColumns) {
         this.valueStore = valueStore;
         this.metrics = metrics;
+        this.sharedReads = sharedReads;
+        this.cacheCompleteRows = cacheCompleteRows;
+        this.maxCompleteRowColumns = maxCompleteRowColumns;
     }
 
     public static TransactionScopedCache create(ValueCacheSnapshot snapshot, CacheMetrics metrics) {
-        return new TransactionScopedCacheImpl(new TransactionCacheValueStoreImpl(snapshot), metrics);
+        return create(snapshot, metrics, Optional.empty(), false, 0);
+    }
+
+    @VisibleForTesting
+    public static TransactionScopedCache createCachingCompleteRows(
+            ValueCacheSnapshot snapshot, CacheMetrics metrics, int maxCompleteRowColumns) {
+        return create(snapshot, metrics, Optional.empty(), true, maxCompleteRowColumns);
+    }
+
+    static TransactionScopedCache create(
+            ValueCacheSnapshot snapshot,
+            CacheMetrics metrics,
+            Optional<InFlightReadRegistry.SnapshotReads> sharedReads,
+            boolean cacheCompleteRows,
+            int maxCompleteRowColumns) {
+        return new TransactionScopedCacheImpl(
+                new TransactionCacheValueStoreImpl(snapshot),
+                metrics,
+                sharedReads,
+                cacheCompleteRows,
+                maxCompleteRowColumns);
     }
 
     @Override
@@ -95,8 +135,18 @@ public final class TransactionScopedCacheImpl implements TransactionScopedCache
             Set<Cell> cells,
             Function<Set<Cell>, ListenableFuture<Map<Cell, byte[]>>> valueLoader) {
         ensureNotFinalised();
-        return getAsyncWithCachedRef(
-                tableReference, cells, cacheLookupResult -> valueLoader.apply(cacheLookupResult.missedCells()));
+        if (sharedReads.isEmpty() || !valueStore.isWatched(tableReference)) {
+            return getAsyncWithCachedRef(
+                    tableReference, cells, cacheLookupResult -> valueLoader.apply(cacheLookupResult.missedCells()));
+        }
+
+        CacheLookupResult cacheLookup = cacheLookup(tableReference, cells);
+        Set<Cell> shareableCells = getUnlockedAndUnwrittenCells(tableReference, cacheLookup.missedCells());
+        return Futures.transform(
+                sharedReads.get().read(tableReference, cacheLookup.missedCells(), shareableCells, valueLoader),
+                uncachedValues -> processUncachedCells(
+                        tableReference, cacheLookup.cacheHits(), cacheLookup.missedCells(), uncachedValues),
+                MoreExecutors.directExecutor());
     }
 
     @Override
@@ -167,10 +217,40 @@ public final class TransactionScopedCacheImpl implements TransactionScopedCache
         return rowReads;
     }
 
+    @Override
+    public boolean cachesCompleteRows(TableReference tableRef) {
+        return cacheCompleteRows && valueStore.isWatched(tableRef);
+    }
+
+    @Override
+    public NavigableMap<byte[], CompleteRow> getCompleteRows(
+            TableReference tableRef, Iterable<byte[]> rows, CompleteRowLoader rowLoader) {
+        ensureNotFinalised();
+
+        NavigableMap<byte[], CompleteRow> result = new TreeMap<>(UnsignedBytes.lexicographicalComparator());
+        if (!cachesCompleteRows(tableRef)) {
+            return result;
+        }
+
+        Map<TableRowReference, CompleteRow> cachedRows = getCachedRows(tableRef, rows);
+        List<byte[]> rowsToLoad = getRowsToLoad(tableRef, rows, cachedRows.keySet());
+        metrics.increaseGetRowsHits(cachedRows.values().stream()
+                .mapToInt(completeRow -> completeRow.columns().size())
+                .sum());
+        metrics.increaseGetRowsRowLookups(rowsToLoad.size());
+
+        if (!rowsToLoad.isEmpty()) {
+            result.putAll(processUncachedCompleteRows(
+                    tableRef, rowsToLoad, rowLoader.load(rowsToLoad, maxCompleteRowColumns)));
+        }
+        cachedRows.forEach((rowReference, completeRow) -> result.put(rowReference.row(), completeRow));
+        return result;
+    }
+
     @Override
     public synchronized ValueDigest getValueDigest() {
         ensureFinalised();
-        return ValueDigest.of(valueStore.getValueDigest());
+        return ValueDigest.of(valueStore.getValueDigest(), valueStore.getRowDigest());
     }
 
     @Override
@@ -182,7 +262,12 @@ public final class TransactionScopedCacheImpl implements TransactionScopedCache
     @Override
     public TransactionScopedCache createReadOnlyCache(CommitUpdate commitUpdate) {
         return ReadOnlyTransactionScopedCache.create(
-                new TransactionScopedCacheImpl(valueStore.createWithFilteredSnapshot(commitUpdate), metrics));
+                new TransactionScopedCacheImpl(
+                        valueStore.createWithFilteredSnapshot(commitUpdate),
+                        metrics,
+                        Optional.empty(),
+                        cacheCompleteRows,
+                        maxCompleteRowColumns));
     }
 
     @Override
@@ -239,6 +324,48 @@ public final class TransactionScopedCacheImpl implements TransactionScopedCache
         return result;
     }
 
+    /**
+     * Rows requested but absent from the loaded result have no columns, which is also cached. Rows with more columns
+     * than the configured maximum are neither cached nor returned, and are not loaded again by this transaction. As
+     * with cells, rows which are locked or have been written to by this transaction are not cached by the value store.
+     */
+    private synchronized NavigableMap<byte[], CompleteRow> processUncachedCompleteRows(
+            TableReference tableRef, List<byte[]> rowsToLoad, NavigableMap<byte[], RowResult<byte[]>> loadedRows) {
+        Map<TableRowReference, CompleteRow> rowReads = new HashMap<>();
+        for (byte[] row : rowsToLoad) {
+            TableRowReference rowReference = TableRowReference.of(tableRef, row);
+            RowResult<byte[]> rowResult = loadedRows.get(row);
+            if (rowResult == null) {
+                rowReads.put(rowReference, CompleteRow.empty());
+            } else if (rowResult.getColumns().size() > maxCompleteRowColumns) {
+                oversizedRows.add(rowReference);
+            } else {
+                rowReads.put(rowReference, CompleteRow.of(rowResult.getColumns()));
+            }
+        }
+        valueStore.cacheRemoteRowReads(rowReads);
+        NavigableMap<byte[], CompleteRow> result = new TreeMap<>(UnsignedBytes.lexicographicalComparator());
+        rowReads.forEach((rowReference, completeRow) -> result.put(rowReference.row(), completeRow));
+        return result;
+    }
+
+    private synchronized List<byte[]> getRowsToLoad(
+            TableReference tableRef, Iterable<byte[]> rows, Set<TableRowReference> cachedRows) {
+        Set<byte[]> rowsToLoad = new TreeSet<>(UnsignedBytes.lexicographicalComparator());
+        for (byte[] row : rows) {
+            TableRowReference rowReference = TableRowReference.of(tableRef, row);
+            if (!cachedRows.contains(rowReference) && !oversizedRows.contains(rowReference)) {
+                rowsToLoad.add(row);
+            }
+        }
+        return new ArrayList<>(rowsToLoad);
+    }
+
+    private synchronized Map<TableRowReference, CompleteRow> getCachedRows(
+            TableReference table, Iterable<byte[]> rows) {
+        return valueStore.getCachedRows(table, rows);
+    }
+
     private synchronized CacheLookupResult cacheLookup(TableReference table, Set<Cell> cells) {
         Map<Cell, CacheValue> cachedValues = valueStore.getCachedValues(table, cells);
         Set<Cell> uncachedCells = Sets.difference(cells, cachedValues.keySet());
@@ -247,6 +374,10 @@ public final class TransactionScopedCacheImpl implements TransactionScopedCache
         return CacheLookupResult.of(cachedValues, uncachedCells);
     }
 
+    private synchronized Set<Cell> getUnlockedAndUnwrittenCells(TableReference table, Set<Cell> cells) {
+        return valueStore.getUnlockedAndUnwrittenCells(table, cells);
+    }
+
     private synchronized void cacheEmptyReads(
             TableReference tableReference, Set<Cell> uncachedCells, Map<Cell, byte[]> remoteReadValues) {
         // The get method does not return an entry if a value is absent; we want to cache this fact
@@ -45,6 +45,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -102,8 +103,11 @@ final class ValidatingTransactionScopedCache implements TransactionScopedCache {
             TableReference tableReference,
             Set<Cell> cells,
             Function<Set<Cell>, ListenableFuture<Map<Cell, byte[]>>> valueLoader) {
-        return getAsyncWithCachedRef(
-                tableReference, cells, cacheLookupResult -> valueLoader.apply(cacheLookupResult.missedCells()));
+        if (shouldValidate()) {
+            return getAndValidate(tableReference, cells, valueLoader.apply(cells));
+        } else {
+            return delegate.getAsync(tableReference, cells, valueLoader);
+        }
     }
 
     @Override
@@ -112,20 +116,7 @@ final class ValidatingTransactionScopedCache implements TransactionScopedCache {
             Set<Cell> cells,
             Function<CacheLookupResult, ListenableFuture<Map<Cell, byte[]>>> valueLoader) {
         if (shouldValidate()) {
-            ListenableFuture<Map<Cell, byte[]>> remoteReads = valueLoader.apply(CacheLookupResult.of(Map.of(), cells));
-            ListenableFuture<Map<Cell, byte[]>> cacheReads = delegate.getAsync(
-                    tableReference,
-                    cells,
-                    cellsToRead -> Futures.transform(
-                            remoteReads, reads -> getCells(reads, cellsToRead), MoreExecutors.directExecutor()));
-
-            return Futures.transform(
-                    cacheReads,
-                    reads -> {
-                        validateCacheReads(tableReference, AtlasFutures.getDone(remoteReads), reads);
-                        return reads;
-                    },
-                    MoreExecutors.directExecutor());
+            return getAndValidate(tableReference, cells, valueLoader.apply(CacheLookupResult.of(Map.of(), cells)));
         } else {
             return delegate.getAsyncWithCachedRef(tableReference, cells, valueLoader);
         }
@@ -163,6 +154,30 @@ final class ValidatingTransactionScopedCache implements TransactionScopedCache {
         }
     }
 
+    @Override
+    public boolean cachesCompleteRows(TableReference tableRef) {
+        return delegate.cachesCompleteRows(tableRef);
+    }
+
+    /**
+     * Unlike the other reads, rows are read remotely for validation only after the cache has determined which of them
+     * fit within its column limit, as rows that do not are never read in full. Rows that missed the cache are
+     * therefore read twice when validating.
+     */
+    @Override
+    public NavigableMap<byte[], CompleteRow> getCompleteRows(
+            TableReference tableRef, Iterable<byte[]> rows, CompleteRowLoader rowLoader) {
+        NavigableMap<byte[], CompleteRow> cacheReads = delegate.getCompleteRows(tableRef, rows, rowLoader);
+        if (shouldValidate() && !cacheReads.isEmpty()) {
+            int maxColumns = cacheReads.values().stream()
+                    .mapToInt(completeRow -> completeRow.columns().size())
+                    .max()
+                    .orElse(0);
+            validateCacheRowReads(tableRef, rowLoader.load(cacheReads.keySet(), maxColumns), toRowResults(cacheReads));
+        }
+        return cacheReads;
+    }
+
     @Override
     public void finalise() {
         delegate.finalise();
@@ -183,6 +198,23 @@ final class ValidatingTransactionScopedCache implements TransactionScopedCache {
         return create(delegate.createReadOnlyCache(commitUpdate), validationProbability, failureCallback);
     }
 
+    private ListenableFuture<Map<Cell, byte[]>> getAndValidate(
+            TableReference tableReference, Set<Cell> cells, ListenableFuture<Map<Cell, byte[]>> remoteReads) {
+        ListenableFuture<Map<Cell, byte[]>> cacheReads = delegate.getAsync(
+                tableReference,
+                cells,
+                cellsToRead -> Futures.transform(
+                        remoteReads, reads -> getCells(reads, cellsToRead), MoreExecutors.directExecutor()));
+
+        return Futures.transform(
+                cacheReads,
+                reads -> {
+                    validateCacheReads(tableReference, AtlasFutures.getDone(remoteReads), reads);
+                    return reads;
+                },
+                MoreExecutors.directExecutor());
+    }
+
     private boolean shouldValidate() {
         return random.nextDouble() < validationProbability;
     }
@@ -223,6 +255,16 @@ final class ValidatingTransactionScopedCache implements TransactionScopedCache {
                 "Failed lock watch cache validation - will retry without caching");
     }
 
+    private static NavigableMap<byte[], RowResult<byte[]>> toRowResults(NavigableMap<byte[], CompleteRow> rows) {
+        NavigableMap<byte[], RowResult<byte[]>> rowResults = new TreeMap<>(UnsignedBytes.lexicographicalComparator());
+        rows.forEach((row, completeRow) -> {
+            if (!completeRow.columns().isEmpty()) {
+                rowResults.put(row, RowResult.create(row, completeRow.columns()));
+            }
+        });
+        return rowResults;
+    }
+
     private static Map<Cell, byte[]> getCells(Map<Cell, byte[]> remoteReads, Set<Cell> cells) {
         return KeyedStream.of(cells)
                 .map(remoteReads::get)
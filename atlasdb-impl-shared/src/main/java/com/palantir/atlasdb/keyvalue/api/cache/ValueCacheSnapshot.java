@@ -25,6 +25,16 @@ public interface ValueCacheSnapshot {
 
     boolean isUnlocked(CellReference cellReference);
 
+    /**
+     * Returns the cached entire contents of the given row, if present and no cell in the row is locked.
+     */
+    Optional<CompleteRow> getCompleteRow(TableRowReference rowReference);
+
+    /**
+     * A row is unlocked if its table is watched and none of its cells are locked.
+     */
+    boolean isRowUnlocked(TableRowReference rowReference);
+
     boolean isWatched(TableReference tableReference);
 
     boolean hasAnyTablesWatched();
@@ -17,8 +17,10 @@
 package com.palantir.atlasdb.keyvalue.api.cache;
 
 import com.google.common.collect.Sets;
+import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.CellReference;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
+import io.vavr.collection.HashMap;
 import io.vavr.collection.Map;
 import io.vavr.collection.Set;
 import java.util.Optional;
@@ -32,6 +34,16 @@ public interface ValueCacheSnapshotImpl extends ValueCacheSnapshot {
 
     java.util.Set<TableReference> allowedTablesFromSchema();
 
+    @Value.Default
+    default Map<TableRowReference, CompleteRow> completeRows() {
+        return HashMap.empty();
+    }
+
+    @Value.Default
+    default Map<TableRowReference, Set<Cell>> lockedCellsByRow() {
+        return HashMap.empty();
+    }
+
     @Value.Derived
     default java.util.Set<TableReference> enabledTables() {
         return Sets.intersection(lockWatchEnabledTables().toJavaSet(), allowedTablesFromSchema());
@@ -48,6 +60,19 @@ public interface ValueCacheSnapshotImpl extends ValueCacheSnapshot {
                 && getValue(tableAndCell).map(CacheEntry::isUnlocked).orElse(true);
     }
 
+    @Override
+    default Optional<CompleteRow> getCompleteRow(TableRowReference rowReference) {
+        if (!isRowUnlocked(rowReference)) {
+            return Optional.empty();
+        }
+        return completeRows().get(rowReference).toJavaOptional();
+    }
+
+    @Override
+    default boolean isRowUnlocked(TableRowReference rowReference) {
+        return isWatched(rowReference.tableRef()) && !lockedCellsByRow().containsKey(rowReference);
+    }
+
     @Override
     default boolean isWatched(TableReference tableReference) {
         return enabledTables().contains(tableReference);
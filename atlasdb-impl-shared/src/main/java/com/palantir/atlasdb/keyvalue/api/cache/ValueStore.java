@@ -30,5 +30,11 @@ interface ValueStore {
      */
     void putValue(CellReference cellReference, CacheValue value);
 
+    /**
+     * Stores the entire contents of a row in the central cache. As with {@link #putValue(CellReference, CacheValue)},
+     * this will throw if there is an existing entry with different contents, or if any cell in the row is locked.
+     */
+    void putCompleteRow(TableRowReference rowReference, CompleteRow row);
+
     ValueCacheSnapshot getSnapshot();
 }
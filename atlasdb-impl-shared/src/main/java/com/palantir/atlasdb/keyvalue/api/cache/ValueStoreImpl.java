@@ -51,25 +51,34 @@ final class ValueStoreImpl implements ValueStore {
     static final int CACHE_OVERHEAD = 128;
 
     private final StructureHolder<io.vavr.collection.Map<CellReference, CacheEntry>> values;
+    private final StructureHolder<io.vavr.collection.Map<TableRowReference, CompleteRow>> completeRows;
+    private final StructureHolder<io.vavr.collection.Map<TableRowReference, io.vavr.collection.Set<Cell>>>
+            lockedCellsByRow;
     private final StructureHolder<io.vavr.collection.Set<TableReference>> watchedTables;
     private final Set<TableReference> allowedTables;
-    private final Cache<CellReference, Integer> loadedValues;
+    /**
+     * Values and complete rows share a single budget, keyed by {@link CellReference} and {@link TableRowReference}
+     * respectively, so that the cache as a whole stays within the configured maximum size.
+     */
+    private final Cache<Object, Integer> loadedEntries;
     private final LockWatchVisitor visitor = new LockWatchVisitor();
     private final CacheMetrics metrics;
 
     ValueStoreImpl(Set<TableReference> allowedTables, long maxCacheSize, CacheMetrics metrics) {
         this.allowedTables = allowedTables;
         this.values = StructureHolder.create(HashMap::empty);
+        this.completeRows = StructureHolder.create(HashMap::empty);
+        this.lockedCellsByRow = StructureHolder.create(HashMap::empty);
         this.watchedTables = StructureHolder.create(HashSet::empty);
-        this.loadedValues = Caffeine.newBuilder()
+        this.loadedEntries = Caffeine.newBuilder()
                 .maximumWeight(maxCacheSize)
-                .weigher(EntryWeigher.INSTANCE)
+                .weigher(LoadedEntryWeigher.INSTANCE)
                 .executor(MoreExecutors.directExecutor())
-                .removalListener((cellReference, value, cause) -> {
+                .removalListener((key, value, cause) -> {
                     if (cause.wasEvicted()) {
-                        values.with(map -> map.remove(cellReference));
+                        removeEvictedEntry(key);
                     }
-                    metrics.decreaseCacheSize(EntryWeigher.INSTANCE.weigh(cellReference, value));
+                    metrics.decreaseCacheSize(LoadedEntryWeigher.INSTANCE.weigh(key, value));
                 })
                 .build();
         this.metrics = metrics;
@@ -79,11 +88,13 @@ final class ValueStoreImpl implements ValueStore {
     @Override
     public void reset() {
         values.resetToInitialValue();
+        completeRows.resetToInitialValue();
+        lockedCellsByRow.resetToInitialValue();
         watchedTables.resetToInitialValue();
-        loadedValues.invalidateAll();
+        loadedEntries.invalidateAll();
 
         // Forcing the cache to run cleanup here guarantees that the metrics are not affected after they have been reset
-        loadedValues.cleanUp();
+        loadedEntries.cleanUp();
         metrics.resetCacheSize();
     }
 
@@ -106,22 +117,65 @@ final class ValueStoreImpl implements ValueStore {
                     EntryWeigher.INSTANCE.weigh(cellReference, oldValue.value().size()));
             return newValue;
         }));
-        loadedValues.put(cellReference, value.size());
+        loadedEntries.put(cellReference, value.size());
         metrics.increaseCacheSize(EntryWeigher.INSTANCE.weigh(cellReference, value.size()));
     }
 
+    @Override
+    public void putCompleteRow(TableRowReference rowReference, CompleteRow row) {
+        Preconditions.checkState(
+                !lockedCellsByRow.getSnapshot().containsKey(rowReference),
+                "Trying to cache a row which has locked cells",
+                UnsafeArg.of("table", rowReference.tableRef()),
+                UnsafeArg.of("row", rowReference.row()));
+        completeRows.with(map -> map.put(rowReference, row, (oldRow, newRow) -> {
+            Preconditions.checkState(
+                    oldRow.equals(newRow),
+                    "Trying to cache a row which is not equal to a currently cached row",
+                    UnsafeArg.of("table", rowReference.tableRef()),
+                    UnsafeArg.of("row", rowReference.row()));
+            metrics.decreaseCacheSize(RowWeigher.INSTANCE.weigh(rowReference, oldRow.size()));
+            return newRow;
+        }));
+        loadedEntries.put(rowReference, row.size());
+        metrics.increaseCacheSize(RowWeigher.INSTANCE.weigh(rowReference, row.size()));
+    }
+
     @Override
     public ValueCacheSnapshot getSnapshot() {
-        return ValueCacheSnapshotImpl.of(values.getSnapshot(), watchedTables.getSnapshot(), allowedTables);
+        return ImmutableValueCacheSnapshotImpl.builder()
+                .values(values.getSnapshot())
+                .completeRows(completeRows.getSnapshot())
+                .lockedCellsByRow(lockedCellsByRow.getSnapshot())
+                .lockWatchEnabledTables(watchedTables.getSnapshot())
+                .allowedTablesFromSchema(allowedTables)
+                .build();
+    }
+
+    private void removeEvictedEntry(Object key) {
+        if (key instanceof CellReference) {
+            values.with(map -> map.remove((CellReference) key));
+        } else {
+            completeRows.with(map -> map.remove((TableRowReference) key));
+        }
     }
 
     private void putLockedCell(CellReference cellReference) {
         if (values.apply(map -> map.get(cellReference).toJavaOptional())
                 .filter(CacheEntry::isUnlocked)
                 .isPresent()) {
-            loadedValues.invalidate(cellReference);
+            loadedEntries.invalidate(cellReference);
         }
         values.with(map -> map.put(cellReference, CacheEntry.locked()));
+
+        // Any lock on a cell means that the complete contents of its row may change.
+        TableRowReference rowReference = TableRowReference.of(cellReference);
+        if (completeRows.apply(map -> map.containsKey(rowReference))) {
+            loadedEntries.invalidate(rowReference);
+            completeRows.with(map -> map.remove(rowReference));
+        }
+        lockedCellsByRow.with(map -> map.put(
+                rowReference, HashSet.of(cellReference.cell()), io.vavr.collection.Set::union));
     }
 
     private void clearLockedCell(CellReference cellReference) {
@@ -130,6 +184,13 @@ final class ValueStoreImpl implements ValueStore {
                 .filter(entry -> !entry.status().isUnlocked())
                 .map(_unused -> map.remove(cellReference))
                 .orElse(map));
+
+        TableRowReference rowReference = TableRowReference.of(cellReference);
+        lockedCellsByRow.with(map -> map.get(rowReference)
+                .map(lockedCells -> lockedCells.remove(cellReference.cell()))
+                .map(lockedCells ->
+                        lockedCells.isEmpty() ? map.remove(rowReference) : map.put(rowReference, lockedCells))
+                .getOrElse(map));
     }
 
     private void applyLockedDescriptors(Set<LockDescriptor> lockDescriptors) {
@@ -178,6 +239,27 @@ final class ValueStoreImpl implements ValueStore {
         }
     }
 
+    enum LoadedEntryWeigher implements Weigher<Object, Integer> {
+        INSTANCE;
+
+        @Override
+        public @NonNegative int weigh(@NonNull Object key, @NonNull Integer value) {
+            if (key instanceof CellReference) {
+                return EntryWeigher.INSTANCE.weigh((CellReference) key, value);
+            }
+            return RowWeigher.INSTANCE.weigh((TableRowReference) key, value);
+        }
+    }
+
+    enum RowWeigher implements Weigher<TableRowReference, Integer> {
+        INSTANCE;
+
+        @Override
+        public @NonNegative int weigh(@NonNull TableRowReference key, @NonNull Integer value) {
+            return CACHE_OVERHEAD + value + key.tableRef().toString().length() + key.row().length;
+        }
+    }
+
     enum EntryWeigher implements Weigher<CellReference, Integer> {
         INSTANCE;
 
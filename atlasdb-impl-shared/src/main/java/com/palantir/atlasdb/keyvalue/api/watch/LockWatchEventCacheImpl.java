@@ -17,6 +17,7 @@
 package com.palantir.atlasdb.keyvalue.api.watch;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import com.google.common.util.concurrent.RateLimiter;
 import com.palantir.atlasdb.keyvalue.api.ResilientLockWatchProxy;
 import com.palantir.atlasdb.keyvalue.api.cache.CacheMetrics;
@@ -32,9 +33,25 @@ import com.palantir.lock.watch.TransactionsLockWatchUpdate;
 import com.palantir.logsafe.Preconditions;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
+/**
+ * Updates from TimeLock are applied by a single writer at a time. Rather than each thread taking a lock to apply its
+ * own update, threads enqueue their updates and whichever thread acquires the write lock applies every pending update
+ * in order (flat combining), retentioning events once for the whole batch. Threads whose updates were applied by
+ * another thread return as soon as they observe this, so transaction start and commit threads hand off the write lock
+ * far less often under contention.
+ *
+ * Reads of the latest version and of the events for individual transactions do not take any lock, while
+ * {@link #getUpdateForTransactions(Set, Optional)} takes the read lock, as it needs a view of the timestamp store and
+ * event log that is consistent with the updates applied to both.
+ */
 @ThreadSafe
 public final class LockWatchEventCacheImpl implements LockWatchEventCache {
     // The minimum number of events should be the same as Timelock's LockEventLogImpl.
@@ -43,6 +60,8 @@ public final class LockWatchEventCacheImpl implements LockWatchEventCache {
     private final LockWatchEventLog eventLog;
     private final TimestampStateStore timestampStateStore;
     private final RateLimiter rateLimiter = RateLimiter.create(1.0);
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private final Queue<PendingUpdate> pendingUpdates = new ConcurrentLinkedQueue<>();
 
     public static LockWatchEventCache create(CacheMetrics metrics, int maxEvents) {
         return ResilientLockWatchProxy.newEventCacheProxy(
@@ -63,21 +82,25 @@ public final class LockWatchEventCacheImpl implements LockWatchEventCache {
     }
 
     @Override
-    public synchronized Optional<LockWatchVersion> lastKnownVersion() {
+    public Optional<LockWatchVersion> lastKnownVersion() {
         return eventLog.getLatestKnownVersion();
     }
 
     @Override
-    public synchronized void processStartTransactionsUpdate(Set<Long> startTimestamps, LockWatchStateUpdate update) {
-        Optional<LockWatchVersion> updateVersion = processEventLogUpdate(update);
-        updateVersion.ifPresent(version -> timestampStateStore.putStartTimestamps(startTimestamps, version));
+    public void processStartTransactionsUpdate(Set<Long> startTimestamps, LockWatchStateUpdate update) {
+        applyUpdate(() -> {
+            Optional<LockWatchVersion> updateVersion = processEventLogUpdate(update);
+            updateVersion.ifPresent(version -> timestampStateStore.putStartTimestamps(startTimestamps, version));
+        });
     }
 
     @Override
-    public synchronized void processGetCommitTimestampsUpdate(
+    public void processGetCommitTimestampsUpdate(
             Collection<TransactionUpdate> transactionUpdates, LockWatchStateUpdate update) {
-        Optional<LockWatchVersion> updateVersion = processEventLogUpdate(update);
-        updateVersion.ifPresent(version -> timestampStateStore.putCommitUpdates(transactionUpdates, version));
+        applyUpdate(() -> {
+            Optional<LockWatchVersion> updateVersion = processEventLogUpdate(update);
+            updateVersion.ifPresent(version -> timestampStateStore.putCommitUpdates(transactionUpdates, version));
+        });
     }
 
     @Override
@@ -121,38 +144,84 @@ public final class LockWatchEventCacheImpl implements LockWatchEventCache {
     }
 
     @Override
-    public synchronized TransactionsLockWatchUpdate getUpdateForTransactions(
+    public TransactionsLockWatchUpdate getUpdateForTransactions(
             Set<Long> startTimestamps, Optional<LockWatchVersion> lastKnownVersion) {
         Preconditions.checkArgument(!startTimestamps.isEmpty(), "Cannot get update for empty set of transactions");
-        TimestampMapping timestampMapping = getTimestampMappings(startTimestamps);
+        stateLock.readLock().lock();
+        try {
+            TimestampMapping timestampMapping = getTimestampMappings(startTimestamps);
 
-        VersionBounds versionBounds = VersionBounds.builder()
-                .startVersion(lastKnownVersion)
-                .endVersion(timestampMapping.lastVersion())
-                .earliestSnapshotVersion(timestampMapping.versionRange().lowerEndpoint())
-                .build();
+            VersionBounds versionBounds = VersionBounds.builder()
+                    .startVersion(lastKnownVersion)
+                    .endVersion(timestampMapping.lastVersion())
+                    .earliestSnapshotVersion(timestampMapping.versionRange().lowerEndpoint())
+                    .build();
 
-        return eventLog.getEventsBetweenVersions(versionBounds)
-                .toTransactionsLockWatchUpdate(timestampMapping, lastKnownVersion);
+            return eventLog.getEventsBetweenVersions(versionBounds)
+                    .toTransactionsLockWatchUpdate(timestampMapping, lastKnownVersion);
+        } finally {
+            stateLock.readLock().unlock();
+        }
     }
 
+    /**
+     * Retentioning is skipped if an update is being applied, as the writer retentions events once it has applied its
+     * batch of updates anyway.
+     */
     @Override
     public void removeTransactionStateFromCache(long startTimestamp) {
         timestampStateStore.remove(startTimestamp);
-        if (rateLimiter.tryAcquire()) {
-            retentionEvents();
+        if (rateLimiter.tryAcquire() && stateLock.writeLock().tryLock()) {
+            try {
+                retentionEvents();
+            } finally {
+                stateLock.writeLock().unlock();
+            }
         }
     }
 
     @VisibleForTesting
-    synchronized LockWatchEventCacheState getStateForTesting() {
-        return ImmutableLockWatchEventCacheState.builder()
-                .timestampStoreState(timestampStateStore.getStateForTesting())
-                .logState(eventLog.getStateForTesting())
-                .build();
+    LockWatchEventCacheState getStateForTesting() {
+        stateLock.writeLock().lock();
+        try {
+            return ImmutableLockWatchEventCacheState.builder()
+                    .timestampStoreState(timestampStateStore.getStateForTesting())
+                    .logState(eventLog.getStateForTesting())
+                    .build();
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+
+    private void applyUpdate(Runnable update) {
+        PendingUpdate pendingUpdate = new PendingUpdate(update);
+        pendingUpdates.add(pendingUpdate);
+        stateLock.writeLock().lock();
+        try {
+            if (!pendingUpdate.isApplied()) {
+                applyPendingUpdates();
+            }
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        pendingUpdate.throwIfFailed();
+    }
+
+    /**
+     * Applies pending updates in the order in which they were enqueued. Each update's failure is reported to the
+     * thread that enqueued it, exactly as if that thread had applied the update itself.
+     */
+    @GuardedBy("stateLock")
+    private void applyPendingUpdates() {
+        PendingUpdate pendingUpdate;
+        while ((pendingUpdate = pendingUpdates.poll()) != null) {
+            pendingUpdate.apply();
+        }
+        retentionEvents();
     }
 
-    private synchronized TimestampMapping getTimestampMappings(Set<Long> startTimestamps) {
+    @GuardedBy("stateLock")
+    private TimestampMapping getTimestampMappings(Set<Long> startTimestamps) {
         ImmutableTimestampMapping.Builder mappingBuilder = TimestampMapping.builder();
         startTimestamps.forEach(timestamp -> {
             Optional<LockWatchVersion> entry = timestampStateStore.getStartVersion(timestamp);
@@ -162,18 +231,19 @@ public final class LockWatchEventCacheImpl implements LockWatchEventCache {
         return mappingBuilder.build();
     }
 
-    private synchronized Optional<LockWatchVersion> processEventLogUpdate(LockWatchStateUpdate update) {
+    @GuardedBy("stateLock")
+    private Optional<LockWatchVersion> processEventLogUpdate(LockWatchStateUpdate update) {
         CacheUpdate cacheUpdate = eventLog.processUpdate(update);
 
         if (cacheUpdate.shouldClearCache()) {
             timestampStateStore.clear();
         }
 
-        retentionEvents();
         return cacheUpdate.getVersion();
     }
 
-    private synchronized void retentionEvents() {
+    @GuardedBy("stateLock")
+    private void retentionEvents() {
         eventLog.retentionEvents(timestampStateStore.getEarliestLiveSequence());
     }
 
@@ -182,4 +252,37 @@ public final class LockWatchEventCacheImpl implements LockWatchEventCache {
             throw new TransactionLockWatchFailedException(message);
         }
     }
+
+    /**
+     * Only accessed while holding the write lock, which also guarantees the visibility of the outcome to the thread
+     * that enqueued the update once it acquires the lock.
+     */
+    private static final class PendingUpdate {
+        private final Runnable update;
+        private boolean applied = false;
+        private Throwable failure = null;
+
+        private PendingUpdate(Runnable update) {
+            this.update = update;
+        }
+
+        void apply() {
+            try {
+                update.run();
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            }
+            applied = true;
+        }
+
+        boolean isApplied() {
+            return applied;
+        }
+
+        void throwIfFailed() {
+            if (failure != null) {
+                Throwables.throwIfUnchecked(failure);
+            }
+        }
+    }
 }
@@ -89,7 +89,14 @@ public final class LockWatchManagerImpl extends LockWatchManagerInternal {
         CacheMetrics metrics = CacheMetrics.create(metricsManager);
         LockWatchEventCache eventCache = LockWatchEventCacheImpl.create(metrics, config.maxEvents());
         LockWatchValueScopingCache valueCache = LockWatchValueScopingCacheImpl.create(
-                eventCache, metrics, config.cacheSize(), config.validationProbability(), watchedTablesFromSchema);
+                eventCache,
+                metrics,
+                config.cacheSize(),
+                config.validationProbability(),
+                config.shareInFlightReads(),
+                config.cacheCompleteRows(),
+                config.maxCompleteRowColumns(),
+                watchedTablesFromSchema);
         return new LockWatchManagerImpl(referencesFromSchema, eventCache, valueCache, lockWatchingService);
     }
 
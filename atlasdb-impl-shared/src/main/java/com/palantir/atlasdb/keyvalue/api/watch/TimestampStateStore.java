@@ -20,8 +20,8 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multimaps;
-import com.google.common.collect.SortedSetMultimap;
 import com.google.common.collect.TreeMultimap;
 import com.palantir.atlasdb.transaction.api.TransactionLockWatchFailedException;
 import com.palantir.lock.v2.LockToken;
@@ -33,9 +33,13 @@ import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import javax.annotation.concurrent.NotThreadSafe;
 import org.immutables.value.Value;
 
@@ -53,11 +57,12 @@ import org.immutables.value.Value;
  * 1. Each timestamp is independent of each other, and thus updates should not interact. Updates to the same key may
  *    be executed in any order (and indeed, an update may race the initial put), but these should be handled by the
  *    caller.
- * 2. The entries in the living versions multimap may not be independent (as a single version may correspond to many
- *    timestamps), but the update concurrency should be handled by the data structure.
- * 3. Calls to {@link #getEarliestLiveSequence()} are synchronised on the livingVersions map, and thus are blocking;
- *    this method should be called sparsely. Given that it is only used for retentioning events, which can be eventually
- *    consistent (as it is always correct to keep more events rather than less), this is acceptable for performance.
+ * 2. The entries in the living versions set may not be independent (as a single version may correspond to many
+ *    timestamps), but each entry is a distinct (version, timestamp) pair, so the update concurrency is handled by the
+ *    concurrent set without any locking.
+ * 3. Calls to {@link #getEarliestLiveSequence()} read the first entry of the living versions set without blocking, and
+ *    thus may race with concurrent updates. Given that it is only used for retentioning events, which can be eventually
+ *    consistent (as it is always correct to keep more events rather than less), this is acceptable.
  */
 @NotThreadSafe
 final class TimestampStateStore {
@@ -66,9 +71,12 @@ final class TimestampStateStore {
     @VisibleForTesting
     static final int MAXIMUM_SIZE = 20_000;
 
+    private static final Comparator<Map.Entry<Sequence, StartTimestamp>> LIVING_VERSION_ORDER =
+            Map.Entry.<Sequence, StartTimestamp>comparingByKey().thenComparing(Map.Entry.comparingByValue());
+
     private final NavigableMap<StartTimestamp, TimestampVersionInfo> timestampMap = new ConcurrentSkipListMap<>();
-    private final SortedSetMultimap<Sequence, StartTimestamp> livingVersions =
-            Multimaps.synchronizedSortedSetMultimap(TreeMultimap.create());
+    private final NavigableSet<Map.Entry<Sequence, StartTimestamp>> livingVersions =
+            new ConcurrentSkipListSet<>(LIVING_VERSION_ORDER);
 
     void putStartTimestamps(Collection<Long> startTimestamps, LockWatchVersion version) {
         validateStateSize();
@@ -76,7 +84,7 @@ final class TimestampStateStore {
         startTimestamps.stream().map(StartTimestamp::of).forEach(startTimestamp -> {
             TimestampVersionInfo previous = timestampMap.putIfAbsent(startTimestamp, TimestampVersionInfo.of(version));
             Preconditions.checkArgument(previous == null, "Start timestamp already present in map");
-            livingVersions.put(Sequence.of(version.version()), startTimestamp);
+            livingVersions.add(Maps.immutableEntry(Sequence.of(version.version()), startTimestamp));
         });
     }
 
@@ -98,9 +106,10 @@ final class TimestampStateStore {
     }
 
     void remove(long startTimestamp) {
-        Optional.ofNullable(timestampMap.remove(StartTimestamp.of(startTimestamp)))
-                .ifPresent(entry -> livingVersions.remove(
-                        Sequence.of(entry.version().version()), StartTimestamp.of(startTimestamp)));
+        StartTimestamp timestamp = StartTimestamp.of(startTimestamp);
+        Optional.ofNullable(timestampMap.remove(timestamp))
+                .ifPresent(entry ->
+                        livingVersions.remove(Maps.immutableEntry(Sequence.of(entry.version().version()), timestamp)));
     }
 
     void clear() {
@@ -117,16 +126,8 @@ final class TimestampStateStore {
         return Optional.ofNullable(timestampMap.get(StartTimestamp.of(startTimestamp)));
     }
 
-    /**
-     * As per the documentation of {@link Multimaps#synchronizedSortedSetMultimap(SortedSetMultimap)}, we must
-     * synchronise on the collection when using any kind of collection view, including keySet. While this impacts the
-     * concurrency of this class, this method does not need to be called on every transaction, and thus should not
-     * impact performance.
-     */
     Optional<Sequence> getEarliestLiveSequence() {
-        synchronized (livingVersions) {
-            return Optional.ofNullable(Iterables.getFirst(livingVersions.keySet(), null));
-        }
+        return Optional.ofNullable(Iterables.getFirst(livingVersions, null)).map(Map.Entry::getKey);
     }
 
     @VisibleForTesting
@@ -140,12 +141,15 @@ final class TimestampStateStore {
         // This method doesn't need to read a thread-safe snapshot of timestampMap and livingVersions
         return ImmutableTimestampStateStoreState.builder()
                 .timestampMap(timestampMap)
-                .livingVersions(livingVersions)
+                .livingVersions(livingVersions.stream()
+                        .collect(Multimaps.toMultimap(
+                                Map.Entry::getKey, Map.Entry::getValue, TreeMultimap::create)))
                 .build();
     }
 
     private void validateStateSize() {
-        if (timestampMap.size() > MAXIMUM_SIZE || livingVersions.size() > MAXIMUM_SIZE) {
+        // Each living version has a corresponding entry in timestampMap, so only the latter needs to be checked.
+        if (timestampMap.size() > MAXIMUM_SIZE) {
             log.warn(
                     "Timestamp state store has exceeded its maximum size. This likely indicates a memory leak",
                     SafeArg.of("timestampMapSize", timestampMap.size()),
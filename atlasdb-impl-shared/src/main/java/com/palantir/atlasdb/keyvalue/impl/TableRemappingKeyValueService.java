@@ -33,6 +33,7 @@ import com.palantir.atlasdb.keyvalue.api.CheckAndSetRequest;
 import com.palantir.atlasdb.keyvalue.api.ClusterAvailabilityStatus;
 import com.palantir.atlasdb.keyvalue.api.ColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
 import com.palantir.atlasdb.keyvalue.api.KeyAlreadyExistsException;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
 import com.palantir.atlasdb.keyvalue.api.MultiCheckAndSetException;
@@ -50,6 +51,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -465,6 +467,20 @@ public final class TableRemappingKeyValueService extends ForwardingObject implem
         return delegate.shouldTriggerCompactions();
     }
 
+    @Override
+    public Optional<List<CompactionCandidate>> getCompactionCandidates() {
+        return delegate().getCompactionCandidates().map(candidates -> {
+            Map<TableReference, TableReference> shortNamesToFullTableNames = tableMapper.generateMapToFullTableNames(
+                    candidates.stream().map(CompactionCandidate::tableRef).collect(Collectors.toSet()));
+            return candidates.stream()
+                    .map(candidate -> CompactionCandidate.of(
+                            shortNamesToFullTableNames.get(candidate.tableRef()),
+                            candidate.estimatedReclaimableBytes(),
+                            candidate.estimatedCompactionDuration()))
+                    .collect(Collectors.toList());
+        });
+    }
+
     @Override
     public List<byte[]> getRowKeysInRange(TableReference tableRef, byte[] startRow, byte[] endRow, int maxResults) {
         try {
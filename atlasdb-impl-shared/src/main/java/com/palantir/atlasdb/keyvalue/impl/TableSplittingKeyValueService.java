@@ -32,6 +32,7 @@ import com.palantir.atlasdb.keyvalue.api.CheckAndSetRequest;
 import com.palantir.atlasdb.keyvalue.api.ClusterAvailabilityStatus;
 import com.palantir.atlasdb.keyvalue.api.ColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
 import com.palantir.atlasdb.keyvalue.api.KeyAlreadyExistsException;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
 import com.palantir.atlasdb.keyvalue.api.MultiCheckAndSetException;
@@ -46,6 +47,7 @@ import com.palantir.atlasdb.keyvalue.api.Value;
 import com.palantir.common.base.ClosableIterator;
 import com.palantir.logsafe.Preconditions;
 import com.palantir.util.paging.TokenBackedBasicResultsPage;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -404,6 +406,30 @@ public final class TableSplittingKeyValueService implements KeyValueService {
         return delegates.stream().anyMatch(KeyValueService::shouldTriggerCompactions);
     }
 
+    /**
+     * Combines each delegate's candidates for the tables that are routed to it. If any delegate cannot estimate its
+     * candidates, returns empty, as its tables would otherwise never be chosen for compaction.
+     */
+    @Override
+    public Optional<List<CompactionCandidate>> getCompactionCandidates() {
+        List<CompactionCandidate> candidates = new ArrayList<>();
+        for (KeyValueService delegate : delegates) {
+            Optional<List<CompactionCandidate>> delegateCandidates = delegate.getCompactionCandidates();
+            if (!delegateCandidates.isPresent()) {
+                return Optional.empty();
+            }
+            for (CompactionCandidate candidate : delegateCandidates.get()) {
+                // Instance equality, as in getAllTableNames
+                if (getDelegate(candidate.tableRef()) == delegate) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        candidates.sort(
+                Comparator.comparingDouble(CompactionCandidate::estimatedReclaimableBytesPerSecond).reversed());
+        return Optional.of(candidates);
+    }
+
     @Override
     public List<byte[]> getRowKeysInRange(TableReference tableRef, byte[] startRow, byte[] endRow, int maxResults) {
         return getDelegate(tableRef).getRowKeysInRange(tableRef, startRow, endRow, maxResults);
@@ -0,0 +1,113 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.sweep.queue;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.palantir.atlasdb.autobatch.Autobatchers;
+import com.palantir.atlasdb.autobatch.BatchElement;
+import com.palantir.atlasdb.autobatch.DisruptorAutobatcher;
+import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.table.description.SweeperStrategy;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merges concurrent calls to {@link #enqueue(List)} into a single call to the delegate, so that writes to the sweep
+ * queue from many small transactions committing at the same time result in one KVS write per sweep queue table,
+ * rather than one per transaction.
+ *
+ * Callers still block until the delegate has persisted their writes, so the sweep queue entries are durable before
+ * the transaction proceeds to write its data. If persisting a merged batch fails, each caller's writes are retried
+ * on their own, so that one transaction's failure (e.g. writing too many cells to a shard) does not fail the others.
+ */
+final class CoalescingSweepQueueWriter implements MultiTableSweepQueueWriter {
+    private static final SafeLogger log = SafeLoggerFactory.get(CoalescingSweepQueueWriter.class);
+
+    private final MultiTableSweepQueueWriter delegate;
+    private final DisruptorAutobatcher<List<WriteInfo>, Void> autobatcher;
+
+    private CoalescingSweepQueueWriter(
+            MultiTableSweepQueueWriter delegate, DisruptorAutobatcher<List<WriteInfo>, Void> autobatcher) {
+        this.delegate = delegate;
+        this.autobatcher = autobatcher;
+    }
+
+    static MultiTableSweepQueueWriter create(MultiTableSweepQueueWriter delegate) {
+        DisruptorAutobatcher<List<WriteInfo>, Void> autobatcher = Autobatchers.<List<WriteInfo>, Void>independent(
+                        batch -> processBatch(delegate, batch))
+                .safeLoggablePurpose("coalescing-sweep-queue-writer")
+                .batchFunctionTimeout(Duration.ofMinutes(5))
+                .build();
+        return new CoalescingSweepQueueWriter(delegate, autobatcher);
+    }
+
+    @Override
+    public void enqueue(List<WriteInfo> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+        AtlasFutures.getUnchecked(autobatcher.apply(writes));
+    }
+
+    @Override
+    public SweeperStrategy getSweepStrategy(TableReference tableReference) {
+        return delegate.getSweepStrategy(tableReference);
+    }
+
+    @Override
+    public void close() {
+        autobatcher.close();
+        delegate.close();
+    }
+
+    @VisibleForTesting
+    static void processBatch(MultiTableSweepQueueWriter delegate, List<BatchElement<List<WriteInfo>, Void>> batch) {
+        if (batch.size() == 1) {
+            enqueueSingle(delegate, batch.get(0));
+            return;
+        }
+
+        List<WriteInfo> mergedWrites = new ArrayList<>();
+        batch.forEach(element -> mergedWrites.addAll(element.argument()));
+        try {
+            delegate.enqueue(mergedWrites);
+            batch.forEach(element -> element.result().set(null));
+        } catch (RuntimeException e) {
+            log.info(
+                    "Failed to enqueue a merged batch of writes into the sweep queue; retrying each request separately",
+                    SafeArg.of("numRequests", batch.size()),
+                    SafeArg.of("numWrites", mergedWrites.size()),
+                    e);
+            batch.forEach(element -> enqueueSingle(delegate, element));
+        }
+    }
+
+    private static void enqueueSingle(
+            MultiTableSweepQueueWriter delegate, BatchElement<List<WriteInfo>, Void> element) {
+        try {
+            delegate.enqueue(element.argument());
+            element.result().set(null);
+        } catch (RuntimeException e) {
+            element.result().setException(e);
+        }
+    }
+}
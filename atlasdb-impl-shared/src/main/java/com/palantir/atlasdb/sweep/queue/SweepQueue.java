@@ -44,7 +44,7 @@ import java.util.function.Supplier;
 public final class SweepQueue implements MultiTableSweepQueueWriter {
     private static final SafeLogger log = SafeLoggerFactory.get(SweepQueue.class);
     private final ShardProgress progress;
-    private final SweepQueueWriter writer;
+    private final MultiTableSweepQueueWriter writer;
     private final SweepQueueReader reader;
     private final SweepQueueDeleter deleter;
     private final SweepQueueCleaner cleaner;
@@ -55,9 +55,12 @@ public final class SweepQueue implements MultiTableSweepQueueWriter {
     private SweepQueue(
             SweepQueueFactory factory,
             TargetedSweepFollower follower,
-            AbandonedTransactionConsumer abandonedTransactionConsumer) {
+            AbandonedTransactionConsumer abandonedTransactionConsumer,
+            boolean coalesceWrites) {
         this.progress = factory.progress;
-        this.writer = factory.createWriter();
+        this.writer = coalesceWrites
+                ? CoalescingSweepQueueWriter.create(factory.createWriter())
+                : factory.createWriter();
         this.reader = factory.createReader();
         this.abandonedTransactionConsumer = abandonedTransactionConsumer;
         this.deleter = factory.createDeleter(follower);
@@ -74,10 +77,11 @@ public final class SweepQueue implements MultiTableSweepQueueWriter {
             TransactionService transaction,
             AbandonedTransactionConsumer abortedTransactionConsumer,
             TargetedSweepFollower follower,
-            ReadBatchingRuntimeContext readBatchingRuntimeContext) {
+            ReadBatchingRuntimeContext readBatchingRuntimeContext,
+            boolean coalesceWrites) {
         SweepQueueFactory factory =
                 SweepQueueFactory.create(metrics, kvs, timelock, shardsConfig, transaction, readBatchingRuntimeContext);
-        return new SweepQueue(factory, follower, abortedTransactionConsumer);
+        return new SweepQueue(factory, follower, abortedTransactionConsumer, coalesceWrites);
     }
 
     /**
@@ -120,6 +124,11 @@ public final class SweepQueue implements MultiTableSweepQueueWriter {
         return writer.getSweepStrategy(tableReference);
     }
 
+    @Override
+    public void close() {
+        writer.close();
+    }
+
     /**
      * Sweep the next batch for the shard and strategy specified by shardStrategy, with the sweep timestamp sweepTs.
      * After successful deletes, the persisted information about the writes is removed, and progress is updated
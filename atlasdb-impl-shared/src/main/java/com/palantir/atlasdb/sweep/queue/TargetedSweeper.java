@@ -60,6 +60,7 @@ public class TargetedSweeper implements MultiTableSweepQueueWriter, BackgroundSw
     private final List<Follower> followers;
     private final MetricsManager metricsManager;
     private final TargetedSweepMetrics.MetricsConfiguration metricsConfiguration;
+    private final boolean coalesceSweepQueueWrites;
 
     private final BackgroundSweepScheduler conservativeScheduler;
     private final BackgroundSweepScheduler thoroughScheduler;
@@ -90,6 +91,7 @@ public class TargetedSweeper implements MultiTableSweepQueueWriter, BackgroundSw
         this.shouldResetAndStopSweep = install.resetTargetedSweepQueueProgressAndStopSweep();
         this.followers = followers;
         this.metricsConfiguration = install.metricsConfiguration();
+        this.coalesceSweepQueueWrites = install.coalesceSweepQueueWrites();
         this.abandonedTransactionConsumer = abandonedTransactionConsumer;
     }
 
@@ -185,7 +187,8 @@ public class TargetedSweeper implements MultiTableSweepQueueWriter, BackgroundSw
                 ReadBatchingRuntimeContext.builder()
                         .maximumPartitions(this::getPartitionBatchLimit)
                         .cellsThreshold(() -> runtime.get().batchCellThreshold())
-                        .build());
+                        .build(),
+                coalesceSweepQueueWrites);
         timestampsSupplier = timestamps;
         timeLock = timelockService;
         lastSweptTimestampUpdater = new LastSweptTimestampUpdater(
@@ -241,6 +244,7 @@ public class TargetedSweeper implements MultiTableSweepQueueWriter, BackgroundSw
         conservativeScheduler.close();
         thoroughScheduler.close();
         lastSweptTimestampUpdater.close();
+        queue.close();
     }
 
     @Override
@@ -115,6 +115,17 @@ public class TargetedSweepInstallConfig {
         return false;
     }
 
+    /**
+     * If true, sweep queue writes from transactions committing at the same time are merged into a single write to
+     * each of the sweep queue tables, instead of each transaction writing its own. This reduces the number of KVS
+     * round trips under high commit concurrency, at the cost of a small amount of additional latency for each
+     * commit while its sweep queue writes wait to be batched.
+     */
+    @Value.Default
+    public boolean coalesceSweepQueueWrites() {
+        return false;
+    }
+
     public static TargetedSweepInstallConfig defaultTargetedSweepConfig() {
         return ImmutableTargetedSweepInstallConfig.builder().build();
     }
@@ -0,0 +1,221 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.transaction.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.SettableFuture;
+import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.lock.v2.LockToken;
+import com.palantir.lock.v2.StartIdentifiedAtlasDbTransactionResponse;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Shares the start timestamp and immutable timestamp lock of one started transaction between many read-only
+ * transactions, for as long as the staleness they tolerate allows.
+ *
+ * Each {@link Snapshot} is reference counted: the cache holds one reference while the snapshot is current, and each
+ * transaction reading at it holds another. The immutable timestamp lock is only released once the snapshot has been
+ * replaced and all transactions reading at it have finished, so it keeps being refreshed in the background by the
+ * lock refresher of the timelock client until then.
+ *
+ * Callers for which the current snapshot is fresh enough never block. Callers that need a fresher snapshot share a
+ * single in-flight refresh, so that only one transaction is started at a time however many callers are waiting.
+ */
+final class BoundedStalenessSnapshotCache implements AutoCloseable {
+    /**
+     * Requested staleness is capped at this, since the immutable timestamp lock of a snapshot holds back sweep for as
+     * long as the snapshot is in use.
+     */
+    @VisibleForTesting
+    static final Duration MAX_STALENESS = Duration.ofMinutes(1);
+
+    private final Supplier<StartIdentifiedAtlasDbTransactionResponse> transactionStarter;
+    private final Consumer<LockToken> unlocker;
+    private final LongSupplier clock;
+
+    private volatile Snapshot current;
+    private volatile boolean closed = false;
+
+    @GuardedBy("this")
+    private SettableFuture<Snapshot> pendingRefresh;
+
+    BoundedStalenessSnapshotCache(
+            Supplier<StartIdentifiedAtlasDbTransactionResponse> transactionStarter, Consumer<LockToken> unlocker) {
+        this(transactionStarter, unlocker, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    BoundedStalenessSnapshotCache(
+            Supplier<StartIdentifiedAtlasDbTransactionResponse> transactionStarter,
+            Consumer<LockToken> unlocker,
+            LongSupplier clock) {
+        this.transactionStarter = transactionStarter;
+        this.unlocker = unlocker;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a snapshot that was started at most {@code maxStaleness} before this call, starting a new transaction if
+     * the current snapshot is too old. Staleness beyond {@link #MAX_STALENESS} is capped. The caller must
+     * {@link Snapshot#release()} the snapshot once it has finished reading.
+     */
+    Snapshot acquire(Duration maxStaleness) {
+        Preconditions.checkArgument(
+                !maxStaleness.isNegative(),
+                "Staleness must not be negative",
+                SafeArg.of("maxStaleness", maxStaleness));
+        long oldestAcceptableStart = clock.getAsLong() - min(maxStaleness, MAX_STALENESS).toNanos();
+        Snapshot candidate = current;
+        while (true) {
+            checkOpen();
+            if (candidate != null && candidate.startedAtNanos - oldestAcceptableStart >= 0 && candidate.tryRetain()) {
+                return candidate;
+            }
+            candidate = AtlasFutures.getUnchecked(refresh());
+        }
+    }
+
+    /**
+     * Stops handing out {@code snapshot}, e.g. because its immutable timestamp lock turned out to be no longer valid.
+     * Transactions already reading at it are unaffected.
+     */
+    void invalidate(Snapshot snapshot) {
+        synchronized (this) {
+            if (current != snapshot) {
+                return;
+            }
+            current = null;
+        }
+        snapshot.release();
+    }
+
+    @Override
+    public void close() {
+        Snapshot previous;
+        synchronized (this) {
+            closed = true;
+            previous = current;
+            current = null;
+        }
+        if (previous != null) {
+            previous.release();
+        }
+    }
+
+    /**
+     * Starts a new snapshot, or joins the refresh already in progress.
+     */
+    private SettableFuture<Snapshot> refresh() {
+        SettableFuture<Snapshot> refresh;
+        synchronized (this) {
+            if (pendingRefresh != null) {
+                return pendingRefresh;
+            }
+            refresh = SettableFuture.create();
+            pendingRefresh = refresh;
+        }
+        try {
+            long startedAtNanos = clock.getAsLong();
+            refresh.set(install(new Snapshot(transactionStarter.get(), startedAtNanos)));
+        } catch (Throwable t) {
+            refresh.setException(t);
+        } finally {
+            synchronized (this) {
+                pendingRefresh = null;
+            }
+        }
+        return refresh;
+    }
+
+    private Snapshot install(Snapshot replacement) {
+        Snapshot previous;
+        synchronized (this) {
+            if (closed) {
+                previous = replacement;
+            } else {
+                previous = current;
+                current = replacement;
+            }
+        }
+        if (previous != null) {
+            previous.release();
+        }
+        return replacement;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new SafeIllegalStateException("Operations cannot be performed on closed snapshot cache");
+        }
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    final class Snapshot {
+        private final StartIdentifiedAtlasDbTransactionResponse response;
+        private final long startedAtNanos;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Snapshot(StartIdentifiedAtlasDbTransactionResponse response, long startedAtNanos) {
+            this.response = response;
+            this.startedAtNanos = startedAtNanos;
+        }
+
+        long startTimestamp() {
+            return response.startTimestampAndPartition().timestamp();
+        }
+
+        long immutableTimestamp() {
+            return response.immutableTimestamp().getImmutableTimestamp();
+        }
+
+        LockToken immutableTimestampLock() {
+            return response.immutableTimestamp().getLock();
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                unlocker.accept(immutableTimestampLock());
+            }
+        }
+
+        /**
+         * Takes a reference to this snapshot, unless its lock has already been released.
+         */
+        private boolean tryRetain() {
+            while (true) {
+                int count = references.get();
+                if (count == 0) {
+                    return false;
+                }
+                if (references.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -42,6 +42,7 @@ import com.google.common.collect.PeekingIterator;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Streams;
+import com.google.common.math.IntMath;
 import com.google.common.io.Closer;
 import com.google.common.primitives.UnsignedBytes;
 import com.google.common.util.concurrent.Futures;
@@ -69,6 +70,7 @@ import com.palantir.atlasdb.keyvalue.api.RowColumnRangeIterator;
 import com.palantir.atlasdb.keyvalue.api.RowResult;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.keyvalue.api.cache.CompleteRow;
 import com.palantir.atlasdb.keyvalue.api.cache.TransactionScopedCache;
 import com.palantir.atlasdb.keyvalue.api.watch.LockWatchManagerInternal;
 import com.palantir.atlasdb.keyvalue.api.watch.LocksAndMetadata;
@@ -423,6 +425,10 @@ public class SnapshotTransaction extends AbstractTransaction
     public NavigableMap<byte[], RowResult<byte[]>> getRows(
             TableReference tableRef, Iterable<byte[]> rows, ColumnSelection columnSelection) {
         if (columnSelection.allColumnsSelected()) {
+            TransactionScopedCache cache = getCache();
+            if (cache.cachesCompleteRows(tableRef)) {
+                return getRowsFromCompleteRows(cache, tableRef, rows);
+            }
             return getRowsInternal(tableRef, rows, columnSelection);
         }
         return getCache()
@@ -440,6 +446,74 @@ public class SnapshotTransaction extends AbstractTransaction
                         unCachedRows -> getRowsInternal(tableRef, unCachedRows, columnSelection));
     }
 
+    private NavigableMap<byte[], RowResult<byte[]>> getRowsFromCompleteRows(
+            TransactionScopedCache cache, TableReference tableRef, Iterable<byte[]> rows) {
+        NavigableMap<byte[], CompleteRow> completeRows = getCompleteRows(cache, tableRef, rows);
+        List<byte[]> rowsTooLargeToCache = getDistinctRows(rows).stream()
+                .filter(row -> !completeRows.containsKey(row))
+                .collect(toList());
+        NavigableMap<byte[], RowResult<byte[]>> results = new TreeMap<>(PtBytes.BYTES_COMPARATOR);
+        if (!rowsTooLargeToCache.isEmpty()) {
+            results.putAll(getRowsInternal(tableRef, rowsTooLargeToCache, ColumnSelection.all()));
+        }
+        completeRows.forEach((row, completeRow) -> {
+            if (!completeRow.columns().isEmpty()) {
+                results.put(row, RowResult.create(row, completeRow.columns()));
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Reads the entire contents of the given rows through the transaction scoped cache. Column range reads on tables
+     * whose complete rows are cached use this instead of a column range read from the KVS, and slice the requested
+     * columns in memory; a miss reads the whole row so that it can be served from the cache afterwards. Rows absent
+     * from the result have too many columns to be cached, and must be read through the regular paged path.
+     */
+    private NavigableMap<byte[], CompleteRow> getCompleteRows(
+            TransactionScopedCache cache, TableReference tableRef, Iterable<byte[]> rows) {
+        checkGetPreconditions(tableRef);
+        hasReads = true;
+        return cache.getCompleteRows(
+                tableRef, rows, (rowsToLoad, maxColumns) -> loadCompleteRows(tableRef, rowsToLoad, maxColumns));
+    }
+
+    /**
+     * Reads rows in pages of one more column than the cache will hold for a row, and stops reading a row after its
+     * first page if that page is full, so that a row too large to be cached is never read in full.
+     */
+    private NavigableMap<byte[], RowResult<byte[]>> loadCompleteRows(
+            TableReference tableRef, Iterable<byte[]> rows, int maxColumns) {
+        int columnsToRead = IntMath.saturatedAdd(maxColumns, 1);
+        BatchColumnRangeSelection allColumns = BatchColumnRangeSelection.create(
+                PtBytes.EMPTY_BYTE_ARRAY, PtBytes.EMPTY_BYTE_ARRAY, columnsToRead);
+        NavigableMap<byte[], RowResult<byte[]>> results = new TreeMap<>(PtBytes.BYTES_COMPARATOR);
+        getRowsColumnRangeIteratorInternal(tableRef, rows, allColumns).forEach((row, columns) -> {
+            SortedMap<byte[], byte[]> rowContents = new TreeMap<>(PtBytes.BYTES_COMPARATOR);
+            Iterators.limit(columns, columnsToRead)
+                    .forEachRemaining(entry -> rowContents.put(entry.getKey().getColumnName(), entry.getValue()));
+            if (!rowContents.isEmpty()) {
+                results.put(row, RowResult.create(row, rowContents));
+            }
+        });
+        return results;
+    }
+
+    @VisibleForTesting
+    static List<Map.Entry<Cell, byte[]>> getColumnRangeFromCompleteRow(
+            byte[] row, CompleteRow completeRow, byte[] startCol, byte[] endCol) {
+        NavigableMap<byte[], byte[]> columns = completeRow.columns();
+        if (startCol.length != 0) {
+            columns = columns.tailMap(startCol, true);
+        }
+        if (endCol.length != 0) {
+            columns = columns.headMap(endCol, false);
+        }
+        return columns.entrySet().stream()
+                .map(entry -> Maps.immutableEntry(Cell.create(row, entry.getKey()), entry.getValue()))
+                .collect(toList());
+    }
+
     private NavigableMap<byte[], RowResult<byte[]>> getRowsInternal(
             TableReference tableRef, Iterable<byte[]> rows, ColumnSelection columnSelection) {
         Timer.Context timer = getTimer("getRows").time();
@@ -493,6 +567,25 @@ public class SnapshotTransaction extends AbstractTransaction
         if (Iterables.isEmpty(rows)) {
             return Collections.emptyIterator();
         }
+        TransactionScopedCache cache = getCache();
+        if (cache.cachesCompleteRows(tableRef)) {
+            List<byte[]> distinctRows = getDistinctRows(rows);
+            NavigableMap<byte[], CompleteRow> completeRows = getCompleteRows(cache, tableRef, distinctRows);
+            return scopeToTransaction(Iterators.concat(Iterators.transform(distinctRows.iterator(), row -> {
+                CompleteRow completeRow = completeRows.get(row);
+                if (completeRow == null) {
+                    return getRowsColumnRangeInternal(tableRef, ImmutableList.of(row), columnRangeSelection, batchHint);
+                }
+                return getColumnRangeFromCompleteRow(
+                                row, completeRow, columnRangeSelection.getStartCol(), columnRangeSelection.getEndCol())
+                        .iterator();
+            })));
+        }
+        return scopeToTransaction(getRowsColumnRangeInternal(tableRef, rows, columnRangeSelection, batchHint));
+    }
+
+    private Iterator<Map.Entry<Cell, byte[]>> getRowsColumnRangeInternal(
+            TableReference tableRef, Iterable<byte[]> rows, ColumnRangeSelection columnRangeSelection, int batchHint) {
         ImmutableList<byte[]> stableRows = ImmutableList.copyOf(rows);
         hasReads = true;
         RowColumnRangeIterator rawResults = keyValueService.getRowsColumnRange(
@@ -504,7 +597,7 @@ public class SnapshotTransaction extends AbstractTransaction
 
         BatchColumnRangeSelection batchColumnRangeSelection =
                 BatchColumnRangeSelection.create(columnRangeSelection, batchHint);
-        return scopeToTransaction(getPostFilteredColumns(tableRef, batchColumnRangeSelection, stableRows, rawResults));
+        return getPostFilteredColumns(tableRef, batchColumnRangeSelection, stableRows, rawResults);
     }
 
     @Override
@@ -515,6 +608,35 @@ public class SnapshotTransaction extends AbstractTransaction
         if (Iterables.isEmpty(rows)) {
             return ImmutableMap.of();
         }
+        TransactionScopedCache cache = getCache();
+        if (cache.cachesCompleteRows(tableRef)) {
+            NavigableMap<byte[], CompleteRow> completeRows = getCompleteRows(cache, tableRef, rows);
+            List<byte[]> rowsTooLargeToCache = Streams.stream(rows)
+                    .filter(row -> !completeRows.containsKey(row))
+                    .collect(toList());
+            Map<byte[], Iterator<Map.Entry<Cell, byte[]>>> pagedResults = rowsTooLargeToCache.isEmpty()
+                    ? ImmutableMap.of()
+                    : getRowsColumnRangeIteratorInternal(tableRef, rowsTooLargeToCache, columnRangeSelection);
+            return Streams.stream(rows)
+                    .collect(ImmutableSortedMap.toImmutableSortedMap(PtBytes.BYTES_COMPARATOR, row -> row, row -> {
+                        CompleteRow completeRow = completeRows.get(row);
+                        if (completeRow == null) {
+                            return pagedResults.get(row);
+                        }
+                        return scopeToTransaction(getColumnRangeFromCompleteRow(
+                                        row,
+                                        completeRow,
+                                        columnRangeSelection.getStartCol(),
+                                        columnRangeSelection.getEndCol())
+                                .iterator());
+                    }));
+        }
+        return getRowsColumnRangeIteratorInternal(tableRef, rows, columnRangeSelection);
+    }
+
+    @SuppressWarnings("MustBeClosedChecker")
+    private ImmutableSortedMap<byte[], Iterator<Map.Entry<Cell, byte[]>>> getRowsColumnRangeIteratorInternal(
+            TableReference tableRef, Iterable<byte[]> rows, BatchColumnRangeSelection columnRangeSelection) {
         hasReads = true;
         ImmutableSortedMap<byte[], RowColumnRangeIterator> rawResults = ImmutableSortedMap.copyOf(
                 keyValueService.getRowsColumnRange(tableRef, rows, columnRangeSelection, getStartTimestamp()),
@@ -551,6 +673,25 @@ public class SnapshotTransaction extends AbstractTransaction
         }
         Iterable<byte[]> distinctRows = getDistinctRows(rows);
 
+        TransactionScopedCache cache = getCache();
+        if (cache.cachesCompleteRows(tableRef)) {
+            NavigableMap<byte[], CompleteRow> completeRows = getCompleteRows(cache, tableRef, distinctRows);
+            // If any row is too large to be cached, all rows are read through the paged path below, so that cached
+            // and paged results do not have to be merged across rows.
+            if (completeRows.size() == Iterables.size(distinctRows)) {
+                Comparator<Cell> cellComparator = columnOrderThenPreserveInputRowOrder(distinctRows);
+                return scopeToTransaction(Streams.stream(distinctRows)
+                        .flatMap(row -> getColumnRangeFromCompleteRow(
+                                        row,
+                                        completeRows.get(row),
+                                        batchColumnRangeSelection.getStartCol(),
+                                        batchColumnRangeSelection.getEndCol())
+                                .stream())
+                        .sorted(Map.Entry.comparingByKey(cellComparator))
+                        .iterator());
+            }
+        }
+
         hasReads = true;
         int batchSize = getPerRowBatchSize(batchColumnRangeSelection, Iterables.size(distinctRows));
         BatchColumnRangeSelection perBatchSelection = BatchColumnRangeSelection.create(
@@ -2119,7 +2260,8 @@ public class SnapshotTransaction extends AbstractTransaction
                 // we risk another transaction starting at a timestamp after our commit timestamp not seeing our writes.
                 timedAndTraced(
                         "commitWrite",
-                        () -> keyValueService.multiPut(localWriteBuffer.getLocalWrites(), getStartTimestamp()));
+                        () -> AtlasFutures.getUnchecked(keyValueService.multiPutAsync(
+                                localWriteBuffer.getLocalWrites(), getStartTimestamp())));
 
                 // Now that all writes are done, get the commit timestamp
                 // We must do this before we check that our locks are still valid to ensure that other transactions that
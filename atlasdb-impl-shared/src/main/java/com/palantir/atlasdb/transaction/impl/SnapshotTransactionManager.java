@@ -43,6 +43,7 @@ import com.palantir.atlasdb.transaction.api.PreCommitCondition;
 import com.palantir.atlasdb.transaction.api.Transaction;
 import com.palantir.atlasdb.transaction.api.Transaction.TransactionType;
 import com.palantir.atlasdb.transaction.api.TransactionFailedRetriableException;
+import com.palantir.atlasdb.transaction.api.TransactionLockTimeoutException;
 import com.palantir.atlasdb.transaction.api.TransactionReadSentinelBehavior;
 import com.palantir.atlasdb.transaction.api.TransactionTask;
 import com.palantir.atlasdb.transaction.impl.metrics.MemoizingTableLevelMetricsController;
@@ -106,6 +107,7 @@ import javax.validation.constraints.NotNull;
     final AtomicBoolean isClosed;
     final TableLevelMetricsController tableLevelMetricsController;
     private final Counter openTransactionCounter;
+    private final BoundedStalenessSnapshotCache boundedStalenessSnapshots;
 
     private final ConflictTracer conflictTracer;
 
@@ -164,6 +166,8 @@ import javax.validation.constraints.NotNull;
         this.openTransactionCounter =
                 metricsManager.registerOrGetCounter(SnapshotTransactionManager.class, "openTransactionCounter");
         this.knowledge = knowledge;
+        this.boundedStalenessSnapshots = new BoundedStalenessSnapshotCache(
+                this::startBoundedStalenessSnapshot, lock -> timelockService.tryUnlock(ImmutableSet.of(lock)));
     }
 
     @Override
@@ -380,6 +384,78 @@ import javax.validation.constraints.NotNull;
                 condition::cleanup);
     }
 
+    /**
+     * Reads at a start timestamp shared with other transactions run through this method, as long as it was obtained
+     * no more than {@code maxStaleness} ago, so that most such transactions make no calls to TimeLock before reading.
+     * The immutable timestamp lock of the shared start timestamp is held until all transactions reading at it have
+     * finished, so sweep cannot remove any values they may read.
+     */
+    @Override
+    public <T, E extends Exception> T runTaskReadOnlyWithBoundedStaleness(
+            Duration maxStaleness, TransactionTask<T, E> task) throws E {
+        checkOpen();
+        BoundedStalenessSnapshotCache.Snapshot snapshot =
+                runTimed(() -> boundedStalenessSnapshots.acquire(maxStaleness), "setupBoundedStalenessTask");
+        SnapshotTransaction transaction;
+        try {
+            transaction = new SnapshotTransaction(
+                    metricsManager,
+                    keyValueService,
+                    timelockService,
+                    NoOpLockWatchManager.create(),
+                    transactionService,
+                    NoOpCleaner.INSTANCE,
+                    Suppliers.ofInstance(snapshot.startTimestamp()),
+                    conflictDetectionManager,
+                    sweepStrategyManager,
+                    snapshot.immutableTimestamp(),
+                    Optional.of(snapshot.immutableTimestampLock()),
+                    PreCommitConditions.NO_OP,
+                    constraintModeSupplier.get(),
+                    cleaner.getTransactionReadTimeoutMillis(),
+                    TransactionReadSentinelBehavior.THROW_EXCEPTION,
+                    allowHiddenTableAccess,
+                    timestampValidationReadCache,
+                    getRangesExecutor,
+                    defaultGetRangesConcurrency,
+                    sweepQueueWriter,
+                    deleteExecutor,
+                    validateLocksOnReads,
+                    transactionConfig,
+                    conflictTracer,
+                    tableLevelMetricsController,
+                    knowledge);
+        } catch (Throwable t) {
+            snapshot.release();
+            throw t;
+        }
+        try {
+            return runTaskThrowOnConflictWithCallback(
+                    wrapTaskIfNecessary(task, snapshot.immutableTimestampLock()),
+                    new ReadTransaction(transaction, sweepStrategyManager),
+                    snapshot::release);
+        } catch (TransactionLockTimeoutException e) {
+            // the shared immutable timestamp lock has been lost, so no other transaction should read at this snapshot
+            boundedStalenessSnapshots.invalidate(snapshot);
+            throw e;
+        }
+    }
+
+    private StartIdentifiedAtlasDbTransactionResponse startBoundedStalenessSnapshot() {
+        StartIdentifiedAtlasDbTransactionResponse response;
+        try {
+            response = Iterables.getOnlyElement(timelockService.startIdentifiedAtlasDbTransactionBatch(1));
+        } catch (StartTransactionFailedException e) {
+            throw new TransactionFailedRetriableException("Failed to start a transaction", e);
+        }
+        long startTimestamp = response.startTimestampAndPartition().timestamp();
+        // Transactions reading at a shared start timestamp do not use the lock watch cache.
+        lockWatchManager.removeTransactionStateFromCache(startTimestamp);
+        recordImmutableTimestamp(response.immutableTimestamp().getImmutableTimestamp());
+        cleaner.punch(startTimestamp);
+        return response;
+    }
+
     @Override
     public void registerClosingCallback(Runnable closingCallback) {
         Preconditions.checkNotNull(closingCallback, "Cannot register a null callback.");
@@ -410,6 +486,7 @@ import javax.validation.constraints.NotNull;
             shutdownRunner.shutdownSafely(keyValueService::close);
             shutdownRunner.shutdownSafely(() -> shutdownExecutor(deleteExecutor));
             shutdownRunner.shutdownSafely(() -> shutdownExecutor(getRangesExecutor));
+            shutdownRunner.shutdownSafely(boundedStalenessSnapshots::close);
             shutdownRunner.shutdownSafely(this::closeLockServiceIfPossible);
 
             for (Runnable callback : Lists.reverse(closingCallbacks)) {
@@ -26,6 +26,7 @@ import com.palantir.atlasdb.transaction.api.TransactionManager;
 import com.palantir.atlasdb.transaction.api.TransactionTask;
 import com.palantir.lock.HeldLocksToken;
 import com.palantir.lock.LockRequest;
+import java.time.Duration;
 import java.util.function.Supplier;
 
 public abstract class WrappingTransactionManager implements AutoDelegate_TransactionManager {
@@ -71,6 +72,12 @@ public abstract class WrappingTransactionManager implements AutoDelegate_Transac
         return delegate().runTaskReadOnly(wrapTask(task));
     }
 
+    @Override
+    public <T, E extends Exception> T runTaskReadOnlyWithBoundedStaleness(
+            Duration maxStaleness, TransactionTask<T, E> task) throws E {
+        return delegate().runTaskReadOnlyWithBoundedStaleness(maxStaleness, wrapTask(task));
+    }
+
     @Override
     public <T, E extends Exception> T runTaskWithLocksThrowOnConflict(
             Iterable<HeldLocksToken> lockTokens, LockAwareTransactionTask<T, E> task)
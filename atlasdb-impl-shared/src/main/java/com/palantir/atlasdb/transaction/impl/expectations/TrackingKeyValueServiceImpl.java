@@ -85,6 +85,15 @@ public final class TrackingKeyValueServiceImpl extends ForwardingKeyValueService
                 MoreExecutors.directExecutor());
     }
 
+    /**
+     * Writes are not tracked, so these are forwarded to allow the delegate to write asynchronously.
+     */
+    @Override
+    public ListenableFuture<Void> multiPutAsync(
+            Map<TableReference, ? extends Map<Cell, byte[]>> valuesByTable, long timestamp) {
+        return delegate.multiPutAsync(valuesByTable, timestamp);
+    }
+
     @Override
     public Map<Cell, Value> getRows(
             TableReference tableRef, Iterable<byte[]> rows, ColumnSelection columnSelection, long timestamp) {
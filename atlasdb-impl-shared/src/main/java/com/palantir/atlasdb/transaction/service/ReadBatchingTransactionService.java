@@ -0,0 +1,241 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.transaction.service;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.palantir.atlasdb.autobatch.Autobatchers;
+import com.palantir.atlasdb.autobatch.BatchElement;
+import com.palantir.atlasdb.autobatch.BatchSizeRecorder;
+import com.palantir.atlasdb.autobatch.DisruptorAutobatcher;
+import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.atlasdb.keyvalue.api.KeyAlreadyExistsException;
+import com.palantir.atlasdb.transaction.encoding.CellEncodingStrategy;
+import com.palantir.common.streams.KeyedStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+
+/**
+ * This class coalesces read requests for commit statuses ({@link #getV2(long)}, {@link #getAsyncV2(long)} and their
+ * multi-timestamp variants) across concurrent callers to an underlying {@link EncodingTransactionService}. Each
+ * caller's timestamps are enqueued together as a single request, and start timestamps requested by multiple callers
+ * in the same batch are only looked up once.
+ *
+ * Within a batch, start timestamps are grouped by the row of the transactions table they are encoded into (as
+ * determined by the delegate's {@link CellEncodingStrategy}), and up to {@link #MAX_ROWS_PER_READ} of these rows are
+ * read from the delegate in a single request. Rows are not necessarily adjacent in the transactions table. The batch
+ * function does not wait for the returned futures, so if the delegate reads asynchronously, reads for subsequent
+ * batches may proceed concurrently; a delegate whose {@code getAsyncV2} completes synchronously will block the
+ * autobatcher for the duration of its reads.
+ *
+ * Deprecated {@link #get(long)} calls and writes are passed through to the delegate unchanged.
+ */
+public final class ReadBatchingTransactionService implements EncodingTransactionService {
+    private static final String SAFE_LOGGABLE_PURPOSE = "read-batching-transaction-service";
+
+    @VisibleForTesting
+    static final int MAX_ROWS_PER_READ = 16;
+
+    private final EncodingTransactionService delegate;
+    private final DisruptorAutobatcher<Set<Long>, ListenableFuture<Map<Long, TransactionStatus>>> autobatcher;
+
+    private ReadBatchingTransactionService(
+            EncodingTransactionService delegate,
+            DisruptorAutobatcher<Set<Long>, ListenableFuture<Map<Long, TransactionStatus>>> autobatcher) {
+        this.delegate = delegate;
+        this.autobatcher = autobatcher;
+    }
+
+    public static ReadBatchingTransactionService create(EncodingTransactionService delegate) {
+        BatchSizeRecorder distinctTimestampsRecorder =
+                BatchSizeRecorder.create(SAFE_LOGGABLE_PURPOSE + ".distinctTimestamps", ImmutableMap.of());
+        BatchSizeRecorder rowsRecorder =
+                BatchSizeRecorder.create(SAFE_LOGGABLE_PURPOSE + ".rows", ImmutableMap.of());
+        DisruptorAutobatcher<Set<Long>, ListenableFuture<Map<Long, TransactionStatus>>> autobatcher =
+                Autobatchers.<Set<Long>, ListenableFuture<Map<Long, TransactionStatus>>>independent(batch ->
+                                processCallerBatches(delegate, batch, distinctTimestampsRecorder, rowsRecorder))
+                        .safeLoggablePurpose(SAFE_LOGGABLE_PURPOSE)
+                        .batchFunctionTimeout(Duration.ofMinutes(5))
+                        .build();
+        return new ReadBatchingTransactionService(delegate, autobatcher);
+    }
+
+    @CheckForNull
+    @Override
+    @Deprecated
+    public Long get(long startTimestamp) {
+        return delegate.get(startTimestamp);
+    }
+
+    @Override
+    @Deprecated
+    public Map<Long, Long> get(Iterable<Long> startTimestamps) {
+        return delegate.get(startTimestamps);
+    }
+
+    @CheckForNull
+    @Override
+    public TransactionStatus getV2(long startTimestamp) {
+        return AtlasFutures.getUnchecked(getAsyncV2(startTimestamp));
+    }
+
+    @Override
+    public Map<Long, TransactionStatus> getV2(Iterable<Long> startTimestamps) {
+        return AtlasFutures.getUnchecked(getAsyncV2(startTimestamps));
+    }
+
+    @Override
+    @Deprecated
+    public ListenableFuture<Long> getAsync(long startTimestamp) {
+        return delegate.getAsync(startTimestamp);
+    }
+
+    @Override
+    @Deprecated
+    public ListenableFuture<Map<Long, Long>> getAsync(Iterable<Long> startTimestamps) {
+        return delegate.getAsync(startTimestamps);
+    }
+
+    @Override
+    public ListenableFuture<TransactionStatus> getAsyncV2(long startTimestamp) {
+        return Futures.transform(
+                getAsyncV2(ImmutableSet.of(startTimestamp)),
+                statuses -> statuses.get(startTimestamp),
+                MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public ListenableFuture<Map<Long, TransactionStatus>> getAsyncV2(Iterable<Long> startTimestamps) {
+        Set<Long> timestamps = ImmutableSet.copyOf(startTimestamps);
+        if (timestamps.isEmpty()) {
+            return Futures.immediateFuture(ImmutableMap.of());
+        }
+        return Futures.transformAsync(
+                autobatcher.apply(timestamps), statusFuture -> statusFuture, MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public void markInProgress(long startTimestamp) {
+        delegate.markInProgress(startTimestamp);
+    }
+
+    @Override
+    public void markInProgress(Iterable<Long> startTimestamps) {
+        delegate.markInProgress(startTimestamps);
+    }
+
+    @Override
+    public void putUnlessExists(long startTimestamp, long commitTimestamp) throws KeyAlreadyExistsException {
+        delegate.putUnlessExists(startTimestamp, commitTimestamp);
+    }
+
+    @Override
+    public void putUnlessExists(Map<Long, Long> startTimestampToCommitTimestamp) {
+        delegate.putUnlessExists(startTimestampToCommitTimestamp);
+    }
+
+    @Override
+    public CellEncodingStrategy getCellEncodingStrategy() {
+        return delegate.getCellEncodingStrategy();
+    }
+
+    @Override
+    public void close() {
+        autobatcher.close();
+        delegate.close();
+    }
+
+    @VisibleForTesting
+    static void processCallerBatches(
+            EncodingTransactionService delegate,
+            List<BatchElement<Set<Long>, ListenableFuture<Map<Long, TransactionStatus>>>> batch,
+            BatchSizeRecorder distinctTimestampsRecorder,
+            BatchSizeRecorder rowsRecorder) {
+        Set<Long> startTimestamps = new HashSet<>();
+        batch.forEach(element -> startTimestamps.addAll(element.argument()));
+        Map<Long, ListenableFuture<TransactionStatus>> statuses =
+                processBatch(delegate, startTimestamps, distinctTimestampsRecorder, rowsRecorder);
+        batch.forEach(element -> element.result().set(collectStatuses(element.argument(), statuses)));
+    }
+
+    private static ListenableFuture<Map<Long, TransactionStatus>> collectStatuses(
+            Set<Long> startTimestamps, Map<Long, ListenableFuture<TransactionStatus>> statuses) {
+        List<Long> timestamps = new ArrayList<>(startTimestamps);
+        List<ListenableFuture<TransactionStatus>> futures = new ArrayList<>(timestamps.size());
+        timestamps.forEach(timestamp -> futures.add(statuses.get(timestamp)));
+        return Futures.transform(
+                Futures.allAsList(futures),
+                resolvedStatuses -> {
+                    // The delegate may not return a status for every timestamp, so nulls must be permitted here.
+                    Map<Long, TransactionStatus> result = new HashMap<>(timestamps.size());
+                    for (int index = 0; index < timestamps.size(); index++) {
+                        result.put(timestamps.get(index), resolvedStatuses.get(index));
+                    }
+                    return result;
+                },
+                MoreExecutors.directExecutor());
+    }
+
+    @VisibleForTesting
+    static Map<Long, ListenableFuture<TransactionStatus>> processBatch(
+            EncodingTransactionService delegate,
+            Set<Long> startTimestamps,
+            BatchSizeRecorder distinctTimestampsRecorder,
+            BatchSizeRecorder rowsRecorder) {
+        Map<ByteBuffer, List<Long>> timestampsByRow = groupByRow(delegate.getCellEncodingStrategy(), startTimestamps);
+        distinctTimestampsRecorder.markBatchProcessed(startTimestamps.size());
+        rowsRecorder.markBatchProcessed(timestampsByRow.size());
+
+        Map<Long, ListenableFuture<TransactionStatus>> result =
+                Maps.newHashMapWithExpectedSize(startTimestamps.size());
+        for (List<List<Long>> rowBatch : Iterables.partition(timestampsByRow.values(), MAX_ROWS_PER_READ)) {
+            List<Long> timestampsInRowBatch = Lists.newArrayList(Iterables.concat(rowBatch));
+            ListenableFuture<Map<Long, TransactionStatus>> rowBatchStatuses =
+                    delegate.getAsyncV2(timestampsInRowBatch);
+            result.putAll(KeyedStream.of(timestampsInRowBatch)
+                    .map(timestamp -> Futures.transform(
+                            rowBatchStatuses, statuses -> statuses.get(timestamp), MoreExecutors.directExecutor()))
+                    .collectToMap());
+        }
+        return result;
+    }
+
+    private static Map<ByteBuffer, List<Long>> groupByRow(
+            CellEncodingStrategy cellEncodingStrategy, Set<Long> startTimestamps) {
+        Map<ByteBuffer, List<Long>> timestampsByRow = new HashMap<>();
+        for (Long startTimestamp : startTimestamps) {
+            ByteBuffer row = ByteBuffer.wrap(
+                    cellEncodingStrategy.encodeStartTimestampAsCell(startTimestamp).getRowName());
+            timestampsByRow.computeIfAbsent(row, _row -> new ArrayList<>()).add(startTimestamp);
+        }
+        return timestampsByRow;
+    }
+}
@@ -93,15 +93,18 @@ public final class TransactionServices {
 
     private static TransactionService createV2TransactionService(KeyValueService keyValueService) {
         return new PreStartHandlingTransactionService(
-                WriteBatchingTransactionService.create(SimpleTransactionService.createV2(keyValueService)));
+                WriteBatchingTransactionService.create(
+                        ReadBatchingTransactionService.create(SimpleTransactionService.createV2(keyValueService))));
     }
 
     private static TransactionService createV3TransactionService(
             KeyValueService keyValueService,
             TaggedMetricRegistry metricRegistry,
             Supplier<Boolean> acceptStagingReadsAsCommitted) {
-        return new PreStartHandlingTransactionService(WriteBatchingTransactionService.create(
-                SimpleTransactionService.createV3(keyValueService, metricRegistry, acceptStagingReadsAsCommitted)));
+        return new PreStartHandlingTransactionService(
+                WriteBatchingTransactionService.create(ReadBatchingTransactionService.create(
+                        SimpleTransactionService.createV3(
+                                keyValueService, metricRegistry, acceptStagingReadsAsCommitted))));
     }
 
     private static TransactionService createV4TransactionService(
@@ -55,7 +55,7 @@ public class BackgroundCompactorTest {
     private final CompactPriorityCalculator priorityCalculator = mock(CompactPriorityCalculator.class);
 
     private final BackgroundCompactor compactor = new BackgroundCompactor(
-            metricsManager,
+            new CompactionOutcomeMetrics(metricsManager),
             txManager,
             kvs,
             mock(LockService.class),
@@ -114,7 +114,7 @@ public class BackgroundCompactorTest {
     @Test
     public void passesMaintenanceHoursCorrectly() throws InterruptedException {
         BackgroundCompactor backgroundCompactor = new BackgroundCompactor(
-                metricsManager,
+                new CompactionOutcomeMetrics(metricsManager),
                 txManager,
                 kvs,
                 mock(LockService.class),
@@ -151,7 +151,7 @@ public class BackgroundCompactorTest {
     @Test
     public void doesNotRunIfDisabled() throws InterruptedException {
         BackgroundCompactor backgroundCompactor = new BackgroundCompactor(
-                metricsManager,
+                new CompactionOutcomeMetrics(metricsManager),
                 txManager,
                 kvs,
                 mock(LockService.class),
@@ -17,11 +17,18 @@ package com.palantir.atlasdb.compact;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
+import com.palantir.atlasdb.keyvalue.api.KeyValueService;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.transaction.api.Transaction;
 import com.palantir.atlasdb.transaction.api.TransactionManager;
+import com.palantir.atlasdb.util.MetricsManagers;
+import java.time.Duration;
 import java.util.Optional;
 import org.junit.Test;
 
@@ -31,11 +38,14 @@ public class CompactPriorityCalculatorTest {
 
     private final Transaction mockTx = mock(Transaction.class);
     private final TransactionManager transactionManager = mock(TransactionManager.class);
+    private final KeyValueService keyValueService = mock(KeyValueService.class);
     private final SweepHistoryProvider sweepHistoryProvider = mock(SweepHistoryProvider.class);
     private final CompactionHistoryProvider compactionHistoryProvider = mock(CompactionHistoryProvider.class);
 
-    private final CompactPriorityCalculator calculator =
-            new CompactPriorityCalculator(transactionManager, sweepHistoryProvider, compactionHistoryProvider);
+    private final CompactionOutcomeMetrics metrics = new CompactionOutcomeMetrics(MetricsManagers.createForTests());
+
+    private final CompactPriorityCalculator calculator = new CompactPriorityCalculator(
+            transactionManager, keyValueService, sweepHistoryProvider, compactionHistoryProvider, metrics);
 
     @Test
     public void returnsEmptyWhenNothingHasBeenSwept() {
@@ -89,4 +99,28 @@ public class CompactPriorityCalculatorTest {
         Optional<String> table = calculator.selectTableToCompactInternal(mockTx);
         assertThat(table).isEmpty();
     }
+
+    @Test
+    public void choosesCandidateWithHighestReclaimRateWhenKeyValueServiceHasEstimates() {
+        TableReference slowTable = TableReference.createFromFullyQualifiedName("ns." + TABLE_1);
+        TableReference fastTable = TableReference.createFromFullyQualifiedName("ns." + TABLE_2);
+        when(keyValueService.getCompactionCandidates())
+                .thenReturn(Optional.of(ImmutableList.of(
+                        CompactionCandidate.of(slowTable, 1000L, Duration.ofSeconds(10)),
+                        CompactionCandidate.of(fastTable, 500L, Duration.ofSeconds(1)))));
+
+        assertThat(calculator.selectTableToCompact()).contains(fastTable.getQualifiedName());
+        assertThat(metrics.getDecisionCount(CompactPriorityCalculator.DecisionSource.TABLE_STATISTICS))
+                .isEqualTo(1L);
+        assertThat(metrics.getLastEstimatedReclaimableBytes()).isEqualTo(500L);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    public void doesNotFallBackToHistoryWhenKeyValueServiceHasNoCandidates() {
+        when(keyValueService.getCompactionCandidates()).thenReturn(Optional.of(ImmutableList.of()));
+
+        assertThat(calculator.selectTableToCompact()).isEmpty();
+        verifyNoInteractions(transactionManager);
+    }
 }
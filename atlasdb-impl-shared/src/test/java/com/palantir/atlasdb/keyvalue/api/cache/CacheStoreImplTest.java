@@ -41,7 +41,8 @@ public final class CacheStoreImplTest {
     @Test
     public void updatesToSnapshotStoreReflectedInCacheStore() {
         SnapshotStore snapshotStore = SnapshotStoreImpl.create(metrics);
-        CacheStore cacheStore = new CacheStoreImpl(snapshotStore, VALIDATION_PROBABILITY, () -> {}, metrics, 100);
+        CacheStore cacheStore =
+                new CacheStoreImpl(snapshotStore, VALIDATION_PROBABILITY, () -> {}, metrics, 100, false, false, 1_000);
 
         cacheStore.createCache(TIMESTAMP_1);
         assertThat(cacheStore.getCache(TIMESTAMP_1)).isExactlyInstanceOf(NoOpTransactionScopedCache.class);
@@ -58,7 +59,8 @@ public final class CacheStoreImplTest {
     @Test
     public void multipleCallsToGetReturnsTheSameCache() {
         SnapshotStore snapshotStore = SnapshotStoreImpl.create(metrics);
-        CacheStore cacheStore = new CacheStoreImpl(snapshotStore, VALIDATION_PROBABILITY, () -> {}, metrics, 100);
+        CacheStore cacheStore =
+                new CacheStoreImpl(snapshotStore, VALIDATION_PROBABILITY, () -> {}, metrics, 100, false, false, 1_000);
         snapshotStore.storeSnapshot(
                 Sequence.of(5L),
                 ImmutableSet.of(TIMESTAMP_1, TIMESTAMP_2),
@@ -76,7 +78,8 @@ public final class CacheStoreImplTest {
     @Test
     public void cachesExceedingMaximumCountThrows() {
         SnapshotStore snapshotStore = SnapshotStoreImpl.create(metrics);
-        CacheStore cacheStore = new CacheStoreImpl(snapshotStore, VALIDATION_PROBABILITY, () -> {}, metrics, 1);
+        CacheStore cacheStore =
+                new CacheStoreImpl(snapshotStore, VALIDATION_PROBABILITY, () -> {}, metrics, 1, false, false, 1_000);
 
         StartTimestamp timestamp = StartTimestamp.of(22222L);
         snapshotStore.storeSnapshot(
@@ -96,7 +99,8 @@ public final class CacheStoreImplTest {
     @Test
     public void getCacheDoesNotPersistAnything() {
         SnapshotStore snapshotStore = SnapshotStoreImpl.create(metrics);
-        CacheStore cacheStore = new CacheStoreImpl(snapshotStore, VALIDATION_PROBABILITY, () -> {}, metrics, 100);
+        CacheStore cacheStore =
+                new CacheStoreImpl(snapshotStore, VALIDATION_PROBABILITY, () -> {}, metrics, 100, false, false, 1_000);
         snapshotStore.storeSnapshot(
                 Sequence.of(5L),
                 ImmutableSet.of(TIMESTAMP_1),
@@ -111,7 +115,8 @@ public final class CacheStoreImplTest {
     @Test
     public void noOpCachesAreNotStored() {
         SnapshotStore snapshotStore = SnapshotStoreImpl.create(metrics);
-        CacheStore cacheStore = new CacheStoreImpl(snapshotStore, VALIDATION_PROBABILITY, () -> {}, metrics, 0);
+        CacheStore cacheStore =
+                new CacheStoreImpl(snapshotStore, VALIDATION_PROBABILITY, () -> {}, metrics, 0, false, false, 1_000);
 
         cacheStore.createCache(TIMESTAMP_1);
         cacheStore.createCache(TIMESTAMP_2);
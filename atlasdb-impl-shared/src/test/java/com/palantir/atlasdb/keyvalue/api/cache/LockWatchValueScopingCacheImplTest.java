@@ -27,6 +27,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.primitives.UnsignedBytes;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.palantir.atlasdb.keyvalue.api.Cell;
@@ -50,12 +51,16 @@ import com.palantir.lock.watch.LockWatchStateUpdate;
 import com.palantir.lock.watch.TransactionUpdate;
 import com.palantir.lock.watch.UnlockEvent;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
@@ -106,13 +111,13 @@ public final class LockWatchValueScopingCacheImplTest {
         snapshotStore = SnapshotStoreImpl.create(metrics);
         eventCache = LockWatchEventCacheImpl.create(metrics, MAX_EVENTS);
         valueCache = new LockWatchValueScopingCacheImpl(
-                eventCache, 20_000, 0.0, ImmutableSet.of(TABLE), snapshotStore, () -> {}, metrics);
+                eventCache, 20_000, 0.0, false, false, 1_000, ImmutableSet.of(TABLE), snapshotStore, () -> {}, metrics);
     }
 
     @Test
     public void tableNotWatchedInSchemaDoesNotCache() {
         valueCache = new LockWatchValueScopingCacheImpl(
-                eventCache, 20_000, 0.0, ImmutableSet.of(), snapshotStore, () -> {}, metrics);
+                eventCache, 20_000, 0.0, false, false, 1_000, ImmutableSet.of(), snapshotStore, () -> {}, metrics);
         processStartTransactionsUpdate(LOCK_WATCH_SNAPSHOT, TIMESTAMP_1, TIMESTAMP_2);
 
         TransactionScopedCache scopedCache = valueCache.getTransactionScopedCache(TIMESTAMP_1);
@@ -130,7 +135,7 @@ public final class LockWatchValueScopingCacheImplTest {
     @Test
     public void valueCacheCreatesValidatingTransactionCaches() {
         valueCache = new LockWatchValueScopingCacheImpl(
-                eventCache, 20_000, 1.0, ImmutableSet.of(TABLE), snapshotStore, () -> {}, metrics);
+                eventCache, 20_000, 1.0, false, false, 1_000, ImmutableSet.of(TABLE), snapshotStore, () -> {}, metrics);
         processStartTransactionsUpdate(LOCK_WATCH_SNAPSHOT, TIMESTAMP_1, TIMESTAMP_2);
 
         TransactionScopedCache scopedCache = valueCache.getTransactionScopedCache(TIMESTAMP_1);
@@ -317,7 +322,8 @@ public final class LockWatchValueScopingCacheImplTest {
 
     @Test
     public void failedValidationCausesCacheToFallback() {
-        valueCache = LockWatchValueScopingCacheImpl.create(eventCache, metrics, 20_000, 1.0, ImmutableSet.of(TABLE));
+        valueCache = LockWatchValueScopingCacheImpl.create(
+                eventCache, metrics, 20_000, 1.0, false, false, 1_000, ImmutableSet.of(TABLE));
 
         eventCache.processStartTransactionsUpdate(ImmutableSet.of(TIMESTAMP_1, TIMESTAMP_2), LOCK_WATCH_SNAPSHOT);
         valueCache.processStartTransactions(ImmutableSet.of(TIMESTAMP_1));
@@ -371,6 +377,29 @@ public final class LockWatchValueScopingCacheImplTest {
         assertThatRemotelyReadCells(scopedCache3, TABLE, CELL_1, CELL_3).containsExactlyInAnyOrder(CELL_1);
     }
 
+    @Test
+    public void completeRowsWithCellsLockedBeforeCommitAreNotFlushedToCentralCache() {
+        valueCache = new LockWatchValueScopingCacheImpl(
+                eventCache, 20_000, 0.0, false, true, 1_000, ImmutableSet.of(TABLE), snapshotStore, () -> {}, metrics);
+        byte[] lockedRow = CELL_1.getRowName();
+        byte[] unlockedRow = CELL_3.getRowName();
+        processStartTransactionsUpdate(LOCK_WATCH_SNAPSHOT, TIMESTAMP_1);
+
+        TransactionScopedCache scopedCache1 = valueCache.getTransactionScopedCache(TIMESTAMP_1);
+        assertThat(getRemotelyReadRows(scopedCache1, lockedRow, unlockedRow)).containsExactly(lockedRow, unlockedRow);
+        processEventCacheCommit(TIMESTAMP_1, 0L);
+        valueCache.updateCacheWithCommitTimestampsInformation(ImmutableSet.of(TIMESTAMP_1));
+
+        // A cell in one of the rows read is locked before the first transaction finishes committing
+        processStartTransactionsUpdate(LOCK_WATCH_LOCK_SUCCESS, TIMESTAMP_2);
+        valueCache.onSuccessfulCommit(TIMESTAMP_1);
+
+        // Only the row which was never locked should have been flushed to the central cache
+        processStartTransactionsUpdate(LOCK_WATCH_UNLOCK_SUCCESS, TIMESTAMP_3);
+        TransactionScopedCache scopedCache3 = valueCache.getTransactionScopedCache(TIMESTAMP_3);
+        assertThat(getRemotelyReadRows(scopedCache3, lockedRow, unlockedRow)).containsExactly(lockedRow);
+    }
+
     @Test
     public void ensureStateRemovedDoesNotFlushValuesToCentralCache() {
         processStartTransactionsUpdate(LOCK_WATCH_SNAPSHOT, TIMESTAMP_1);
@@ -442,7 +471,7 @@ public final class LockWatchValueScopingCacheImplTest {
     public void missingSnapshotsForSequenceDoesNotThrowWhenNoTablesAreWatched() {
         snapshotStore = new SnapshotStoreImpl(0, 20_000, metrics);
         valueCache = new LockWatchValueScopingCacheImpl(
-                eventCache, 20_000, 0.0, ImmutableSet.of(TABLE), snapshotStore, () -> {}, metrics);
+                eventCache, 20_000, 0.0, false, false, 1_000, ImmutableSet.of(TABLE), snapshotStore, () -> {}, metrics);
 
         // This should cause the cache to progress to version 1 but without a snapshot stored at version 0
         processStartTransactionsUpdate(
@@ -468,7 +497,7 @@ public final class LockWatchValueScopingCacheImplTest {
     public void missingSnapshotsForSequenceThrowsWhenTablesAreWatched() {
         snapshotStore = new SnapshotStoreImpl(0, 20_000, metrics);
         valueCache = new LockWatchValueScopingCacheImpl(
-                eventCache, 20_000, 0.0, ImmutableSet.of(TABLE), snapshotStore, () -> {}, metrics);
+                eventCache, 20_000, 0.0, false, false, 1_000, ImmutableSet.of(TABLE), snapshotStore, () -> {}, metrics);
 
         // This should cause the cache to progress to version 1 but without a snapshot stored at version 0
         processStartTransactionsUpdate(LOCK_WATCH_SNAPSHOT, TIMESTAMP_1);
@@ -507,6 +536,15 @@ public final class LockWatchValueScopingCacheImplTest {
         assertThat(remoteRowReads).containsExactlyInAnyOrder(CELL_1.getRowName(), CELL_2.getRowName());
     }
 
+    private static List<byte[]> getRemotelyReadRows(TransactionScopedCache scopedCache, byte[]... rows) {
+        List<byte[]> remoteRowReads = new ArrayList<>();
+        scopedCache.getCompleteRows(TABLE, Arrays.asList(rows), (rowsToRead, _maxColumns) -> {
+            rowsToRead.forEach(remoteRowReads::add);
+            return new TreeMap<>(UnsignedBytes.lexicographicalComparator());
+        });
+        return remoteRowReads;
+    }
+
     private void processStartTransactionsUpdate(LockWatchStateUpdate update, long... timestamps) {
         Set<Long> timestampsToProcess = LongStream.of(timestamps).boxed().collect(Collectors.toSet());
         eventCache.processStartTransactionsUpdate(timestampsToProcess, update);
@@ -32,6 +32,7 @@ import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Multiset;
 import com.google.common.primitives.UnsignedBytes;
 import com.google.common.util.concurrent.Futures;
@@ -43,6 +44,7 @@ import com.palantir.atlasdb.keyvalue.api.CellReference;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
 import com.palantir.atlasdb.keyvalue.api.RowResult;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.watch.Sequence;
 import com.palantir.atlasdb.ptobject.EncodingUtils;
 import com.palantir.atlasdb.transaction.api.TransactionLockWatchFailedException;
 import com.palantir.common.streams.KeyedStream;
@@ -51,7 +53,9 @@ import com.palantir.lock.watch.CommitUpdate;
 import io.vavr.Tuple2;
 import io.vavr.collection.HashMap;
 import io.vavr.collection.HashSet;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
@@ -89,6 +93,12 @@ public final class TransactionScopedCacheImplTest {
             .put(CELL_5, VALUE_5.value().get())
             .buildOrThrow();
     private static final CacheValue VALUE_EMPTY = CacheValue.empty();
+    private static final byte[] ROW = createBytes(7);
+    private static final NavigableMap<byte[], byte[]> ROW_COLUMNS = ImmutableSortedMap.<byte[], byte[]>orderedBy(
+                    UnsignedBytes.lexicographicalComparator())
+            .put(createBytes(1), createBytes(10))
+            .put(createBytes(2), createBytes(20))
+            .buildOrThrow();
 
     private final CacheMetrics metrics = mock(CacheMetrics.class);
     private final Multiset<Cell> directLookups = spy(HashMultiset.create());
@@ -390,6 +400,231 @@ public final class TransactionScopedCacheImplTest {
         }
     }
 
+    @Test
+    public void concurrentMissesAtSameSequenceShareRemoteRead() {
+        InFlightReadRegistry registry = new InFlightReadRegistry();
+        TransactionScopedCache firstCache = createSharingCache(registry, Sequence.of(1L));
+        TransactionScopedCache secondCache = createSharingCache(registry, Sequence.of(1L));
+        SettableFuture<Map<Cell, byte[]>> remoteReads = SettableFuture.create();
+
+        ListenableFuture<Map<Cell, byte[]>> firstRead =
+                firstCache.getAsync(TABLE, ImmutableSet.of(CELL_2, CELL_6), _cells -> remoteReads);
+        Set<Cell> secondRemoteReads = new java.util.HashSet<>();
+        ListenableFuture<Map<Cell, byte[]>> secondRead =
+                secondCache.getAsync(TABLE, ImmutableSet.of(CELL_1, CELL_2, CELL_3, CELL_6), cellsToRead -> {
+                    secondRemoteReads.addAll(cellsToRead);
+                    return remoteRead(cellsToRead);
+                });
+        assertThat(secondRemoteReads).containsExactly(CELL_3);
+        assertThat(secondRead).isNotDone();
+
+        remoteReads.setFuture(remoteRead(ImmutableSet.of(CELL_2, CELL_6)));
+        assertThat(AtlasFutures.getUnchecked(firstRead))
+                .containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(CELL_2, VALUE_2.value().get()));
+        assertThat(AtlasFutures.getUnchecked(secondRead))
+                .containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(
+                        CELL_1, VALUE_1.value().get(), CELL_2, VALUE_2.value().get(), CELL_3, VALUE_3.value().get()));
+        assertThat(registry.inFlightReadCount()).isZero();
+
+        secondCache.finalise();
+        assertThat(secondCache.getValueDigest().loadedValues())
+                .containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(
+                        CellReference.of(TABLE, CELL_2), VALUE_2,
+                        CellReference.of(TABLE, CELL_3), VALUE_3,
+                        CellReference.of(TABLE, CELL_6), VALUE_EMPTY));
+        assertThat(secondCache.getHitDigest().hitCells()).containsExactly(CellReference.of(TABLE, CELL_1));
+    }
+
+    @Test
+    public void remoteReadsAreNotSharedAcrossSequences() {
+        InFlightReadRegistry registry = new InFlightReadRegistry();
+        TransactionScopedCache firstCache = createSharingCache(registry, Sequence.of(1L));
+        TransactionScopedCache secondCache = createSharingCache(registry, Sequence.of(2L));
+
+        firstCache.getAsync(TABLE, ImmutableSet.of(CELL_2), _cells -> SettableFuture.create());
+        assertThat(getRemotelyReadCells(secondCache, TABLE, CELL_2)).containsExactly(CELL_2);
+    }
+
+    @Test
+    public void locallyWrittenCellsAreNotShared() {
+        InFlightReadRegistry registry = new InFlightReadRegistry();
+        TransactionScopedCache firstCache = createSharingCache(registry, Sequence.of(1L));
+        TransactionScopedCache secondCache = createSharingCache(registry, Sequence.of(1L));
+
+        firstCache.write(TABLE, ImmutableMap.of(CELL_2, VALUE_4.value().get()));
+        firstCache.getAsync(TABLE, ImmutableSet.of(CELL_2), _cells -> SettableFuture.create());
+        assertThat(registry.inFlightReadCount()).isZero();
+        assertThat(getRemotelyReadCells(secondCache, TABLE, CELL_2)).containsExactly(CELL_2);
+
+        secondCache.getAsync(TABLE, ImmutableSet.of(CELL_3), _cells -> SettableFuture.create());
+        secondCache.write(TABLE, ImmutableMap.of(CELL_3, VALUE_4.value().get()));
+        assertThat(getRemotelyReadCells(secondCache, TABLE, CELL_3)).containsExactly(CELL_3);
+    }
+
+    @Test
+    public void failedSharedReadIsRetriedWithOwnLoader() {
+        InFlightReadRegistry registry = new InFlightReadRegistry();
+        TransactionScopedCache firstCache = createSharingCache(registry, Sequence.of(1L));
+        TransactionScopedCache secondCache = createSharingCache(registry, Sequence.of(1L));
+        SettableFuture<Map<Cell, byte[]>> remoteReads = SettableFuture.create();
+
+        ListenableFuture<Map<Cell, byte[]>> firstRead =
+                firstCache.getAsync(TABLE, ImmutableSet.of(CELL_2), _cells -> remoteReads);
+        Set<Cell> secondRemoteReads = new java.util.HashSet<>();
+        ListenableFuture<Map<Cell, byte[]>> secondRead =
+                secondCache.getAsync(TABLE, ImmutableSet.of(CELL_2), cellsToRead -> {
+                    secondRemoteReads.addAll(cellsToRead);
+                    return remoteRead(cellsToRead);
+                });
+
+        remoteReads.setException(new RuntimeException("boom"));
+        assertThatThrownBy(() -> AtlasFutures.getUnchecked(firstRead)).hasMessageContaining("boom");
+        assertThat(AtlasFutures.getUnchecked(secondRead))
+                .containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(CELL_2, VALUE_2.value().get()));
+        assertThat(secondRemoteReads).containsExactly(CELL_2);
+        assertThat(registry.inFlightReadCount()).isZero();
+    }
+
+    @Test
+    public void completeRowsAreReadOnceAndAppearInDigest() {
+        TransactionScopedCache cache = createCompleteRowCache(snapshotWithSingleValue());
+        byte[] emptyRow = createBytes(8);
+
+        List<byte[]> remoteRows = new ArrayList<>();
+        assertThat(getCompleteRows(cache, remoteRows, ROW, emptyRow, ROW).values())
+                .containsExactly(CompleteRow.of(ROW_COLUMNS), CompleteRow.empty());
+        assertThat(getCompleteRows(cache, remoteRows, ROW, emptyRow).values())
+                .containsExactly(CompleteRow.of(ROW_COLUMNS), CompleteRow.empty());
+        assertThat(remoteRows).containsExactly(ROW, emptyRow);
+
+        cache.finalise();
+        assertThat(cache.getValueDigest().loadedRows())
+                .containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(
+                        TableRowReference.of(TABLE, ROW),
+                        CompleteRow.of(ROW_COLUMNS),
+                        TableRowReference.of(TABLE, emptyRow),
+                        CompleteRow.empty()));
+    }
+
+    @Test
+    public void completeRowsAreServedFromSnapshotUnlessLocked() {
+        byte[] lockedRow = createBytes(8);
+        TransactionScopedCache cache = createCompleteRowCache(ImmutableValueCacheSnapshotImpl.builder()
+                .values(HashMap.empty())
+                .lockWatchEnabledTables(HashSet.of(TABLE))
+                .allowedTablesFromSchema(ImmutableSet.of(TABLE))
+                .completeRows(HashMap.of(
+                        TableRowReference.of(TABLE, ROW),
+                        CompleteRow.of(ROW_COLUMNS),
+                        TableRowReference.of(TABLE, lockedRow),
+                        CompleteRow.empty()))
+                .lockedCellsByRow(HashMap.of(
+                        TableRowReference.of(TABLE, lockedRow), HashSet.of(Cell.create(lockedRow, createBytes(1)))))
+                .build());
+
+        List<byte[]> remoteRows = new ArrayList<>();
+        assertThat(getCompleteRows(cache, remoteRows, ROW, lockedRow).values())
+                .containsExactly(CompleteRow.of(ROW_COLUMNS), CompleteRow.empty());
+        assertThat(remoteRows).containsExactly(lockedRow);
+
+        cache.finalise();
+        assertThat(cache.getValueDigest().loadedRows()).isEmpty();
+    }
+
+    @Test
+    public void locallyWrittenRowsAreNotCached() {
+        TransactionScopedCache cache = createCompleteRowCache(snapshotWithSingleValue());
+
+        List<byte[]> remoteRows = new ArrayList<>();
+        getCompleteRows(cache, remoteRows, ROW);
+        cache.write(TABLE, ImmutableMap.of(Cell.create(ROW, createBytes(3)), createBytes(30)));
+        getCompleteRows(cache, remoteRows, ROW);
+        assertThat(remoteRows).containsExactly(ROW, ROW);
+
+        cache.finalise();
+        assertThat(cache.getValueDigest().loadedRows()).isEmpty();
+    }
+
+    @Test
+    public void readOnlyCacheRereadsCompleteRowsWithInvalidatedCells() {
+        TransactionScopedCache cache = createCompleteRowCache(snapshotWithSingleValue());
+        byte[] emptyRow = createBytes(8);
+
+        List<byte[]> remoteRows = new ArrayList<>();
+        getCompleteRows(cache, remoteRows, ROW, emptyRow);
+        assertThat(remoteRows).containsExactly(ROW, emptyRow);
+
+        TransactionScopedCache readOnlyCache = cache.createReadOnlyCache(CommitUpdate.invalidateSome(ImmutableSet.of(
+                AtlasCellLockDescriptor.of(TABLE.getQualifiedName(), ROW, ROW_COLUMNS.firstKey()))));
+
+        remoteRows.clear();
+        assertThat(getCompleteRows(readOnlyCache, remoteRows, ROW, emptyRow).values())
+                .containsExactly(CompleteRow.of(ROW_COLUMNS), CompleteRow.empty());
+        assertThat(getCompleteRows(readOnlyCache, remoteRows, ROW, emptyRow).values())
+                .containsExactly(CompleteRow.of(ROW_COLUMNS), CompleteRow.empty());
+        assertThat(remoteRows).containsExactly(ROW, ROW);
+    }
+
+    @Test
+    public void rowsWithMoreColumnsThanTheLimitAreNeitherCachedNorReturned() {
+        TransactionScopedCache cache = TransactionScopedCacheImpl.create(
+                snapshotWithSingleValue(), metrics, Optional.empty(), true, ROW_COLUMNS.size() - 1);
+        byte[] emptyRow = createBytes(8);
+
+        List<byte[]> remoteRows = new ArrayList<>();
+        List<Integer> columnLimits = new ArrayList<>();
+        assertThat(getCompleteRows(cache, remoteRows, columnLimits, ROW, emptyRow))
+                .containsOnlyKeys(emptyRow)
+                .containsValue(CompleteRow.empty());
+        assertThat(getCompleteRows(cache, remoteRows, columnLimits, ROW, emptyRow))
+                .containsOnlyKeys(emptyRow);
+        assertThat(remoteRows).containsExactly(ROW, emptyRow);
+        assertThat(columnLimits).containsExactly(ROW_COLUMNS.size() - 1);
+
+        cache.finalise();
+        assertThat(cache.getValueDigest().loadedRows())
+                .containsOnlyKeys(TableRowReference.of(TABLE, emptyRow));
+    }
+
+    @Test
+    public void completeRowsAreNotReadUnlessEnabled() {
+        TransactionScopedCache cache = TransactionScopedCacheImpl.create(snapshotWithSingleValue(), metrics);
+        assertThat(cache.cachesCompleteRows(TABLE)).isFalse();
+
+        List<byte[]> remoteRows = new ArrayList<>();
+        assertThat(getCompleteRows(cache, remoteRows, ROW)).isEmpty();
+        assertThat(remoteRows).isEmpty();
+    }
+
+    private TransactionScopedCache createCompleteRowCache(ValueCacheSnapshot snapshot) {
+        return TransactionScopedCacheImpl.createCachingCompleteRows(snapshot, metrics, 10);
+    }
+
+    private static NavigableMap<byte[], CompleteRow> getCompleteRows(
+            TransactionScopedCache cache, List<byte[]> remoteRows, byte[]... rows) {
+        return getCompleteRows(cache, remoteRows, new ArrayList<>(), rows);
+    }
+
+    private static NavigableMap<byte[], CompleteRow> getCompleteRows(
+            TransactionScopedCache cache, List<byte[]> remoteRows, List<Integer> columnLimits, byte[]... rows) {
+        return cache.getCompleteRows(TABLE, Arrays.asList(rows), (rowsToRead, maxColumns) -> {
+            columnLimits.add(maxColumns);
+            NavigableMap<byte[], RowResult<byte[]>> result = new TreeMap<>(UnsignedBytes.lexicographicalComparator());
+            for (byte[] row : rowsToRead) {
+                remoteRows.add(row);
+                if (Arrays.equals(row, ROW)) {
+                    result.put(ROW, RowResult.create(ROW, ROW_COLUMNS));
+                }
+            }
+            return result;
+        });
+    }
+
+    private TransactionScopedCache createSharingCache(InFlightReadRegistry registry, Sequence sequence) {
+        return TransactionScopedCacheImpl.create(
+                snapshotWithSingleValue(), metrics, Optional.of(registry.atSequence(sequence)), false, 0);
+    }
+
     private static void awaitLatch(CountDownLatch latch) {
         try {
             latch.await();
@@ -29,6 +29,7 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.primitives.UnsignedBytes;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -67,6 +68,11 @@ public final class ValidatingTransactionScopedCacheTest {
             .put(CELL_2, VALUE_2.value().get())
             .buildOrThrow();
 
+    private static final SortedMap<byte[], byte[]> COMPLETE_ROW_COLUMNS = ImmutableSortedMap.<byte[], byte[]>orderedBy(
+                    UnsignedBytes.lexicographicalComparator())
+            .put(createBytes(1), createBytes(10))
+            .buildOrThrow();
+
     private final CacheMetrics metrics = mock(CacheMetrics.class);
 
     @Mock
@@ -191,6 +197,65 @@ public final class ValidatingTransactionScopedCacheTest {
         verify(rowLoader, times(1)).apply(any());
     }
 
+    @Test
+    public void getCompleteRowsValidatesCachedRowsAgainstRemoteReads() {
+        TransactionScopedCache validatingCache = new ValidatingTransactionScopedCache(
+                TransactionScopedCacheImpl.createCachingCompleteRows(snapshotWithCompleteRow(), metrics, 10),
+                1.0,
+                () -> {});
+        TransactionScopedCache.CompleteRowLoader rowLoader = mock(TransactionScopedCache.CompleteRowLoader.class);
+        when(rowLoader.load(any(), eq(COMPLETE_ROW_COLUMNS.size()))).thenReturn(completeRowRead());
+
+        assertThatCode(() -> validatingCache.getCompleteRows(TABLE, ImmutableList.of(createBytes(1)), rowLoader))
+                .doesNotThrowAnyException();
+        verify(rowLoader).load(any(), eq(COMPLETE_ROW_COLUMNS.size()));
+    }
+
+    @Test
+    public void getCompleteRowsFailsValidationWhenCachedRowsDiffer() {
+        Runnable failureCallback = mock(Runnable.class);
+        TransactionScopedCache validatingCache = new ValidatingTransactionScopedCache(
+                TransactionScopedCacheImpl.createCachingCompleteRows(snapshotWithCompleteRow(), metrics, 10),
+                1.0,
+                failureCallback);
+        TransactionScopedCache.CompleteRowLoader rowLoader = mock(TransactionScopedCache.CompleteRowLoader.class);
+        when(rowLoader.load(any(), eq(COMPLETE_ROW_COLUMNS.size())))
+                .thenReturn(new TreeMap<>(UnsignedBytes.lexicographicalComparator()));
+
+        assertThatThrownBy(() -> validatingCache.getCompleteRows(TABLE, ImmutableList.of(createBytes(1)), rowLoader))
+                .isExactlyInstanceOf(TransactionLockWatchFailedException.class)
+                .hasMessage("Failed lock watch cache validation - will retry without caching");
+        verify(failureCallback).run();
+    }
+
+    @Test
+    public void getCompleteRowsDoesNotReadRemotelyWhenItShouldNotValidate() {
+        TransactionScopedCache validatingCache = new ValidatingTransactionScopedCache(
+                TransactionScopedCacheImpl.createCachingCompleteRows(snapshotWithCompleteRow(), metrics, 10),
+                0.0,
+                () -> {});
+        TransactionScopedCache.CompleteRowLoader rowLoader = mock(TransactionScopedCache.CompleteRowLoader.class);
+
+        validatingCache.getCompleteRows(TABLE, ImmutableList.of(createBytes(1)), rowLoader);
+        verifyNoInteractions(rowLoader);
+    }
+
+    private static ValueCacheSnapshot snapshotWithCompleteRow() {
+        return ImmutableValueCacheSnapshotImpl.builder()
+                .values(HashMap.empty())
+                .lockWatchEnabledTables(HashSet.of(TABLE))
+                .allowedTablesFromSchema(ImmutableSet.of(TABLE))
+                .completeRows(HashMap.of(
+                        TableRowReference.of(TABLE, createBytes(1)), CompleteRow.of(COMPLETE_ROW_COLUMNS)))
+                .build();
+    }
+
+    private static NavigableMap<byte[], RowResult<byte[]>> completeRowRead() {
+        NavigableMap<byte[], RowResult<byte[]>> result = new TreeMap<>(UnsignedBytes.lexicographicalComparator());
+        result.put(createBytes(1), RowResult.create(createBytes(1), COMPLETE_ROW_COLUMNS));
+        return result;
+    }
+
     private static ValueCacheSnapshot snapshotWithSingleValue() {
         return ValueCacheSnapshotImpl.of(
                 HashMap.of(CellReference.of(TABLE, CELL_1), CacheEntry.unlocked(VALUE_1)),
@@ -26,6 +26,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.primitives.UnsignedBytes;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.CellReference;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
@@ -138,6 +140,29 @@ public final class ValueStoreImplTest {
         assertPutThrows(VALUE_1);
     }
 
+    @Test
+    public void lockOnAnyCellInvalidatesCompleteRowUntilUnlocked() {
+        TableRowReference rowReference = TableRowReference.of(TABLE_CELL);
+        CompleteRow completeRow =
+                CompleteRow.of(ImmutableSortedMap.<byte[], byte[]>orderedBy(UnsignedBytes.lexicographicalComparator())
+                        .put(createBytes(42), createBytes(10))
+                        .buildOrThrow());
+        valueStore.applyEvent(WATCH_EVENTS);
+        valueStore.putCompleteRow(rowReference, completeRow);
+        assertThat(valueStore.getSnapshot().getCompleteRow(rowReference)).hasValue(completeRow);
+
+        valueStore.applyEvent(LOCK_EVENT);
+        assertThat(valueStore.getSnapshot().getCompleteRow(rowReference)).isEmpty();
+        assertThat(valueStore.getSnapshot().isRowUnlocked(rowReference)).isFalse();
+        assertThatThrownBy(() -> valueStore.putCompleteRow(rowReference, completeRow))
+                .isExactlyInstanceOf(SafeIllegalStateException.class)
+                .hasMessageContaining("Trying to cache a row which has locked cells");
+
+        valueStore.applyEvent(UNLOCK_EVENT);
+        assertThat(valueStore.getSnapshot().isRowUnlocked(rowReference)).isTrue();
+        assertThat(valueStore.getSnapshot().getCompleteRow(rowReference)).isEmpty();
+    }
+
     @Test
     public void watchEventUpdatesWatchableTables() {
         assertThat(valueStore.getSnapshot().isWatched(TABLE)).isFalse();
@@ -165,6 +190,26 @@ public final class ValueStoreImplTest {
         assertThat(((ValueCacheSnapshotImpl) valueStore.getSnapshot()).values()).hasSize(2);
     }
 
+    @Test
+    public void valuesAndCompleteRowsShareMaxSize() {
+        // each of these weighs just under 150 bytes with overhead, so only two of the three fit
+        valueStore = new ValueStoreImpl(ImmutableSet.of(TABLE), 300, metrics);
+        verify(metrics).setMaximumCacheSize(300);
+
+        valueStore.applyEvent(WATCH_EVENTS);
+        valueStore.putValue(TABLE_CELL, VALUE_1);
+        valueStore.putValue(CellReference.of(TABLE, CELL_2), VALUE_2);
+        valueStore.putCompleteRow(
+                TableRowReference.of(TABLE, createBytes(4)),
+                CompleteRow.of(ImmutableSortedMap.<byte[], byte[]>orderedBy(UnsignedBytes.lexicographicalComparator())
+                        .put(createBytes(5), createBytes(6))
+                        .buildOrThrow()));
+        verify(metrics).decreaseCacheSize(anyLong());
+
+        ValueCacheSnapshotImpl snapshot = (ValueCacheSnapshotImpl) valueStore.getSnapshot();
+        assertThat(snapshot.values().size() + snapshot.completeRows().size()).isEqualTo(2);
+    }
+
     @Test
     public void lockedValuesDoNotCountToCacheSize() {
         valueStore = new ValueStoreImpl(ImmutableSet.of(TABLE), 300, metrics);
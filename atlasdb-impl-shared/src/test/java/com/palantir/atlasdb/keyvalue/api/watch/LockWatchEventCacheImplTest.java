@@ -48,7 +48,13 @@ import com.palantir.lock.watch.TransactionUpdate;
 import com.palantir.lock.watch.TransactionsLockWatchUpdate;
 import com.palantir.lock.watch.UnlockEvent;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -335,4 +341,34 @@ public final class LockWatchEventCacheImplTest {
         verify(eventLog, atLeastOnce()).retentionEvents(any());
         verify(eventLog, atMost(50)).retentionEvents(any());
     }
+
+    @Test
+    public void concurrentUpdatesAreAllApplied() throws InterruptedException {
+        eventCache.processStartTransactionsUpdate(ImmutableSet.of(TIMESTAMP_1), SNAPSHOT_VERSION_1);
+        LockWatchStateUpdate noNewEvents = LockWatchStateUpdate.success(INITIAL_LEADER, SEQUENCE_1, ImmutableList.of());
+        int numThreads = 8;
+        int timestampsPerThread = 100;
+
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            for (int thread = 0; thread < numThreads; thread++) {
+                long firstTimestamp = 1_000L + (long) thread * timestampsPerThread;
+                executor.execute(() -> LongStream.range(firstTimestamp, firstTimestamp + timestampsPerThread)
+                        .forEach(timestamp ->
+                                eventCache.processStartTransactionsUpdate(ImmutableSet.of(timestamp), noNewEvents)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        Set<Long> startTimestamps = LongStream.range(1_000L, 1_000L + numThreads * timestampsPerThread)
+                .boxed()
+                .collect(Collectors.toSet());
+        assertThat(eventCache
+                        .getUpdateForTransactions(startTimestamps, Optional.of(VERSION_1))
+                        .startTsToSequence())
+                .containsOnlyKeys(startTimestamps)
+                .allSatisfy((_timestamp, version) -> assertThat(version).isEqualTo(VERSION_1));
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.sweep.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.atlasdb.autobatch.BatchElement;
+import com.palantir.atlasdb.autobatch.DisruptorAutobatcher.DisruptorFuture;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.After;
+import org.junit.Test;
+
+public class CoalescingSweepQueueWriterTest {
+    private static final TableReference TABLE = TableReference.createWithEmptyNamespace("table");
+    private static final WriteInfo WRITE_1 = write("row1", 100L);
+    private static final WriteInfo WRITE_2 = write("row2", 200L);
+    private static final WriteInfo WRITE_3 = write("row3", 300L);
+
+    private final MultiTableSweepQueueWriter delegate = mock(MultiTableSweepQueueWriter.class);
+    private final MultiTableSweepQueueWriter writer = CoalescingSweepQueueWriter.create(delegate);
+
+    @After
+    public void tearDown() {
+        writer.close();
+    }
+
+    @Test
+    public void enqueuePersistsWritesThroughDelegate() {
+        writer.enqueue(ImmutableList.of(WRITE_1, WRITE_2));
+        verify(delegate).enqueue(ImmutableList.of(WRITE_1, WRITE_2));
+    }
+
+    @Test
+    public void emptyWritesAreNotPassedToDelegate() {
+        writer.enqueue(ImmutableList.of());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    public void concurrentRequestsAreMergedIntoSingleDelegateCall() {
+        BatchElement<List<WriteInfo>, Void> first = element(ImmutableList.of(WRITE_1));
+        BatchElement<List<WriteInfo>, Void> second = element(ImmutableList.of(WRITE_2, WRITE_3));
+
+        CoalescingSweepQueueWriter.processBatch(delegate, ImmutableList.of(first, second));
+
+        verify(delegate).enqueue(ImmutableList.of(WRITE_1, WRITE_2, WRITE_3));
+        assertThat(first.result()).isDone();
+        assertThat(second.result()).isDone();
+    }
+
+    @Test
+    public void failedMergedWriteIsRetriedPerRequestAndOnlyFailsOffendingRequest() throws Exception {
+        RuntimeException exception = new RuntimeException("too many writes");
+        doThrow(exception).when(delegate).enqueue(ImmutableList.of(WRITE_1, WRITE_2, WRITE_3));
+        doThrow(exception).when(delegate).enqueue(ImmutableList.of(WRITE_2, WRITE_3));
+        BatchElement<List<WriteInfo>, Void> first = element(ImmutableList.of(WRITE_1));
+        BatchElement<List<WriteInfo>, Void> second = element(ImmutableList.of(WRITE_2, WRITE_3));
+
+        CoalescingSweepQueueWriter.processBatch(delegate, ImmutableList.of(first, second));
+
+        verify(delegate).enqueue(ImmutableList.of(WRITE_1));
+        assertThat(first.result().get()).isNull();
+        assertThatThrownBy(() -> second.result().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(exception);
+    }
+
+    @Test
+    public void failureIsPropagatedToCaller() {
+        RuntimeException exception = new RuntimeException("boo");
+        doThrow(exception).when(delegate).enqueue(any());
+
+        assertThatThrownBy(() -> writer.enqueue(ImmutableList.of(WRITE_1))).hasMessageContaining("boo");
+    }
+
+    @Test
+    public void closeClosesDelegate() {
+        writer.close();
+        verify(delegate).close();
+    }
+
+    private static BatchElement<List<WriteInfo>, Void> element(List<WriteInfo> writes) {
+        return BatchElement.of(writes, new DisruptorFuture<>("test"));
+    }
+
+    private static WriteInfo write(String row, long timestamp) {
+        return WriteInfo.write(TABLE, Cell.create(PtBytes.toBytes(row), PtBytes.toBytes("col")), timestamp);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.transaction.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.lock.v2.LockImmutableTimestampResponse;
+import com.palantir.lock.v2.LockToken;
+import com.palantir.lock.v2.StartIdentifiedAtlasDbTransactionResponse;
+import com.palantir.lock.v2.TimestampAndPartition;
+import com.palantir.common.concurrent.PTExecutors;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.After;
+import org.junit.Test;
+
+public class BoundedStalenessSnapshotCacheTest {
+    private static final Duration MAX_STALENESS = Duration.ofMillis(500);
+
+    private final List<LockToken> unlocked = new CopyOnWriteArrayList<>();
+    private final AtomicInteger transactionsStarted = new AtomicInteger();
+    private final ExecutorService executor = PTExecutors.newCachedThreadPool();
+    private volatile long nowNanos = 0;
+    private volatile Supplier<StartIdentifiedAtlasDbTransactionResponse> transactionStarter = this::startTransaction;
+
+    private final BoundedStalenessSnapshotCache cache = new BoundedStalenessSnapshotCache(
+            () -> transactionStarter.get(), unlocked::add, () -> nowNanos);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void sharesSnapshotWithinStalenessBound() {
+        BoundedStalenessSnapshotCache.Snapshot first = cache.acquire(MAX_STALENESS);
+        nowNanos += MAX_STALENESS.toNanos();
+        BoundedStalenessSnapshotCache.Snapshot second = cache.acquire(MAX_STALENESS);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.startTimestamp()).isEqualTo(100L);
+    }
+
+    @Test
+    public void startsNewSnapshotOnceCurrentIsTooStale() {
+        BoundedStalenessSnapshotCache.Snapshot first = cache.acquire(MAX_STALENESS);
+        nowNanos += MAX_STALENESS.toNanos() + 1;
+        BoundedStalenessSnapshotCache.Snapshot second = cache.acquire(MAX_STALENESS);
+
+        assertThat(second.startTimestamp()).isGreaterThan(first.startTimestamp());
+        assertThat(cache.acquire(Duration.ofDays(1))).isSameAs(second);
+    }
+
+    @Test
+    public void releasesLockOnlyOnceReplacedAndNoLongerRead() {
+        BoundedStalenessSnapshotCache.Snapshot first = cache.acquire(MAX_STALENESS);
+        first.release();
+        assertThat(unlocked).isEmpty();
+
+        BoundedStalenessSnapshotCache.Snapshot reader = cache.acquire(MAX_STALENESS);
+        nowNanos += MAX_STALENESS.toNanos() + 1;
+        cache.acquire(MAX_STALENESS);
+        assertThat(unlocked).isEmpty();
+
+        reader.release();
+        assertThat(unlocked).containsExactly(first.immutableTimestampLock());
+    }
+
+    @Test
+    public void releasesCurrentSnapshotAndRejectsAcquisitionOnClose() {
+        BoundedStalenessSnapshotCache.Snapshot snapshot = cache.acquire(MAX_STALENESS);
+        snapshot.release();
+
+        cache.close();
+        assertThat(unlocked).containsExactly(snapshot.immutableTimestampLock());
+        assertThatThrownBy(() -> cache.acquire(MAX_STALENESS)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void rejectsNegativeStaleness() {
+        assertThatThrownBy(() -> cache.acquire(Duration.ofMillis(-1))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void capsLargeStaleness() {
+        BoundedStalenessSnapshotCache.Snapshot first = cache.acquire(Duration.ofDays(1));
+        nowNanos += BoundedStalenessSnapshotCache.MAX_STALENESS.toNanos() + 1;
+
+        assertThat(cache.acquire(Duration.ofDays(1)).startTimestamp()).isGreaterThan(first.startTimestamp());
+    }
+
+    @Test
+    public void invalidatedSnapshotIsNotHandedOutAgain() {
+        BoundedStalenessSnapshotCache.Snapshot first = cache.acquire(MAX_STALENESS);
+        cache.invalidate(first);
+        assertThat(unlocked).isEmpty();
+
+        BoundedStalenessSnapshotCache.Snapshot second = cache.acquire(MAX_STALENESS);
+        assertThat(second.startTimestamp()).isGreaterThan(first.startTimestamp());
+
+        first.release();
+        assertThat(unlocked).containsExactly(first.immutableTimestampLock());
+    }
+
+    @Test
+    public void freshEnoughCallersDoNotWaitForRefresh() throws Exception {
+        BoundedStalenessSnapshotCache.Snapshot first = cache.acquire(MAX_STALENESS);
+        nowNanos += MAX_STALENESS.toNanos() + 1;
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch finishRefresh = new CountDownLatch(1);
+        transactionStarter = blockingStarter(refreshStarted, finishRefresh);
+
+        Future<BoundedStalenessSnapshotCache.Snapshot> refreshing = executor.submit(() -> cache.acquire(MAX_STALENESS));
+        assertThat(refreshStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(cache.acquire(Duration.ofMinutes(1))).isSameAs(first);
+        finishRefresh.countDown();
+        assertThat(refreshing.get(10, TimeUnit.SECONDS).startTimestamp()).isGreaterThan(first.startTimestamp());
+    }
+
+    @Test
+    public void concurrentStaleCallersShareOneRefresh() throws Exception {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch finishRefresh = new CountDownLatch(1);
+        transactionStarter = blockingStarter(refreshStarted, finishRefresh);
+
+        Future<BoundedStalenessSnapshotCache.Snapshot> first = executor.submit(() -> cache.acquire(MAX_STALENESS));
+        assertThat(refreshStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        Future<BoundedStalenessSnapshotCache.Snapshot> second = executor.submit(() -> cache.acquire(MAX_STALENESS));
+        finishRefresh.countDown();
+
+        assertThat(second.get(10, TimeUnit.SECONDS)).isSameAs(first.get(10, TimeUnit.SECONDS));
+        assertThat(transactionsStarted).hasValue(1);
+    }
+
+    private Supplier<StartIdentifiedAtlasDbTransactionResponse> blockingStarter(
+            CountDownLatch refreshStarted, CountDownLatch finishRefresh) {
+        return () -> {
+            refreshStarted.countDown();
+            try {
+                finishRefresh.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            return startTransaction();
+        };
+    }
+
+    private StartIdentifiedAtlasDbTransactionResponse startTransaction() {
+        long timestamp = 100 + transactionsStarted.getAndIncrement();
+        return StartIdentifiedAtlasDbTransactionResponse.of(
+                LockImmutableTimestampResponse.of(timestamp - 10, LockToken.of(UUID.randomUUID())),
+                TimestampAndPartition.of(timestamp, 0));
+    }
+}
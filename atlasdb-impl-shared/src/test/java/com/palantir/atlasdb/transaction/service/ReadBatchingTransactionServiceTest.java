@@ -0,0 +1,195 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Bytes;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.palantir.atlasdb.autobatch.BatchElement;
+import com.palantir.atlasdb.autobatch.BatchSizeRecorder;
+import com.palantir.atlasdb.autobatch.DisruptorAutobatcher.DisruptorFuture;
+import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.atlasdb.transaction.encoding.TicketsEncodingStrategy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class ReadBatchingTransactionServiceTest {
+    private static final TicketsEncodingStrategy ENCODING_STRATEGY = TicketsEncodingStrategy.INSTANCE;
+    private static final BatchSizeRecorder RECORDER = BatchSizeRecorder.create("test", ImmutableMap.of());
+
+    private final EncodingTransactionService mockTransactionService = mock(EncodingTransactionService.class);
+    private final ReadBatchingTransactionService readBatchingTransactionService =
+            ReadBatchingTransactionService.create(mockTransactionService);
+
+    @Before
+    public void setUp() {
+        when(mockTransactionService.getCellEncodingStrategy()).thenReturn(ENCODING_STRATEGY);
+        when(mockTransactionService.getAsyncV2(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Long> timestamps = invocation.getArgument(0);
+            return Futures.immediateFuture(committedOneAfter(timestamps));
+        });
+    }
+
+    @After
+    public void tearDown() {
+        readBatchingTransactionService.close();
+    }
+
+    @Test
+    public void getsValuesFromUnderlyingViaBatch() {
+        assertThat(readBatchingTransactionService.getV2(5L)).isEqualTo(TransactionStatus.committed(6L));
+        verify(mockTransactionService).getAsyncV2(ImmutableList.of(5L));
+    }
+
+    @Test
+    public void multiGetReturnsStatusForEachTimestamp() {
+        assertThat(readBatchingTransactionService.getV2(ImmutableList.of(1L, 2L, 3L)))
+                .containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(
+                        1L, TransactionStatus.committed(2L),
+                        2L, TransactionStatus.committed(3L),
+                        3L, TransactionStatus.committed(4L)));
+    }
+
+    @Test
+    public void readsFewRowsInSingleRequest() {
+        Map<Long, ListenableFuture<TransactionStatus>> result = ReadBatchingTransactionService.processBatch(
+                mockTransactionService, ImmutableSet.of(7L, 8L), RECORDER, RECORDER);
+
+        assertThat(AtlasFutures.getUnchecked(result.get(7L))).isEqualTo(TransactionStatus.committed(8L));
+        assertThat(AtlasFutures.getUnchecked(result.get(8L))).isEqualTo(TransactionStatus.committed(9L));
+        verify(mockTransactionService, times(1)).getAsyncV2(anyIterable());
+    }
+
+    @Test
+    public void splitsReadsByRowBatches() {
+        int numRows = ReadBatchingTransactionService.MAX_ROWS_PER_READ * 2 + 1;
+        Set<Long> startTimestamps = LongStream.range(0, numRows)
+                .map(index -> index * TicketsEncodingStrategy.PARTITIONING_QUANTUM)
+                .boxed()
+                .collect(Collectors.toSet());
+
+        Map<Long, ListenableFuture<TransactionStatus>> result = ReadBatchingTransactionService.processBatch(
+                mockTransactionService, startTimestamps, RECORDER, RECORDER);
+
+        assertThat(result).containsOnlyKeys(startTimestamps);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<Long>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(mockTransactionService, times(3)).getAsyncV2(captor.capture());
+        verify(mockTransactionService, atLeastOnce()).getCellEncodingStrategy();
+
+        List<Iterable<Long>> requests = captor.getAllValues();
+        assertThat(requests)
+                .allSatisfy(request -> assertThat(rowsCovered(request))
+                        .isLessThanOrEqualTo(ReadBatchingTransactionService.MAX_ROWS_PER_READ));
+        assertThat(requests.stream()
+                        .flatMap(request -> ImmutableList.copyOf(request).stream())
+                        .collect(Collectors.toSet()))
+                .isEqualTo(startTimestamps);
+    }
+
+    @Test
+    public void callerBatchesAreDeduplicatedAndEachCallerGetsItsOwnTimestamps() {
+        DisruptorFuture<Map<Long, TransactionStatus>> first = new DisruptorFuture<>("test");
+        DisruptorFuture<Map<Long, TransactionStatus>> second = new DisruptorFuture<>("test");
+        ReadBatchingTransactionService.processCallerBatches(
+                mockTransactionService,
+                ImmutableList.of(
+                        BatchElement.of(ImmutableSet.of(1L, 2L), first),
+                        BatchElement.of(ImmutableSet.of(2L, 3L), second)),
+                RECORDER,
+                RECORDER);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<Long>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(mockTransactionService).getAsyncV2(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        assertThat(AtlasFutures.getUnchecked(AtlasFutures.getUnchecked(first)))
+                .containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(
+                        1L, TransactionStatus.committed(2L), 2L, TransactionStatus.committed(3L)));
+        assertThat(AtlasFutures.getUnchecked(AtlasFutures.getUnchecked(second)))
+                .containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(
+                        2L, TransactionStatus.committed(3L), 3L, TransactionStatus.committed(4L)));
+    }
+
+    @Test
+    public void concurrentReadersAreDeduplicated() throws InterruptedException {
+        int numReaders = 16;
+        CountDownLatch firstReadStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRead = new CountDownLatch(1);
+        AtomicInteger delegateCalls = new AtomicInteger();
+        when(mockTransactionService.getAsyncV2(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Long> timestamps = invocation.getArgument(0);
+            if (delegateCalls.getAndIncrement() == 0) {
+                // Hold up the autobatcher so that all other readers are enqueued into the same batch.
+                firstReadStarted.countDown();
+                releaseFirstRead.await();
+            }
+            return Futures.immediateFuture(committedOneAfter(timestamps));
+        });
+
+        ListenableFuture<TransactionStatus> blockingRead = readBatchingTransactionService.getAsyncV2(100L);
+        firstReadStarted.await();
+        List<ListenableFuture<Map<Long, TransactionStatus>>> reads = IntStream.range(0, numReaders)
+                .mapToObj(_index -> readBatchingTransactionService.getAsyncV2(ImmutableList.of(1L, 2L, 3L)))
+                .collect(Collectors.toList());
+        releaseFirstRead.countDown();
+
+        assertThat(AtlasFutures.getUnchecked(blockingRead)).isEqualTo(TransactionStatus.committed(101L));
+        for (ListenableFuture<Map<Long, TransactionStatus>> read : reads) {
+            assertThat(AtlasFutures.getUnchecked(read)).containsOnlyKeys(1L, 2L, 3L);
+        }
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<Long>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(mockTransactionService, times(2)).getAsyncV2(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    private static long rowsCovered(Iterable<Long> timestamps) {
+        return ImmutableList.copyOf(timestamps).stream()
+                .map(ENCODING_STRATEGY::encodeStartTimestampAsCell)
+                .map(cell -> Bytes.asList(cell.getRowName()))
+                .distinct()
+                .count();
+    }
+
+    private static Map<Long, TransactionStatus> committedOneAfter(Iterable<Long> timestamps) {
+        return ImmutableList.copyOf(timestamps).stream()
+                .collect(Collectors.toMap(ts -> ts, ts -> TransactionStatus.committed(ts + 1)));
+    }
+}
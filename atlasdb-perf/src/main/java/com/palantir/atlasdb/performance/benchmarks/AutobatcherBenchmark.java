@@ -0,0 +1,97 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.palantir.atlasdb.autobatch.Autobatchers;
+import com.palantir.atlasdb.autobatch.Autobatchers.AutobatcherBuilder;
+import com.palantir.atlasdb.autobatch.BatchElement;
+import com.palantir.atlasdb.autobatch.DisruptorAutobatcher;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default single-flight autobatcher against one allowing several batches in flight, with a batch
+ * function that simulates an RPC whose latency grows slowly with the size of the batch.
+ */
+@Measurement(iterations = 10, time = 2)
+@Warmup(iterations = 6, time = 1)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AutobatcherBenchmark {
+    private static final Duration BASE_RPC_LATENCY = Duration.ofMillis(2);
+    private static final long PER_ELEMENT_RPC_LATENCY_NANOS = 2_000;
+
+    /**
+     * Zero means the autobatcher is built without {@code maxInFlightBatches}, i.e. with the single-flight behaviour.
+     */
+    @Param({"0", "2", "4", "8"})
+    public int maxInFlightBatches;
+
+    private DisruptorAutobatcher<Long, Long> autobatcher;
+
+    @Setup
+    public void setUp() {
+        AutobatcherBuilder<Long, Long> builder = Autobatchers.<Long, Long>independent(
+                        AutobatcherBenchmark::simulateRpc)
+                .safeLoggablePurpose("autobatcher-benchmark");
+        if (maxInFlightBatches > 0) {
+            builder.maxInFlightBatches(maxInFlightBatches);
+        }
+        autobatcher = builder.build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        autobatcher.close();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Long fewProducers() {
+        return Futures.getUnchecked(autobatcher.apply(1L));
+    }
+
+    @Benchmark
+    @Threads(256)
+    public Long manyProducers() {
+        return Futures.getUnchecked(autobatcher.apply(1L));
+    }
+
+    private static void simulateRpc(List<BatchElement<Long, Long>> batch) {
+        Uninterruptibles.sleepUninterruptibly(
+                BASE_RPC_LATENCY.plusNanos(PER_ELEMENT_RPC_LATENCY_NANOS * batch.size()));
+        batch.forEach(element -> element.result().set(element.argument()));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.palantir.atlasdb.autobatch.AutobatcherWaitStrategy;
+import com.palantir.atlasdb.autobatch.Autobatchers;
+import com.palantir.atlasdb.autobatch.BatchElement;
+import com.palantir.atlasdb.autobatch.DisruptorAutobatcher;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares autobatcher wait strategies under different numbers of producers. The batch function is cheap, so the
+ * results are dominated by the cost of handing elements to the batching thread and waking it up.
+ *
+ * Throughput alone flatters the spinning strategies; compare CPU usage of the benchmark process as well.
+ */
+@Measurement(iterations = 10, time = 2)
+@Warmup(iterations = 6, time = 1)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AutobatcherWaitStrategyBenchmark {
+    private static final int PRODUCER_THINK_TIME_TOKENS = 1_000;
+
+    @Param({"BLOCKING", "PHASED_BACKOFF", "SLEEPING", "YIELDING", "BUSY_SPIN"})
+    public AutobatcherWaitStrategy waitStrategy;
+
+    private DisruptorAutobatcher<Long, Long> autobatcher;
+
+    @Setup
+    public void setUp() {
+        autobatcher = Autobatchers.<Long, Long>independent(AutobatcherWaitStrategyBenchmark::echo)
+                .safeLoggablePurpose("autobatcher-wait-strategy-benchmark")
+                .waitStrategy(() -> waitStrategy)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        autobatcher.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Long singleProducer() {
+        return requestWithThinkTime();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long fewProducers() {
+        return requestWithThinkTime();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Long manyProducers() {
+        return requestWithThinkTime();
+    }
+
+    private Long requestWithThinkTime() {
+        Blackhole.consumeCPU(PRODUCER_THINK_TIME_TOKENS);
+        return Futures.getUnchecked(autobatcher.apply(1L));
+    }
+
+    private static void echo(List<BatchElement<Long, Long>> batch) {
+        batch.forEach(element -> element.result().set(element.argument()));
+    }
+}
@@ -25,6 +25,7 @@ import com.palantir.common.concurrent.PTExecutors;
 import com.palantir.leader.LeaderElectionService;
 import com.palantir.leader.LeaderElectionService.LeadershipToken;
 import com.palantir.leader.proxy.AwaitingLeadershipProxy;
+import com.palantir.leader.proxy.AwaitingLeadershipProxy.DelegateDispatch;
 import com.palantir.leader.proxy.LeadershipCoordinator;
 import java.util.ArrayList;
 import java.util.List;
@@ -38,7 +39,9 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
@@ -50,12 +53,22 @@ import org.openjdk.jmh.annotations.Warmup;
 @BenchmarkMode(Mode.Throughput)
 @OutputTimeUnit(TimeUnit.SECONDS)
 public class AwaitingLeadershipProxyBenchmark {
-    private final LeaderAwareService service = AwaitingLeadershipProxy.newProxyInstance(
-            LeaderAwareService.class,
-            () -> LeaderAwareImpl.INSTANCE,
-            LeadershipCoordinator.create(FakeLeaderElectionService.INSTANCE));
     private static final int ASYNC_ITERATIONS = 1000;
 
+    @Param({"REFLECTION", "METHOD_HANDLES"})
+    public DelegateDispatch dispatch;
+
+    private LeaderAwareService service;
+
+    @Setup
+    public void setUp() {
+        service = AwaitingLeadershipProxy.newProxyInstance(
+                LeaderAwareService.class,
+                () -> LeaderAwareImpl.INSTANCE,
+                LeadershipCoordinator.create(FakeLeaderElectionService.INSTANCE),
+                dispatch);
+    }
+
     @Benchmark
     @Threads(256)
     public int benchmarkBlocking() {
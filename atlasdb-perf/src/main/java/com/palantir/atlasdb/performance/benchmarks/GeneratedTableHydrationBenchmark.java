@@ -0,0 +1,133 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.primitives.UnsignedBytes;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
+import com.palantir.atlasdb.performance.schema.generated.WideRowTable;
+import com.palantir.atlasdb.performance.schema.generated.WideRowTable.WideRowRow;
+import com.palantir.atlasdb.performance.schema.generated.WideRowTable.WideRowRowResult;
+import com.palantir.atlasdb.table.generation.NamedColumnValue;
+import com.palantir.common.persist.Persistable.Hydrator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of turning raw row results into typed values for a generated table with a JSON column and a
+ * primitive column. No key value service is involved; the rows are read from memory, so the results isolate
+ * decompression and hydration.
+ *
+ * {@link #hydrateAllColumnsEagerly} hydrates every column that was read; the other benchmarks go through the generated
+ * row result, which only hydrates the columns that are accessed and caches immutable values such as the counter.
+ */
+@Measurement(iterations = 10, time = 2)
+@Warmup(iterations = 6, time = 1)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GeneratedTableHydrationBenchmark {
+    private static final int NUM_ROWS = 100;
+    private static final int REPEATED_READS = 4;
+
+    private static final Map<String, Hydrator<? extends NamedColumnValue<?>>> HYDRATORS = ImmutableMap.of(
+            "c", WideRowTable.Counter.BYTES_HYDRATOR,
+            "d", WideRowTable.Document.BYTES_HYDRATOR);
+
+    @Param({"10", "1000"})
+    public int jsonFields;
+
+    private List<RowResult<byte[]>> rawRows;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper();
+        rawRows = new ArrayList<>(NUM_ROWS);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            ObjectNode json = mapper.createObjectNode();
+            ArrayNode entries = json.putArray("entries");
+            for (int field = 0; field < jsonFields; field++) {
+                entries.add("entry-" + i + "-" + field);
+            }
+
+            rawRows.add(RowResult.create(
+                    WideRowRow.of("row-" + i).persistToBytes(),
+                    ImmutableSortedMap.<byte[], byte[]>orderedBy(UnsignedBytes.lexicographicalComparator())
+                            .put(PtBytes.toBytes("c"), WideRowTable.Counter.of((long) i).persistValue())
+                            .put(PtBytes.toBytes("d"), WideRowTable.Document.of(json).persistValue())
+                            .build()));
+        }
+    }
+
+    @Benchmark
+    public void hydrateAllColumnsEagerly(Blackhole blackhole) {
+        for (RowResult<byte[]> row : rawRows) {
+            blackhole.consume(WideRowRow.BYTES_HYDRATOR.hydrateFromBytes(row.getRowName()));
+            for (Map.Entry<byte[], byte[]> column : row.getColumns().entrySet()) {
+                Hydrator<? extends NamedColumnValue<?>> hydrator = HYDRATORS.get(PtBytes.toString(column.getKey()));
+                blackhole.consume(hydrator.hydrateFromBytes(column.getValue()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void readSingleColumnLazily(Blackhole blackhole) {
+        for (RowResult<byte[]> row : rawRows) {
+            blackhole.consume(WideRowRowResult.of(row).getCounter());
+        }
+    }
+
+    @Benchmark
+    public void readAllColumnsLazily(Blackhole blackhole) {
+        for (RowResult<byte[]> row : rawRows) {
+            WideRowRowResult rowResult = WideRowRowResult.of(row);
+            blackhole.consume(rowResult.getRowName());
+            blackhole.consume(rowResult.getCounter());
+            blackhole.consume(rowResult.getDocument());
+        }
+    }
+
+    @Benchmark
+    public void readSameColumnRepeatedly(Blackhole blackhole) {
+        for (RowResult<byte[]> row : rawRows) {
+            WideRowRowResult rowResult = WideRowRowResult.of(row);
+            for (int i = 0; i < REPEATED_READS; i++) {
+                blackhole.consume(rowResult.getCounter());
+            }
+        }
+    }
+}
@@ -16,10 +16,13 @@
 package com.palantir.atlasdb.performance.benchmarks;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
 import com.palantir.atlasdb.keyvalue.api.Value;
 import com.palantir.atlasdb.performance.benchmarks.table.ConsecutiveNarrowTable;
+import com.palantir.atlasdb.performance.benchmarks.table.DirtyModeratelyWideRowTable;
+import com.palantir.atlasdb.performance.benchmarks.table.Tables;
 import java.util.Map;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
@@ -44,4 +47,27 @@ public class KvsGetRowsBenchmarks {
                 result.size());
         return result;
     }
+
+    /**
+     * Reads a single wide row in which a tenth of the columns also have an older version, which must be skipped while
+     * extracting results.
+     */
+    @Benchmark
+    @Threads(1)
+    @Warmup(time = 5)
+    @Measurement(time = 40)
+    public Object getDirtyWideRowWithGetRows(DirtyModeratelyWideRowTable table) {
+        Map<Cell, Value> result = table.getKvs()
+                .getRows(
+                        table.getTableRef(),
+                        ImmutableList.of(Tables.ROW_BYTES.array()),
+                        ColumnSelection.all(),
+                        Long.MAX_VALUE);
+        Preconditions.checkState(
+                result.size() == table.getNumCols(),
+                "Should be %s cells, but were: %s",
+                table.getNumCols(),
+                result.size());
+        return result;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package com.palantir.atlasdb.performance.benchmarks;
 
+import com.google.common.util.concurrent.Futures;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.KeyAlreadyExistsException;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
@@ -73,6 +74,22 @@ public class KvsPutBenchmarks {
         return multiPutMap;
     }
 
+    /**
+     * On Cassandra, this only differs from {@link #batchRandomMultiPut} when {@code useCqlForAsyncWrites} is enabled
+     * in the runtime config, in which case the writes go through CQL rather than Thrift.
+     */
+    @Benchmark
+    @Threads(1)
+    @Warmup(time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(time = 25, timeUnit = TimeUnit.SECONDS)
+    public Object batchRandomMultiPutAsync(EmptyTables tables) {
+        Map<TableReference, Map<Cell, byte[]>> multiPutMap = new HashMap<>();
+        multiPutMap.put(tables.getFirstTableRef(), tables.generateBatchToInsert(BATCH_SIZE));
+        multiPutMap.put(tables.getSecondTableRef(), tables.generateBatchToInsert(BATCH_SIZE));
+        Futures.getUnchecked(tables.getKvs().multiPutAsync(multiPutMap, DUMMY_TIMESTAMP));
+        return multiPutMap;
+    }
+
     @Benchmark
     @Threads(1)
     @Warmup(time = 2, timeUnit = TimeUnit.SECONDS)
@@ -0,0 +1,114 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.cache.CacheMetrics;
+import com.palantir.atlasdb.keyvalue.api.cache.LockWatchValueScopingCacheImpl;
+import com.palantir.atlasdb.keyvalue.api.watch.LockWatchEventCacheImpl;
+import com.palantir.atlasdb.util.MetricsManagers;
+import com.palantir.lock.v2.LockToken;
+import com.palantir.lock.watch.LockWatchCache;
+import com.palantir.lock.watch.LockWatchCacheImpl;
+import com.palantir.lock.watch.LockWatchEventCache;
+import com.palantir.lock.watch.LockWatchReferences;
+import com.palantir.lock.watch.LockWatchStateUpdate;
+import com.palantir.lock.watch.TransactionUpdate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the client-side lock watch bookkeeping done for each transaction when lock watches and
+ * value caching are enabled, i.e. processing the start and commit timestamp updates and removing the transaction's
+ * state once it has committed, without any calls to TimeLock.
+ */
+@Measurement(iterations = 10, time = 2)
+@Warmup(iterations = 6, time = 1)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LockWatchCacheBenchmark {
+    private static final UUID LEADER = UUID.randomUUID();
+    private static final TableReference TABLE = TableReference.createFromFullyQualifiedName("benchmark.table");
+    private static final long VERSION = 0L;
+    private static final LockWatchStateUpdate NO_NEW_EVENTS =
+            LockWatchStateUpdate.success(LEADER, VERSION, ImmutableList.of());
+
+    private final AtomicLong timestamps = new AtomicLong(1L);
+    private LockWatchCache lockWatchCache;
+
+    @Setup
+    public void setUp() {
+        CacheMetrics metrics = CacheMetrics.create(MetricsManagers.createForTests());
+        LockWatchEventCache eventCache = LockWatchEventCacheImpl.create(metrics, 10_000);
+        lockWatchCache = new LockWatchCacheImpl(
+                eventCache,
+                LockWatchValueScopingCacheImpl.create(
+                        eventCache, metrics, 100_000, 0.0, false, false, 1_000, ImmutableSet.of(TABLE)));
+
+        long startTimestamp = timestamps.getAndAdd(2);
+        lockWatchCache.processStartTransactionsUpdate(
+                ImmutableSet.of(startTimestamp),
+                LockWatchStateUpdate.snapshot(
+                        LEADER,
+                        VERSION,
+                        ImmutableSet.of(),
+                        ImmutableSet.of(LockWatchReferences.entireTable(TABLE.getQualifiedName()))));
+        lockWatchCache.removeTransactionStateFromCache(startTimestamp);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long singleThread() {
+        return runTransaction();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long manyThreads() {
+        return runTransaction();
+    }
+
+    private long runTransaction() {
+        long startTimestamp = timestamps.getAndAdd(2);
+        lockWatchCache.processStartTransactionsUpdate(ImmutableSet.of(startTimestamp), NO_NEW_EVENTS);
+        lockWatchCache.processCommitTimestampsUpdate(
+                ImmutableList.of(TransactionUpdate.builder()
+                        .startTs(startTimestamp)
+                        .commitTs(startTimestamp + 1)
+                        .writesToken(LockToken.of(UUID.randomUUID()))
+                        .build()),
+                NO_NEW_EVENTS);
+        lockWatchCache.onTransactionCommit(startTimestamp);
+        return startTimestamp;
+    }
+}
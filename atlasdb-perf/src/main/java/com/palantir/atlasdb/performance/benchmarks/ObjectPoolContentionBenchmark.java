@@ -0,0 +1,164 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.palantir.atlasdb.keyvalue.cassandra.pool.InstrumentedGenericObjectPool;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.InstrumentedObjectPool;
+import com.palantir.atlasdb.keyvalue.cassandra.pool.LockFreeObjectPool;
+import com.palantir.common.concurrent.PTExecutors;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures contention on the per-host Cassandra connection pool, configured as in
+ * {@code CassandraClientPoolingContainer} with default settings, when many threads borrow and return pooled objects
+ * while holding each only briefly.
+ */
+@Measurement(iterations = 10, time = 2)
+@Warmup(iterations = 6, time = 1)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ObjectPoolContentionBenchmark {
+    private static final int MIN_IDLE = 30;
+    private static final int MAX_TOTAL = 100;
+    private static final Duration TIME_BETWEEN_EVICTION_RUNS = Duration.ofSeconds(20);
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    @Param({"GENERIC", "LOCK_FREE"})
+    public PoolType poolType;
+
+    /**
+     * Amount of work, in JMH tokens, done while holding a pooled object.
+     */
+    @Param({"0", "100"})
+    public long tokensWhileBorrowed;
+
+    private ScheduledExecutorService evictionExecutor;
+    private InstrumentedObjectPool<Object> pool;
+
+    @Setup
+    public void setUp() throws Exception {
+        evictionExecutor = PTExecutors.newSingleThreadScheduledExecutor();
+        pool = poolType.create(evictionExecutor);
+        for (int idle = 0; idle < MIN_IDLE; idle++) {
+            pool.addObject();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.close();
+        evictionExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object fewThreads() throws Exception {
+        return borrowAndReturn();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object manyThreads() throws Exception {
+        return borrowAndReturn();
+    }
+
+    private Object borrowAndReturn() throws Exception {
+        Object object = pool.borrowObject();
+        try {
+            Blackhole.consumeCPU(tokensWhileBorrowed);
+            return object;
+        } finally {
+            pool.returnObject(object);
+        }
+    }
+
+    public enum PoolType {
+        GENERIC {
+            @Override
+            InstrumentedObjectPool<Object> create(ScheduledExecutorService evictionExecutor) {
+                GenericObjectPoolConfig<Object> config = new GenericObjectPoolConfig<>();
+                config.setMinIdle(MIN_IDLE);
+                config.setMaxIdle(MAX_TOTAL);
+                config.setMaxTotal(MAX_TOTAL);
+                config.setBlockWhenExhausted(false);
+                config.setTestOnBorrow(true);
+                config.setSoftMinEvictableIdleTimeMillis(IDLE_TIMEOUT.toMillis());
+                config.setMinEvictableIdleTimeMillis(Long.MAX_VALUE);
+                config.setTimeBetweenEvictionRunsMillis(TIME_BETWEEN_EVICTION_RUNS.toMillis());
+                config.setTestWhileIdle(true);
+                config.setJmxEnabled(false);
+                return new InstrumentedGenericObjectPool<>(new TrivialFactory(), config);
+            }
+        },
+        LOCK_FREE {
+            @Override
+            InstrumentedObjectPool<Object> create(ScheduledExecutorService evictionExecutor) {
+                return new LockFreeObjectPool<>(
+                        new TrivialFactory(),
+                        LockFreeObjectPool.Settings.builder()
+                                .minIdle(MIN_IDLE)
+                                .maxTotal(MAX_TOTAL)
+                                .idleTimeout(IDLE_TIMEOUT)
+                                .timeBetweenEvictionRuns(TIME_BETWEEN_EVICTION_RUNS)
+                                .build(),
+                        evictionExecutor,
+                        evictionExecutor);
+            }
+        };
+
+        abstract InstrumentedObjectPool<Object> create(ScheduledExecutorService evictionExecutor);
+    }
+
+    private static final class TrivialFactory extends BasePooledObjectFactory<Object> {
+        @Override
+        public Object create() {
+            return new Object();
+        }
+
+        @Override
+        public PooledObject<Object> wrap(Object object) {
+            return new DefaultPooledObject<>(object);
+        }
+
+        @Override
+        public boolean validateObject(PooledObject<Object> pooledObject) {
+            return true;
+        }
+    }
+}
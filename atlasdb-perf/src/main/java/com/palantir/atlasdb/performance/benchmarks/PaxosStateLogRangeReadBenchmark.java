@@ -0,0 +1,125 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Longs;
+import com.palantir.paxos.Client;
+import com.palantir.paxos.ImmutableNamespaceAndUseCase;
+import com.palantir.paxos.PaxosRound;
+import com.palantir.paxos.PaxosStateLog;
+import com.palantir.paxos.PaxosValue;
+import com.palantir.paxos.SqliteConnections;
+import com.palantir.paxos.SqlitePaxosStateLog;
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares catching up on a contiguous range of a SQLite backed Paxos log one round at a time against reading the
+ * range in a single query. The log is restored with the shape of a TimeLock log: many namespaces, each with learner
+ * and acceptor use cases, interleaved in the same table.
+ */
+@Measurement(iterations = 10, time = 2)
+@Warmup(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PaxosStateLogRangeReadBenchmark {
+    private static final int NUM_NAMESPACES = 100;
+    private static final List<String> USE_CASES = ImmutableList.of("timestamp!learner", "timestamp!acceptor");
+    private static final int ROUNDS_PER_LOG = 5_000;
+    private static final String LEADER_UUID = "6f1d2b0e-63a4-4a4e-a8c8-0d2e1f0c7a55";
+
+    @Param({"10", "100", "1000"})
+    public int rangeSize;
+
+    private File directory;
+    private HikariDataSource dataSource;
+    private List<PaxosStateLog<PaxosValue>> logs;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("paxos-range-read-benchmark").toFile();
+        dataSource = SqliteConnections.getDefaultConfiguredPooledDataSource(directory.toPath());
+        logs = new ArrayList<>();
+        for (int namespace = 0; namespace < NUM_NAMESPACES; namespace++) {
+            for (String useCase : USE_CASES) {
+                PaxosStateLog<PaxosValue> log = SqlitePaxosStateLog.create(
+                        ImmutableNamespaceAndUseCase.of(Client.of("namespace-" + namespace), useCase), dataSource);
+                log.writeBatchOfRounds(LongStream.range(0, ROUNDS_PER_LOG)
+                        .mapToObj(seq -> PaxosRound.of(seq, new PaxosValue(LEADER_UUID, seq, Longs.toByteArray(seq))))
+                        .collect(Collectors.toList()));
+                logs.add(log);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        dataSource.close();
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public int readRoundByRound() throws IOException {
+        PaxosStateLog<PaxosValue> log = randomLog();
+        long from = randomStart();
+        int found = 0;
+        for (long seq = from; seq < from + rangeSize; seq++) {
+            if (log.readRound(seq) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int readRange() throws IOException {
+        long from = randomStart();
+        return randomLog().readRounds(from, from + rangeSize - 1).size();
+    }
+
+    private PaxosStateLog<PaxosValue> randomLog() {
+        return logs.get(ThreadLocalRandom.current().nextInt(logs.size()));
+    }
+
+    private long randomStart() {
+        return ThreadLocalRandom.current().nextLong(ROUNDS_PER_LOG - rangeSize);
+    }
+}
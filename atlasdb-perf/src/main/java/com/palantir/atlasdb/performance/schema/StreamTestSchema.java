@@ -16,6 +16,7 @@
 package com.palantir.atlasdb.performance.schema;
 
 import com.palantir.atlasdb.keyvalue.api.Namespace;
+import com.palantir.atlasdb.persister.JsonNodePersister;
 import com.palantir.atlasdb.protos.generated.TableMetadataPersistence;
 import com.palantir.atlasdb.schema.AtlasSchema;
 import com.palantir.atlasdb.schema.stream.StreamStoreDefinitionBuilder;
@@ -53,6 +54,21 @@ public final class StreamTestSchema implements AtlasSchema {
             }
         });
 
+        schema.addTableDefinition("wide_rows", new TableDefinition() {
+            {
+                javaTableName("WideRow");
+
+                rangeScanAllowed();
+
+                rowName();
+                rowComponent("key", ValueType.STRING);
+
+                columns();
+                column("counter", "c", ValueType.VAR_LONG);
+                column("document", "d", JsonNodePersister.class);
+            }
+        });
+
         schema.addStreamStoreDefinition(new StreamStoreDefinitionBuilder("blob", "Value", ValueType.VAR_LONG)
                 .inMemoryThreshold(1024 * 1024)
                 .tableNameLogSafety(TableMetadataPersistence.LogSafety.SAFE)
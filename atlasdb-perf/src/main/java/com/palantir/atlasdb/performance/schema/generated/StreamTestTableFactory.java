@@ -66,12 +66,17 @@ public final class StreamTestTableFactory {
         return ValueStreamValueTable.of(t, namespace, Triggers.getAllTriggers(t, sharedTriggers, triggers));
     }
 
+    public WideRowTable getWideRowTable(Transaction t, WideRowTable.WideRowTrigger... triggers) {
+        return WideRowTable.of(t, namespace, Triggers.getAllTriggers(t, sharedTriggers, triggers));
+    }
+
     public interface SharedTriggers
             extends KeyValueTable.KeyValueTrigger,
                     ValueStreamHashAidxTable.ValueStreamHashAidxTrigger,
                     ValueStreamIdxTable.ValueStreamIdxTrigger,
                     ValueStreamMetadataTable.ValueStreamMetadataTrigger,
-                    ValueStreamValueTable.ValueStreamValueTrigger {}
+                    ValueStreamValueTable.ValueStreamValueTrigger,
+                    WideRowTable.WideRowTrigger {}
 
     public abstract static class NullSharedTriggers implements SharedTriggers {
         @Override
@@ -113,5 +118,11 @@ public final class StreamTestTableFactory {
                         newRows) {
             // do nothing
         }
+
+        @Override
+        public void putWideRow(
+                Multimap<WideRowTable.WideRowRow, ? extends WideRowTable.WideRowNamedColumnValue<?>> newRows) {
+            // do nothing
+        }
     }
 }
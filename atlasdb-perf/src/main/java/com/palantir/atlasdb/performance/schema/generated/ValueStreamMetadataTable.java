@@ -320,6 +320,7 @@ public final class ValueStreamMetadataTable implements
 
     public static final class ValueStreamMetadataRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Metadata hydratedMetadata;
 
         public static ValueStreamMetadataRowResult of(RowResult<byte[]> row) {
             return new ValueStreamMetadataRowResult(row);
@@ -357,12 +358,14 @@ public final class ValueStreamMetadataTable implements
         }
 
         public com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata getMetadata() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
-            if (bytes == null) {
-                return null;
+            if (hydratedMetadata == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedMetadata = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Metadata value = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedMetadata.getValue();
         }
 
         public static Function<ValueStreamMetadataRowResult, com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata> getMetadataFun() {
@@ -488,6 +491,10 @@ public final class ValueStreamMetadataTable implements
         }
     }
 
+    public Optional<ValueStreamMetadataRowResult> getRow(ValueStreamMetadataRow row, Collection<ValueStreamMetadataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<ValueStreamMetadataRowResult> getRows(Iterable<ValueStreamMetadataRow> rows) {
         return getRows(rows, allColumns);
@@ -503,6 +510,10 @@ public final class ValueStreamMetadataTable implements
         return rowResults;
     }
 
+    public List<ValueStreamMetadataRowResult> getRows(Iterable<ValueStreamMetadataRow> rows, Collection<ValueStreamMetadataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<ValueStreamMetadataNamedColumnValue<?>> getRowColumns(ValueStreamMetadataRow row) {
         return getRowColumns(row, allColumns);
@@ -708,5 +719,5 @@ public final class ValueStreamMetadataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "lqzqHpNRg+/IVPQNyNYi8w==";
+    static String __CLASS_HASH = "15eOaqROF8sM0skRGzWwEA==";
 }
@@ -475,6 +475,10 @@ public final class ValueStreamValueTable implements
         }
     }
 
+    public Optional<ValueStreamValueRowResult> getRow(ValueStreamValueRow row, Collection<ValueStreamValueNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<ValueStreamValueRowResult> getRows(Iterable<ValueStreamValueRow> rows) {
         return getRows(rows, allColumns);
@@ -490,6 +494,10 @@ public final class ValueStreamValueTable implements
         return rowResults;
     }
 
+    public List<ValueStreamValueRowResult> getRows(Iterable<ValueStreamValueRow> rows, Collection<ValueStreamValueNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<ValueStreamValueNamedColumnValue<?>> getRowColumns(ValueStreamValueRow row) {
         return getRowColumns(row, allColumns);
@@ -695,5 +703,5 @@ public final class ValueStreamValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "uFwDglAaZjBu9w6E/JkGTA==";
+    static String __CLASS_HASH = "KDnujqxPghRgP8Qz5mVgXQ==";
 }
@@ -21,11 +21,14 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.CheckAndSetCompatibility;
+import com.palantir.atlasdb.keyvalue.api.CompactionCandidate;
 import com.palantir.atlasdb.keyvalue.api.KeyValueService;
 import com.palantir.atlasdb.keyvalue.api.Namespace;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import org.jmock.Expectations;
 import org.jmock.Mockery;
 import org.junit.Test;
@@ -161,6 +164,46 @@ public class TableSplittingKeyValueServiceTest {
                         .build());
     }
 
+    @Test
+    public void combinesCompactionCandidatesForTheTablesRoutedToEachDelegate() {
+        TableSplittingKeyValueService splittingKvs = TableSplittingKeyValueService.create(
+                ImmutableList.of(defaultKvs, tableDelegate), ImmutableMap.of(TABLE, tableDelegate));
+        TableReference defaultTable = TableReference.create(NAMESPACE, "default");
+        CompactionCandidate tableCandidate = CompactionCandidate.of(TABLE, 100, Duration.ofSeconds(1));
+        CompactionCandidate defaultTableCandidate = CompactionCandidate.of(defaultTable, 200, Duration.ofSeconds(1));
+        CompactionCandidate staleTableCandidate = CompactionCandidate.of(TABLE, 900, Duration.ofSeconds(1));
+
+        mockery.checking(new Expectations() {
+            {
+                oneOf(defaultKvs).getCompactionCandidates();
+                will(returnValue(Optional.of(ImmutableList.of(staleTableCandidate, defaultTableCandidate))));
+                oneOf(tableDelegate).getCompactionCandidates();
+                will(returnValue(Optional.of(ImmutableList.of(tableCandidate))));
+            }
+        });
+
+        assertThat(splittingKvs.getCompactionCandidates())
+                .hasValue(ImmutableList.of(defaultTableCandidate, tableCandidate));
+    }
+
+    @Test
+    public void hasNoCompactionCandidatesIfAnyDelegateCannotEstimateThem() {
+        TableSplittingKeyValueService splittingKvs = TableSplittingKeyValueService.create(
+                ImmutableList.of(defaultKvs, tableDelegate), ImmutableMap.of(TABLE, tableDelegate));
+
+        mockery.checking(new Expectations() {
+            {
+                allowing(defaultKvs).getCompactionCandidates();
+                will(returnValue(Optional.of(
+                        ImmutableList.of(CompactionCandidate.of(TABLE, 100, Duration.ofSeconds(1))))));
+                allowing(tableDelegate).getCompactionCandidates();
+                will(returnValue(Optional.empty()));
+            }
+        });
+
+        assertThat(splittingKvs.getCompactionCandidates()).isEmpty();
+    }
+
     private Map<TableReference, byte[]> merge(
             ImmutableMap<TableReference, byte[]> left, ImmutableMap<TableReference, byte[]> right) {
         return ImmutableMap.<TableReference, byte[]>builder()
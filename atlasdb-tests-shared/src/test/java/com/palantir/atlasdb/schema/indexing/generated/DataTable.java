@@ -295,6 +295,7 @@ public final class DataTable implements
 
     public static final class DataRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Value hydratedValue;
 
         public static DataRowResult of(RowResult<byte[]> row) {
             return new DataRowResult(row);
@@ -332,12 +333,14 @@ public final class DataTable implements
         }
 
         public Long getValue() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("v"));
-            if (bytes == null) {
-                return null;
+            if (hydratedValue == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("v"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedValue = Value.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Value value = Value.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedValue.getValue();
         }
 
         public static Function<DataRowResult, Long> getValueFun() {
@@ -602,6 +605,10 @@ public final class DataTable implements
         }
     }
 
+    public Optional<DataRowResult> getRow(DataRow row, Collection<DataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<DataRowResult> getRows(Iterable<DataRow> rows) {
         return getRows(rows, allColumns);
@@ -617,6 +624,10 @@ public final class DataTable implements
         return rowResults;
     }
 
+    public List<DataRowResult> getRows(Iterable<DataRow> rows, Collection<DataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<DataNamedColumnValue<?>> getRowColumns(DataRow row) {
         return getRowColumns(row, allColumns);
@@ -3630,5 +3641,5 @@ public final class DataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "fgza/c8nH19LqrftPRIqiA==";
+    static String __CLASS_HASH = "dBaci2sFYct6gIvjRtbEKQ==";
 }
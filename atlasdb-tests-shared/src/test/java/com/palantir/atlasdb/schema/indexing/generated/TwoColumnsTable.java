@@ -355,6 +355,8 @@ public final class TwoColumnsTable implements
 
     public static final class TwoColumnsRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Bar hydratedBar;
+        private Foo hydratedFoo;
 
         public static TwoColumnsRowResult of(RowResult<byte[]> row) {
             return new TwoColumnsRowResult(row);
@@ -396,21 +398,25 @@ public final class TwoColumnsTable implements
         }
 
         public Long getBar() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("b"));
-            if (bytes == null) {
-                return null;
+            if (hydratedBar == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("b"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedBar = Bar.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Bar value = Bar.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedBar.getValue();
         }
 
         public Long getFoo() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("f"));
-            if (bytes == null) {
-                return null;
+            if (hydratedFoo == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("f"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedFoo = Foo.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Foo value = Foo.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedFoo.getValue();
         }
 
         public static Function<TwoColumnsRowResult, Long> getBarFun() {
@@ -658,6 +664,10 @@ public final class TwoColumnsTable implements
         }
     }
 
+    public Optional<TwoColumnsRowResult> getRow(TwoColumnsRow row, Collection<TwoColumnsNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<TwoColumnsRowResult> getRows(Iterable<TwoColumnsRow> rows) {
         return getRows(rows, allColumns);
@@ -673,6 +683,10 @@ public final class TwoColumnsTable implements
         return rowResults;
     }
 
+    public List<TwoColumnsRowResult> getRows(Iterable<TwoColumnsRow> rows, Collection<TwoColumnsNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<TwoColumnsNamedColumnValue<?>> getRowColumns(TwoColumnsRow row) {
         return getRowColumns(row, allColumns);
@@ -2200,5 +2214,5 @@ public final class TwoColumnsTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "KStjuJG0LJnDxQ1sOAdxdg==";
+    static String __CLASS_HASH = "J9CJzrnEaO++pmwn+9IkSQ==";
 }
@@ -295,6 +295,7 @@ public final class KeyValueTable implements
 
     public static final class KeyValueRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private StreamId hydratedStreamId;
 
         public static KeyValueRowResult of(RowResult<byte[]> row) {
             return new KeyValueRowResult(row);
@@ -332,12 +333,14 @@ public final class KeyValueTable implements
         }
 
         public Long getStreamId() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("s"));
-            if (bytes == null) {
-                return null;
+            if (hydratedStreamId == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("s"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedStreamId = StreamId.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            StreamId value = StreamId.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedStreamId.getValue();
         }
 
         public static Function<KeyValueRowResult, Long> getStreamIdFun() {
@@ -463,6 +466,10 @@ public final class KeyValueTable implements
         }
     }
 
+    public Optional<KeyValueRowResult> getRow(KeyValueRow row, Collection<KeyValueNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<KeyValueRowResult> getRows(Iterable<KeyValueRow> rows) {
         return getRows(rows, allColumns);
@@ -478,6 +485,10 @@ public final class KeyValueTable implements
         return rowResults;
     }
 
+    public List<KeyValueRowResult> getRows(Iterable<KeyValueRow> rows, Collection<KeyValueNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<KeyValueNamedColumnValue<?>> getRowColumns(KeyValueRow row) {
         return getRowColumns(row, allColumns);
@@ -683,5 +694,5 @@ public final class KeyValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "4kr4uM+Pm0pXXBnI3Rwp/g==";
+    static String __CLASS_HASH = "MaVmlqioMtXkfGvHr40HAw==";
 }
@@ -320,6 +320,7 @@ public final class StreamTestMaxMemStreamMetadataTable implements
 
     public static final class StreamTestMaxMemStreamMetadataRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Metadata hydratedMetadata;
 
         public static StreamTestMaxMemStreamMetadataRowResult of(RowResult<byte[]> row) {
             return new StreamTestMaxMemStreamMetadataRowResult(row);
@@ -357,12 +358,14 @@ public final class StreamTestMaxMemStreamMetadataTable implements
         }
 
         public com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata getMetadata() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
-            if (bytes == null) {
-                return null;
+            if (hydratedMetadata == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedMetadata = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Metadata value = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedMetadata.getValue();
         }
 
         public static Function<StreamTestMaxMemStreamMetadataRowResult, com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata> getMetadataFun() {
@@ -488,6 +491,10 @@ public final class StreamTestMaxMemStreamMetadataTable implements
         }
     }
 
+    public Optional<StreamTestMaxMemStreamMetadataRowResult> getRow(StreamTestMaxMemStreamMetadataRow row, Collection<StreamTestMaxMemStreamMetadataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestMaxMemStreamMetadataRowResult> getRows(Iterable<StreamTestMaxMemStreamMetadataRow> rows) {
         return getRows(rows, allColumns);
@@ -503,6 +510,10 @@ public final class StreamTestMaxMemStreamMetadataTable implements
         return rowResults;
     }
 
+    public List<StreamTestMaxMemStreamMetadataRowResult> getRows(Iterable<StreamTestMaxMemStreamMetadataRow> rows, Collection<StreamTestMaxMemStreamMetadataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestMaxMemStreamMetadataNamedColumnValue<?>> getRowColumns(StreamTestMaxMemStreamMetadataRow row) {
         return getRowColumns(row, allColumns);
@@ -708,5 +719,5 @@ public final class StreamTestMaxMemStreamMetadataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "k1qnaFkT6dVNCXg3oBI4WQ==";
+    static String __CLASS_HASH = "VxVJ/ImswR6BBD49hptOBA==";
 }
@@ -475,6 +475,10 @@ public final class StreamTestMaxMemStreamValueTable implements
         }
     }
 
+    public Optional<StreamTestMaxMemStreamValueRowResult> getRow(StreamTestMaxMemStreamValueRow row, Collection<StreamTestMaxMemStreamValueNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestMaxMemStreamValueRowResult> getRows(Iterable<StreamTestMaxMemStreamValueRow> rows) {
         return getRows(rows, allColumns);
@@ -490,6 +494,10 @@ public final class StreamTestMaxMemStreamValueTable implements
         return rowResults;
     }
 
+    public List<StreamTestMaxMemStreamValueRowResult> getRows(Iterable<StreamTestMaxMemStreamValueRow> rows, Collection<StreamTestMaxMemStreamValueNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestMaxMemStreamValueNamedColumnValue<?>> getRowColumns(StreamTestMaxMemStreamValueRow row) {
         return getRowColumns(row, allColumns);
@@ -695,5 +703,5 @@ public final class StreamTestMaxMemStreamValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "pYIryyxlhArJOo7k0Zv3dA==";
+    static String __CLASS_HASH = "WORkNO8KzI1RXyx17qrAfA==";
 }
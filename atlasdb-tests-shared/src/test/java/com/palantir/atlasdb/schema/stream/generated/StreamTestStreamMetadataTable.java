@@ -320,6 +320,7 @@ public final class StreamTestStreamMetadataTable implements
 
     public static final class StreamTestStreamMetadataRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Metadata hydratedMetadata;
 
         public static StreamTestStreamMetadataRowResult of(RowResult<byte[]> row) {
             return new StreamTestStreamMetadataRowResult(row);
@@ -357,12 +358,14 @@ public final class StreamTestStreamMetadataTable implements
         }
 
         public com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata getMetadata() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
-            if (bytes == null) {
-                return null;
+            if (hydratedMetadata == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedMetadata = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Metadata value = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedMetadata.getValue();
         }
 
         public static Function<StreamTestStreamMetadataRowResult, com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata> getMetadataFun() {
@@ -488,6 +491,10 @@ public final class StreamTestStreamMetadataTable implements
         }
     }
 
+    public Optional<StreamTestStreamMetadataRowResult> getRow(StreamTestStreamMetadataRow row, Collection<StreamTestStreamMetadataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestStreamMetadataRowResult> getRows(Iterable<StreamTestStreamMetadataRow> rows) {
         return getRows(rows, allColumns);
@@ -503,6 +510,10 @@ public final class StreamTestStreamMetadataTable implements
         return rowResults;
     }
 
+    public List<StreamTestStreamMetadataRowResult> getRows(Iterable<StreamTestStreamMetadataRow> rows, Collection<StreamTestStreamMetadataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestStreamMetadataNamedColumnValue<?>> getRowColumns(StreamTestStreamMetadataRow row) {
         return getRowColumns(row, allColumns);
@@ -708,5 +719,5 @@ public final class StreamTestStreamMetadataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "I4QsHKuDj4n21oCZPrbGRw==";
+    static String __CLASS_HASH = "T5ucLuS1AC6YaEmqPDHBNQ==";
 }
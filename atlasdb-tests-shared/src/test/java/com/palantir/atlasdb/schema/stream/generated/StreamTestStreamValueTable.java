@@ -475,6 +475,10 @@ public final class StreamTestStreamValueTable implements
         }
     }
 
+    public Optional<StreamTestStreamValueRowResult> getRow(StreamTestStreamValueRow row, Collection<StreamTestStreamValueNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestStreamValueRowResult> getRows(Iterable<StreamTestStreamValueRow> rows) {
         return getRows(rows, allColumns);
@@ -490,6 +494,10 @@ public final class StreamTestStreamValueTable implements
         return rowResults;
     }
 
+    public List<StreamTestStreamValueRowResult> getRows(Iterable<StreamTestStreamValueRow> rows, Collection<StreamTestStreamValueNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestStreamValueNamedColumnValue<?>> getRowColumns(StreamTestStreamValueRow row) {
         return getRowColumns(row, allColumns);
@@ -695,5 +703,5 @@ public final class StreamTestStreamValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "/Af3nGP1PVa3CpaveqZwGA==";
+    static String __CLASS_HASH = "VOUfDAaZvcld1tfJjhAqxA==";
 }
@@ -334,6 +334,7 @@ public final class StreamTestWithHashStreamMetadataTable implements
 
     public static final class StreamTestWithHashStreamMetadataRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Metadata hydratedMetadata;
 
         public static StreamTestWithHashStreamMetadataRowResult of(RowResult<byte[]> row) {
             return new StreamTestWithHashStreamMetadataRowResult(row);
@@ -371,12 +372,14 @@ public final class StreamTestWithHashStreamMetadataTable implements
         }
 
         public com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata getMetadata() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
-            if (bytes == null) {
-                return null;
+            if (hydratedMetadata == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedMetadata = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Metadata value = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedMetadata.getValue();
         }
 
         public static Function<StreamTestWithHashStreamMetadataRowResult, com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata> getMetadataFun() {
@@ -502,6 +505,10 @@ public final class StreamTestWithHashStreamMetadataTable implements
         }
     }
 
+    public Optional<StreamTestWithHashStreamMetadataRowResult> getRow(StreamTestWithHashStreamMetadataRow row, Collection<StreamTestWithHashStreamMetadataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestWithHashStreamMetadataRowResult> getRows(Iterable<StreamTestWithHashStreamMetadataRow> rows) {
         return getRows(rows, allColumns);
@@ -517,6 +524,10 @@ public final class StreamTestWithHashStreamMetadataTable implements
         return rowResults;
     }
 
+    public List<StreamTestWithHashStreamMetadataRowResult> getRows(Iterable<StreamTestWithHashStreamMetadataRow> rows, Collection<StreamTestWithHashStreamMetadataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestWithHashStreamMetadataNamedColumnValue<?>> getRowColumns(StreamTestWithHashStreamMetadataRow row) {
         return getRowColumns(row, allColumns);
@@ -722,5 +733,5 @@ public final class StreamTestWithHashStreamMetadataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "ZnMVClEGG1k/Y9BfO/PktA==";
+    static String __CLASS_HASH = "vZMJsFa66au/zbZempIcMg==";
 }
@@ -489,6 +489,10 @@ public final class StreamTestWithHashStreamValueTable implements
         }
     }
 
+    public Optional<StreamTestWithHashStreamValueRowResult> getRow(StreamTestWithHashStreamValueRow row, Collection<StreamTestWithHashStreamValueNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestWithHashStreamValueRowResult> getRows(Iterable<StreamTestWithHashStreamValueRow> rows) {
         return getRows(rows, allColumns);
@@ -504,6 +508,10 @@ public final class StreamTestWithHashStreamValueTable implements
         return rowResults;
     }
 
+    public List<StreamTestWithHashStreamValueRowResult> getRows(Iterable<StreamTestWithHashStreamValueRow> rows, Collection<StreamTestWithHashStreamValueNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<StreamTestWithHashStreamValueNamedColumnValue<?>> getRowColumns(StreamTestWithHashStreamValueRow row) {
         return getRowColumns(row, allColumns);
@@ -709,5 +717,5 @@ public final class StreamTestWithHashStreamValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "uywx4Vs+y/rXbP+WoU1Vqg==";
+    static String __CLASS_HASH = "RrxQtJy/mvVCm+Ux+MMs2g==";
 }
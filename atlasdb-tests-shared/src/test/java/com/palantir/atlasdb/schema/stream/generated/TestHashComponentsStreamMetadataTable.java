@@ -334,6 +334,7 @@ public final class TestHashComponentsStreamMetadataTable implements
 
     public static final class TestHashComponentsStreamMetadataRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Metadata hydratedMetadata;
 
         public static TestHashComponentsStreamMetadataRowResult of(RowResult<byte[]> row) {
             return new TestHashComponentsStreamMetadataRowResult(row);
@@ -371,12 +372,14 @@ public final class TestHashComponentsStreamMetadataTable implements
         }
 
         public com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata getMetadata() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
-            if (bytes == null) {
-                return null;
+            if (hydratedMetadata == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("md"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedMetadata = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Metadata value = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedMetadata.getValue();
         }
 
         public static Function<TestHashComponentsStreamMetadataRowResult, com.palantir.atlasdb.protos.generated.StreamPersistence.StreamMetadata> getMetadataFun() {
@@ -502,6 +505,10 @@ public final class TestHashComponentsStreamMetadataTable implements
         }
     }
 
+    public Optional<TestHashComponentsStreamMetadataRowResult> getRow(TestHashComponentsStreamMetadataRow row, Collection<TestHashComponentsStreamMetadataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<TestHashComponentsStreamMetadataRowResult> getRows(Iterable<TestHashComponentsStreamMetadataRow> rows) {
         return getRows(rows, allColumns);
@@ -517,6 +524,10 @@ public final class TestHashComponentsStreamMetadataTable implements
         return rowResults;
     }
 
+    public List<TestHashComponentsStreamMetadataRowResult> getRows(Iterable<TestHashComponentsStreamMetadataRow> rows, Collection<TestHashComponentsStreamMetadataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<TestHashComponentsStreamMetadataNamedColumnValue<?>> getRowColumns(TestHashComponentsStreamMetadataRow row) {
         return getRowColumns(row, allColumns);
@@ -722,5 +733,5 @@ public final class TestHashComponentsStreamMetadataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "j3IJu2gsDa9Zov5ZP9X4Mw==";
+    static String __CLASS_HASH = "u8oB1GEHS3XRqOWnb35nlg==";
 }
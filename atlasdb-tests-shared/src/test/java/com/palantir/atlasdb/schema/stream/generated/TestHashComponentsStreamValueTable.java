@@ -490,6 +490,10 @@ public final class TestHashComponentsStreamValueTable implements
         }
     }
 
+    public Optional<TestHashComponentsStreamValueRowResult> getRow(TestHashComponentsStreamValueRow row, Collection<TestHashComponentsStreamValueNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<TestHashComponentsStreamValueRowResult> getRows(Iterable<TestHashComponentsStreamValueRow> rows) {
         return getRows(rows, allColumns);
@@ -505,6 +509,10 @@ public final class TestHashComponentsStreamValueTable implements
         return rowResults;
     }
 
+    public List<TestHashComponentsStreamValueRowResult> getRows(Iterable<TestHashComponentsStreamValueRow> rows, Collection<TestHashComponentsStreamValueNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<TestHashComponentsStreamValueNamedColumnValue<?>> getRowColumns(TestHashComponentsStreamValueRow row) {
         return getRowColumns(row, allColumns);
@@ -710,5 +718,5 @@ public final class TestHashComponentsStreamValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "iDMBVL6YNzaq38VRV2lB/g==";
+    static String __CLASS_HASH = "UinKXef3OKt7TRTv0GmUpA==";
 }
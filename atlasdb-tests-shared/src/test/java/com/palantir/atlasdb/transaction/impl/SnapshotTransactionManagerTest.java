@@ -39,6 +39,8 @@ import com.palantir.atlasdb.sweep.queue.MultiTableSweepQueueWriter;
 import com.palantir.atlasdb.transaction.ImmutableTransactionConfig;
 import com.palantir.atlasdb.transaction.api.AtlasDbConstraintCheckingMode;
 import com.palantir.atlasdb.transaction.api.OpenTransaction;
+import com.palantir.atlasdb.transaction.api.Transaction;
+import com.palantir.atlasdb.transaction.api.TransactionLockTimeoutException;
 import com.palantir.atlasdb.transaction.impl.metrics.DefaultMetricsFilterEvaluationContext;
 import com.palantir.atlasdb.transaction.knowledge.TransactionKnowledgeComponents;
 import com.palantir.atlasdb.transaction.service.TransactionService;
@@ -55,6 +57,7 @@ import com.palantir.tritium.metrics.registry.MetricName;
 import com.palantir.tritium.metrics.registry.TaggedMetricRegistry;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -278,6 +281,49 @@ public class SnapshotTransactionManagerTest {
         verify(timelockService, never()).startIdentifiedAtlasDbTransactionBatch(1);
     }
 
+    @Test
+    public void boundedStalenessReadOnlyTransactionsShareStartTimestamp() {
+        TimelockService timelockService = spy(services.getLegacyTimelockService());
+        SnapshotTransactionManager transactionManager = createSnapshotTransactionManager(timelockService, false);
+
+        long firstTimestamp =
+                transactionManager.runTaskReadOnlyWithBoundedStaleness(Duration.ofHours(1), Transaction::getTimestamp);
+        long secondTimestamp =
+                transactionManager.runTaskReadOnlyWithBoundedStaleness(Duration.ofHours(1), Transaction::getTimestamp);
+
+        assertThat(secondTimestamp).isEqualTo(firstTimestamp);
+        verify(timelockService).startIdentifiedAtlasDbTransactionBatch(1);
+        verify(timelockService, never()).tryUnlock(any());
+
+        transactionManager.close();
+        verify(timelockService).tryUnlock(any());
+    }
+
+    @Test
+    public void boundedStalenessSnapshotIsDroppedOnceItsLockIsLost() {
+        TimelockService timelockService = spy(services.getLegacyTimelockService());
+        SnapshotTransactionManager transactionManager = createSnapshotTransactionManager(timelockService, false);
+
+        assertThatThrownBy(() -> transactionManager.runTaskReadOnlyWithBoundedStaleness(Duration.ofMinutes(1), tx -> {
+                    throw new TransactionLockTimeoutException("lock lost");
+                }))
+                .isInstanceOf(TransactionLockTimeoutException.class);
+        verify(timelockService).tryUnlock(any());
+
+        transactionManager.runTaskReadOnlyWithBoundedStaleness(Duration.ofMinutes(1), Transaction::getTimestamp);
+        verify(timelockService, times(2)).startIdentifiedAtlasDbTransactionBatch(1);
+    }
+
+    @Test
+    public void boundedStalenessRejectsNegativeStaleness() {
+        SnapshotTransactionManager transactionManager =
+                createSnapshotTransactionManager(services.getLegacyTimelockService(), false);
+
+        assertThatThrownBy(() -> transactionManager.runTaskReadOnlyWithBoundedStaleness(
+                        Duration.ofSeconds(-1), Transaction::getTimestamp))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void startEmptyBatchOfTransactionsDoesNotCallTimelockService() {
         TimelockService timelockService = spy(services.getLegacyTimelockService());
@@ -75,6 +75,8 @@ import com.palantir.atlasdb.keyvalue.api.Value;
 import com.palantir.atlasdb.keyvalue.api.cache.CacheEntry;
 import com.palantir.atlasdb.keyvalue.api.cache.CacheMetrics;
 import com.palantir.atlasdb.keyvalue.api.cache.CacheValue;
+import com.palantir.atlasdb.keyvalue.api.cache.CompleteRow;
+import com.palantir.atlasdb.keyvalue.api.cache.TableRowReference;
 import com.palantir.atlasdb.keyvalue.api.cache.TransactionScopedCache;
 import com.palantir.atlasdb.keyvalue.api.cache.TransactionScopedCacheImpl;
 import com.palantir.atlasdb.keyvalue.api.cache.ValueCacheSnapshotImpl;
@@ -1972,6 +1974,157 @@ public class SnapshotTransactionTest extends AtlasDbTestCase {
                         any());
     }
 
+    @Test
+    public void getColumnRangeFromCompleteRowIncludesStartAndExcludesEnd() {
+        byte[] row = PtBytes.toBytes("row");
+        CompleteRow completeRow = CompleteRow.of(ImmutableSortedMap.<byte[], byte[]>orderedBy(PtBytes.BYTES_COMPARATOR)
+                .put(PtBytes.toBytes("a"), PtBytes.toBytes("1"))
+                .put(PtBytes.toBytes("b"), PtBytes.toBytes("2"))
+                .put(PtBytes.toBytes("c"), PtBytes.toBytes("3"))
+                .buildOrThrow());
+
+        assertThat(getColumnNames(SnapshotTransaction.getColumnRangeFromCompleteRow(
+                        row, completeRow, PtBytes.EMPTY_BYTE_ARRAY, PtBytes.EMPTY_BYTE_ARRAY)))
+                .containsExactly("a", "b", "c");
+        assertThat(getColumnNames(SnapshotTransaction.getColumnRangeFromCompleteRow(
+                        row, completeRow, PtBytes.toBytes("b"), PtBytes.EMPTY_BYTE_ARRAY)))
+                .containsExactly("b", "c");
+        assertThat(getColumnNames(SnapshotTransaction.getColumnRangeFromCompleteRow(
+                        row, completeRow, PtBytes.EMPTY_BYTE_ARRAY, PtBytes.toBytes("c"))))
+                .containsExactly("a", "b");
+        assertThat(getColumnNames(SnapshotTransaction.getColumnRangeFromCompleteRow(
+                        row, completeRow, PtBytes.toBytes("aa"), PtBytes.toBytes("bb"))))
+                .containsExactly("b");
+        assertThat(SnapshotTransaction.getColumnRangeFromCompleteRow(
+                        row, CompleteRow.empty(), PtBytes.EMPTY_BYTE_ARRAY, PtBytes.EMPTY_BYTE_ARRAY))
+                .isEmpty();
+    }
+
+    @Test
+    public void getSortedColumnsFromCompleteRowsOrdersByColumnThenInputRowOrder() {
+        Cell row1ColumnA = Cell.create(PtBytes.toBytes("row1"), PtBytes.toBytes("a"));
+        Cell row1ColumnC = Cell.create(PtBytes.toBytes("row1"), PtBytes.toBytes("c"));
+        Cell row2ColumnB = Cell.create(PtBytes.toBytes("row2"), PtBytes.toBytes("b"));
+        Cell row2ColumnC = Cell.create(PtBytes.toBytes("row2"), PtBytes.toBytes("c"));
+        putCellsInTable(List.of(row1ColumnA, row1ColumnC, row2ColumnB, row2ColumnC), TABLE_SWEPT_THOROUGH);
+
+        TransactionScopedCache cache = createCacheCachingCompleteRows(10);
+        Transaction transaction = getTransactionWithCache(cache);
+        List<byte[]> rows = ImmutableList.of(PtBytes.toBytes("row2"), PtBytes.toBytes("row1"));
+        BatchColumnRangeSelection allColumns = BatchColumnRangeSelection.create(null, null, 10);
+
+        // The first read loads the rows and the second is served from the cache; both must agree.
+        for (int i = 0; i < 2; i++) {
+            assertThat(getCells(transaction.getSortedColumns(TABLE_SWEPT_THOROUGH, rows, allColumns)))
+                    .containsExactly(row1ColumnA, row2ColumnB, row2ColumnC, row1ColumnC);
+        }
+        cache.finalise();
+        assertThat(cache.getValueDigest().loadedRows()).hasSize(2);
+    }
+
+    @Test
+    public void completeRowReadsIncludeLocalWritesAndDeletesOnCachedAndUncachedRows() {
+        byte[] cachedRow = PtBytes.toBytes("row1");
+        byte[] uncachedRow = PtBytes.toBytes("row2");
+        List<Cell> committedCells = new ArrayList<>();
+        for (byte[] row : ImmutableList.of(cachedRow, uncachedRow)) {
+            committedCells.add(Cell.create(row, PtBytes.toBytes("a")));
+            committedCells.add(Cell.create(row, PtBytes.toBytes("b")));
+        }
+        putCellsInTable(committedCells, TABLE_SWEPT_THOROUGH);
+
+        TransactionScopedCache cache = createCacheCachingCompleteRows(10);
+        Transaction transaction = getTransactionWithCache(cache);
+        ColumnRangeSelection allColumns = new ColumnRangeSelection(null, null);
+        assertThat(getCells(transaction.getRowsColumnRange(
+                        TABLE_SWEPT_THOROUGH, ImmutableList.of(cachedRow), allColumns, 10)))
+                .hasSize(2);
+
+        byte[] localValue = PtBytes.toBytes("local");
+        for (byte[] row : ImmutableList.of(cachedRow, uncachedRow)) {
+            transaction.put(TABLE_SWEPT_THOROUGH, ImmutableMap.of(Cell.create(row, PtBytes.toBytes("c")), localValue));
+            transaction.delete(TABLE_SWEPT_THOROUGH, ImmutableSet.of(Cell.create(row, PtBytes.toBytes("a"))));
+        }
+
+        Map<byte[], Iterator<Map.Entry<Cell, byte[]>>> results = transaction.getRowsColumnRangeIterator(
+                TABLE_SWEPT_THOROUGH,
+                ImmutableList.of(cachedRow, uncachedRow),
+                BatchColumnRangeSelection.create(null, null, 10));
+        for (byte[] row : ImmutableList.of(cachedRow, uncachedRow)) {
+            List<Map.Entry<Cell, byte[]>> columns = ImmutableList.copyOf(results.get(row));
+            assertThat(getColumnNames(columns)).containsExactly("b", "c");
+            assertThat(columns.get(1).getValue()).isEqualTo(localValue);
+        }
+        assertThat(transaction.getRows(TABLE_SWEPT_THOROUGH, ImmutableList.of(cachedRow), ColumnSelection.all())
+                        .get(cachedRow)
+                        .getColumns()
+                        .keySet()
+                        .stream()
+                        .map(PtBytes::toString))
+                .containsExactly("b", "c");
+
+        // Neither row can be cached once the transaction has written to it.
+        cache.finalise();
+        assertThat(cache.getValueDigest().loadedRows()).isEmpty();
+    }
+
+    @Test
+    public void rowsWithTooManyColumnsToCacheAreReadThroughPagedPath() {
+        Cell largeRowColumnA = Cell.create(PtBytes.toBytes("row1"), PtBytes.toBytes("a"));
+        Cell largeRowColumnC = Cell.create(PtBytes.toBytes("row1"), PtBytes.toBytes("c"));
+        Cell smallRowColumnB = Cell.create(PtBytes.toBytes("row2"), PtBytes.toBytes("b"));
+        putCellsInTable(List.of(largeRowColumnA, largeRowColumnC, smallRowColumnB), TABLE_SWEPT_THOROUGH);
+
+        TransactionScopedCache cache = createCacheCachingCompleteRows(1);
+        Transaction transaction = getTransactionWithCache(cache);
+        List<byte[]> rows = ImmutableList.of(largeRowColumnA.getRowName(), smallRowColumnB.getRowName());
+
+        assertThat(getCells(transaction.getRowsColumnRange(
+                        TABLE_SWEPT_THOROUGH, rows, new ColumnRangeSelection(null, null), 1)))
+                .containsExactly(largeRowColumnA, largeRowColumnC, smallRowColumnB);
+        assertThat(getCells(transaction.getSortedColumns(
+                        TABLE_SWEPT_THOROUGH, rows, BatchColumnRangeSelection.create(null, null, 1))))
+                .containsExactly(largeRowColumnA, smallRowColumnB, largeRowColumnC);
+        assertThat(transaction.getRows(TABLE_SWEPT_THOROUGH, rows, ColumnSelection.all()).values().stream()
+                        .mapToInt(rowResult -> rowResult.getColumns().size())
+                        .sum())
+                .isEqualTo(3);
+
+        cache.finalise();
+        assertThat(cache.getValueDigest().loadedRows())
+                .containsOnlyKeys(TableRowReference.of(TABLE_SWEPT_THOROUGH, smallRowColumnB.getRowName()));
+    }
+
+    private TransactionScopedCache createCacheCachingCompleteRows(int maxCompleteRowColumns) {
+        return TransactionScopedCacheImpl.createCachingCompleteRows(
+                ValueCacheSnapshotImpl.of(
+                        io.vavr.collection.HashMap.empty(),
+                        io.vavr.collection.HashSet.of(TABLE_SWEPT_THOROUGH),
+                        ImmutableSet.of(TABLE_SWEPT_THOROUGH)),
+                mock(CacheMetrics.class),
+                maxCompleteRowColumns);
+    }
+
+    private Transaction getTransactionWithCache(TransactionScopedCache cache) {
+        LockWatchManagerInternal mockLockWatchManager = mock(LockWatchManagerInternal.class);
+        when(mockLockWatchManager.getTransactionScopedCache(anyLong())).thenReturn(cache);
+        long transactionTs = timelockService.getFreshTimestamp();
+        LockImmutableTimestampResponse res = timelockService.lockImmutableTimestamp();
+        PathTypeTracker pathTypeTracker = PathTypeTrackers.constructSynchronousTracker();
+        return transactionWrapper.apply(
+                getSnapshotTransactionWith(transactionTs, res, mockLockWatchManager, pathTypeTracker), pathTypeTracker);
+    }
+
+    private static List<Cell> getCells(Iterator<Map.Entry<Cell, byte[]>> entries) {
+        return ImmutableList.copyOf(Iterators.transform(entries, Map.Entry::getKey));
+    }
+
+    private static List<String> getColumnNames(List<Map.Entry<Cell, byte[]>> entries) {
+        return entries.stream()
+                .map(entry -> PtBytes.toString(entry.getKey().getColumnName()))
+                .collect(Collectors.toList());
+    }
+
     private TransactionScopedCache createCacheWithEntry(TableReference table, Cell cell, byte[] value) {
         return createCacheWithEntries(table, ImmutableMap.of(cell, value));
     }
@@ -18,6 +18,7 @@ package com.palantir.nexus.db;
 import com.palantir.exception.PalantirSqlException;
 import java.io.Closeable;
 import java.sql.Connection;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 public interface ConnectionSupplier extends Supplier<Connection>, Closeable {
@@ -32,6 +33,15 @@ public interface ConnectionSupplier extends Supplier<Connection>, Closeable {
     @Override
     Connection get() throws PalantirSqlException;
 
+    /**
+     * Retrieves a {@link Connection} that is not shared with other callers, but only if one is available without
+     * waiting for the pool. Callers must {@link Connection#close() close()} the returned connection. By default, no
+     * connection is returned.
+     */
+    default Optional<Connection> tryGetUnsharedConnection() throws PalantirSqlException {
+        return Optional.empty();
+    }
+
     /**
      * Closes this connection supplier and releases any resources it may hold.
      *
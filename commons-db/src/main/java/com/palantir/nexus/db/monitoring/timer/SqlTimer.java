@@ -26,8 +26,23 @@ import com.palantir.nexus.db.sql.BasicSQLString;
  * completes.
  */
 public interface SqlTimer {
+    /**
+     * Prepended to the raw SQL of statement preparation timings, so that they are tracked separately from the
+     * timings of the calls they belong to even for unregistered queries.
+     */
+    String PREPARE_SQL_PREFIX = "/* PREPARE */ ";
+
     Handle start(String module, String sqlKey, String rawSql);
 
+    /**
+     * Times preparing the statement for a SQL call on its connection. Binding arguments is not included. This is
+     * tracked separately from, and in addition to, the timing of the whole call started by {@link #start}, so that
+     * the time spent parsing can be told apart from the time spent executing.
+     */
+    default Handle startPrepare(String module, String sqlKey, String rawSql) {
+        return start(module, sqlKey == null ? null : sqlKey + ".prepare", PREPARE_SQL_PREFIX + rawSql);
+    }
+
     interface Handle {
         /**
          * Called when the SQL call is complete. Updates the SQL statistics and writes timing
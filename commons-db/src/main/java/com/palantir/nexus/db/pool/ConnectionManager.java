@@ -18,6 +18,7 @@ package com.palantir.nexus.db.pool;
 import com.palantir.nexus.db.DBType;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * A SQL connection pool that can be flushed.
@@ -34,6 +35,14 @@ public interface ConnectionManager {
 
     Connection getConnectionUnchecked();
 
+    /**
+     * Obtains a SQL connection only if the pool can hand one out without waiting for a connection to be returned to
+     * it or created. Returns empty otherwise, or if this connection manager cannot tell.
+     */
+    default Optional<Connection> tryGetConnectionUnchecked() {
+        return Optional.empty();
+    }
+
     /**
      * Shuts down the underlying connection pool.
      */
@@ -20,6 +20,7 @@ import com.palantir.logsafe.Preconditions;
 import com.palantir.nexus.db.ReentrantConnectionSupplier;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
 import javax.annotation.concurrent.ThreadSafe;
 
 @ThreadSafe
@@ -49,6 +50,11 @@ public class ReentrantManagedConnectionSupplier implements ReentrantConnectionSu
         return CloseTracking.wrap(delegate.getConnectionUnchecked());
     }
 
+    @Override
+    public Optional<Connection> tryGetUnsharedConnection() throws PalantirSqlException {
+        return delegate.tryGetConnectionUnchecked().map(CloseTracking::wrap);
+    }
+
     @Override
     public void close() throws PalantirSqlException {
         delegate.closeUnchecked();
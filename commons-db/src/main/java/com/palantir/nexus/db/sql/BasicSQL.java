@@ -303,10 +303,15 @@ public abstract class BasicSQL {
     /**
      * Encapsulates the logic for creating a prepared statement with the arguments set
      */
-    private PreparedStatement createPreparedStatement(Connection c, String sql, Object[] vs)
-            throws PalantirSqlException {
+    private PreparedStatement createPreparedStatement(
+            Connection c, FinalSQLString query, Object[] vs, String description) throws PalantirSqlException {
         PreparedStatement ps;
-        ps = Connections.prepareStatement(c, sql);
+        SqlTimer.Handle prepareTimerKey = getSqlTimer().startPrepare(description, query.getKey(), query.getQuery());
+        try {
+            ps = Connections.prepareStatement(c, query.getQuery());
+        } finally {
+            prepareTimerKey.stop();
+        }
         List<BlobHandler> toClean = new ArrayList<>();
         if (vs != null) {
             try {
@@ -548,7 +553,7 @@ public abstract class BasicSQL {
         try {
             ps = BasicSQLUtils.runUninterruptably(
                     executeStatementExecutor,
-                    () -> createPreparedStatement(c, query.getQuery(), vs),
+                    () -> createPreparedStatement(c, query, vs, description),
                     "SQL createPreparedStatement",
                     c);
             return visitor.visit(ps);
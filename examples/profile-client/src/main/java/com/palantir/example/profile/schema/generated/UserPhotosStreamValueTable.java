@@ -475,6 +475,10 @@ public final class UserPhotosStreamValueTable implements
         }
     }
 
+    public Optional<UserPhotosStreamValueRowResult> getRow(UserPhotosStreamValueRow row, Collection<UserPhotosStreamValueNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<UserPhotosStreamValueRowResult> getRows(Iterable<UserPhotosStreamValueRow> rows) {
         return getRows(rows, allColumns);
@@ -490,6 +494,10 @@ public final class UserPhotosStreamValueTable implements
         return rowResults;
     }
 
+    public List<UserPhotosStreamValueRowResult> getRows(Iterable<UserPhotosStreamValueRow> rows, Collection<UserPhotosStreamValueNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<UserPhotosStreamValueNamedColumnValue<?>> getRowColumns(UserPhotosStreamValueRow row) {
         return getRowColumns(row, allColumns);
@@ -695,5 +703,5 @@ public final class UserPhotosStreamValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "vnCpFwiY6zZC+s1UYLuLCw==";
+    static String __CLASS_HASH = "8mOBAg4uLPHdTHTsCJOdcA==";
 }
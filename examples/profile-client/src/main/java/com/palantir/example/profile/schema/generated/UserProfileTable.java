@@ -497,6 +497,8 @@ public final class UserProfileTable implements
 
     public static final class UserProfileRowResult implements TypedRowResult {
         private final RowResult<byte[]> row;
+        private Metadata hydratedMetadata;
+        private PhotoStreamId hydratedPhotoStreamId;
 
         public static UserProfileRowResult of(RowResult<byte[]> row) {
             return new UserProfileRowResult(row);
@@ -564,21 +566,25 @@ public final class UserProfileTable implements
         }
 
         public com.palantir.example.profile.protos.generated.ProfilePersistence.UserProfile getMetadata() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("m"));
-            if (bytes == null) {
-                return null;
+            if (hydratedMetadata == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("m"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedMetadata = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            Metadata value = Metadata.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedMetadata.getValue();
         }
 
         public Long getPhotoStreamId() {
-            byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("p"));
-            if (bytes == null) {
-                return null;
+            if (hydratedPhotoStreamId == null) {
+                byte[] bytes = row.getColumns().get(PtBytes.toCachedBytes("p"));
+                if (bytes == null) {
+                    return null;
+                }
+                hydratedPhotoStreamId = PhotoStreamId.BYTES_HYDRATOR.hydrateFromBytes(bytes);
             }
-            PhotoStreamId value = PhotoStreamId.BYTES_HYDRATOR.hydrateFromBytes(bytes);
-            return value.getValue();
+            return hydratedPhotoStreamId.getValue();
         }
 
         public static Function<UserProfileRowResult, com.palantir.example.profile.schema.CreationData> getCreateFun() {
@@ -970,6 +976,10 @@ public final class UserProfileTable implements
         }
     }
 
+    public Optional<UserProfileRowResult> getRow(UserProfileRow row, Collection<UserProfileNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<UserProfileRowResult> getRows(Iterable<UserProfileRow> rows) {
         return getRows(rows, allColumns);
@@ -985,6 +995,10 @@ public final class UserProfileTable implements
         return rowResults;
     }
 
+    public List<UserProfileRowResult> getRows(Iterable<UserProfileRow> rows, Collection<UserProfileNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<UserProfileNamedColumnValue<?>> getRowColumns(UserProfileRow row) {
         return getRowColumns(row, allColumns);
@@ -3342,5 +3356,5 @@ public final class UserProfileTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "FUR78HF+b7t9uXpBh7oYCQ==";
+    static String __CLASS_HASH = "Eyt9Q5osph66BodujnFVIA==";
 }
@@ -17,6 +17,8 @@ package com.palantir.paxos;
 
 import com.palantir.common.persist.Persistable;
 import java.io.IOException;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 public interface PaxosStateLog<V extends Persistable & Versionable> {
 
@@ -52,6 +54,30 @@ public interface PaxosStateLog<V extends Persistable & Versionable> {
      */
     byte[] readRound(long seq) throws IOException;
 
+    /**
+     * Retrieves the rounds with sequence numbers in the given inclusive range, keyed by sequence number. Sequence
+     * numbers with no persisted round are absent from the returned map. Rounds are returned as bytes, so callers
+     * only pay for hydrating the rounds they actually use.
+     *
+     * The default implementation reads each round individually; implementations that can read a contiguous range
+     * of rounds more cheaply should override it.
+     *
+     * @param fromSequenceInclusive the lower bound sequence number (inclusive)
+     * @param toSequenceInclusive the upper bound sequence number (inclusive)
+     * @throws CorruptLogFileException if any round in the range is corrupted on disk
+     */
+    default NavigableMap<Long, byte[]> readRounds(long fromSequenceInclusive, long toSequenceInclusive)
+            throws IOException {
+        NavigableMap<Long, byte[]> rounds = new TreeMap<>();
+        for (long seq = fromSequenceInclusive; seq <= toSequenceInclusive; seq++) {
+            byte[] round = readRound(seq);
+            if (round != null) {
+                rounds.put(seq, round);
+            }
+        }
+        return rounds;
+    }
+
     /**
      * Returns the sequence number of the least known log entry or {@value PaxosAcceptor#NO_LOG_ENTRY}
      * if this log has never been truncated.
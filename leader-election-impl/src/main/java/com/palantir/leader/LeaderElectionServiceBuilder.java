@@ -18,6 +18,7 @@ package com.palantir.leader;
 
 import com.palantir.logsafe.Preconditions;
 import com.palantir.paxos.CoalescingPaxosLatestRoundVerifier;
+import com.palantir.paxos.LeaderLeaseConfig;
 import com.palantir.paxos.LeaderPinger;
 import com.palantir.paxos.PaxosAcceptorNetworkClient;
 import com.palantir.paxos.PaxosLatestRoundVerifier;
@@ -27,6 +28,7 @@ import com.palantir.paxos.PaxosLearnerNetworkClient;
 import com.palantir.paxos.PaxosProposer;
 import com.palantir.paxos.PaxosProposerImpl;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.UnaryOperator;
 import javax.annotation.Nullable;
@@ -64,6 +66,8 @@ public final class LeaderElectionServiceBuilder {
     @Nullable
     private PaxosLatestRoundVerifier latestRoundVerifier;
 
+    private Optional<LeaderLeaseConfig> leaderLease = Optional.empty();
+
     private UnaryOperator<PaxosProposer> proposerDecorator = paxosProposer -> paxosProposer;
 
     public LeaderElectionServiceBuilder acceptorClient(PaxosAcceptorNetworkClient acceptorClient) {
@@ -132,6 +136,11 @@ public final class LeaderElectionServiceBuilder {
         return this;
     }
 
+    public LeaderElectionServiceBuilder leaderLease(LeaderLeaseConfig leaderLease) {
+        this.leaderLease = Optional.of(Preconditions.checkNotNull(leaderLease, "leaderLease cannot be null"));
+        return this;
+    }
+
     public LeaderElectionService build() {
         return new PaxosLeaderElectionService(
                 proposerDecorator.apply(buildProposer()),
@@ -142,7 +151,9 @@ public final class LeaderElectionServiceBuilder {
                 pingRate(),
                 randomWaitBeforeProposingLeadership(),
                 leaderAddressCacheTtl(),
-                eventRecorder());
+                eventRecorder(),
+                leaderLease.map(config -> new LeaderLease(
+                        config.leaderLeaseDuration(), config.leaderChangeTimeout(), System::nanoTime)));
     }
 
     private PaxosProposer buildProposer() {
@@ -0,0 +1,85 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.leader;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The lease this node holds on a round it leads, as described in {@link com.palantir.paxos.LeaderLeaseConfig}.
+ * A lease is only ever extended for the same round; renewing it for a different round replaces it.
+ */
+@ThreadSafe
+final class LeaderLease {
+    private final long leaseDurationNanos;
+    private final long leaderChangeTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Lease> currentLease = new AtomicReference<>();
+
+    LeaderLease(Duration leaseDuration, Duration leaderChangeTimeout, LongSupplier nanoClock) {
+        this.leaseDurationNanos = leaseDuration.toNanos();
+        this.leaderChangeTimeoutNanos = leaderChangeTimeout.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    long currentTimeNanos() {
+        return nanoClock.getAsLong();
+    }
+
+    boolean isValidFor(long round) {
+        Lease lease = currentLease.get();
+        return lease != null && lease.round == round && nanoClock.getAsLong() - lease.expiryNanos < 0;
+    }
+
+    /**
+     * Records that a quorum agreed that {@code round} was the latest round in response to a request sent no earlier
+     * than {@code requestSentNanos}.
+     */
+    void renew(long round, long requestSentNanos) {
+        Lease renewed = new Lease(round, requestSentNanos + leaseDurationNanos);
+        currentLease.accumulateAndGet(renewed, (existing, proposed) -> {
+            if (existing != null && existing.round == round && existing.expiryNanos - proposed.expiryNanos > 0) {
+                return existing;
+            }
+            return proposed;
+        });
+    }
+
+    /**
+     * Whether a proposal to change the leader that was first attempted at {@code firstAttemptNanos} may still be
+     * refused because of a lease granted by the acceptors, and so should be retried.
+     */
+    boolean mayBlockLeaderChangeSince(long firstAttemptNanos) {
+        return nanoClock.getAsLong() - firstAttemptNanos < leaderChangeTimeoutNanos;
+    }
+
+    void revoke() {
+        currentLease.set(null);
+    }
+
+    private static final class Lease {
+        private final long round;
+        private final long expiryNanos;
+
+        private Lease(long round, long expiryNanos) {
+            this.round = round;
+            this.expiryNanos = expiryNanos;
+        }
+    }
+}
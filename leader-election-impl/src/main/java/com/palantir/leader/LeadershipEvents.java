@@ -102,6 +102,18 @@ class LeadershipEvents {
         leaderElectionServiceMetrics.leaderOnOlderTimeLockVersion().mark();
     }
 
+    void leaderLeaseUsed() {
+        leaderElectionServiceMetrics.leaderLeaseUsed().mark();
+    }
+
+    void leaderLeaseFallbackToQuorum() {
+        leaderElectionServiceMetrics.leaderLeaseFallbackToQuorum().mark();
+    }
+
+    void leaderLeaseRenewed() {
+        leaderElectionServiceMetrics.leaderLeaseRenewed().mark();
+    }
+
     private Object[] withContextArgs(Object arg) {
         if (contextArgs.length == 0) {
             return new Object[] {arg};
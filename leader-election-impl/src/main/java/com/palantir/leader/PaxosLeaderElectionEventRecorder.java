@@ -47,6 +47,15 @@ public interface PaxosLeaderElectionEventRecorder {
      * as compared to the local server. */
     void recordLeaderOnOlderVersion(OrderableSlsVersion version);
 
+    /** Called when we confirm that we are still leading from a valid leader lease, without contacting a quorum. */
+    void recordLeaderLeaseUsed();
+
+    /** Called when we have no valid leader lease, and so must contact a quorum to confirm that we are leading. */
+    void recordLeaderLeaseFallbackToQuorum();
+
+    /** Called when a quorum confirms that we are leading, renewing our leader lease. */
+    void recordLeaderLeaseRenewed();
+
     PaxosLeaderElectionEventRecorder NO_OP = new PaxosLeaderElectionEventRecorder() {
         @Override
         public void recordNotLeading(PaxosValue value) {}
@@ -71,5 +80,14 @@ public interface PaxosLeaderElectionEventRecorder {
 
         @Override
         public void recordLeaderOnOlderVersion(OrderableSlsVersion version) {}
+
+        @Override
+        public void recordLeaderLeaseUsed() {}
+
+        @Override
+        public void recordLeaderLeaseFallbackToQuorum() {}
+
+        @Override
+        public void recordLeaderLeaseRenewed() {}
     };
 }
@@ -77,6 +77,8 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
 
     private final Cache<UUID, HostAndPort> leaderAddressCache;
 
+    private final Optional<LeaderLease> leaderLease;
+
     PaxosLeaderElectionService(
             PaxosProposer proposer,
             PaxosLearner knowledge,
@@ -86,7 +88,8 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
             Duration updatePollingWait,
             Duration randomWaitBeforeProposingLeadership,
             Duration leaderAddressCacheTtl,
-            PaxosLeaderElectionEventRecorder eventRecorder) {
+            PaxosLeaderElectionEventRecorder eventRecorder,
+            Optional<LeaderLease> leaderLease) {
         this.proposer = proposer;
         this.knowledge = knowledge;
         this.leaderPinger = leaderPinger;
@@ -97,6 +100,7 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
         this.eventRecorder = eventRecorder;
         this.leaderAddressCache =
                 Caffeine.newBuilder().expireAfterWrite(leaderAddressCacheTtl).build();
+        this.leaderLease = leaderLease;
     }
 
     @Override
@@ -144,11 +148,15 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
             return;
         }
 
+        waitBeforeProposing();
+
+        proposeLeadershipAfter(currentState.greatestLearnedValue());
+    }
+
+    private void waitBeforeProposing() throws InterruptedException {
         long backoffTime = (long) (randomWaitBeforeProposingLeadership.toMillis() * Math.random());
         log.debug("Waiting for [{}] ms before proposing leadership", SafeArg.of("waitTimeMs", backoffTime));
         Thread.sleep(backoffTime);
-
-        proposeLeadershipAfter(currentState.greatestLearnedValue());
     }
 
     @Override
@@ -237,6 +245,34 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
             return Futures.immediateFuture(StillLeadingStatus.NOT_LEADING);
         }
 
+        return leaderLease
+                .map(lease -> determineLeadershipStatusUnderLease(value, lease))
+                .orElseGet(() -> verifyLatestRoundWithQuorum(value));
+    }
+
+    private ListenableFuture<StillLeadingStatus> determineLeadershipStatusUnderLease(
+            PaxosValue value, LeaderLease lease) {
+        if (lease.isValidFor(value.getRound())) {
+            eventRecorder.recordLeaderLeaseUsed();
+            return Futures.immediateFuture(StillLeadingStatus.LEADING);
+        }
+
+        eventRecorder.recordLeaderLeaseFallbackToQuorum();
+        // The verifier only returns results of requests sent after it was called, so the lease may start from here.
+        long requestSentNanos = lease.currentTimeNanos();
+        return Futures.transform(
+                verifyLatestRoundWithQuorum(value),
+                status -> {
+                    if (status == StillLeadingStatus.LEADING) {
+                        lease.renew(value.getRound(), requestSentNanos);
+                        eventRecorder.recordLeaderLeaseRenewed();
+                    }
+                    return status;
+                },
+                MoreExecutors.directExecutor());
+    }
+
+    private ListenableFuture<StillLeadingStatus> verifyLatestRoundWithQuorum(PaxosValue value) {
         return Futures.transform(
                 latestRoundVerifier.isLatestRoundAsync(value.getRound()),
                 PaxosQuorumStatus::toStillLeadingStatus,
@@ -293,9 +329,10 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
         LeadershipState leadershipState = determineLeadershipState();
         StillLeadingStatus status = leadershipState.status();
         if (status == StillLeadingStatus.LEADING) {
+            leaderLease.ifPresent(LeaderLease::revoke);
+            long seq = getNextSequenceNumber(leadershipState.greatestLearnedValue());
             try {
-                proposer.proposeAnonymously(
-                        getNextSequenceNumber(leadershipState.greatestLearnedValue()), LEADERSHIP_PROPOSAL_VALUE);
+                proposeRetryingWhileLeasesMayBlock(() -> proposer.proposeAnonymously(seq, LEADERSHIP_PROPOSAL_VALUE));
                 return true;
             } catch (PaxosRoundFailureException e) {
                 log.info(
@@ -304,6 +341,10 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
                         SafeArg.of("leadershipState", leadershipState),
                         e);
                 return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.info("Interrupted while relinquishing leadership", e);
+                return false;
             }
         }
         return false;
@@ -317,9 +358,9 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
             case LEADING:
                 return true;
             case NOT_LEADING:
+                long seq = getNextSequenceNumber(leadershipState.greatestLearnedValue());
                 try {
-                    proposer.propose(
-                            getNextSequenceNumber(leadershipState.greatestLearnedValue()), LEADERSHIP_PROPOSAL_VALUE);
+                    proposeRetryingWhileLeasesMayBlock(() -> proposer.propose(seq, LEADERSHIP_PROPOSAL_VALUE));
                     StillLeadingStatus newStatus = determineLeadershipState().status();
                     if (newStatus == StillLeadingStatus.LEADING) {
                         log.info("Successfully took over", SafeArg.of("newStatus", newStatus));
@@ -334,6 +375,10 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
                             SafeArg.of("lastObservedState", leadershipState),
                             e);
                     return false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.info("Interrupted while taking over leadership", e);
+                    return false;
                 }
             case NO_QUORUM:
                 log.info("Couldn't takeover leadership because a quorum could not be obtained: NO_QUORUM");
@@ -343,6 +388,32 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
         }
     }
 
+    /**
+     * Acceptors refuse to prepare later rounds while a lease they granted is valid, but stop granting leases once they
+     * have refused, so a proposal to change the leader is retried until every lease granted before it has expired.
+     */
+    private void proposeRetryingWhileLeasesMayBlock(LeaderChangeProposal proposal)
+            throws PaxosRoundFailureException, InterruptedException {
+        if (leaderLease.isEmpty()) {
+            proposal.propose();
+            return;
+        }
+        LeaderLease lease = leaderLease.get();
+        long firstAttemptNanos = lease.currentTimeNanos();
+        while (true) {
+            try {
+                proposal.propose();
+                return;
+            } catch (PaxosRoundFailureException e) {
+                if (!lease.mayBlockLeaderChangeSince(firstAttemptNanos)) {
+                    throw e;
+                }
+                log.info("Proposal to change leader failed, possibly because of a leader lease; retrying", e);
+                waitBeforeProposing();
+            }
+        }
+    }
+
     @Override
     public Optional<HostAndPort> getRecentlyPingedLeaderHost() {
         return extractLeaderUuid(knowledge.getGreatestLearnedValue()).map(leaderAddressCache::getIfPresent);
@@ -352,6 +423,11 @@ public class PaxosLeaderElectionService implements LeaderElectionService {
         return paxosValue.map(PaxosValue::getRound).orElse(PaxosAcceptor.NO_LOG_ENTRY) + 1;
     }
 
+    @FunctionalInterface
+    private interface LeaderChangeProposal {
+        void propose() throws PaxosRoundFailureException;
+    }
+
     @Value.Immutable
     interface LeadershipState {
 
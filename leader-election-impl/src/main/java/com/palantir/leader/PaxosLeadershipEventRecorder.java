@@ -84,6 +84,21 @@ public class PaxosLeadershipEventRecorder implements PaxosKnowledgeEventRecorder
         events.leaderOnOlderTimeLockVersion(version);
     }
 
+    @Override
+    public void recordLeaderLeaseUsed() {
+        events.leaderLeaseUsed();
+    }
+
+    @Override
+    public void recordLeaderLeaseFallbackToQuorum() {
+        events.leaderLeaseFallbackToQuorum();
+    }
+
+    @Override
+    public void recordLeaderLeaseRenewed() {
+        events.leaderLeaseRenewed();
+    }
+
     @Override
     public void recordProposalFailure(PaxosRoundFailureException paxosException) {
         events.proposalFailure(paxosException);
@@ -16,6 +16,7 @@
 package com.palantir.leader.proxy;
 
 import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.reflect.AbstractInvocationHandler;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.Futures;
@@ -41,6 +42,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 @SuppressWarnings("ProxyNonConstantType")
@@ -59,25 +63,52 @@ public final class AwaitingLeadershipProxy<T> extends AbstractInvocationHandler
             executionExecutor,
             status -> status != StillLeadingStatus.NO_QUORUM);
 
+    /**
+     * How a proxy invokes methods on its delegate once it has confirmed that this node is still the leader.
+     */
+    public enum DelegateDispatch {
+        /** Invokes each method on the delegate through {@link Method#invoke}. */
+        REFLECTION,
+        /** Invokes each method on the delegate through a method handle resolved when the proxy is created. */
+        METHOD_HANDLES
+    }
+
     private final LeadershipCoordinator leadershipCoordinator;
     private final Class<T> interfaceClass;
+    private final Map<Method, DelegateMethod> delegateMethods;
 
     private final LeadershipStateManager<T> leadershipStateManager;
     private volatile boolean isClosed;
 
     private AwaitingLeadershipProxy(
-            LeadershipCoordinator leadershipCoordinator, Supplier<T> delegateSupplier, Class<T> interfaceClass) {
+            LeadershipCoordinator leadershipCoordinator,
+            Supplier<T> delegateSupplier,
+            Class<T> interfaceClass,
+            DelegateDispatch dispatch) {
         Preconditions.checkNotNull(delegateSupplier, "Unable to create an AwaitingLeadershipProxy with no supplier");
         this.leadershipCoordinator = leadershipCoordinator;
         this.interfaceClass = interfaceClass;
+        this.delegateMethods = Arrays.stream(interfaceClass.getMethods())
+                .collect(ImmutableMap.toImmutableMap(
+                        Function.identity(),
+                        method -> DelegateMethod.create(method, dispatch),
+                        (first, _second) -> first));
         this.leadershipStateManager = new LeadershipStateManager<>(leadershipCoordinator, delegateSupplier);
         this.isClosed = false;
     }
 
     public static <U> U newProxyInstance(
             Class<U> interfaceClass, Supplier<U> delegateSupplier, LeadershipCoordinator awaitingLeadership) {
+        return newProxyInstance(interfaceClass, delegateSupplier, awaitingLeadership, DelegateDispatch.REFLECTION);
+    }
+
+    public static <U> U newProxyInstance(
+            Class<U> interfaceClass,
+            Supplier<U> delegateSupplier,
+            LeadershipCoordinator awaitingLeadership,
+            DelegateDispatch dispatch) {
         AwaitingLeadershipProxy<U> proxy =
-                new AwaitingLeadershipProxy<>(awaitingLeadership, delegateSupplier, interfaceClass);
+                new AwaitingLeadershipProxy<>(awaitingLeadership, delegateSupplier, interfaceClass, dispatch);
         return (U) Proxy.newProxyInstance(
                 interfaceClass.getClassLoader(), new Class<?>[] {interfaceClass, Closeable.class}, proxy);
     }
@@ -92,6 +123,12 @@ public final class AwaitingLeadershipProxy<T> extends AbstractInvocationHandler
             return null;
         }
 
+        DelegateMethod delegateMethod = delegateMethods.get(method);
+        if (delegateMethod == null) {
+            delegateMethod = DelegateMethod.create(method, DelegateDispatch.REFLECTION);
+        }
+        DelegateInvoker invoker = delegateMethod.invoker;
+
         // The state must NEVER be cached, each request must fetch latest leadership state from the
         // leadershipStateManager
         LeadershipState<T> leadershipState = leadershipStateManager.getLeadershipState();
@@ -130,10 +167,10 @@ public final class AwaitingLeadershipProxy<T> extends AbstractInvocationHandler
                 },
                 MoreExecutors.directExecutor());
 
-        if (!method.getReturnType().equals(ListenableFuture.class)) {
+        if (!delegateMethod.returnsListenableFuture) {
             T delegate = AtlasFutures.getUnchecked(delegateFuture);
             try (CloseableTracer ignored = CloseableTracer.startSpan("execute-on-delegate")) {
-                return method.invoke(delegate, args);
+                return invoker.invoke(delegate, args);
             } catch (InvocationTargetException e) {
                 throw handleDelegateThrewException(leadershipToken, e);
             }
@@ -142,7 +179,7 @@ public final class AwaitingLeadershipProxy<T> extends AbstractInvocationHandler
                     .transformAsync(
                             delegate -> Tracers.wrapListenableFuture("execute-on-delegate-async", () -> {
                                 try {
-                                    return (ListenableFuture<Object>) method.invoke(delegate, args);
+                                    return (ListenableFuture<Object>) invoker.invoke(delegate, args);
                                 } catch (IllegalAccessException | InvocationTargetException e) {
                                     return Futures.immediateFailedFuture(e);
                                 }
@@ -173,4 +210,22 @@ public final class AwaitingLeadershipProxy<T> extends AbstractInvocationHandler
         Throwables.propagateIfPossible(exception.getCause(), Exception.class);
         throw new RuntimeException(exception.getCause());
     }
+
+    private static final class DelegateMethod {
+        private final boolean returnsListenableFuture;
+        private final DelegateInvoker invoker;
+
+        private DelegateMethod(boolean returnsListenableFuture, DelegateInvoker invoker) {
+            this.returnsListenableFuture = returnsListenableFuture;
+            this.invoker = invoker;
+        }
+
+        private static DelegateMethod create(Method method, DelegateDispatch dispatch) {
+            return new DelegateMethod(
+                    method.getReturnType().equals(ListenableFuture.class),
+                    dispatch == DelegateDispatch.METHOD_HANDLES
+                            ? DelegateInvoker.methodHandle(method)
+                            : DelegateInvoker.reflective(method));
+        }
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.leader.proxy;
+
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes a single interface method on the delegate of an {@link AwaitingLeadershipProxy}. As with
+ * {@link Method#invoke}, anything thrown by the delegate is wrapped in an {@link InvocationTargetException}, so that
+ * callers handle failures in the same way whichever implementation is used.
+ */
+interface DelegateInvoker {
+    SafeLogger log = SafeLoggerFactory.get(DelegateInvoker.class);
+    MethodType ERASED_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    Object invoke(Object delegate, Object[] args) throws IllegalAccessException, InvocationTargetException;
+
+    static DelegateInvoker reflective(Method method) {
+        return method::invoke;
+    }
+
+    /**
+     * Resolves a method handle for {@code method} up front, so that each invocation is a direct call through the
+     * handle rather than a reflective lookup. Falls back to reflection if the method is not accessible.
+     */
+    static DelegateInvoker methodHandle(Method method) {
+        MethodHandle handle;
+        try {
+            method.trySetAccessible();
+            handle = MethodHandles.lookup()
+                    .unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(ERASED_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.info(
+                    "Could not create a method handle for a leadership proxy method; using reflection instead",
+                    SafeArg.of("method", method.getName()),
+                    e);
+            return reflective(method);
+        }
+        return (delegate, args) -> {
+            try {
+                return handle.invokeExact(delegate, args);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        };
+    }
+}
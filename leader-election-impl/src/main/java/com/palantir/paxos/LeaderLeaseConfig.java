@@ -0,0 +1,104 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.paxos;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.time.Duration;
+import org.immutables.value.Value;
+
+/**
+ * Leader leases let a leader confirm that it is still leading without contacting a quorum of acceptors.
+ *
+ * Whenever an acceptor reports its latest sequence number to a leader verifying its round, it also promises not to
+ * prepare any later sequence for {@link #leaseDuration()}, as measured by its own clock from when it received the
+ * request. Once a quorum has agreed that its round is the latest, the leader may therefore assume that no other node
+ * can become leader until {@link #leaderLeaseDuration()} after it sent the request. The clock drift margin absorbs
+ * differences in the rate at which clocks on different nodes advance.
+ *
+ * Leases delay any change of leader, including stepping down, rather than preventing it. An acceptor that refuses to
+ * prepare a later sequence because of a lease stops granting leases on earlier sequences, and reports the refused
+ * sequence as its latest, so the leader stops relying on its lease and the lease expires. Nodes stepping down or
+ * taking over keep retrying their proposal for up to {@link #leaderChangeTimeout()} while leases expire. Acceptors
+ * also honour a lease for the lease duration after starting up, in case they granted one before restarting. The same
+ * configuration must be used on all nodes.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableLeaderLeaseConfig.class)
+@JsonDeserialize(as = ImmutableLeaderLeaseConfig.class)
+public interface LeaderLeaseConfig {
+    @JsonProperty("lease-duration-in-ms")
+    long leaseDurationMs();
+
+    @JsonProperty("clock-drift-margin-in-ms")
+    @Value.Default
+    default long clockDriftMarginMs() {
+        return 100L;
+    }
+
+    @JsonIgnore
+    @Value.Derived
+    @Value.Auxiliary
+    default Duration leaseDuration() {
+        return Duration.ofMillis(leaseDurationMs());
+    }
+
+    /**
+     * How long after sending a verification request that succeeds the leader may treat its round as the latest.
+     */
+    @JsonIgnore
+    @Value.Derived
+    @Value.Auxiliary
+    default Duration leaderLeaseDuration() {
+        return Duration.ofMillis(leaseDurationMs() - clockDriftMarginMs());
+    }
+
+    /**
+     * How long a node changing the leader may have to retry its proposal before every lease granted before its first
+     * attempt has expired.
+     */
+    @JsonIgnore
+    @Value.Derived
+    @Value.Auxiliary
+    default Duration leaderChangeTimeout() {
+        return Duration.ofMillis(leaseDurationMs() + clockDriftMarginMs());
+    }
+
+    @Value.Check
+    default void check() {
+        Preconditions.checkArgument(
+                clockDriftMarginMs() >= 0,
+                "Clock drift margin must not be negative",
+                SafeArg.of("clockDriftMarginMs", clockDriftMarginMs()));
+        Preconditions.checkArgument(
+                leaseDurationMs() > clockDriftMarginMs(),
+                "Lease duration must be greater than the clock drift margin",
+                SafeArg.of("leaseDurationMs", leaseDurationMs()),
+                SafeArg.of("clockDriftMarginMs", clockDriftMarginMs()));
+    }
+
+    static LeaderLeaseConfig of(Duration leaseDuration, Duration clockDriftMargin) {
+        return ImmutableLeaderLeaseConfig.builder()
+                .leaseDurationMs(leaseDuration.toMillis())
+                .clockDriftMarginMs(clockDriftMargin.toMillis())
+                .build();
+    }
+}
@@ -15,45 +15,89 @@
  */
 package com.palantir.paxos;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+import javax.annotation.concurrent.GuardedBy;
 
 public final class PaxosAcceptorImpl implements PaxosAcceptor {
     private static final SafeLogger log = SafeLoggerFactory.get(PaxosAcceptorImpl.class);
 
     public static PaxosAcceptor newAcceptor(String logDir) {
         PaxosStateLog<PaxosAcceptorState> stateLog = new PaxosStateLogImpl<>(logDir);
-        return new PaxosAcceptorImpl(new ConcurrentSkipListMap<>(), stateLog, stateLog.getGreatestLogEntry());
+        return new PaxosAcceptorImpl(
+                new ConcurrentSkipListMap<>(),
+                stateLog,
+                stateLog.getGreatestLogEntry(),
+                Optional.empty(),
+                System::nanoTime);
     }
 
     public static PaxosAcceptor newSplittingAcceptor(
             PaxosStorageParameters params,
             SplittingPaxosStateLog.LegacyOperationMarkers legacyOperationMarkers,
             Optional<Long> migrateFrom) {
+        return newSplittingAcceptor(params, legacyOperationMarkers, migrateFrom, Optional.empty());
+    }
+
+    public static PaxosAcceptor newSplittingAcceptor(
+            PaxosStorageParameters params,
+            SplittingPaxosStateLog.LegacyOperationMarkers legacyOperationMarkers,
+            Optional<Long> migrateFrom,
+            Optional<LeaderLeaseConfig> leaderLease) {
         PaxosStateLog<PaxosAcceptorState> stateLog = SplittingPaxosStateLog.createWithMigration(
                 params,
                 PaxosAcceptorState.BYTES_HYDRATOR,
                 legacyOperationMarkers,
                 migrateFrom.map(OptionalLong::of).orElseGet(OptionalLong::empty));
-        return new PaxosAcceptorImpl(new ConcurrentSkipListMap<>(), stateLog, stateLog.getGreatestLogEntry());
+        return new PaxosAcceptorImpl(
+                new ConcurrentSkipListMap<>(),
+                stateLog,
+                stateLog.getGreatestLogEntry(),
+                leaderLease.map(LeaderLeaseConfig::leaseDuration),
+                System::nanoTime);
     }
 
     private final ConcurrentSkipListMap<Long, PaxosAcceptorState> state;
     private final PaxosStateLog<PaxosAcceptorState> acceptorStateLog;
     private final long greatestInLogAtStartup;
+    private final Optional<Duration> leaseDuration;
+    private final LongSupplier nanoClock;
+
+    // Lease grants and the prepares they forbid must not interleave, or we could promise a later sequence after
+    // reading the latest sequence for a grant but before recording that grant.
+    private final Object leaseLock = new Object();
+
+    // We may have granted a lease before restarting, so we honour one for all sequences until it would have expired.
+    @GuardedBy("leaseLock")
+    private SequenceAtTime latestLeaseGrant;
+
+    // The latest sequence we refused to prepare because of a lease. Until it lapses, we stop granting leases on
+    // earlier sequences, so that the lease expires and the leader change it would otherwise block can go ahead.
+    @GuardedBy("leaseLock")
+    private SequenceAtTime latestForbiddenPrepare;
 
-    private PaxosAcceptorImpl(
+    @VisibleForTesting
+    PaxosAcceptorImpl(
             ConcurrentSkipListMap<Long, PaxosAcceptorState> state,
             PaxosStateLog<PaxosAcceptorState> acceptorStateLog,
-            long greatestInLogAtStartup) {
+            long greatestInLogAtStartup,
+            Optional<Duration> leaseDuration,
+            LongSupplier nanoClock) {
         this.state = state;
         this.acceptorStateLog = acceptorStateLog;
         this.greatestInLogAtStartup = greatestInLogAtStartup;
+        this.leaseDuration = leaseDuration;
+        this.nanoClock = nanoClock;
+        this.latestLeaseGrant = new SequenceAtTime(PaxosAcceptor.NO_LOG_ENTRY, nanoClock.getAsLong());
+        this.latestForbiddenPrepare = new SequenceAtTime(PaxosAcceptor.NO_LOG_ENTRY, nanoClock.getAsLong());
     }
 
     @Override
@@ -65,6 +109,23 @@ public final class PaxosAcceptorImpl implements PaxosAcceptor {
             return PaxosPromise.reject(pid);
         }
 
+        if (leaseDuration.isEmpty()) {
+            return promise(seq, pid);
+        }
+        synchronized (leaseLock) {
+            long now = nanoClock.getAsLong();
+            if (isForbiddenByLeaderLease(seq, now)) {
+                log.debug(
+                        "Rejecting prepare request as a leader lease for an earlier sequence is still valid",
+                        SafeArg.of("seq", seq));
+                latestForbiddenPrepare = SequenceAtTime.latest(latestForbiddenPrepare, new SequenceAtTime(seq, now));
+                return PaxosPromise.reject(pid);
+            }
+            return promise(seq, pid);
+        }
+    }
+
+    private PaxosPromise promise(long seq, PaxosProposalId pid) {
         for (; ; ) {
             PaxosAcceptorState oldState = state.get(seq);
 
@@ -120,13 +181,41 @@ public final class PaxosAcceptorImpl implements PaxosAcceptor {
 
     @Override
     public long getLatestSequencePreparedOrAccepted() {
-        if (state.isEmpty()) {
-            return greatestInLogAtStartup;
-        } else {
-            return Math.max(greatestInLogAtStartup, state.lastKey());
+        if (leaseDuration.isEmpty()) {
+            return getLatestSequence();
+        }
+        synchronized (leaseLock) {
+            long latestSequence = getLatestSequence();
+            long now = nanoClock.getAsLong();
+            if (hasPendingLaterPrepare(latestSequence, now)) {
+                // Reporting the sequence we will prepare once the lease expires tells the leader that its round is
+                // no longer the latest, so it neither relies on nor asks us to renew a lease we will not grant.
+                return latestForbiddenPrepare.sequence;
+            }
+            latestLeaseGrant = SequenceAtTime.latest(latestLeaseGrant, new SequenceAtTime(latestSequence, now));
+            return latestSequence;
         }
     }
 
+    private long getLatestSequence() {
+        return state.isEmpty() ? greatestInLogAtStartup : Math.max(greatestInLogAtStartup, state.lastKey());
+    }
+
+    @GuardedBy("leaseLock")
+    private boolean isForbiddenByLeaderLease(long seq, long now) {
+        return seq > latestLeaseGrant.sequence && isWithinLeaseDuration(latestLeaseGrant, now);
+    }
+
+    @GuardedBy("leaseLock")
+    private boolean hasPendingLaterPrepare(long latestSequence, long now) {
+        return latestForbiddenPrepare.sequence > latestSequence
+                && isWithinLeaseDuration(latestForbiddenPrepare, now);
+    }
+
+    private boolean isWithinLeaseDuration(SequenceAtTime sequenceAtTime, long now) {
+        return now - sequenceAtTime.atNanos < leaseDuration.get().toNanos();
+    }
+
     private void checkLogIfNeeded(long seq) throws TruncatedStateLogException, IOException {
         if (state.containsKey(seq)) {
             return;
@@ -144,4 +233,20 @@ public final class PaxosAcceptorImpl implements PaxosAcceptor {
             }
         }
     }
+
+    private static final class SequenceAtTime {
+        private final long sequence;
+        private final long atNanos;
+
+        private SequenceAtTime(long sequence, long atNanos) {
+            this.sequence = sequence;
+            this.atNanos = atNanos;
+        }
+
+        // A later record must not shorten the window started by an earlier one, nor lower the sequence it covers.
+        private static SequenceAtTime latest(SequenceAtTime first, SequenceAtTime second) {
+            return new SequenceAtTime(
+                    Math.max(first.sequence, second.sequence), Math.max(first.atNanos, second.atNanos));
+        }
+    }
 }
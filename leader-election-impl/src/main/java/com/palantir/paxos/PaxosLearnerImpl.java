@@ -15,6 +15,7 @@
  */
 package com.palantir.paxos;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.palantir.leader.PaxosKnowledgeEventRecorder;
 import com.palantir.logsafe.SafeArg;
@@ -22,9 +23,11 @@ import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
@@ -36,7 +39,8 @@ public final class PaxosLearnerImpl implements PaxosLearner {
         return newLearner(new PaxosStateLogImpl<>(logDir), eventRecorder);
     }
 
-    private static PaxosLearner newLearner(
+    @VisibleForTesting
+    static PaxosLearner newLearner(
             PaxosStateLog<PaxosValue> stateLog, PaxosKnowledgeEventRecorder eventRecorder) {
         ConcurrentSkipListMap<Long, PaxosValue> state = new ConcurrentSkipListMap<>();
 
@@ -84,8 +88,7 @@ public final class PaxosLearnerImpl implements PaxosLearner {
             if (!state.containsKey(seq)) {
                 byte[] bytes = learnerStateLog.readRound(seq);
                 if (bytes != null) {
-                    PaxosValue value = PaxosValue.BYTES_HYDRATOR.hydrateFromBytes(learnerStateLog.readRound(seq));
-                    state.put(seq, value);
+                    state.put(seq, PaxosValue.BYTES_HYDRATOR.hydrateFromBytes(bytes));
                 }
             }
             return Optional.ofNullable(state.get(seq));
@@ -102,12 +105,58 @@ public final class PaxosLearnerImpl implements PaxosLearner {
             return ImmutableList.of();
         }
 
-        return LongStream.rangeClosed(seq, greatestSeq.get())
-                .boxed()
-                .map(this::getLearnedValue)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        long greatest = greatestSeq.get();
+        if (seq > greatest) {
+            return ImmutableList.of();
+        }
+
+        try {
+            return readLearnedValuesInRange(seq, greatest);
+        } catch (IOException | RuntimeException e) {
+            // SqlitePaxosStateLog reports failures as unchecked JDBI exceptions rather than IOExceptions.
+            log.warn(
+                    "Unable to read learned values as a range, falling back to reading them one at a time",
+                    SafeArg.of("fromSequence", seq),
+                    SafeArg.of("toSequence", greatest),
+                    e);
+            return LongStream.rangeClosed(seq, greatest)
+                    .boxed()
+                    .map(this::getLearnedValue)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Serves the rounds held in memory directly, and reads the rest with a single call to the log covering every
+     * round in the range that is not in memory. The log is not read at all if memory covers the whole range.
+     */
+    private Collection<PaxosValue> readLearnedValuesInRange(long fromInclusive, long toInclusive) throws IOException {
+        NavigableMap<Long, PaxosValue> learned = new TreeMap<>(state.subMap(fromInclusive, toInclusive + 1));
+        if (learned.size() <= toInclusive - fromInclusive) {
+            long firstMissing = firstMissingSequence(learned.navigableKeySet(), fromInclusive, 1);
+            long lastMissing = firstMissingSequence(learned.descendingKeySet(), toInclusive, -1);
+            learnerStateLog.readRounds(firstMissing, lastMissing).forEach((sequence, bytes) -> {
+                if (!learned.containsKey(sequence)) {
+                    PaxosValue value = PaxosValue.BYTES_HYDRATOR.hydrateFromBytes(bytes);
+                    state.put(sequence, value);
+                    learned.put(sequence, value);
+                }
+            });
+        }
+        return ImmutableList.copyOf(learned.values());
+    }
+
+    private static long firstMissingSequence(Iterable<Long> sequencesInOrder, long first, int step) {
+        long expected = first;
+        for (long sequence : sequencesInOrder) {
+            if (sequence != expected) {
+                return expected;
+            }
+            expected += step;
+        }
+        return expected;
     }
 
     @Override
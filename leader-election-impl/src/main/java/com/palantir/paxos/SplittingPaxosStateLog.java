@@ -22,7 +22,9 @@ import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
 import java.io.IOException;
+import java.util.NavigableMap;
 import java.util.OptionalLong;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicLong;
 import org.immutables.value.Value;
 
@@ -126,6 +128,22 @@ public final class SplittingPaxosStateLog<V extends Persistable & Versionable> i
         }
     }
 
+    @Override
+    public NavigableMap<Long, byte[]> readRounds(long fromSequenceInclusive, long toSequenceInclusive)
+            throws IOException {
+        if (fromSequenceInclusive >= cutoffInclusive) {
+            return currentLog.readRounds(fromSequenceInclusive, toSequenceInclusive);
+        }
+        markLegacyRead.run();
+        if (toSequenceInclusive < cutoffInclusive) {
+            return legacyLog.readRounds(fromSequenceInclusive, toSequenceInclusive);
+        }
+        NavigableMap<Long, byte[]> rounds =
+                new TreeMap<>(legacyLog.readRounds(fromSequenceInclusive, cutoffInclusive - 1));
+        rounds.putAll(currentLog.readRounds(cutoffInclusive, toSequenceInclusive));
+        return rounds;
+    }
+
     @Override
     public long getLeastLogEntry() {
         return Math.min(legacyLogLeastLogEntry.get(), cutoffInclusive);
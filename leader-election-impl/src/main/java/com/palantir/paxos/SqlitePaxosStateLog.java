@@ -17,14 +17,19 @@
 package com.palantir.paxos;
 
 import com.palantir.common.persist.Persistable;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.TreeMap;
 import java.util.function.Function;
 import javax.sql.DataSource;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.mapper.immutables.JdbiImmutables;
 import org.jdbi.v3.sqlobject.SingleValue;
 import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.config.KeyColumn;
+import org.jdbi.v3.sqlobject.config.ValueColumn;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindPojo;
 import org.jdbi.v3.sqlobject.statement.SqlBatch;
@@ -71,6 +76,19 @@ public class SqlitePaxosStateLog<V extends Persistable & Versionable> implements
         return execute(dao -> dao.readRound(namespace, useCase, seq));
     }
 
+    /**
+     * Reads the whole range in a single query. The range scan is served by the primary key index on
+     * (namespace, useCase, seq), so contiguous rounds are read in key order without a lookup per sequence number.
+     */
+    @Override
+    public NavigableMap<Long, byte[]> readRounds(long fromSequenceInclusive, long toSequenceInclusive) {
+        if (fromSequenceInclusive > toSequenceInclusive) {
+            return new TreeMap<>();
+        }
+        return new TreeMap<>(execute(
+                dao -> dao.readRounds(namespace, useCase, fromSequenceInclusive, toSequenceInclusive)));
+    }
+
     @Override
     public long getLeastLogEntry() {
         return execute(dao -> dao.getLeastLogEntry(namespace, useCase)).orElse(PaxosAcceptor.NO_LOG_ENTRY);
@@ -121,6 +139,16 @@ public class SqlitePaxosStateLog<V extends Persistable & Versionable> implements
         byte[] readRound(
                 @BindPojo("namespace") Client namespace, @Bind("useCase") String useCase, @Bind("seq") long seq);
 
+        @SqlQuery("SELECT seq, val FROM paxosLog WHERE namespace = :namespace.value AND useCase = :useCase"
+                + " AND seq >= :fromSeq AND seq <= :toSeq")
+        @KeyColumn("seq")
+        @ValueColumn("val")
+        Map<Long, byte[]> readRounds(
+                @BindPojo("namespace") Client namespace,
+                @Bind("useCase") String useCase,
+                @Bind("fromSeq") long fromSequenceInclusive,
+                @Bind("toSeq") long toSequenceInclusive);
+
         @SqlQuery("SELECT MIN(seq) FROM paxosLog WHERE namespace = :namespace.value AND useCase = :useCase")
         OptionalLong getLeastLogEntry(@BindPojo("namespace") Client namespace, @Bind("useCase") String useCase);
 
@@ -0,0 +1,72 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.leader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class LeaderLeaseTest {
+    private static final long LEASE_DURATION_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final long LEADER_CHANGE_TIMEOUT_NANOS = Duration.ofSeconds(2).toNanos();
+    private static final long ROUND = 3L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LeaderLease lease = new LeaderLease(
+            Duration.ofNanos(LEASE_DURATION_NANOS), Duration.ofNanos(LEADER_CHANGE_TIMEOUT_NANOS), clock::get);
+
+    @Test
+    public void leaseIsValidUntilDurationAfterRequestWasSent() {
+        assertThat(lease.isValidFor(ROUND)).isFalse();
+
+        lease.renew(ROUND, clock.get());
+        clock.addAndGet(LEASE_DURATION_NANOS - 1);
+        assertThat(lease.isValidFor(ROUND)).isTrue();
+        assertThat(lease.isValidFor(ROUND + 1)).isFalse();
+
+        clock.incrementAndGet();
+        assertThat(lease.isValidFor(ROUND)).isFalse();
+    }
+
+    @Test
+    public void olderRenewalDoesNotShortenLease() {
+        lease.renew(ROUND, 10);
+        lease.renew(ROUND, 0);
+
+        clock.set(LEASE_DURATION_NANOS + 5);
+        assertThat(lease.isValidFor(ROUND)).isTrue();
+    }
+
+    @Test
+    public void revokedLeaseIsNotValid() {
+        lease.renew(ROUND, clock.get());
+        lease.revoke();
+        assertThat(lease.isValidFor(ROUND)).isFalse();
+    }
+
+    @Test
+    public void leaderChangeMayBeBlockedUntilTimeoutAfterFirstAttempt() {
+        long firstAttemptNanos = clock.get();
+        clock.addAndGet(LEADER_CHANGE_TIMEOUT_NANOS - 1);
+        assertThat(lease.mayBlockLeaderChangeSince(firstAttemptNanos)).isTrue();
+
+        clock.incrementAndGet();
+        assertThat(lease.mayBlockLeaderChangeSince(firstAttemptNanos)).isFalse();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.leader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import com.palantir.leader.LeaderElectionService.StillLeadingStatus;
+import com.palantir.paxos.LeaderPinger;
+import com.palantir.paxos.PaxosLatestRoundVerifier;
+import com.palantir.paxos.PaxosLearner;
+import com.palantir.paxos.PaxosLearnerNetworkClient;
+import com.palantir.paxos.PaxosProposer;
+import com.palantir.paxos.PaxosQuorumStatus;
+import com.palantir.paxos.PaxosRoundFailureException;
+import com.palantir.paxos.PaxosValue;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.stubbing.Answer;
+
+public class PaxosLeaderElectionServiceLeaderLeaseTest {
+    private static final String LEADER_UUID = "leader";
+    private static final Duration LEASE_DURATION = Duration.ofSeconds(1);
+    private static final Duration LEADER_CHANGE_TIMEOUT = Duration.ofSeconds(2);
+    private static final PaxosValue VALUE = new PaxosValue(LEADER_UUID, 3, null);
+    private static final PaxosValue NEXT_VALUE = new PaxosValue(LEADER_UUID, 4, null);
+
+    private final PaxosProposer proposer = mock(PaxosProposer.class);
+    private final PaxosLearner knowledge = mock(PaxosLearner.class);
+    private final PaxosLatestRoundVerifier latestRoundVerifier = mock(PaxosLatestRoundVerifier.class);
+    private final PaxosLeaderElectionEventRecorder eventRecorder = mock(PaxosLeaderElectionEventRecorder.class);
+    private final AtomicLong clock = new AtomicLong();
+
+    private PaxosLeaderElectionService service;
+
+    @Before
+    public void setUp() {
+        when(proposer.getUuid()).thenReturn(LEADER_UUID);
+        when(knowledge.getGreatestLearnedValue()).thenReturn(Optional.of(VALUE));
+        when(latestRoundVerifier.isLatestRoundAsync(VALUE.getRound()))
+                .thenReturn(Futures.immediateFuture(PaxosQuorumStatus.QUORUM_AGREED));
+        service = new PaxosLeaderElectionService(
+                proposer,
+                knowledge,
+                mock(LeaderPinger.class),
+                latestRoundVerifier,
+                mock(PaxosLearnerNetworkClient.class),
+                Duration.ofMillis(100),
+                Duration.ofMillis(100),
+                Duration.ofSeconds(1),
+                eventRecorder,
+                Optional.of(new LeaderLease(LEASE_DURATION, LEADER_CHANGE_TIMEOUT, clock::get)));
+    }
+
+    @Test
+    public void firstCheckFallsBackToQuorumAndRenewsLease() {
+        assertThat(isStillLeading(VALUE)).isEqualTo(StillLeadingStatus.LEADING);
+
+        verify(latestRoundVerifier).isLatestRoundAsync(VALUE.getRound());
+        verify(eventRecorder).recordLeaderLeaseFallbackToQuorum();
+        verify(eventRecorder).recordLeaderLeaseRenewed();
+        verify(eventRecorder, never()).recordLeaderLeaseUsed();
+    }
+
+    @Test
+    public void usesLeaseWithoutQuorumWhileItIsValid() {
+        isStillLeading(VALUE);
+        clock.addAndGet(LEASE_DURATION.toNanos() - 1);
+
+        assertThat(isStillLeading(VALUE)).isEqualTo(StillLeadingStatus.LEADING);
+        verify(latestRoundVerifier).isLatestRoundAsync(VALUE.getRound());
+        verify(eventRecorder).recordLeaderLeaseUsed();
+    }
+
+    @Test
+    public void fallsBackToQuorumOnceLeaseExpiresAndDoesNotRenewIfQuorumDisagrees() {
+        isStillLeading(VALUE);
+        clock.addAndGet(LEASE_DURATION.toNanos());
+        when(latestRoundVerifier.isLatestRoundAsync(VALUE.getRound()))
+                .thenReturn(Futures.immediateFuture(PaxosQuorumStatus.SOME_DISAGREED));
+
+        assertThat(isStillLeading(VALUE)).isEqualTo(StillLeadingStatus.NOT_LEADING);
+        assertThat(isStillLeading(VALUE)).isEqualTo(StillLeadingStatus.NOT_LEADING);
+        verify(latestRoundVerifier, times(3)).isLatestRoundAsync(VALUE.getRound());
+        verify(eventRecorder, times(3)).recordLeaderLeaseFallbackToQuorum();
+        verify(eventRecorder).recordLeaderLeaseRenewed();
+        verify(eventRecorder, never()).recordLeaderLeaseUsed();
+    }
+
+    @Test
+    public void renewedLeaseStartsWhenVerificationRequestWasSent() {
+        SettableFuture<PaxosQuorumStatus> verification = SettableFuture.create();
+        when(latestRoundVerifier.isLatestRoundAsync(VALUE.getRound())).thenReturn(verification);
+        service.isStillLeading(new PaxosLeadershipToken(VALUE));
+        clock.addAndGet(LEASE_DURATION.toNanos() / 2);
+        verification.set(PaxosQuorumStatus.QUORUM_AGREED);
+        verify(eventRecorder).recordLeaderLeaseRenewed();
+
+        clock.addAndGet(LEASE_DURATION.toNanos() / 2);
+        when(latestRoundVerifier.isLatestRoundAsync(VALUE.getRound()))
+                .thenReturn(Futures.immediateFuture(PaxosQuorumStatus.QUORUM_AGREED));
+        assertThat(isStillLeading(VALUE)).isEqualTo(StillLeadingStatus.LEADING);
+        verify(latestRoundVerifier, times(2)).isLatestRoundAsync(VALUE.getRound());
+        verify(eventRecorder, never()).recordLeaderLeaseUsed();
+    }
+
+    @Test
+    public void leaseForOneRoundIsNotUsedForLaterRound() {
+        isStillLeading(VALUE);
+        when(knowledge.getGreatestLearnedValue()).thenReturn(Optional.of(NEXT_VALUE));
+        when(latestRoundVerifier.isLatestRoundAsync(NEXT_VALUE.getRound()))
+                .thenReturn(Futures.immediateFuture(PaxosQuorumStatus.QUORUM_AGREED));
+
+        assertThat(isStillLeading(NEXT_VALUE)).isEqualTo(StillLeadingStatus.LEADING);
+        verify(latestRoundVerifier).isLatestRoundAsync(NEXT_VALUE.getRound());
+        verify(eventRecorder, never()).recordLeaderLeaseUsed();
+    }
+
+    @Test
+    public void lostLatestRoundIsNotLeadingEvenWithValidLease() {
+        isStillLeading(VALUE);
+        when(knowledge.getGreatestLearnedValue()).thenReturn(Optional.of(NEXT_VALUE));
+
+        assertThat(isStillLeading(VALUE)).isEqualTo(StillLeadingStatus.NOT_LEADING);
+        verify(eventRecorder, never()).recordLeaderLeaseUsed();
+    }
+
+    @Test
+    public void stepDownRetriesUntilLeaseHasExpired() throws PaxosRoundFailureException {
+        doAnswer(refuseFirstAttempt(LEADER_CHANGE_TIMEOUT.toNanos() - 1))
+                .when(proposer)
+                .proposeAnonymously(anyLong(), any());
+
+        assertThat(service.stepDown()).isTrue();
+        verify(proposer, times(2)).proposeAnonymously(NEXT_VALUE.getRound(), null);
+    }
+
+    @Test
+    public void stepDownFailsIfProposalIsStillRefusedOnceLeasesHaveExpired() throws PaxosRoundFailureException {
+        doAnswer(refuseFirstAttempt(LEADER_CHANGE_TIMEOUT.toNanos()))
+                .when(proposer)
+                .proposeAnonymously(anyLong(), any());
+
+        assertThat(service.stepDown()).isFalse();
+        verify(proposer).proposeAnonymously(NEXT_VALUE.getRound(), null);
+    }
+
+    @Test
+    public void hostileTakeoverRetriesUntilLeaseHasExpired() throws PaxosRoundFailureException {
+        PaxosValue otherLeaderValue = new PaxosValue("other", VALUE.getRound(), null);
+        when(knowledge.getGreatestLearnedValue())
+                .thenReturn(Optional.of(otherLeaderValue))
+                .thenReturn(Optional.of(NEXT_VALUE));
+        when(latestRoundVerifier.isLatestRoundAsync(NEXT_VALUE.getRound()))
+                .thenReturn(Futures.immediateFuture(PaxosQuorumStatus.QUORUM_AGREED));
+        doAnswer(refuseFirstAttempt(LEADER_CHANGE_TIMEOUT.toNanos() - 1))
+                .when(proposer)
+                .propose(anyLong(), any());
+
+        assertThat(service.hostileTakeover()).isTrue();
+        verify(proposer, times(2)).propose(NEXT_VALUE.getRound(), null);
+    }
+
+    private Answer<byte[]> refuseFirstAttempt(long nanosTakenByFirstAttempt) {
+        AtomicLong attempts = new AtomicLong();
+        return invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                clock.addAndGet(nanosTakenByFirstAttempt);
+                throw new PaxosRoundFailureException("refused because of a leader lease");
+            }
+            return null;
+        };
+    }
+
+    private StillLeadingStatus isStillLeading(PaxosValue value) {
+        return Futures.getUnchecked(service.isStillLeading(new PaxosLeadershipToken(value)));
+    }
+}
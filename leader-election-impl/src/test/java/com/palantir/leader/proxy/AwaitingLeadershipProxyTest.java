@@ -208,6 +208,35 @@ public class AwaitingLeadershipProxyTest {
         assertThatThrownBy(proxy::call).isInstanceOf(InterruptedException.class).hasMessage(TEST_MESSAGE);
     }
 
+    @Test
+    public void methodHandleDispatchReturnsDelegateResults() throws Exception {
+        when(leaderElectionService.getCurrentTokenIfLeading()).thenReturn(Optional.of(leadershipToken));
+        ReturnsListenableFutureImpl listenableFuture = new ReturnsListenableFutureImpl();
+        ReturnsListenableFuture proxy = AwaitingLeadershipProxy.newProxyInstance(
+                ReturnsListenableFuture.class,
+                () -> listenableFuture,
+                LeadershipCoordinator.create(leaderElectionService),
+                AwaitingLeadershipProxy.DelegateDispatch.METHOD_HANDLES);
+
+        ListenableFuture<?> future = proxy.future();
+        listenableFuture.future.set(null);
+        assertThat(future.get()).isNull();
+    }
+
+    @Test
+    public void methodHandleDispatchPropagatesDelegateExceptions() throws InterruptedException {
+        Callable<Void> proxy = (Callable<Void>) AwaitingLeadershipProxy.newProxyInstance(
+                Callable.class,
+                () -> () -> {
+                    throw new InterruptedException(TEST_MESSAGE);
+                },
+                LeadershipCoordinator.create(leaderElectionService),
+                AwaitingLeadershipProxy.DelegateDispatch.METHOD_HANDLES);
+        waitForLeadershipToBeGained();
+
+        assertThatThrownBy(proxy::call).isInstanceOf(InterruptedException.class).hasMessage(TEST_MESSAGE);
+    }
+
     @Test
     public void shouldGainLeadershipImmediatelyIfAlreadyLeading() throws Exception {
         when(leaderElectionService.getCurrentTokenIfLeading()).thenReturn(Optional.of(leadershipToken));
@@ -0,0 +1,148 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.paxos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import org.awaitility.Awaitility;
+import org.junit.Test;
+
+public class PaxosAcceptorLeaderLeaseTest {
+    private static final Duration LEASE_DURATION = Duration.ofSeconds(1);
+    private static final PaxosProposalId PROPOSAL_ID = new PaxosProposalId(1, "proposer");
+
+    @SuppressWarnings("unchecked")
+    private final PaxosStateLog<PaxosAcceptorState> stateLog = mock(PaxosStateLog.class);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void rejectsPreparesUntilLeaseGrantedBeforeStartupWouldHaveExpired() {
+        PaxosAcceptor acceptor = createAcceptor(Optional.of(LEASE_DURATION));
+        assertThat(acceptor.prepare(0, PROPOSAL_ID).isSuccessful()).isFalse();
+
+        clock.addAndGet(LEASE_DURATION.toNanos());
+        assertThat(acceptor.prepare(0, PROPOSAL_ID).isSuccessful()).isTrue();
+    }
+
+    @Test
+    public void rejectsPreparesForLaterSequencesWhileLeaseIsValid() {
+        PaxosAcceptor acceptor = createAcceptor(Optional.of(LEASE_DURATION));
+        clock.addAndGet(LEASE_DURATION.toNanos());
+        assertThat(acceptor.prepare(5, PROPOSAL_ID).isSuccessful()).isTrue();
+
+        assertThat(acceptor.getLatestSequencePreparedOrAccepted()).isEqualTo(5);
+        clock.addAndGet(LEASE_DURATION.toNanos() - 1);
+        assertThat(acceptor.prepare(6, PROPOSAL_ID).isSuccessful()).isFalse();
+        assertThat(acceptor.prepare(5, PROPOSAL_ID).isSuccessful()).isTrue();
+
+        clock.incrementAndGet();
+        assertThat(acceptor.prepare(6, PROPOSAL_ID).isSuccessful()).isTrue();
+    }
+
+    @Test
+    public void refusedPrepareStopsLeaseRenewalsUntilLeaseExpires() {
+        PaxosAcceptor acceptor = createAcceptor(Optional.of(LEASE_DURATION));
+        clock.addAndGet(LEASE_DURATION.toNanos());
+        assertThat(acceptor.prepare(5, PROPOSAL_ID).isSuccessful()).isTrue();
+        assertThat(acceptor.getLatestSequencePreparedOrAccepted()).isEqualTo(5);
+
+        clock.addAndGet(LEASE_DURATION.toNanos() / 2);
+        assertThat(acceptor.prepare(6, PROPOSAL_ID).isSuccessful()).isFalse();
+        assertThat(acceptor.getLatestSequencePreparedOrAccepted()).isEqualTo(6);
+
+        clock.addAndGet(LEASE_DURATION.toNanos() / 2);
+        assertThat(acceptor.prepare(6, PROPOSAL_ID).isSuccessful()).isTrue();
+        assertThat(acceptor.getLatestSequencePreparedOrAccepted()).isEqualTo(6);
+    }
+
+    @Test
+    public void grantsLeasesAgainOnceRefusedPrepareIsNoLongerRetried() {
+        PaxosAcceptor acceptor = createAcceptor(Optional.of(LEASE_DURATION));
+        clock.addAndGet(LEASE_DURATION.toNanos());
+        assertThat(acceptor.prepare(5, PROPOSAL_ID).isSuccessful()).isTrue();
+        acceptor.getLatestSequencePreparedOrAccepted();
+        assertThat(acceptor.prepare(6, PROPOSAL_ID).isSuccessful()).isFalse();
+
+        clock.addAndGet(LEASE_DURATION.toNanos());
+        assertThat(acceptor.getLatestSequencePreparedOrAccepted()).isEqualTo(5);
+        assertThat(acceptor.prepare(6, PROPOSAL_ID).isSuccessful()).isFalse();
+    }
+
+    @Test
+    public void doesNotRejectPreparesWithoutLeases() {
+        PaxosAcceptor acceptor = createAcceptor(Optional.empty());
+        assertThat(acceptor.prepare(0, PROPOSAL_ID).isSuccessful()).isTrue();
+
+        acceptor.getLatestSequencePreparedOrAccepted();
+        assertThat(acceptor.prepare(1, PROPOSAL_ID).isSuccessful()).isTrue();
+    }
+
+    @Test
+    public void prepareRacingWithLeaseGrantForEarlierSequenceIsRejected() throws Exception {
+        AtomicReference<Thread> threadToPause = new AtomicReference<>();
+        CountDownLatch grantPaused = new CountDownLatch(1);
+        CountDownLatch resumeGrant = new CountDownLatch(1);
+        LongSupplier pausingClock = () -> {
+            if (threadToPause.compareAndSet(Thread.currentThread(), null)) {
+                grantPaused.countDown();
+                Uninterruptibles.awaitUninterruptibly(resumeGrant);
+            }
+            return clock.get();
+        };
+        PaxosAcceptor acceptor = createAcceptor(Optional.of(LEASE_DURATION), pausingClock);
+        clock.addAndGet(LEASE_DURATION.toNanos());
+        assertThat(acceptor.prepare(5, PROPOSAL_ID).isSuccessful()).isTrue();
+
+        // The grant has read sequence 5 as the latest, but has not recorded the lease yet.
+        FutureTask<Long> grant = new FutureTask<>(acceptor::getLatestSequencePreparedOrAccepted);
+        Thread grantThread = new Thread(grant);
+        threadToPause.set(grantThread);
+        grantThread.start();
+        grantPaused.await();
+
+        FutureTask<PaxosPromise> prepare = new FutureTask<>(() -> acceptor.prepare(6, PROPOSAL_ID));
+        Thread prepareThread = new Thread(prepare);
+        prepareThread.start();
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .until(() -> prepare.isDone() || prepareThread.getState() == Thread.State.BLOCKED);
+
+        resumeGrant.countDown();
+        assertThat(grant.get()).isEqualTo(5);
+        assertThat(prepare.get().isSuccessful()).isFalse();
+    }
+
+    private PaxosAcceptor createAcceptor(Optional<Duration> leaseDuration) {
+        return createAcceptor(leaseDuration, clock::get);
+    }
+
+    private PaxosAcceptor createAcceptor(Optional<Duration> leaseDuration, LongSupplier nanoClock) {
+        return new PaxosAcceptorImpl(
+                new ConcurrentSkipListMap<>(), stateLog, PaxosAcceptor.NO_LOG_ENTRY, leaseDuration, nanoClock);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.paxos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.palantir.leader.PaxosKnowledgeEventRecorder;
+import java.io.IOException;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PaxosLearnerImplTest {
+    private static final PaxosValue VALUE_1 = new PaxosValue("leader", 1, new byte[] {1});
+    private static final PaxosValue VALUE_2 = new PaxosValue("leader", 2, new byte[] {2});
+    private static final PaxosValue VALUE_3 = new PaxosValue("leader", 3, new byte[] {3});
+
+    @SuppressWarnings("unchecked")
+    private final PaxosStateLog<PaxosValue> stateLog = mock(PaxosStateLog.class);
+
+    private PaxosLearner learner;
+
+    @Before
+    public void setUp() throws IOException {
+        when(stateLog.getLeastLogEntry()).thenReturn(1L);
+        when(stateLog.getGreatestLogEntry()).thenReturn(3L);
+        when(stateLog.readRound(1)).thenReturn(VALUE_1.persistToBytes());
+        when(stateLog.readRound(2)).thenReturn(VALUE_2.persistToBytes());
+        when(stateLog.readRound(3)).thenReturn(VALUE_3.persistToBytes());
+        learner = PaxosLearnerImpl.newLearner(stateLog, PaxosKnowledgeEventRecorder.NO_OP);
+    }
+
+    @Test
+    public void readsRoundsMissingFromMemoryAsRange() throws IOException {
+        when(stateLog.readRounds(1, 2))
+                .thenReturn(ImmutableSortedMap.of(1L, VALUE_1.persistToBytes(), 2L, VALUE_2.persistToBytes()));
+
+        assertThat(learner.getLearnedValuesSince(1)).containsExactly(VALUE_1, VALUE_2, VALUE_3);
+        verify(stateLog).readRounds(1, 2);
+    }
+
+    @Test
+    public void doesNotReadLogWhenMemoryCoversRange() throws IOException {
+        when(stateLog.readRounds(1, 2))
+                .thenReturn(ImmutableSortedMap.of(1L, VALUE_1.persistToBytes(), 2L, VALUE_2.persistToBytes()));
+        learner.getLearnedValuesSince(1);
+
+        assertThat(learner.getLearnedValuesSince(1)).containsExactly(VALUE_1, VALUE_2, VALUE_3);
+        assertThat(learner.getLearnedValuesSince(3)).containsExactly(VALUE_3);
+        verify(stateLog).readRounds(anyLong(), anyLong());
+    }
+
+    @Test
+    public void onlyReadsRoundsBetweenThoseInMemory() throws IOException {
+        learner.learn(1, VALUE_1);
+        when(stateLog.readRounds(2, 2)).thenReturn(ImmutableSortedMap.of(2L, VALUE_2.persistToBytes()));
+
+        assertThat(learner.getLearnedValuesSince(1)).containsExactly(VALUE_1, VALUE_2, VALUE_3);
+        verify(stateLog).readRounds(2, 2);
+    }
+
+    @Test
+    public void fallsBackToReadingRoundsOneAtATimeIfRangeReadFails() throws IOException {
+        when(stateLog.readRounds(anyLong(), anyLong()))
+                .thenThrow(new UnableToExecuteStatementException("database is locked", null, null));
+
+        assertThat(learner.getLearnedValuesSince(1)).containsExactly(VALUE_1, VALUE_2, VALUE_3);
+    }
+
+    @Test
+    public void fallsBackToReadingRoundsOneAtATimeIfRangeReadThrowsIoException() throws IOException {
+        when(stateLog.readRounds(anyLong(), anyLong())).thenThrow(new IOException("corrupt log"));
+
+        assertThat(learner.getLearnedValuesSince(2)).containsExactly(VALUE_2, VALUE_3);
+    }
+}
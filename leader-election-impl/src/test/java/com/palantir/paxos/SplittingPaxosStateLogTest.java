@@ -21,6 +21,7 @@ import static com.palantir.paxos.PaxosStateLogTestUtils.valueForRound;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -147,6 +148,23 @@ public class SplittingPaxosStateLogTest {
         assertThat(readMetric).hasValue(1);
     }
 
+    @Test
+    public void rangeReadsAreSplitAtCutoff() throws IOException {
+        legacyLog.writeRound(50L, valueForRound(50L));
+        currentLog.writeRound(100L, valueForRound(100L));
+        currentLog.writeRound(150L, valueForRound(150L));
+        PaxosStateLog<PaxosValue> splittingLog = SplittingPaxosStateLog.create(parametersWithCutoff(100L));
+
+        assertThat(splittingLog.readRounds(100L, 200L)).containsOnlyKeys(100L, 150L);
+        verify(legacyLog, never()).readRounds(anyLong(), anyLong());
+        assertThat(readMetric).hasValue(0);
+
+        assertThat(splittingLog.readRounds(0L, 120L)).containsOnlyKeys(50L, 100L);
+        verify(legacyLog).readRounds(0L, 99L);
+        verify(currentLog).readRounds(100L, 120L);
+        assertThat(readMetric).hasValue(1);
+    }
+
     private SplittingPaxosStateLog.SplittingParameters<PaxosValue> parametersWithCutoff(long cutoff) {
 
         return ImmutableSplittingParameters.<PaxosValue>builder()
@@ -27,6 +27,7 @@ import com.palantir.common.concurrent.PTExecutors;
 import com.palantir.common.streams.KeyedStream;
 import java.io.IOException;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
@@ -116,6 +117,29 @@ public class SqlitePaxosStateLogTest {
                 .isEqualTo(v2);
     }
 
+    @Test
+    public void canReadRangeOfRounds() throws IOException {
+        writeValueForRound(3L);
+        PaxosValue v5 = writeValueForRound(5L);
+        PaxosValue v6 = writeValueForRound(6L);
+        writeValueForRound(9L);
+
+        NavigableMap<Long, byte[]> rounds = stateLog.readRounds(4L, 8L);
+        assertThat(rounds).containsOnlyKeys(5L, 6L);
+        assertThat(PaxosValue.BYTES_HYDRATOR.hydrateFromBytes(rounds.get(5L))).isEqualTo(v5);
+        assertThat(PaxosValue.BYTES_HYDRATOR.hydrateFromBytes(rounds.get(6L))).isEqualTo(v6);
+    }
+
+    @Test
+    public void rangeReadsIgnoreEntriesFromOtherSequences() throws IOException {
+        PaxosStateLog<PaxosValue> otherLog = SqlitePaxosStateLog.create(wrap(CLIENT_2, USE_CASE_1), dataSource);
+        otherLog.writeRound(5L, valueForRound(5L));
+        writeValueForRound(7L);
+
+        assertThat(stateLog.readRounds(0L, 10L)).containsOnlyKeys(7L);
+        assertThat(stateLog.readRounds(8L, 7L)).isEmpty();
+    }
+
     @Test
     public void returnsDefaultValueForExtremesWhenNoEntries() {
         assertThat(stateLog.getLeastLogEntry()).isEqualTo(PaxosAcceptor.NO_LOG_ENTRY);
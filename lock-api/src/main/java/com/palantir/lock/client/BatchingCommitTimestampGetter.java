@@ -18,6 +18,7 @@ package com.palantir.lock.client;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Streams;
+import com.palantir.atlasdb.autobatch.AutobatcherWaitStrategy;
 import com.palantir.atlasdb.autobatch.Autobatchers;
 import com.palantir.atlasdb.autobatch.BatchElement;
 import com.palantir.atlasdb.autobatch.DisruptorAutobatcher;
@@ -32,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.immutables.value.Value;
@@ -40,6 +42,8 @@ import org.immutables.value.Value;
  * This class batches getCommitTimestamps requests to TimeLock server for a single client/namespace.
  * */
 final class BatchingCommitTimestampGetter implements CommitTimestampGetter {
+    static final String SAFE_LOGGABLE_PURPOSE = "get-commit-timestamp";
+
     private final DisruptorAutobatcher<Request, Long> autobatcher;
 
     private BatchingCommitTimestampGetter(DisruptorAutobatcher<Request, Long> autobatcher) {
@@ -47,11 +51,21 @@ final class BatchingCommitTimestampGetter implements CommitTimestampGetter {
     }
 
     public static BatchingCommitTimestampGetter create(LockLeaseService leaseService, LockWatchCache cache) {
-        DisruptorAutobatcher<Request, Long> autobatcher = Autobatchers.independent(consumer(leaseService, cache))
-                .safeLoggablePurpose("get-commit-timestamp")
-                .batchFunctionTimeout(Duration.ofSeconds(30))
-                .build();
-        return new BatchingCommitTimestampGetter(autobatcher);
+        return new BatchingCommitTimestampGetter(autobatcherBuilder(leaseService, cache).build());
+    }
+
+    public static BatchingCommitTimestampGetter create(
+            LockLeaseService leaseService, LockWatchCache cache, Supplier<AutobatcherWaitStrategy> waitStrategy) {
+        return new BatchingCommitTimestampGetter(autobatcherBuilder(leaseService, cache)
+                .waitStrategy(waitStrategy)
+                .build());
+    }
+
+    private static Autobatchers.AutobatcherBuilder<Request, Long> autobatcherBuilder(
+            LockLeaseService leaseService, LockWatchCache cache) {
+        return Autobatchers.independent(consumer(leaseService, cache))
+                .safeLoggablePurpose(SAFE_LOGGABLE_PURPOSE)
+                .batchFunctionTimeout(Duration.ofSeconds(30));
     }
 
     @Override
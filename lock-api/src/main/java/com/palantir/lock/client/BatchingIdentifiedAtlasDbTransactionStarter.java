@@ -18,6 +18,7 @@ package com.palantir.lock.client;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.palantir.atlasdb.autobatch.AutobatcherWaitStrategy;
 import com.palantir.atlasdb.autobatch.Autobatchers;
 import com.palantir.atlasdb.autobatch.BatchElement;
 import com.palantir.atlasdb.autobatch.DisruptorAutobatcher;
@@ -33,9 +34,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public final class BatchingIdentifiedAtlasDbTransactionStarter implements IdentifiedAtlasDbTransactionStarter {
+    static final String SAFE_LOGGABLE_PURPOSE = "transaction-starter";
+
     private final DisruptorAutobatcher<Integer, List<StartIdentifiedAtlasDbTransactionResponse>> autobatcher;
 
     private BatchingIdentifiedAtlasDbTransactionStarter(
@@ -44,14 +48,25 @@ public final class BatchingIdentifiedAtlasDbTransactionStarter implements Identi
     }
 
     static BatchingIdentifiedAtlasDbTransactionStarter create(LockLeaseService lockLeaseService, LockWatchCache cache) {
-        DisruptorAutobatcher<Integer, List<StartIdentifiedAtlasDbTransactionResponse>> autobatcher =
-                Autobatchers.independent(consumer(lockLeaseService, cache))
-                        .safeLoggablePurpose("transaction-starter")
-                        .batchFunctionTimeout(Duration.ofSeconds(30))
-                        .timeoutHandler(exception -> new StartTransactionFailedException(
-                                "Timed out while attempting to start transactions", exception))
-                        .build();
-        return new BatchingIdentifiedAtlasDbTransactionStarter(autobatcher);
+        return new BatchingIdentifiedAtlasDbTransactionStarter(autobatcherBuilder(lockLeaseService, cache).build());
+    }
+
+    static BatchingIdentifiedAtlasDbTransactionStarter create(
+            LockLeaseService lockLeaseService,
+            LockWatchCache cache,
+            Supplier<AutobatcherWaitStrategy> waitStrategy) {
+        return new BatchingIdentifiedAtlasDbTransactionStarter(autobatcherBuilder(lockLeaseService, cache)
+                .waitStrategy(waitStrategy)
+                .build());
+    }
+
+    private static Autobatchers.AutobatcherBuilder<Integer, List<StartIdentifiedAtlasDbTransactionResponse>>
+            autobatcherBuilder(LockLeaseService lockLeaseService, LockWatchCache cache) {
+        return Autobatchers.independent(consumer(lockLeaseService, cache))
+                .safeLoggablePurpose(SAFE_LOGGABLE_PURPOSE)
+                .batchFunctionTimeout(Duration.ofSeconds(30))
+                .timeoutHandler(exception -> new StartTransactionFailedException(
+                        "Timed out while attempting to start transactions", exception));
     }
 
     @Override
@@ -16,38 +16,63 @@
 
 package com.palantir.lock.client;
 
+import com.google.common.collect.ImmutableMap;
+import com.palantir.atlasdb.autobatch.AutobatcherWaitStrategy;
 import com.palantir.atlasdb.timelock.api.Namespace;
 import com.palantir.lock.watch.LockWatchCache;
 import com.palantir.lock.watch.LockWatchCacheImpl;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.immutables.value.Value;
 
 public final class RequestBatchersFactory {
     private final LockWatchCache cache;
     private final Namespace namespace;
     private final Optional<MultiClientRequestBatchers> maybeRequestBatchers;
+    private final Supplier<Map<String, AutobatcherWaitStrategy>> waitStrategies;
 
     private RequestBatchersFactory(
-            LockWatchCache cache, Namespace namespace, Optional<MultiClientRequestBatchers> maybeRequestBatchers) {
+            LockWatchCache cache,
+            Namespace namespace,
+            Optional<MultiClientRequestBatchers> maybeRequestBatchers,
+            Supplier<Map<String, AutobatcherWaitStrategy>> waitStrategies) {
         this.cache = cache;
         this.namespace = namespace;
         this.maybeRequestBatchers = maybeRequestBatchers;
+        this.waitStrategies = waitStrategies;
     }
 
     public static RequestBatchersFactory create(
             LockWatchCache cache, Namespace namespace, Optional<MultiClientRequestBatchers> maybeRequestBatchers) {
-        return new RequestBatchersFactory(cache, namespace, maybeRequestBatchers);
+        return create(cache, namespace, maybeRequestBatchers, ImmutableMap::of);
+    }
+
+    /**
+     * @param waitStrategies wait strategies for the single-client autobatchers created by this factory, keyed by
+     * their safe loggable purpose. Multi-client batchers are shared, and are not affected.
+     */
+    public static RequestBatchersFactory create(
+            LockWatchCache cache,
+            Namespace namespace,
+            Optional<MultiClientRequestBatchers> maybeRequestBatchers,
+            Supplier<Map<String, AutobatcherWaitStrategy>> waitStrategies) {
+        return new RequestBatchersFactory(cache, namespace, maybeRequestBatchers, waitStrategies);
     }
 
     public static RequestBatchersFactory createForTests() {
-        return new RequestBatchersFactory(LockWatchCacheImpl.noOp(), Namespace.of("test-client"), Optional.empty());
+        return create(LockWatchCacheImpl.noOp(), Namespace.of("test-client"), Optional.empty());
     }
 
     public IdentifiedAtlasDbTransactionStarter createBatchingTransactionStarter(LockLeaseService lockLeaseService) {
         Optional<ReferenceTrackingWrapper<MultiClientTransactionStarter>> transactionStarter =
                 maybeRequestBatchers.map(MultiClientRequestBatchers::transactionStarter);
         if (!transactionStarter.isPresent()) {
-            return BatchingIdentifiedAtlasDbTransactionStarter.create(lockLeaseService, cache);
+            return BatchingIdentifiedAtlasDbTransactionStarter.create(
+                    lockLeaseService,
+                    cache,
+                    AutobatcherWaitStrategy.forPurpose(
+                            waitStrategies, BatchingIdentifiedAtlasDbTransactionStarter.SAFE_LOGGABLE_PURPOSE));
         }
         ReferenceTrackingWrapper<MultiClientTransactionStarter> referenceTrackingBatcher = transactionStarter.get();
         referenceTrackingBatcher.recordReference();
@@ -59,7 +84,11 @@ public final class RequestBatchersFactory {
         Optional<ReferenceTrackingWrapper<MultiClientCommitTimestampGetter>> commitTimestampGetter =
                 maybeRequestBatchers.map(MultiClientRequestBatchers::commitTimestampGetter);
         if (!commitTimestampGetter.isPresent()) {
-            return BatchingCommitTimestampGetter.create(lockLeaseService, cache);
+            return BatchingCommitTimestampGetter.create(
+                    lockLeaseService,
+                    cache,
+                    AutobatcherWaitStrategy.forPurpose(
+                            waitStrategies, BatchingCommitTimestampGetter.SAFE_LOGGABLE_PURPOSE));
         }
         ReferenceTrackingWrapper<MultiClientCommitTimestampGetter> referenceTrackingBatcher =
                 commitTimestampGetter.get();
@@ -19,9 +19,11 @@ package com.palantir.atlasdb.timelock.paxos;
 import com.palantir.leader.PaxosLeadershipEventRecorder;
 import com.palantir.leader.PingableLeader;
 import com.palantir.paxos.Client;
+import com.palantir.paxos.LeaderLeaseConfig;
 import com.palantir.paxos.PaxosLearner;
 import com.palantir.timelock.config.PaxosRuntimeConfiguration;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 import javax.sql.DataSource;
@@ -84,6 +86,8 @@ public interface Dependencies {
         AutobatchingLeadershipObserverFactory leadershipObserverFactory();
 
         Factories.PaxosLatestRoundVerifierFactory latestRoundVerifierFactory();
+
+        Optional<LeaderLeaseConfig> leaderLease();
     }
 
     interface LeaderElectionService {
@@ -104,6 +108,8 @@ public interface Dependencies {
         com.palantir.atlasdb.timelock.paxos.NetworkClientFactories networkClientFactories();
 
         Factories.PaxosLatestRoundVerifierFactory latestRoundVerifierFactory();
+
+        Optional<LeaderLeaseConfig> leaderLease();
     }
 
     interface HealthCheckPinger {
@@ -38,7 +38,7 @@ public class LeaderElectionServiceFactory {
         PaxosAcceptorNetworkClient acceptorClient =
                 dependencies.networkClientFactories().acceptor().create(dependencies.paxosClient());
 
-        return new BatchingLeaderElectionService(new LeaderElectionServiceBuilder()
+        LeaderElectionServiceBuilder builder = new LeaderElectionServiceBuilder()
                 .leaderPinger(dependencies.leaderPinger())
                 .leaderUuid(dependencies.leaderUuid())
                 .pingRate(dependencies.runtime().get().pingRate())
@@ -51,8 +51,10 @@ public class LeaderElectionServiceFactory {
                 .latestRoundVerifier(dependencies.latestRoundVerifierFactory().create(acceptorClient))
                 .decorateProposer(uninstrumentedPaxosProposer -> instrumentProposer(
                         dependencies.paxosClient(), dependencies.metrics(), uninstrumentedPaxosProposer))
-                .leaderAddressCacheTtl(Duration.ofSeconds(1))
-                .build());
+                .leaderAddressCacheTtl(Duration.ofSeconds(1));
+        dependencies.leaderLease().ifPresent(builder::leaderLease);
+
+        return new BatchingLeaderElectionService(builder.build());
     }
 
     private static PaxosProposer instrumentProposer(
@@ -56,7 +56,11 @@ public class LeadershipComponents {
 
     public <T> T wrapInLeadershipProxy(Client client, Class<T> clazz, Supplier<T> delegateSupplier) {
         LeadershipContext context = getOrCreateNewLeadershipContext(client);
-        T instance = AwaitingLeadershipProxy.newProxyInstance(clazz, delegateSupplier, context.leadershipCoordinator());
+        T instance = AwaitingLeadershipProxy.newProxyInstance(
+                clazz,
+                delegateSupplier,
+                context.leadershipCoordinator(),
+                AwaitingLeadershipProxy.DelegateDispatch.METHOD_HANDLES);
 
         // this is acceptable since the proxy returned implements Closeable and needs to be closed
         Closeable closeableInstance = (Closeable) instance;
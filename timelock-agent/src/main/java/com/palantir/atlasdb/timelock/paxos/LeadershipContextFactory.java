@@ -22,10 +22,12 @@ import com.palantir.leader.PaxosLeadershipEventRecorder;
 import com.palantir.leader.PingableLeader;
 import com.palantir.leader.proxy.LeadershipCoordinator;
 import com.palantir.paxos.Client;
+import com.palantir.paxos.LeaderLeaseConfig;
 import com.palantir.paxos.LeaderPinger;
 import com.palantir.paxos.PaxosLearner;
 import com.palantir.timelock.paxos.HealthCheckPinger;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 import javax.sql.DataSource;
@@ -69,7 +71,15 @@ public abstract class LeadershipContextFactory
                 install().timeLockVersion(),
                 install()
                         .install()
-                        .iAmOnThePersistenceTeamAndKnowWhatImDoingSkipSqliteConsistencyCheckAndTruncateFileBasedLog());
+                        .iAmOnThePersistenceTeamAndKnowWhatImDoingSkipSqliteConsistencyCheckAndTruncateFileBasedLog(),
+                leaderLease(),
+                install().install().paxos().batchNamespaceShards());
+    }
+
+    @Override
+    @Value.Derived
+    public Optional<LeaderLeaseConfig> leaderLease() {
+        return install().install().paxos().leaderLease();
     }
 
     @Override
@@ -74,6 +74,11 @@ public abstract class PaxosResources {
                 leadershipContextFactory(), leadershipContextFactory().healthCheckPingers());
     }
 
+    public void closeLocalComponents() {
+        timestampPaxosComponents().close();
+        leadershipBatchComponents().values().forEach(LocalPaxosComponents::close);
+    }
+
     private static BatchPaxosResources batchResourcesFromComponents(LocalPaxosComponents components) {
         BatchPaxosAcceptorResource acceptorResource = new BatchPaxosAcceptorResource(components.batchAcceptor());
         BatchPaxosLearnerResource learnerResource = new BatchPaxosLearnerResource(components.batchLearner());
@@ -115,7 +115,7 @@ public final class PaxosResourcesFactory {
                 .leadershipContextFactory(factory)
                 .putLeadershipBatchComponents(PaxosUseCase.LEADER_FOR_EACH_CLIENT, factory.components())
                 .addAdhocResources(new BatchPingableLeaderResource(install.nodeUuid(), factory.components()))
-                .timeLockCorruptionComponents(timeLockCorruptionComponents(install.sqliteDataSource(), remoteClients))
+                .timeLockCorruptionComponents(timeLockCorruptionComponents(install, remoteClients))
                 .build();
     }
 
@@ -164,7 +164,7 @@ public final class PaxosResourcesFactory {
                         new LeaderLearnerResource(factory.components().learner(PaxosUseCase.PSEUDO_LEADERSHIP_CLIENT)),
                         factory.components().pingableLeader(PaxosUseCase.PSEUDO_LEADERSHIP_CLIENT))
                 .addUndertowServices(LeaderAcceptorResourceEndpoints.of(leaderAcceptorResource))
-                .timeLockCorruptionComponents(timeLockCorruptionComponents(install.sqliteDataSource(), remoteClients))
+                .timeLockCorruptionComponents(timeLockCorruptionComponents(install, remoteClients))
                 .build();
     }
 
@@ -184,7 +184,9 @@ public final class PaxosResourcesFactory {
                 install.install().paxos().canCreateNewClients(),
                 install.timeLockVersion(),
                 install.install()
-                        .iAmOnThePersistenceTeamAndKnowWhatImDoingSkipSqliteConsistencyCheckAndTruncateFileBasedLog());
+                        .iAmOnThePersistenceTeamAndKnowWhatImDoingSkipSqliteConsistencyCheckAndTruncateFileBasedLog(),
+                Optional.empty(),
+                install.install().paxos().batchNamespaceShards());
 
         NetworkClientFactories batchClientFactories = ImmutableBatchingNetworkClientFactories.builder()
                 .useCase(PaxosUseCase.TIMESTAMP)
@@ -260,11 +262,14 @@ public final class PaxosResourcesFactory {
     }
 
     private static TimeLockCorruptionComponents timeLockCorruptionComponents(
-            DataSource dataSource, PaxosRemoteClients remoteClients) {
+            TimelockPaxosInstallationContext install, PaxosRemoteClients remoteClients) {
+        DataSource dataSource = install.sqliteDataSource();
         RemoteCorruptionDetector remoteCorruptionDetector = new RemoteCorruptionDetector();
 
-        PaxosLogHistoryProvider historyProvider =
-                new PaxosLogHistoryProvider(dataSource, remoteClients.getRemoteHistoryProviders());
+        PaxosLogHistoryProvider historyProvider = new PaxosLogHistoryProvider(
+                dataSource,
+                remoteClients.getRemoteHistoryProviders(),
+                install.install().paxos().exchangeHistoryDigests());
 
         LocalTimestampInvariantsVerifier timestampInvariantsVerifier = new LocalTimestampInvariantsVerifier(dataSource);
 
@@ -20,8 +20,11 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.annotations.Beta;
 import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.paxos.LeaderLeaseConfig;
 import java.io.File;
 import java.io.IOException;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 @JsonDeserialize(as = ImmutablePaxosInstallConfiguration.class)
@@ -82,6 +85,50 @@ public interface PaxosInstallConfiguration {
         return PaxosLeaderMode.SINGLE_LEADER;
     }
 
+    /**
+     * If present, the leader confirms that it is still leading from a lease granted by a quorum of acceptors rather
+     * than contacting a quorum on every request; see {@link LeaderLeaseConfig}. Only supported in single leader mode.
+     */
+    @JsonProperty("leader-lease")
+    Optional<LeaderLeaseConfig> leaderLease();
+
+    /**
+     * Number of single-threaded shards, keyed by namespace, on which batched Paxos acceptor and learner requests are
+     * processed. Namespaces on different shards are processed in parallel, so that a namespace with slow Paxos
+     * operations does not delay unrelated namespaces in the same batch. If zero, batches are processed one namespace
+     * after another on the request thread.
+     */
+    @JsonProperty("batch-namespace-shards")
+    @Value.Default
+    default int batchNamespaceShards() {
+        return 0;
+    }
+
+    @Value.Check
+    default void checkBatchNamespaceShardsIsNotNegative() {
+        Preconditions.checkArgument(
+                batchNamespaceShards() >= 0,
+                "Number of batch namespace shards must not be negative",
+                SafeArg.of("batchNamespaceShards", batchNamespaceShards()));
+    }
+
+    /**
+     * If true, corruption detection first compares digests of each node's Paxos history and only fetches the
+     * histories that differ from the local one, instead of fetching the full history from every node.
+     */
+    @JsonProperty("exchange-history-digests")
+    @Value.Default
+    default boolean exchangeHistoryDigests() {
+        return false;
+    }
+
+    @Value.Check
+    default void checkLeaderLeaseIsOnlyUsedWithSingleLeader() {
+        Preconditions.checkState(
+                leaderLease().isEmpty() || leaderMode() == PaxosLeaderMode.SINGLE_LEADER,
+                "Leader leases are only supported in single leader mode");
+    }
+
     @Value.Check
     default void checkLeaderModeIsNotInAutoMigrationMode() {
         Preconditions.checkState(
@@ -580,6 +580,7 @@ public class TimeLockAgent {
 
     public void shutdown() {
         paxosResources.leadershipComponents().shutdown();
+        paxosResources.closeLocalComponents();
         timestampStorage.close();
         sqliteDataSource.close();
     }
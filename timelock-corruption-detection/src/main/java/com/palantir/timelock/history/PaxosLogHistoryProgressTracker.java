@@ -17,9 +17,13 @@
 package com.palantir.timelock.history;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
 import com.palantir.paxos.NamespaceAndUseCase;
 import com.palantir.timelock.history.models.LearnerUseCase;
 import com.palantir.timelock.history.models.ProgressState;
+import com.palantir.timelock.history.models.VerificationThroughput;
 import com.palantir.timelock.history.sqlite.LogVerificationProgressState;
 import com.palantir.timelock.history.sqlite.SqlitePaxosStateLogHistory;
 import java.util.Map;
@@ -27,6 +31,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 
 public class PaxosLogHistoryProgressTracker {
+    private static final SafeLogger log = SafeLoggerFactory.get(PaxosLogHistoryProgressTracker.class);
+
     // VisibleForTesting - used in corruption-detection tests
     public static final int MAX_ROWS_ALLOWED = 10;
 
@@ -57,6 +63,16 @@ public class PaxosLogHistoryProgressTracker {
         namespaceAndUseCaseWiseLoadedSequenceRange.forEach(this::updateProgressStateForNamespaceAndUseCase);
     }
 
+    public void recordVerificationThroughput(VerificationThroughput throughput) {
+        log.info(
+                "Verified Paxos history",
+                SafeArg.of("sequencesVerified", throughput.sequencesVerified()),
+                SafeArg.of("sequencesVerifiedPerSecond", throughput.sequencesVerifiedPerSecond()),
+                SafeArg.of("bucketsMatchedByDigest", throughput.bucketsMatchedByDigest()),
+                SafeArg.of("bucketsFetched", throughput.bucketsFetched()),
+                SafeArg.of("elapsed", throughput.elapsed()));
+    }
+
     private ProgressState getOrPopulateProgressState(NamespaceAndUseCase namespaceAndUseCase) {
         return verificationProgressStateCache.computeIfAbsent(
                 namespaceAndUseCase, this::progressStatusForNamespaceAndUseCase);
@@ -16,7 +16,10 @@
 
 package com.palantir.timelock.history;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.palantir.common.streams.KeyedStream;
 import com.palantir.logsafe.logger.SafeLogger;
@@ -30,9 +33,12 @@ import com.palantir.timelock.history.models.ImmutableCompletePaxosHistoryForName
 import com.palantir.timelock.history.models.ImmutableLearnedAndAcceptedValue;
 import com.palantir.timelock.history.models.LearnedAndAcceptedValue;
 import com.palantir.timelock.history.models.PaxosHistoryOnSingleNode;
+import com.palantir.timelock.history.models.VerificationThroughput;
 import com.palantir.timelock.history.sqlite.SqlitePaxosStateLogHistory;
+import com.palantir.timelock.history.util.HistoryDigests;
 import com.palantir.timelock.history.util.UseCaseUtils;
 import com.palantir.tokens.auth.AuthHeader;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,9 +54,25 @@ public class PaxosLogHistoryProvider {
     private final SqlitePaxosStateLogHistory sqlitePaxosStateLogHistory;
     private final List<TimeLockPaxosHistoryProvider> remoteHistoryProviders;
     private final PaxosLogHistoryProgressTracker progressTracker;
+    private final boolean exchangeHistoryDigests;
 
     public PaxosLogHistoryProvider(DataSource dataSource, List<TimeLockPaxosHistoryProvider> remoteHistoryProviders) {
+        this(dataSource, remoteHistoryProviders, false);
+    }
+
+    /**
+     * If {@code exchangeHistoryDigests} is set, remotes are first asked for digests of their history (see
+     * {@link HistoryDigests}), and only the histories whose digest differs from the local one are fetched in full.
+     * For a history with a matching digest, the local record stands in for the remote's record; the two agree on
+     * everything that the corruption checks inspect. Remotes that cannot serve digests are asked for their full
+     * history.
+     */
+    public PaxosLogHistoryProvider(
+            DataSource dataSource,
+            List<TimeLockPaxosHistoryProvider> remoteHistoryProviders,
+            boolean exchangeHistoryDigests) {
         this.remoteHistoryProviders = remoteHistoryProviders;
+        this.exchangeHistoryDigests = exchangeHistoryDigests;
         this.sqlitePaxosStateLogHistory = SqlitePaxosStateLogHistory.create(dataSource);
         this.localHistoryLoader = LocalHistoryLoader.create(this.sqlitePaxosStateLogHistory);
         this.progressTracker = new PaxosLogHistoryProgressTracker(dataSource, sqlitePaxosStateLogHistory);
@@ -67,6 +89,7 @@ public class PaxosLogHistoryProvider {
     //     TODO(snanda): Refactor the two parts on translating PaxosHistoryOnRemote to
     //      CompletePaxosHistoryForNamespaceAndUseCase to a separate component
     public List<CompletePaxosHistoryForNamespaceAndUseCase> getHistory() {
+        Stopwatch stopwatch = Stopwatch.createStarted();
         Map<NamespaceAndUseCase, HistoryQuerySequenceBounds> namespaceAndUseCaseWiseSequenceRangeToBeVerified =
                 getNamespaceAndUseCaseToHistoryQuerySeqBoundsMap();
 
@@ -76,15 +99,27 @@ public class PaxosLogHistoryProvider {
         List<HistoryQuery> historyQueries =
                 getHistoryQueryListForRemoteServers(namespaceAndUseCaseWiseSequenceRangeToBeVerified);
 
-        List<PaxosHistoryOnRemote> rawHistoryFromAllRemotes = getHistoriesFromRemoteServers(historyQueries);
-
-        List<ConsolidatedPaxosHistoryOnSingleNode> historyFromAllRemotes =
-                buildHistoryFromRemoteResponses(rawHistoryFromAllRemotes);
+        List<HistoryFromRemote> historyFromAllRemotes =
+                getHistoriesFromRemoteServers(historyQueries, localPaxosHistory);
 
         List<CompletePaxosHistoryForNamespaceAndUseCase> completeHistoryList = consolidateAndGetHistoriesAcrossAllNodes(
-                namespaceAndUseCaseWiseSequenceRangeToBeVerified, localPaxosHistory, historyFromAllRemotes);
+                namespaceAndUseCaseWiseSequenceRangeToBeVerified,
+                localPaxosHistory,
+                historyFromAllRemotes.stream().map(HistoryFromRemote::history).collect(Collectors.toList()));
 
         progressTracker.updateProgressState(namespaceAndUseCaseWiseSequenceRangeToBeVerified);
+        progressTracker.recordVerificationThroughput(VerificationThroughput.builder()
+                .sequencesVerified(completeHistoryList.stream()
+                        .mapToLong(history -> history.getAllSequenceNumbers().size())
+                        .sum())
+                .bucketsMatchedByDigest(historyFromAllRemotes.stream()
+                        .mapToLong(HistoryFromRemote::bucketsMatchedByDigest)
+                        .sum())
+                .bucketsFetched(historyFromAllRemotes.stream()
+                        .mapToLong(HistoryFromRemote::bucketsFetched)
+                        .sum())
+                .elapsed(stopwatch.elapsed())
+                .build());
 
         return completeHistoryList;
     }
@@ -99,17 +134,61 @@ public class PaxosLogHistoryProvider {
                 .collect(Collectors.toList());
     }
 
-    private List<ConsolidatedPaxosHistoryOnSingleNode> buildHistoryFromRemoteResponses(
-            List<PaxosHistoryOnRemote> rawHistoryFromAllRemotes) {
-        return rawHistoryFromAllRemotes.stream()
-                .map(this::buildRecordFromRemoteResponse)
+    private List<HistoryFromRemote> getHistoriesFromRemoteServers(
+            List<HistoryQuery> historyQueries, PaxosHistoryOnSingleNode localPaxosHistory) {
+        Map<NamespaceAndUseCase, String> localDigests = exchangeHistoryDigests
+                ? KeyedStream.stream(localPaxosHistory.history())
+                        .map(HistoryDigests::digest)
+                        .collectToMap()
+                : ImmutableMap.of();
+        return remoteHistoryProviders.stream()
+                .map(remote -> getHistoryFromRemote(historyQueries, localPaxosHistory, localDigests, remote))
                 .collect(Collectors.toList());
     }
 
-    private List<PaxosHistoryOnRemote> getHistoriesFromRemoteServers(List<HistoryQuery> historyQueries) {
-        return remoteHistoryProviders.stream()
-                .map(remote -> fetchHistoryFromRemote(historyQueries, remote))
+    private HistoryFromRemote getHistoryFromRemote(
+            List<HistoryQuery> historyQueries,
+            PaxosHistoryOnSingleNode localPaxosHistory,
+            Map<NamespaceAndUseCase, String> localDigests,
+            TimeLockPaxosHistoryProvider remote) {
+        Set<NamespaceAndUseCase> matchingHistories = exchangeHistoryDigests
+                ? getHistoriesMatchingLocalDigests(historyQueries, localDigests, remote)
+                : ImmutableSet.of();
+        List<HistoryQuery> queriesToFetch = historyQueries.stream()
+                .filter(query -> !matchingHistories.contains(query.getNamespaceAndUseCase()))
                 .collect(Collectors.toList());
+
+        Map<NamespaceAndUseCase, ConsolidatedLearnerAndAcceptorRecord> records = new HashMap<>();
+        if (!queriesToFetch.isEmpty()) {
+            records.putAll(buildRecordFromRemoteResponse(fetchHistoryFromRemote(queriesToFetch, remote))
+                    .records());
+        }
+        matchingHistories.forEach(namespaceAndUseCase -> records.put(
+                namespaceAndUseCase, localPaxosHistory.getConsolidatedLocalAndRemoteRecord(namespaceAndUseCase)));
+
+        return new HistoryFromRemote(
+                ConsolidatedPaxosHistoryOnSingleNode.of(records), matchingHistories.size(), queriesToFetch.size());
+    }
+
+    private Set<NamespaceAndUseCase> getHistoriesMatchingLocalDigests(
+            List<HistoryQuery> historyQueries,
+            Map<NamespaceAndUseCase, String> localDigests,
+            TimeLockPaxosHistoryProvider remote) {
+        Map<NamespaceAndUseCase, HistoryQuerySequenceBounds> queriedBounds = historyQueries.stream()
+                .collect(Collectors.toMap(HistoryQuery::getNamespaceAndUseCase, HistoryQuery::getSequenceBounds));
+        try {
+            return remote.getPaxosHistoryDigests(AUTH_HEADER, historyQueries).getDigests().stream()
+                    .filter(digest -> digest.getSequenceBounds()
+                            .equals(queriedBounds.get(digest.getNamespaceAndUseCase())))
+                    .filter(digest -> digest.getDigest().equals(localDigests.get(digest.getNamespaceAndUseCase())))
+                    .map(PaxosHistoryDigest::getNamespaceAndUseCase)
+                    .collect(Collectors.toSet());
+        } catch (Exception exception) {
+            log.info(
+                    "The remote failed to provide history digests, falling back to fetching its full history.",
+                    exception);
+            return ImmutableSet.of();
+        }
     }
 
     private List<HistoryQuery> getHistoryQueryListForRemoteServers(
@@ -206,4 +285,29 @@ public class PaxosLogHistoryProvider {
             NamespaceAndUseCase namespaceAndUseCase, HistoryQuerySequenceBounds bounds) {
         return Maps.immutableEntry(namespaceAndUseCase, HistoryQuery.of(namespaceAndUseCase, bounds));
     }
+
+    private static final class HistoryFromRemote {
+        private final ConsolidatedPaxosHistoryOnSingleNode history;
+        private final long bucketsMatchedByDigest;
+        private final long bucketsFetched;
+
+        private HistoryFromRemote(
+                ConsolidatedPaxosHistoryOnSingleNode history, long bucketsMatchedByDigest, long bucketsFetched) {
+            this.history = history;
+            this.bucketsMatchedByDigest = bucketsMatchedByDigest;
+            this.bucketsFetched = bucketsFetched;
+        }
+
+        ConsolidatedPaxosHistoryOnSingleNode history() {
+            return history;
+        }
+
+        long bucketsMatchedByDigest() {
+            return bucketsMatchedByDigest;
+        }
+
+        long bucketsFetched() {
+            return bucketsFetched;
+        }
+    }
 }
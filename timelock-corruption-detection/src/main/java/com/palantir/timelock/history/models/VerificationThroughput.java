@@ -0,0 +1,44 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.timelock.history.models;
+
+import java.time.Duration;
+import org.immutables.value.Value;
+
+/**
+ * How much Paxos history a single verification cycle covered, and how much of it had to be fetched from remotes
+ * rather than being confirmed by comparing digests.
+ */
+@Value.Immutable
+public interface VerificationThroughput {
+    long sequencesVerified();
+
+    long bucketsMatchedByDigest();
+
+    long bucketsFetched();
+
+    Duration elapsed();
+
+    static ImmutableVerificationThroughput.Builder builder() {
+        return ImmutableVerificationThroughput.builder();
+    }
+
+    default double sequencesVerifiedPerSecond() {
+        long elapsedNanos = Math.max(elapsed().toNanos(), 1);
+        return sequencesVerified() * (double) Duration.ofSeconds(1).toNanos() / elapsedNanos;
+    }
+}
@@ -23,9 +23,11 @@ import com.palantir.timelock.history.HistoryQuery;
 import com.palantir.timelock.history.HistoryQuerySequenceBounds;
 import com.palantir.timelock.history.LocalHistoryLoader;
 import com.palantir.timelock.history.LogsForNamespaceAndUseCase;
+import com.palantir.timelock.history.PaxosHistoryDigest;
 import com.palantir.timelock.history.PaxosLogWithAcceptedAndLearnedValues;
 import com.palantir.timelock.history.models.LearnerAndAcceptorRecords;
 import com.palantir.timelock.history.models.PaxosHistoryOnSingleNode;
+import com.palantir.timelock.history.util.HistoryDigests;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -37,15 +39,8 @@ public final class HistoryLoaderAndTransformer {
 
     public static List<LogsForNamespaceAndUseCase> getLogsForHistoryQueries(
             LocalHistoryLoader localHistoryLoader, List<HistoryQuery> historyQueries) {
-        Map<NamespaceAndUseCase, HistoryQuerySequenceBounds> namespaceAndUseCaseWiseSequenceRangeToBeVerified =
-                historyQueries.stream()
-                        .collect(Collectors.toMap(
-                                HistoryQuery::getNamespaceAndUseCase,
-                                HistoryQuery::getSequenceBounds,
-                                HistoryLoaderAndTransformer::minimalLowerBoundResolver));
-
         PaxosHistoryOnSingleNode localPaxosHistory =
-                localHistoryLoader.getLocalPaxosHistory(namespaceAndUseCaseWiseSequenceRangeToBeVerified);
+                localHistoryLoader.getLocalPaxosHistory(getSequenceRangesToBeLoaded(historyQueries));
 
         return KeyedStream.stream(localPaxosHistory.history())
                 .mapEntries(HistoryLoaderAndTransformer::processHistory)
@@ -53,6 +48,32 @@ public final class HistoryLoaderAndTransformer {
                 .collect(Collectors.toList());
     }
 
+    public static List<PaxosHistoryDigest> getDigestsForHistoryQueries(
+            LocalHistoryLoader localHistoryLoader, List<HistoryQuery> historyQueries) {
+        Map<NamespaceAndUseCase, HistoryQuerySequenceBounds> namespaceAndUseCaseWiseSequenceRangeToBeLoaded =
+                getSequenceRangesToBeLoaded(historyQueries);
+
+        PaxosHistoryOnSingleNode localPaxosHistory =
+                localHistoryLoader.getLocalPaxosHistory(namespaceAndUseCaseWiseSequenceRangeToBeLoaded);
+
+        return KeyedStream.stream(localPaxosHistory.history())
+                .map((namespaceAndUseCase, records) -> PaxosHistoryDigest.of(
+                        namespaceAndUseCase,
+                        namespaceAndUseCaseWiseSequenceRangeToBeLoaded.get(namespaceAndUseCase),
+                        HistoryDigests.digest(records)))
+                .values()
+                .collect(Collectors.toList());
+    }
+
+    private static Map<NamespaceAndUseCase, HistoryQuerySequenceBounds> getSequenceRangesToBeLoaded(
+            List<HistoryQuery> historyQueries) {
+        return historyQueries.stream()
+                .collect(Collectors.toMap(
+                        HistoryQuery::getNamespaceAndUseCase,
+                        HistoryQuery::getSequenceBounds,
+                        HistoryLoaderAndTransformer::minimalLowerBoundResolver));
+    }
+
     private static HistoryQuerySequenceBounds minimalLowerBoundResolver(
             HistoryQuerySequenceBounds bound1, HistoryQuerySequenceBounds bound2) {
         return bound1.getLowerBoundInclusive() < bound2.getLowerBoundInclusive() ? bound1 : bound2;
@@ -0,0 +1,71 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.timelock.history.util;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.palantir.paxos.PaxosValue;
+import com.palantir.timelock.history.PaxosAcceptorData;
+import com.palantir.timelock.history.models.LearnerAndAcceptorRecords;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Digests of the Paxos history of a single node for a namespace, use case and sequence range, so that nodes can
+ * tell whether their histories for the range agree without exchanging them.
+ *
+ * A digest covers every sequence number with a learner or acceptor record in the range, together with the learned
+ * value and the last accepted value at that sequence; these are the parts of the history that corruption checks
+ * inspect. Promised proposal ids and acceptor state versions are left out, as they legitimately differ between nodes
+ * and would otherwise make healthy histories look different.
+ */
+public final class HistoryDigests {
+    private HistoryDigests() {
+        // no op
+    }
+
+    public static String digest(LearnerAndAcceptorRecords records) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        records.getAllSequenceNumbers().stream().sorted().forEach(seq -> {
+            hasher.putLong(seq);
+            putPaxosValue(hasher, records.getLearnedValueAtSeqIfExists(seq));
+            putPaxosValue(
+                    hasher,
+                    records.getAcceptedValueAtSeqIfExists(seq).flatMap(PaxosAcceptorData::getLastAcceptedValue));
+        });
+        return hasher.hash().toString();
+    }
+
+    private static void putPaxosValue(Hasher hasher, Optional<PaxosValue> maybeValue) {
+        hasher.putBoolean(maybeValue.isPresent());
+        maybeValue.ifPresent(value -> {
+            putBytes(hasher, Optional.ofNullable(value.getLeaderUUID())
+                    .map(uuid -> uuid.getBytes(StandardCharsets.UTF_8))
+                    .orElse(null));
+            hasher.putLong(value.getRound());
+            putBytes(hasher, value.getData());
+        });
+    }
+
+    private static void putBytes(Hasher hasher, byte[] bytes) {
+        if (bytes == null) {
+            hasher.putInt(-1);
+        } else {
+            hasher.putInt(bytes.length).putBytes(bytes);
+        }
+    }
+}
@@ -23,6 +23,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -219,6 +221,61 @@ public class PaxosLogHistoryProviderTest {
         assertThat(namespaceAndUseCasesWithHistory).containsExactlyInAnyOrderElementsOf(allNamespaceAndUseCases);
     }
 
+    @Test
+    public void doesNotFetchHistoryFromRemoteWithMatchingDigest() {
+        Set<PaxosValue> paxosValues = PaxosSerializationTestUtils.writeToLogs(acceptorLog, learnerLog, 1, 9);
+        when(remote.getPaxosHistoryDigests(any(), any()))
+                .thenAnswer(invocation -> PaxosHistoryDigestsOnRemote.of(
+                        HistoryLoaderAndTransformer.getDigestsForHistoryQueries(history, invocation.getArgument(1))));
+
+        PaxosLogHistoryProvider provider = new PaxosLogHistoryProvider(dataSource, ImmutableList.of(remote), true);
+        CompletePaxosHistoryForNamespaceAndUseCase historyForNamespaceAndUseCase =
+                Iterables.getOnlyElement(provider.getHistory());
+
+        assertSanityWithValuesOfFetchedRecords(
+                historyForNamespaceAndUseCase, DEFAULT_CLIENT, DEFAULT_USE_CASE, 9, paxosValues);
+        verify(remote, never()).getPaxosHistory(any(), any());
+    }
+
+    @Test
+    public void fetchesHistoryFromRemoteWithDifferentDigest() {
+        Set<PaxosValue> paxosValues = PaxosSerializationTestUtils.writeToLogs(acceptorLog, learnerLog, 1, 9);
+        when(remote.getPaxosHistoryDigests(any(), any())).thenAnswer(invocation -> {
+            List<HistoryQuery> queries = invocation.getArgument(1);
+            return PaxosHistoryDigestsOnRemote.of(queries.stream()
+                    .map(query -> PaxosHistoryDigest.of(
+                            query.getNamespaceAndUseCase(), query.getSequenceBounds(), "different"))
+                    .collect(Collectors.toList()));
+        });
+        when(remote.getPaxosHistory(any(), any()))
+                .thenAnswer(invocation -> PaxosHistoryOnRemote.of(
+                        HistoryLoaderAndTransformer.getLogsForHistoryQueries(history, invocation.getArgument(1))));
+
+        PaxosLogHistoryProvider provider = new PaxosLogHistoryProvider(dataSource, ImmutableList.of(remote), true);
+        CompletePaxosHistoryForNamespaceAndUseCase historyForNamespaceAndUseCase =
+                Iterables.getOnlyElement(provider.getHistory());
+
+        assertSanityWithValuesOfFetchedRecords(
+                historyForNamespaceAndUseCase, DEFAULT_CLIENT, DEFAULT_USE_CASE, 9, paxosValues);
+        verify(remote).getPaxosHistory(any(), any());
+    }
+
+    @Test
+    public void fetchesHistoryFromRemoteThatCannotProvideDigests() {
+        Set<PaxosValue> paxosValues = PaxosSerializationTestUtils.writeToLogs(acceptorLog, learnerLog, 1, 9);
+        when(remote.getPaxosHistoryDigests(any(), any())).thenThrow(new RuntimeException());
+        when(remote.getPaxosHistory(any(), any()))
+                .thenAnswer(invocation -> PaxosHistoryOnRemote.of(
+                        HistoryLoaderAndTransformer.getLogsForHistoryQueries(history, invocation.getArgument(1))));
+
+        PaxosLogHistoryProvider provider = new PaxosLogHistoryProvider(dataSource, ImmutableList.of(remote), true);
+        CompletePaxosHistoryForNamespaceAndUseCase historyForNamespaceAndUseCase =
+                Iterables.getOnlyElement(provider.getHistory());
+
+        assertSanityWithValuesOfFetchedRecords(
+                historyForNamespaceAndUseCase, DEFAULT_CLIENT, DEFAULT_USE_CASE, 9, paxosValues);
+    }
+
     // utils
     private Map<NamespaceAndUseCase, Set<PaxosValue>> writeLogsForRangeOfNamespaceUseCasePairs() {
         return KeyedStream.of(IntStream.rangeClosed(1, 9).boxed())
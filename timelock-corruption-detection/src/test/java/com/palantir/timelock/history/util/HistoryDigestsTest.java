@@ -0,0 +1,72 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.timelock.history.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.paxos.PaxosProposalId;
+import com.palantir.paxos.PaxosValue;
+import com.palantir.timelock.history.PaxosAcceptorData;
+import com.palantir.timelock.history.models.ImmutableLearnerAndAcceptorRecords;
+import com.palantir.timelock.history.models.LearnerAndAcceptorRecords;
+import java.util.Optional;
+import org.junit.Test;
+
+public class HistoryDigestsTest {
+    private static final PaxosValue VALUE = new PaxosValue("leader", 1L, PtBytes.toBytes(5L));
+    private static final PaxosValue OTHER_VALUE = new PaxosValue("leader", 1L, PtBytes.toBytes(6L));
+
+    @Test
+    public void digestsOfSameHistoryMatch() {
+        assertThat(HistoryDigests.digest(records(VALUE, acceptorData(VALUE, 1L, 1L))))
+                .isEqualTo(HistoryDigests.digest(records(VALUE, acceptorData(VALUE, 1L, 1L))));
+    }
+
+    @Test
+    public void digestsIgnorePromisedIdsAndVersions() {
+        assertThat(HistoryDigests.digest(records(VALUE, acceptorData(VALUE, 1L, 1L))))
+                .isEqualTo(HistoryDigests.digest(records(VALUE, acceptorData(VALUE, 2L, 3L))));
+    }
+
+    @Test
+    public void digestsDifferOnLearnedOrAcceptedValues() {
+        String digest = HistoryDigests.digest(records(VALUE, acceptorData(VALUE, 1L, 1L)));
+        assertThat(HistoryDigests.digest(records(OTHER_VALUE, acceptorData(VALUE, 1L, 1L))))
+                .isNotEqualTo(digest);
+        assertThat(HistoryDigests.digest(records(VALUE, acceptorData(OTHER_VALUE, 1L, 1L))))
+                .isNotEqualTo(digest);
+        assertThat(HistoryDigests.digest(ImmutableLearnerAndAcceptorRecords.of(
+                        ImmutableMap.of(1L, VALUE), ImmutableMap.of())))
+                .isNotEqualTo(digest);
+    }
+
+    private static LearnerAndAcceptorRecords records(PaxosValue learnedValue, PaxosAcceptorData acceptorData) {
+        return ImmutableLearnerAndAcceptorRecords.of(
+                ImmutableMap.of(1L, learnedValue), ImmutableMap.of(1L, acceptorData));
+    }
+
+    private static PaxosAcceptorData acceptorData(PaxosValue acceptedValue, long promisedNumber, long version) {
+        return PaxosAcceptorData.builder()
+                .lastPromisedId(Optional.of(new PaxosProposalId(promisedNumber, "proposer")))
+                .lastAcceptedId(Optional.of(new PaxosProposalId(1L, "proposer")))
+                .lastAcceptedValue(Optional.of(acceptedValue))
+                .version(version)
+                .build();
+    }
+}
@@ -26,48 +26,48 @@ import com.palantir.paxos.PaxosAcceptor;
 import com.palantir.paxos.PaxosPromise;
 import com.palantir.paxos.PaxosProposal;
 import com.palantir.paxos.PaxosProposalId;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.HttpHeaders;
+import org.immutables.value.Value;
 
 public class LocalBatchPaxosAcceptor implements BatchPaxosAcceptor {
 
     private final AcceptorCache acceptorCache;
     private final LocalPaxosComponents paxosComponents;
+    private final NamespaceShards namespaceShards;
 
     LocalBatchPaxosAcceptor(LocalPaxosComponents paxosComponents, AcceptorCache acceptorCache) {
+        this(paxosComponents, acceptorCache, NamespaceShards.callerRuns());
+    }
+
+    LocalBatchPaxosAcceptor(
+            LocalPaxosComponents paxosComponents, AcceptorCache acceptorCache, NamespaceShards namespaceShards) {
         this.paxosComponents = paxosComponents;
         this.acceptorCache = acceptorCache;
+        this.namespaceShards = namespaceShards;
     }
 
     @Override
     public SetMultimap<Client, WithSeq<PaxosPromise>> prepare(
             SetMultimap<Client, WithSeq<PaxosProposalId>> promiseWithSeqRequestsByClient) {
-        SetMultimap<Client, WithSeq<PaxosPromise>> results = KeyedStream.stream(promiseWithSeqRequestsByClient)
-                .map((client, paxosProposalIdWithSeq) -> {
-                    PaxosPromise promise = paxosComponents
-                            .acceptor(client)
-                            .prepare(paxosProposalIdWithSeq.seq(), paxosProposalIdWithSeq.value());
-                    return paxosProposalIdWithSeq.withNewValue(promise);
-                })
-                .collectToSetMultimap();
-        primeCache(promiseWithSeqRequestsByClient.keySet());
-        return results;
+        return processAndPrimeCache(promiseWithSeqRequestsByClient, (acceptor, paxosProposalIdWithSeq) -> {
+            PaxosPromise promise = acceptor.prepare(paxosProposalIdWithSeq.seq(), paxosProposalIdWithSeq.value());
+            return paxosProposalIdWithSeq.withNewValue(promise);
+        });
     }
 
     @Override
     public SetMultimap<Client, WithSeq<BooleanPaxosResponse>> accept(
             SetMultimap<Client, PaxosProposal> proposalRequestsByClient) {
-        SetMultimap<Client, WithSeq<BooleanPaxosResponse>> results = KeyedStream.stream(proposalRequestsByClient)
-                .map((client, paxosProposal) -> {
-                    long seq = paxosProposal.getValue().getRound();
-                    BooleanPaxosResponse ack = paxosComponents.acceptor(client).accept(seq, paxosProposal);
-                    return WithSeq.of(ack, seq);
-                })
-                .collectToSetMultimap();
-        primeCache(proposalRequestsByClient.keySet());
-        return results;
+        return processAndPrimeCache(proposalRequestsByClient, (acceptor, paxosProposal) -> {
+            long seq = paxosProposal.getValue().getRound();
+            BooleanPaxosResponse ack = acceptor.accept(seq, paxosProposal);
+            return WithSeq.of(ack, seq);
+        });
     }
 
     @Override
@@ -98,14 +98,47 @@ public class LocalBatchPaxosAcceptor implements BatchPaxosAcceptor {
                 .build();
     }
 
-    private void primeCache(Set<Client> clients) {
-        Set<WithSeq<Client>> latestSequences = KeyedStream.of(clients)
-                .map(paxosComponents::acceptor)
-                .map(PaxosAcceptor::getLatestSequencePreparedOrAccepted)
+    /**
+     * Processes all requests for a client, and then reads its latest sequence prepared or accepted, in one task on
+     * the client's shard.
+     */
+    private <R, T> SetMultimap<Client, T> processAndPrimeCache(
+            SetMultimap<Client, R> requestsByClient, BiFunction<PaxosAcceptor, R, T> processor) {
+        Map<Client, ClientResults<T>> resultsByClient =
+                namespaceShards.computeForClients(requestsByClient.keySet(), client -> {
+                    PaxosAcceptor acceptor = paxosComponents.acceptor(client);
+                    Set<T> results = requestsByClient.get(client).stream()
+                            .map(request -> processor.apply(acceptor, request))
+                            .collect(toSet());
+                    return ImmutableClientResults.of(results, acceptor.getLatestSequencePreparedOrAccepted());
+                });
+
+        acceptorCache.updateSequenceNumbers(KeyedStream.stream(resultsByClient)
+                .map(ClientResults::latestSequence)
                 .map(WithSeq::of)
                 .values()
-                .collect(toSet());
+                .collect(toSet()));
+        return KeyedStream.stream(resultsByClient)
+                .map(ClientResults::results)
+                .flatMap(Set::stream)
+                .collectToSetMultimap();
+    }
+
+    private void primeCache(Set<Client> clients) {
+        Map<Client, Long> latestSequencesByClient = namespaceShards.computeForClients(
+                clients, client -> paxosComponents.acceptor(client).getLatestSequencePreparedOrAccepted());
+        Set<WithSeq<Client>> latestSequences =
+                KeyedStream.stream(latestSequencesByClient).map(WithSeq::of).values().collect(toSet());
 
         acceptorCache.updateSequenceNumbers(latestSequences);
     }
+
+    @Value.Immutable
+    interface ClientResults<T> {
+        @Value.Parameter
+        Set<T> results();
+
+        @Value.Parameter
+        long latestSequence();
+    }
 }
@@ -19,41 +19,62 @@ package com.palantir.atlasdb.timelock.paxos;
 import com.google.common.collect.SetMultimap;
 import com.palantir.common.streams.KeyedStream;
 import com.palantir.paxos.Client;
+import com.palantir.paxos.PaxosLearner;
 import com.palantir.paxos.PaxosValue;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class LocalBatchPaxosLearner implements BatchPaxosLearner {
 
     private final LocalPaxosComponents paxosComponents;
+    private final NamespaceShards namespaceShards;
 
     public LocalBatchPaxosLearner(LocalPaxosComponents paxosComponents) {
+        this(paxosComponents, NamespaceShards.callerRuns());
+    }
+
+    LocalBatchPaxosLearner(LocalPaxosComponents paxosComponents, NamespaceShards namespaceShards) {
         this.paxosComponents = paxosComponents;
+        this.namespaceShards = namespaceShards;
     }
 
     @Override
     public void learn(SetMultimap<Client, PaxosValue> paxosValuesByClient) {
-        paxosValuesByClient.forEach(
-                (client, paxosValue) -> paxosComponents.learner(client).learn(paxosValue.getRound(), paxosValue));
+        namespaceShards.runForClients(paxosValuesByClient.keySet(), client -> {
+            PaxosLearner learner = paxosComponents.learner(client);
+            paxosValuesByClient.get(client).forEach(paxosValue -> learner.learn(paxosValue.getRound(), paxosValue));
+        });
     }
 
     @Override
     public SetMultimap<Client, PaxosValue> getLearnedValues(Set<WithSeq<Client>> clientAndSeqs) {
-        return KeyedStream.of(clientAndSeqs)
+        SetMultimap<Client, Long> seqsByClient = KeyedStream.of(clientAndSeqs)
                 .mapKeys(WithSeq::value)
                 .map(WithSeq::seq)
-                .map((client, seq) -> paxosComponents.learner(client).getLearnedValue(seq))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
                 .collectToSetMultimap();
+        return flatten(namespaceShards.computeForClients(seqsByClient.keySet(), client -> {
+            PaxosLearner learner = paxosComponents.learner(client);
+            return seqsByClient.get(client).stream()
+                    .map(learner::getLearnedValue)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(Collectors.toSet());
+        }));
     }
 
     @Override
     public SetMultimap<Client, PaxosValue> getLearnedValuesSince(Map<Client, Long> seqLowerBoundsByClient) {
-        return KeyedStream.stream(seqLowerBoundsByClient)
-                .map((client, seq) -> paxosComponents.learner(client).getLearnedValuesSince(seq))
+        return flatten(namespaceShards.computeForClients(
+                seqLowerBoundsByClient.keySet(),
+                client -> paxosComponents.learner(client).getLearnedValuesSince(seqLowerBoundsByClient.get(client))));
+    }
+
+    private static SetMultimap<Client, PaxosValue> flatten(
+            Map<Client, ? extends Collection<PaxosValue>> paxosValuesByClient) {
+        return KeyedStream.stream(paxosValuesByClient)
                 .flatMap(Collection::stream)
                 .collectToSetMultimap();
     }
@@ -33,6 +33,7 @@ import com.palantir.paxos.Client;
 import com.palantir.paxos.ImmutableLegacyOperationMarkers;
 import com.palantir.paxos.ImmutableNamespaceAndUseCase;
 import com.palantir.paxos.ImmutablePaxosStorageParameters;
+import com.palantir.paxos.LeaderLeaseConfig;
 import com.palantir.paxos.PaxosAcceptor;
 import com.palantir.paxos.PaxosAcceptorImpl;
 import com.palantir.paxos.PaxosLearner;
@@ -46,6 +47,7 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -70,6 +72,8 @@ public class LocalPaxosComponents {
     private final boolean canCreateNewClients;
     private final OrderableSlsVersion timeLockVersion;
     private final boolean skipConsistencyCheckAndTruncateOldPaxosLog;
+    private final Optional<LeaderLeaseConfig> leaderLease;
+    private final NamespaceShards namespaceShards;
 
     private LocalPaxosComponents(
             TimelockPaxosMetrics metrics,
@@ -79,7 +83,9 @@ public class LocalPaxosComponents {
             UUID leaderUuid,
             boolean canCreateNewClients,
             OrderableSlsVersion timeLockVersion,
-            boolean skipConsistencyCheckAndTruncateOldPaxosLog) {
+            boolean skipConsistencyCheckAndTruncateOldPaxosLog,
+            Optional<LeaderLeaseConfig> leaderLease,
+            int numNamespaceShards) {
         this.metrics = metrics;
         this.paxosUseCase = paxosUseCase;
         this.baseLogDirectory = legacyLogDirectory;
@@ -91,6 +97,8 @@ public class LocalPaxosComponents {
         this.canCreateNewClients = canCreateNewClients;
         this.timeLockVersion = timeLockVersion;
         this.skipConsistencyCheckAndTruncateOldPaxosLog = skipConsistencyCheckAndTruncateOldPaxosLog;
+        this.leaderLease = leaderLease;
+        this.namespaceShards = NamespaceShards.create(numNamespaceShards, paxosUseCase, metrics);
     }
 
     public static LocalPaxosComponents createWithAsyncMigration(
@@ -102,6 +110,61 @@ public class LocalPaxosComponents {
             boolean canCreateNewClients,
             OrderableSlsVersion timeLockVersion,
             boolean skipConsistencyCheckAndTruncateOldPaxosLog) {
+        return createWithAsyncMigration(
+                metrics,
+                paxosUseCase,
+                legacyLogDirectory,
+                sqliteDataSource,
+                leaderUuid,
+                canCreateNewClients,
+                timeLockVersion,
+                skipConsistencyCheckAndTruncateOldPaxosLog,
+                Optional.empty());
+    }
+
+    /**
+     * If {@code leaderLease} is present, the acceptors created will honour leases granted to the leader, as described
+     * in {@link LeaderLeaseConfig}.
+     */
+    public static LocalPaxosComponents createWithAsyncMigration(
+            TimelockPaxosMetrics metrics,
+            PaxosUseCase paxosUseCase,
+            Path legacyLogDirectory,
+            DataSource sqliteDataSource,
+            UUID leaderUuid,
+            boolean canCreateNewClients,
+            OrderableSlsVersion timeLockVersion,
+            boolean skipConsistencyCheckAndTruncateOldPaxosLog,
+            Optional<LeaderLeaseConfig> leaderLease) {
+        return createWithAsyncMigration(
+                metrics,
+                paxosUseCase,
+                legacyLogDirectory,
+                sqliteDataSource,
+                leaderUuid,
+                canCreateNewClients,
+                timeLockVersion,
+                skipConsistencyCheckAndTruncateOldPaxosLog,
+                leaderLease,
+                0);
+    }
+
+    /**
+     * If {@code namespaceShards} is positive, batched acceptor and learner requests are processed on that many
+     * single-threaded shards keyed by namespace, as described in {@link NamespaceShards}; if zero, they are processed
+     * on the calling thread.
+     */
+    public static LocalPaxosComponents createWithAsyncMigration(
+            TimelockPaxosMetrics metrics,
+            PaxosUseCase paxosUseCase,
+            Path legacyLogDirectory,
+            DataSource sqliteDataSource,
+            UUID leaderUuid,
+            boolean canCreateNewClients,
+            OrderableSlsVersion timeLockVersion,
+            boolean skipConsistencyCheckAndTruncateOldPaxosLog,
+            Optional<LeaderLeaseConfig> leaderLease,
+            int namespaceShards) {
         ExecutorService sqliteAsyncExecutor = PTExecutors.newSingleThreadExecutor(true);
         try {
             return createWithAsyncMigration(
@@ -113,6 +176,8 @@ public class LocalPaxosComponents {
                     canCreateNewClients,
                     timeLockVersion,
                     skipConsistencyCheckAndTruncateOldPaxosLog,
+                    leaderLease,
+                    namespaceShards,
                     sqliteAsyncExecutor);
         } finally {
             sqliteAsyncExecutor.shutdown();
@@ -129,6 +194,32 @@ public class LocalPaxosComponents {
             OrderableSlsVersion timeLockVersion,
             boolean skipConsistencyCheckAndTruncateOldPaxosLog,
             ExecutorService sqliteAsyncExecutor) {
+        return createWithAsyncMigration(
+                metrics,
+                paxosUseCase,
+                legacyLogDirectory,
+                sqliteDataSource,
+                leaderUuid,
+                canCreateNewClients,
+                timeLockVersion,
+                skipConsistencyCheckAndTruncateOldPaxosLog,
+                Optional.empty(),
+                0,
+                sqliteAsyncExecutor);
+    }
+
+    private static LocalPaxosComponents createWithAsyncMigration(
+            TimelockPaxosMetrics metrics,
+            PaxosUseCase paxosUseCase,
+            Path legacyLogDirectory,
+            DataSource sqliteDataSource,
+            UUID leaderUuid,
+            boolean canCreateNewClients,
+            OrderableSlsVersion timeLockVersion,
+            boolean skipConsistencyCheckAndTruncateOldPaxosLog,
+            Optional<LeaderLeaseConfig> leaderLease,
+            int namespaceShards,
+            ExecutorService sqliteAsyncExecutor) {
         LocalPaxosComponents components = new LocalPaxosComponents(
                 metrics,
                 paxosUseCase,
@@ -137,7 +228,9 @@ public class LocalPaxosComponents {
                 leaderUuid,
                 canCreateNewClients,
                 timeLockVersion,
-                skipConsistencyCheckAndTruncateOldPaxosLog);
+                skipConsistencyCheckAndTruncateOldPaxosLog,
+                leaderLease,
+                namespaceShards);
 
         Path legacyClientDir = paxosUseCase.logDirectoryRelativeToDataDirectory(legacyLogDirectory);
         PersistentNamespaceLoader namespaceLoader = new DiskNamespaceLoader(legacyClientDir);
@@ -182,6 +275,14 @@ public class LocalPaxosComponents {
         return memoizedBatchPingableLeader.get();
     }
 
+    /**
+     * Stops the threads that process batched requests for namespace shards. Requests already queued on a shard are
+     * still processed.
+     */
+    public void close() {
+        namespaceShards.close();
+    }
+
     private Components getOrCreateComponents(Client client) {
         return componentsByClient.computeIfAbsent(client, this::createComponents);
     }
@@ -204,7 +305,8 @@ public class LocalPaxosComponents {
         PaxosAcceptor acceptor = PaxosAcceptorImpl.newSplittingAcceptor(
                 getAcceptorParameters(client),
                 createMetrics(PaxosAcceptor.class),
-                learner.getGreatestLearnedValue().map(PaxosValue::getRound));
+                learner.getGreatestLearnedValue().map(PaxosValue::getRound),
+                leaderLease);
         PingableLeader localPingableLeader = new LocalPingableLeader(learner, leaderUuid, timeLockVersion);
 
         return ImmutableComponents.builder()
@@ -267,11 +369,14 @@ public class LocalPaxosComponents {
 
     private BatchPaxosAcceptor createBatchAcceptor() {
         AcceptorCache acceptorCache = metrics.instrument(AcceptorCache.class, new AcceptorCacheImpl());
-        return metrics.instrument(BatchPaxosAcceptor.class, new LocalBatchPaxosAcceptor(this, acceptorCache));
+        return metrics.instrument(
+                BatchPaxosAcceptor.class,
+                new LocalBatchPaxosAcceptor(this, acceptorCache, namespaceShards));
     }
 
     private BatchPaxosLearner createBatchLearner() {
-        return metrics.instrument(BatchPaxosLearner.class, new LocalBatchPaxosLearner(this));
+        return metrics.instrument(
+                BatchPaxosLearner.class, new LocalBatchPaxosLearner(this, namespaceShards));
     }
 
     private BatchPingableLeader createBatchPingableLeader() {
@@ -0,0 +1,121 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.timelock.paxos;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.common.concurrent.NamedThreadFactory;
+import com.palantir.common.concurrent.PTExecutors;
+import com.palantir.common.streams.KeyedStream;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.paxos.Client;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs batched Paxos work for each namespace on one of a fixed set of single-threaded shards, chosen by the hash of
+ * the namespace. Namespaces in the same batch but on different shards are processed in parallel, so a namespace with
+ * a slow write or a large learner catch-up only holds up the namespaces that share its shard, rather than every
+ * namespace in the batch. All batched work for a given namespace runs on the same thread.
+ *
+ * With no shards, work is run on the calling thread, one namespace after another.
+ *
+ * Each shard queues a bounded number of tasks; once a shard is full, batches with namespaces on that shard fail with
+ * a {@link java.util.concurrent.RejectedExecutionException}, which remotes treat like any other failed Paxos request.
+ */
+final class NamespaceShards {
+    private static final int MAX_QUEUED_TASKS_PER_SHARD = 1_000;
+    private static final NamespaceShards CALLER_RUNS = new NamespaceShards(ImmutableList.of());
+
+    private final List<ListeningExecutorService> shards;
+
+    private NamespaceShards(List<ListeningExecutorService> shards) {
+        this.shards = shards;
+    }
+
+    static NamespaceShards callerRuns() {
+        return CALLER_RUNS;
+    }
+
+    static NamespaceShards create(int numShards, PaxosUseCase useCase, TimelockPaxosMetrics metrics) {
+        Preconditions.checkArgument(
+                numShards >= 0, "Number of namespace shards must not be negative", SafeArg.of("numShards", numShards));
+        if (numShards == 0) {
+            return CALLER_RUNS;
+        }
+        ImmutableList.Builder<ListeningExecutorService> shards = ImmutableList.builderWithExpectedSize(numShards);
+        for (int index = 0; index < numShards; index++) {
+            ThreadPoolExecutor shard = PTExecutors.newThreadPoolExecutor(
+                    1,
+                    1,
+                    0,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(MAX_QUEUED_TASKS_PER_SHARD),
+                    new NamedThreadFactory("timelock-namespace-shard-" + useCase + "-" + index, true));
+            metrics.registerNamespaceShardQueueDepth(index, () -> shard.getQueue().size());
+            shards.add(MoreExecutors.listeningDecorator(shard));
+        }
+        return new NamespaceShards(shards.build());
+    }
+
+    <T> Map<Client, T> computeForClients(Set<Client> clients, Function<Client, T> computation) {
+        if (shards.isEmpty()) {
+            return KeyedStream.of(clients).map(computation).collectToMap();
+        }
+
+        Map<Integer, List<Client>> clientsByShard = clients.stream().collect(Collectors.groupingBy(this::shardIndex));
+        List<ListenableFuture<Map<Client, T>>> shardResults = KeyedStream.stream(clientsByShard)
+                .map((shardIndex, clientsOnShard) -> shards.get(shardIndex)
+                        .submit(() -> KeyedStream.of(clientsOnShard)
+                                .map(computation)
+                                .collectToMap()))
+                .values()
+                .collect(Collectors.toList());
+
+        ImmutableMap.Builder<Client, T> results = ImmutableMap.builderWithExpectedSize(clients.size());
+        AtlasFutures.getUnchecked(Futures.allAsList(shardResults)).forEach(results::putAll);
+        return results.buildOrThrow();
+    }
+
+    void close() {
+        shards.forEach(ListeningExecutorService::shutdown);
+    }
+
+    void runForClients(Set<Client> clients, Consumer<Client> task) {
+        computeForClients(clients, client -> {
+            task.accept(client);
+            return client;
+        });
+    }
+
+    private int shardIndex(Client client) {
+        return Math.floorMod(client.value().hashCode(), shards.size());
+    }
+}
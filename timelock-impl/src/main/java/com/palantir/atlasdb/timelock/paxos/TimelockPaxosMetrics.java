@@ -16,7 +16,9 @@
 
 package com.palantir.atlasdb.timelock.paxos;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableMap;
 import com.palantir.atlasdb.AtlasDbMetricNames;
 import com.palantir.atlasdb.util.AtlasDbMetrics;
 import com.palantir.atlasdb.util.MetricsManager;
@@ -67,6 +69,15 @@ public abstract class TimelockPaxosMetrics {
                 clientScopedMetrics().metricRegistryForClient(client), clazz, instance);
     }
 
+    void registerNamespaceShardQueueDepth(int shard, Gauge<Integer> queueDepth) {
+        asMetricsManager()
+                .registerOrGet(
+                        NamespaceShards.class,
+                        "queueDepth",
+                        queueDepth,
+                        ImmutableMap.of("shard", String.valueOf(shard)));
+    }
+
     private void attachToParentMetricRegistry(TaggedMetricRegistry parent) {
         parent.addMetrics(AtlasDbMetricNames.TAG_PAXOS_USE_CASE, paxosUseCase().toString(), metrics());
     }
@@ -0,0 +1,91 @@
+/*
+ * (c) Copyright 2023 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.timelock.paxos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.palantir.atlasdb.util.MetricsManagers;
+import com.palantir.paxos.Client;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class NamespaceShardsTests {
+    // hash codes differ by one, so these land on different shards when there are two
+    private static final Client CLIENT_1 = Client.of("client1");
+    private static final Client CLIENT_2 = Client.of("client2");
+
+    private final NamespaceShards shards = NamespaceShards.create(
+            2,
+            PaxosUseCase.TIMESTAMP,
+            TimelockPaxosMetrics.of(PaxosUseCase.TIMESTAMP, MetricsManagers.createForTests()));
+
+    @Test
+    public void namespacesOnDifferentShardsAreProcessedConcurrently() {
+        CountDownLatch client2Processed = new CountDownLatch(1);
+        Map<Client, Boolean> results = shards.computeForClients(ImmutableSet.of(CLIENT_1, CLIENT_2), client -> {
+            if (client.equals(CLIENT_1)) {
+                return Uninterruptibles.awaitUninterruptibly(client2Processed, 10, TimeUnit.SECONDS);
+            }
+            client2Processed.countDown();
+            return true;
+        });
+
+        assertThat(results).containsEntry(CLIENT_1, true).containsEntry(CLIENT_2, true);
+    }
+
+    @Test
+    public void namespaceIsAlwaysProcessedOnTheSameThread() {
+        Map<Client, Thread> first =
+                shards.computeForClients(ImmutableSet.of(CLIENT_1, CLIENT_2), unused -> Thread.currentThread());
+        Map<Client, Thread> second =
+                shards.computeForClients(ImmutableSet.of(CLIENT_1), unused -> Thread.currentThread());
+
+        assertThat(second.get(CLIENT_1)).isEqualTo(first.get(CLIENT_1)).isNotEqualTo(Thread.currentThread());
+        assertThat(first.get(CLIENT_2)).isNotEqualTo(first.get(CLIENT_1));
+    }
+
+    @Test
+    public void callerRunsProcessesNamespacesOnCallingThread() {
+        Map<Client, Thread> threads = NamespaceShards.callerRuns()
+                .computeForClients(ImmutableSet.of(CLIENT_1, CLIENT_2), unused -> Thread.currentThread());
+
+        assertThat(threads.values()).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    public void exceptionsArePropagatedToCaller() {
+        assertThatThrownBy(() -> shards.computeForClients(ImmutableSet.of(CLIENT_1), client -> {
+                    throw new IllegalStateException("boo");
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("boo");
+    }
+
+    @Test
+    public void closedShardsRejectWork() {
+        shards.close();
+
+        assertThatThrownBy(() -> shards.computeForClients(ImmutableSet.of(CLIENT_1), client -> client))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -463,6 +463,10 @@ public final class BlobsSerializableTable implements
         }
     }
 
+    public Optional<BlobsSerializableRowResult> getRow(BlobsSerializableRow row, Collection<BlobsSerializableNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<BlobsSerializableRowResult> getRows(Iterable<BlobsSerializableRow> rows) {
         return getRows(rows, allColumns);
@@ -478,6 +482,10 @@ public final class BlobsSerializableTable implements
         return rowResults;
     }
 
+    public List<BlobsSerializableRowResult> getRows(Iterable<BlobsSerializableRow> rows, Collection<BlobsSerializableNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<BlobsSerializableNamedColumnValue<?>> getRowColumns(BlobsSerializableRow row) {
         return getRowColumns(row, allColumns);
@@ -683,5 +691,5 @@ public final class BlobsSerializableTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "X9vlVcKWG1PnG8EugUP/kA==";
+    static String __CLASS_HASH = "0BWmGVbSKQLdkGr5nUsFTg==";
 }
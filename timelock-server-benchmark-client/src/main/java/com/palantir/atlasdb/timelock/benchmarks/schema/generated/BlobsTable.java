@@ -463,6 +463,10 @@ public final class BlobsTable implements
         }
     }
 
+    public Optional<BlobsRowResult> getRow(BlobsRow row, Collection<BlobsNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<BlobsRowResult> getRows(Iterable<BlobsRow> rows) {
         return getRows(rows, allColumns);
@@ -478,6 +482,10 @@ public final class BlobsTable implements
         return rowResults;
     }
 
+    public List<BlobsRowResult> getRows(Iterable<BlobsRow> rows, Collection<BlobsNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<BlobsNamedColumnValue<?>> getRowColumns(BlobsRow row) {
         return getRowColumns(row, allColumns);
@@ -683,5 +691,5 @@ public final class BlobsTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "RU6CLtTd3DluJLwkYHXzeQ==";
+    static String __CLASS_HASH = "Z1oxrQXykPDfHC+/YYIACw==";
 }
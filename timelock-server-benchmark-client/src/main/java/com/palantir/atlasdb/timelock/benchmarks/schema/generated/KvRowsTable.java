@@ -519,6 +519,10 @@ public final class KvRowsTable implements
         }
     }
 
+    public Optional<KvRowsRowResult> getRow(KvRowsRow row, Collection<KvRowsNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<KvRowsRowResult> getRows(Iterable<KvRowsRow> rows) {
         return getRows(rows, allColumns);
@@ -534,6 +538,10 @@ public final class KvRowsTable implements
         return rowResults;
     }
 
+    public List<KvRowsRowResult> getRows(Iterable<KvRowsRow> rows, Collection<KvRowsNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<KvRowsNamedColumnValue<?>> getRowColumns(KvRowsRow row) {
         return getRowColumns(row, allColumns);
@@ -801,5 +809,5 @@ public final class KvRowsTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "E7HBSSSWtvxMljBiJQ/8mg==";
+    static String __CLASS_HASH = "ZdavOtFKdtajzQcKxD1mKA==";
 }
@@ -491,6 +491,10 @@ public final class MetadataTable implements
         }
     }
 
+    public Optional<MetadataRowResult> getRow(MetadataRow row, Collection<MetadataNamedColumn> columns) {
+        return getRow(row, getColumnSelection(columns));
+    }
+
     @Override
     public List<MetadataRowResult> getRows(Iterable<MetadataRow> rows) {
         return getRows(rows, allColumns);
@@ -506,6 +510,10 @@ public final class MetadataTable implements
         return rowResults;
     }
 
+    public List<MetadataRowResult> getRows(Iterable<MetadataRow> rows, Collection<MetadataNamedColumn> columns) {
+        return getRows(rows, getColumnSelection(columns));
+    }
+
     @Override
     public List<MetadataNamedColumnValue<?>> getRowColumns(MetadataRow row) {
         return getRowColumns(row, allColumns);
@@ -773,5 +781,5 @@ public final class MetadataTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "MVgxOXWoD/e8wdW5v1b6og==";
+    static String __CLASS_HASH = "xTU9Xj3ER0oR09obhtkTXg==";
 }